@@ -0,0 +1,127 @@
+package com.minute.security.filter;
+
+import com.minute.security.handler.AccessTokenRevocationList;
+import com.minute.security.handler.JwtProvider;
+import com.minute.security.handler.VerifiedToken;
+import com.minute.user.entity.User;
+import com.minute.user.enumpackage.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import jakarta.xml.bind.DatatypeConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 필터 처리량 비교 벤치마크입니다. ({@code gradle jmh})
+ *
+ * <ul>
+ *     <li>legacyDoubleParse: 변경 전 방식 - 요청마다 파서를 새로 만들고 서명 검증/파싱을 두 번 수행</li>
+ *     <li>singleParseCachedParser: 재사용 파서로 한 번만 검증</li>
+ *     <li>filterCold: 검증 캐시를 쓰지 않는 필터 전체 처리 (매번 서명 검증)</li>
+ *     <li>filterWarm: 검증 캐시를 쓰는 필터 전체 처리 (같은 토큰 반복 요청)</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "m1bJYRdGfN9x/7XzEL7XTjJmRMnAvLH3KrB2yZhvL1E=";
+
+    private Key key;
+    private String token;
+    private JwtProvider cachedProvider;
+    private JwtAuthenticationFilter cachedFilter;
+    private JwtAuthenticationFilter coldFilter;
+
+    @Setup
+    public void setUp() {
+        key = new SecretKeySpec(DatatypeConverter.parseBase64Binary(SECRET), SignatureAlgorithm.HS256.getJcaName());
+
+        cachedProvider = newProvider(10_000);
+        JwtProvider coldProvider = newProvider(1);
+
+        User user = new User();
+        user.setUserId("benchmark-user");
+        user.setRole(Role.USER);
+        token = cachedProvider.generateToken(user);
+
+        // 폐기 목록이 비어 있으면 Bloom 필터 단계에서 끝나므로 저장소는 사용되지 않음
+        AccessTokenRevocationList revocationList = new AccessTokenRevocationList(null, 100_000, 0.001, 60_000);
+        cachedFilter = new JwtAuthenticationFilter(authentication -> authentication, cachedProvider, revocationList);
+        coldFilter = new JwtAuthenticationFilter(authentication -> authentication, new ColdJwtProvider(coldProvider), revocationList);
+    }
+
+    @Benchmark
+    public Claims legacyDoubleParse() {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public Claims singleParseCachedParser() {
+        return cachedProvider.getClaims(token);
+    }
+
+    @Benchmark
+    public int filterCold() throws Exception {
+        return runFilter(coldFilter);
+    }
+
+    @Benchmark
+    public int filterWarm() throws Exception {
+        return runFilter(cachedFilter);
+    }
+
+    private int runFilter(JwtAuthenticationFilter filter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/board/free");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        SecurityContextHolder.clearContext();
+        return response.getStatus();
+    }
+
+    private static JwtProvider newProvider(int verifiedCacheSize) {
+        JwtProvider provider = new JwtProvider();
+        ReflectionTestUtils.setField(provider, "secretKey", SECRET);
+        ReflectionTestUtils.setField(provider, "tokenValidity", 3_600_000L);
+        ReflectionTestUtils.setField(provider, "verifiedCacheSize", verifiedCacheSize);
+        provider.init();
+        return provider;
+    }
+
+    /** 검증 캐시를 우회하고 매번 서명을 검증하는 JwtProvider (비교용) */
+    private static final class ColdJwtProvider extends JwtProvider {
+        private final JwtProvider delegate;
+
+        private ColdJwtProvider(JwtProvider delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public VerifiedToken verify(String token) {
+            Claims claims = delegate.getClaims(token);
+            return new VerifiedToken(
+                    claims.getId(),
+                    claims.get("userId", String.class),
+                    claims.get("role", String.class),
+                    claims.getExpiration().getTime());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.minute.security.ratelimit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 횟수 제한 필터의 요청당 비용 벤치마크입니다. ({@code gradle jmh})
+ *
+ * <ul>
+ *     <li>routeMiss: 규칙에 해당하지 않는 요청 (대부분의 GET)</li>
+ *     <li>consumeManyKeys: 규칙에 해당하는 요청 - 사용자 1만 명에 고르게 분산 (동시 실행 시 경합은 {@code -t} 옵션으로 확인)</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RateLimitFilterBenchmark {
+
+    private static final int USERS = 10_000;
+
+    private RateLimitFilter filter;
+    private StripedTokenBuckets buckets;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        buckets = new StripedTokenBuckets(64, 600_000, null);
+        filter = new RateLimitFilter(RateLimitRoute.defaults(), buckets, null, null);
+        keys = new String[USERS];
+        for (int i = 0; i < USERS; i++) {
+            keys[i] = "search|user|user" + i;
+        }
+    }
+
+    @Benchmark
+    public RateLimitPolicy routeMiss() {
+        return filter.match("GET", "/api/v1/board/free/123/comments");
+    }
+
+    @Benchmark
+    public long consumeManyKeys() {
+        String key = keys[ThreadLocalRandom.current().nextInt(USERS)];
+        // 용량을 크게 두어 항상 허용되는 경로(일반적인 경우)를 측정
+        return buckets.tryConsume(key, 1_000_000, 1_000_000, System.nanoTime());
+    }
+}
@@ -0,0 +1,17 @@
+package com.minute.auth.common;
+
+import java.time.Duration;
+
+/**
+ * 여러 서버가 인증번호를 공유해야 할 때 {@link CertificationStorage} 뒤에 두는 외부 저장소입니다.
+ * 빈이 없으면 인증번호는 각 서버 메모리에만 저장됩니다.
+ */
+public interface CertificationBackingStore {
+
+    void put(String email, String number, Duration ttl);
+
+    /** 만료되지 않은 인증번호, 없으면 null */
+    String get(String email);
+
+    void remove(String email);
+}
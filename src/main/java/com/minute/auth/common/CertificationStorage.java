@@ -1,29 +1,180 @@
 package com.minute.auth.common;
 
+import com.minute.common.cache.HashedTimingWheel;
+import com.minute.common.cache.SlidingWindowRateLimiter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 이메일 인증번호 임시 저장소입니다.
+ *
+ * <p>인증번호는 {@code certification.ttl-seconds} 가 지나면 {@link HashedTimingWheel}로 제거되므로
+ * 발급만 되고 사용되지 않은 번호가 메모리에 계속 쌓이지 않습니다.
+ * 발급(메일 발송)과 확인 시도는 이메일별/IP별 슬라이딩 윈도우로 횟수를 제한해
+ * 메일 폭탄과 4자리 번호 대입을 막습니다.
+ *
+ * <p>{@link CertificationBackingStore} 빈이 있으면 인증번호는 그 저장소에만 두고 항상 그 값으로 확인합니다.
+ * 메모리에 따로 두면 다른 서버에서 재발급되거나 이미 사용된 번호가 이 서버에서는 계속 통과하기 때문입니다.
+ * (만료도 저장소가 처리합니다. 횟수 제한은 서버별로 적용됩니다)
+ */
+@Slf4j
 @Component
-public class CertificationStorage {
+public class CertificationStorage implements DisposableBean {
 
-    private final Map<String, String> storage = new ConcurrentHashMap<>();
+    private static final String EMAIL = "email:";
+    private static final String IP = "ip:";
+
+    private final Map<String, Entry> storage = new ConcurrentHashMap<>();
+    private final HashedTimingWheel wheel;
+    private final CertificationBackingStore backingStore; // 없으면 null
+    private final Duration ttl;
+    private final long sweepIntervalMillis;
+    private final SlidingWindowRateLimiter issueLimiter;
+    private final SlidingWindowRateLimiter issueIpLimiter;
+    private final SlidingWindowRateLimiter verifyLimiter;
+    private final SlidingWindowRateLimiter verifyIpLimiter;
+
+    public CertificationStorage(ObjectProvider<CertificationBackingStore> backingStore,
+                                MeterRegistry meterRegistry,
+                                @Value("${certification.ttl-seconds:300}") long ttlSeconds,
+                                @Value("${certification.window-seconds:600}") long windowSeconds,
+                                @Value("${certification.issue.per-email:5}") int issuePerEmail,
+                                @Value("${certification.issue.per-ip:20}") int issuePerIp,
+                                @Value("${certification.verify.per-email:10}") int verifyPerEmail,
+                                @Value("${certification.verify.per-ip:50}") int verifyPerIp) {
+        this.backingStore = backingStore.getIfAvailable();
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.sweepIntervalMillis = Duration.ofSeconds(windowSeconds).toMillis();
+        // 1초 단위 tick, 512칸이면 약 8.5분에 한 바퀴 (기본 TTL 5분은 한 바퀴 안에 처리)
+        this.wheel = new HashedTimingWheel("certification-expiry", 1000, 512);
+        this.issueLimiter = new SlidingWindowRateLimiter(issuePerEmail, sweepIntervalMillis);
+        this.issueIpLimiter = new SlidingWindowRateLimiter(issuePerIp, sweepIntervalMillis);
+        this.verifyLimiter = new SlidingWindowRateLimiter(verifyPerEmail, sweepIntervalMillis);
+        this.verifyIpLimiter = new SlidingWindowRateLimiter(verifyPerIp, sweepIntervalMillis);
+        scheduleSweep();
+
+        Gauge.builder("auth.certification.size", this, CertificationStorage::size)
+                .description("저장 중인(만료 전) 인증번호 수")
+                .register(meterRegistry);
+    }
 
     public void save(String email, String number) {
-        storage.put(email, number);
+        if (backingStore != null) {
+            backingStore.put(email, number, ttl);
+            return;
+        }
+        Entry entry = new Entry(number);
+        // 만료 시점에 같은 번호일 때만 제거 (그 사이 재발급된 번호는 유지)
+        entry.expiry = wheel.schedule(() -> storage.remove(email, entry), ttl.toMillis());
+        Entry previous = storage.put(email, entry);
+        if (previous != null) {
+            previous.expiry.cancel();
+        }
     }
 
+    /** 만료되지 않은 인증번호, 없으면 null. 외부 저장소가 있으면 그 값이 기준입니다. */
     public String get(String email) {
-        return storage.get(email);
+        if (backingStore != null) {
+            return backingStore.get(email);
+        }
+        Entry entry = storage.get(email);
+        return entry == null ? null : entry.number;
     }
 
     public void remove(String email) {
-        storage.remove(email);
+        if (backingStore != null) {
+            backingStore.remove(email);
+            return;
+        }
+        Entry entry = storage.remove(email);
+        if (entry != null) {
+            entry.expiry.cancel();
+        }
     }
 
     public boolean matches(String email, String number) {
-        return number.equals(storage.get(email));
+        return number.equals(get(email));
+    }
+
+    /** 이 서버 메모리에 있는 만료 전 인증번호 수 (외부 저장소를 쓰면 0) */
+    public int size() {
+        return storage.size();
+    }
+
+    /**
+     * 인증번호 발급(메일 발송) 한 번을 기록합니다.
+     *
+     * @return 허용되면 0, 제한에 걸리면 다시 시도할 수 있을 때까지 남은 초
+     */
+    public long acquireIssue(String email, String clientIp) {
+        return acquire(issueLimiter, issueIpLimiter, email, clientIp);
+    }
+
+    /**
+     * 인증번호 확인 시도 한 번을 기록합니다.
+     *
+     * @return 허용되면 0, 제한에 걸리면 다시 시도할 수 있을 때까지 남은 초
+     */
+    public long acquireVerify(String email, String clientIp) {
+        return acquire(verifyLimiter, verifyIpLimiter, email, clientIp);
     }
-}
 
+    @Override
+    public void destroy() {
+        wheel.close();
+    }
+
+    private long acquire(SlidingWindowRateLimiter emailLimiter, SlidingWindowRateLimiter ipLimiter,
+                         String email, String clientIp) {
+        long now = System.currentTimeMillis();
+        // IP 제한을 먼저 확인해 한 IP가 여러 이메일의 횟수를 소진시키지 못하게 함
+        if (clientIp != null) {
+            long waitMillis = ipLimiter.tryAcquire(IP + clientIp, now);
+            if (waitMillis > 0) {
+                return toSeconds(waitMillis);
+            }
+        }
+        if (email != null) {
+            long waitMillis = emailLimiter.tryAcquire(EMAIL + email.toLowerCase(), now);
+            if (waitMillis > 0) {
+                log.debug("[CertificationStorage] 인증 요청 횟수 초과 - email: {}", email);
+                return toSeconds(waitMillis);
+            }
+        }
+        return 0;
+    }
+
+    /** 윈도우 밖으로 벗어난 횟수 기록을 주기적으로 정리 */
+    private void scheduleSweep() {
+        wheel.schedule(() -> {
+            long now = System.currentTimeMillis();
+            issueLimiter.sweep(now);
+            issueIpLimiter.sweep(now);
+            verifyLimiter.sweep(now);
+            verifyIpLimiter.sweep(now);
+            scheduleSweep();
+        }, sweepIntervalMillis);
+    }
+
+    private static long toSeconds(long millis) {
+        return Math.max(1, (millis + 999) / 1000);
+    }
+
+    private static final class Entry {
+        private final String number;
+        private HashedTimingWheel.Timeout expiry; // map 에 넣기 전에 설정
+
+        private Entry(String number) {
+            this.number = number;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.minute.auth.common;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * {@code certification_code} 테이블에 인증번호를 저장하는 공유 저장소입니다.
+ * {@code certification.backing-store=jdbc} 일 때만 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "certification.backing-store", havingValue = "jdbc")
+public class JdbcCertificationBackingStore implements CertificationBackingStore {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void put(String email, String number, Duration ttl) {
+        Timestamp expiresAt = Timestamp.valueOf(LocalDateTime.now().plus(ttl));
+        jdbcTemplate.update("INSERT INTO certification_code (email, certification_number, expires_at) VALUES (?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE certification_number = VALUES(certification_number), expires_at = VALUES(expires_at)",
+                email, number, expiresAt);
+    }
+
+    @Override
+    public String get(String email) {
+        List<String> numbers = jdbcTemplate.queryForList(
+                "SELECT certification_number FROM certification_code WHERE email = ? AND expires_at > ?",
+                String.class, email, Timestamp.valueOf(LocalDateTime.now()));
+        return numbers.isEmpty() ? null : numbers.get(0);
+    }
+
+    @Override
+    public void remove(String email) {
+        jdbcTemplate.update("DELETE FROM certification_code WHERE email = ?", email);
+    }
+
+    /** 만료된 인증번호 행 정리 (10분마다) */
+    @Scheduled(cron = "${certification.backing-store-cleanup-cron:0 */10 * * * *}")
+    public void deleteExpired() {
+        int deleted = jdbcTemplate.update("DELETE FROM certification_code WHERE expires_at <= ?",
+                Timestamp.valueOf(LocalDateTime.now()));
+        log.debug("[JdbcCertificationBackingStore] 만료된 인증번호 {}건 삭제", deleted);
+    }
+}
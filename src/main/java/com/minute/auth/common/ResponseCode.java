@@ -15,10 +15,14 @@ public interface ResponseCode {
     String SIGN_IN_FAIL = "SF";
     String AUTHORIZATION_FAIL = "AF";
     String INVALID_PASSWORD = "IP";
+    String INVALID_REFRESH_TOKEN = "IR";
 
     //Http Status 403
     String NO_PERMISSION = "NP";
 
+    //Http Status 429
+    String TOO_MANY_REQUESTS = "TM";
+
     //Http Status 500
     String DATABASE_ERROR = "DE";
     String MAIL_FAIL = "MF";
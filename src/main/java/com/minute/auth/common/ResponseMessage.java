@@ -15,9 +15,13 @@ public interface ResponseMessage {
     String SIGN_IN_FAIL = "Login information mismatch";
     String AUTHORIZATION_FAIL = "Authorization failed";
     String INVALID_PASSWORD = "Wrong Password";
+    String INVALID_REFRESH_TOKEN = "Invalid or expired refresh token";
     //Http Status 403
     String NO_PERMISSION = "Does not have permission";
 
+    //Http Status 429
+    String TOO_MANY_REQUESTS = "Too many requests, please retry shortly";
+
     //Http Status 500
     String DATABASE_ERROR = "Database error";
     String MAIL_FAIL = "Mail send failed";
@@ -1,14 +1,19 @@
 package com.minute.auth.controller;
 
+import com.minute.auth.common.AuthConstants;
 import com.minute.auth.dto.request.*;
 import com.minute.auth.dto.response.EmailCertificationResponseDto;
 import com.minute.auth.dto.response.ResponseDto;
 import com.minute.auth.dto.response.SignupResponseDto;
 import com.minute.auth.dto.response.SignupValidateResponseDto;
+import com.minute.auth.dto.response.TokenResponseDto;
+import com.minute.user.cache.UserAvailabilityIndex;
 import com.minute.user.entity.User;
 import com.minute.user.repository.UserRepository;
 import com.minute.auth.service.AuthService;
+import com.minute.auth.service.TokenService;
 import com.minute.user.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -26,6 +31,8 @@ public class AuthController {
     private final AuthService authService;
     private final UserRepository userRepository;
     private final UserService userService;
+    private final TokenService tokenService;
+    private final UserAvailabilityIndex userAvailabilityIndex;
 
     @PostMapping("/sign-up/validate")
     public ResponseEntity<? super SignupValidateResponseDto> validateSignUp(@RequestBody SignupValidateRequestDto dto) {
@@ -38,20 +45,33 @@ public class AuthController {
         return response;
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<? super TokenResponseDto> refresh(@RequestBody RefreshTokenRequestDto dto) {
+        return tokenService.refresh(dto);
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<ResponseDto> logout(@RequestHeader(value = AuthConstants.AUTH_HEADER, required = false) String authorization,
+                                              @RequestBody(required = false) RefreshTokenRequestDto dto) {
+        String accessToken = authorization != null && authorization.startsWith("Bearer ") ? authorization.substring(7) : null;
+        return tokenService.logout(accessToken, dto);
+    }
+
     @PostMapping("/find-pw")
-    public ResponseEntity<? super EmailCertificationResponseDto> emailCertification (@RequestBody @Valid EmailCertificationRequestDto requestBody) {
-        ResponseEntity<? super EmailCertificationResponseDto> response = authService.emailCertification(requestBody);
+    public ResponseEntity<? super EmailCertificationResponseDto> emailCertification (@RequestBody @Valid EmailCertificationRequestDto requestBody,
+                                                                                     HttpServletRequest request) {
+        ResponseEntity<? super EmailCertificationResponseDto> response = authService.emailCertification(requestBody, request.getRemoteAddr());
         return response;
     }
 
     @PostMapping("/verify-code")
-    public ResponseEntity<?> verifyCode(@RequestBody VerifyCodeRequestDto dto) {
-        return authService.verifyCertificationCode(dto);
+    public ResponseEntity<?> verifyCode(@RequestBody VerifyCodeRequestDto dto, HttpServletRequest request) {
+        return authService.verifyCertificationCode(dto, request.getRemoteAddr());
     }
 
     @PostMapping("/verify-code-signup")
-    public ResponseEntity<?> verifyCodeForSignUp(@RequestBody VerifyCodeRequestDto dto) {
-        return authService.verifyCertificationCodeForSignUp(dto);
+    public ResponseEntity<?> verifyCodeForSignUp(@RequestBody VerifyCodeRequestDto dto, HttpServletRequest request) {
+        return authService.verifyCertificationCodeForSignUp(dto, request.getRemoteAddr());
     }
 
     @PatchMapping("/reset-password")
@@ -62,7 +82,7 @@ public class AuthController {
     @PostMapping("/check-email")
     public ResponseEntity<Map<String, Boolean>> checkEmail(@RequestBody Map<String, String> body) {
         String email = body.get("email");
-        boolean exists = userRepository.existsByUserEmail(email);
+        boolean exists = userAvailabilityIndex.existsEmail(email);
         return ResponseEntity.ok(Map.of("exists", exists));
     }
 
@@ -0,0 +1,10 @@
+package com.minute.auth.dto.request;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class RefreshTokenRequestDto {
+    private String refreshToken;
+}
@@ -37,6 +37,17 @@ public class ResponseDto {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(responsebody);
     }
 
+    public static ResponseEntity<ResponseDto> tooManyRequests() {
+        ResponseDto responsebody = new ResponseDto(ResponseCode.TOO_MANY_REQUESTS, ResponseMessage.TOO_MANY_REQUESTS);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).header("Retry-After", "1").body(responsebody);
+    }
+
+    public static ResponseEntity<ResponseDto> tooManyRequests(long retryAfterSeconds) {
+        ResponseDto responsebody = new ResponseDto(ResponseCode.TOO_MANY_REQUESTS, ResponseMessage.TOO_MANY_REQUESTS);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header("Retry-After", String.valueOf(retryAfterSeconds)).body(responsebody);
+    }
+
     public static ResponseEntity<ResponseDto> validationFailed(){
         ResponseDto responsebody = new ResponseDto(ResponseCode.VALIDATION_FAILED, ResponseMessage.VALIDATION_FAILED);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(responsebody);
@@ -0,0 +1,41 @@
+package com.minute.auth.dto.response;
+
+import com.minute.auth.common.ResponseCode;
+import com.minute.auth.common.ResponseMessage;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 회원가입 중복 항목 응답입니다.
+ * code/message 는 기존과 같이 첫 번째 중복 항목(아이디 → 이메일 → 닉네임 → 전화번호 순)을 나타내고,
+ * {@code conflicts} 에 중복된 항목 코드(DI/DE/DN/DP)를 모두 담아 한 번에 안내할 수 있게 합니다.
+ */
+@Getter
+public class SignupConflictResponseDto extends ResponseDto {
+
+    private final List<String> conflicts;
+
+    private SignupConflictResponseDto(String code, String message, List<String> conflicts) {
+        super(code, message);
+        this.conflicts = conflicts;
+    }
+
+    /** 중복 항목이 없으면 null 을 반환합니다. */
+    public static ResponseEntity<ResponseDto> of(boolean userId, boolean email, boolean nickName, boolean phone) {
+        List<String> conflicts = new ArrayList<>(4);
+        List<String> messages = new ArrayList<>(4);
+        if (userId) { conflicts.add(ResponseCode.DUPLICATE_ID); messages.add(ResponseMessage.DUPLICATE_ID); }
+        if (email) { conflicts.add(ResponseCode.DUPLICATE_EMAIL); messages.add(ResponseMessage.DUPLICATE_EMAIL); }
+        if (nickName) { conflicts.add(ResponseCode.DUPLICATE_NICKNAME); messages.add(ResponseMessage.DUPLICATE_NICKNAME); }
+        if (phone) { conflicts.add(ResponseCode.DUPLICATE_PHONE); messages.add(ResponseMessage.DUPLICATE_PHONE); }
+        if (conflicts.isEmpty()) {
+            return null;
+        }
+        ResponseDto result = new SignupConflictResponseDto(conflicts.get(0), messages.get(0), List.copyOf(conflicts));
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(result);
+    }
+}
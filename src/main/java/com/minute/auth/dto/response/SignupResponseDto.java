@@ -30,7 +30,7 @@ public class SignupResponseDto extends ResponseDto {
     }
 
     public static ResponseEntity<ResponseDto> duplicateEmail(){
-        return CommonResponseDto.notExistUser();
+        return CommonResponseDto.duplicateEmail();
     }
 
     public static ResponseEntity<ResponseDto> duplicateNickName(){
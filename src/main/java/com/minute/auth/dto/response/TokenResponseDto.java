@@ -0,0 +1,37 @@
+package com.minute.auth.dto.response;
+
+import com.minute.auth.common.ResponseCode;
+import com.minute.auth.common.ResponseMessage;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@Getter
+public class TokenResponseDto extends ResponseDto {
+
+    private final String token;
+    private final String refreshToken;
+    private final long expiresIn;        // 액세스 토큰 유효 시간(초)
+    private final long refreshExpiresIn; // 리프레시 토큰 유효 시간(초)
+
+    private TokenResponseDto(String token, String refreshToken, long expiresIn, long refreshExpiresIn) {
+        super(ResponseCode.SUCCESS, ResponseMessage.SUCCESS);
+        this.token = token;
+        this.refreshToken = refreshToken;
+        this.expiresIn = expiresIn;
+        this.refreshExpiresIn = refreshExpiresIn;
+    }
+
+    public static TokenResponseDto of(String token, String refreshToken, long expiresIn, long refreshExpiresIn) {
+        return new TokenResponseDto(token, refreshToken, expiresIn, refreshExpiresIn);
+    }
+
+    public static ResponseEntity<TokenResponseDto> success(TokenResponseDto tokens) {
+        return ResponseEntity.status(HttpStatus.OK).body(tokens);
+    }
+
+    public static ResponseEntity<ResponseDto> invalidRefreshToken() {
+        ResponseDto result = new ResponseDto(ResponseCode.INVALID_REFRESH_TOKEN, ResponseMessage.INVALID_REFRESH_TOKEN);
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(result);
+    }
+}
@@ -0,0 +1,41 @@
+package com.minute.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료 전에 폐기(로그아웃)된 액세스 토큰의 ID(jti) 목록입니다.
+ * 토큰이 원래 만료되는 시각(expiresAt)이 지나면 더 이상 확인할 필요가 없으므로 정리 대상이 됩니다.
+ * 다른 서버가 새로 폐기된 토큰만 읽어갈 수 있도록 폐기 시각(revokedAt)도 저장합니다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "revoked_access_token",
+        indexes = {
+                @Index(name = "idx_rat_expires_at", columnList = "expires_at"),
+                @Index(name = "idx_rat_revoked_at", columnList = "revoked_at")
+        }
+)
+public class RevokedAccessToken {
+
+    @Id
+    @Column(name = "token_id", length = 36)
+    private String tokenId;
+
+    @Column(name = "user_id", nullable = false, length = 100)
+    private String userId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @CreationTimestamp
+    @Column(name = "revoked_at", nullable = false, updatable = false)
+    private LocalDateTime revokedAt;
+}
@@ -0,0 +1,29 @@
+package com.minute.auth.repository;
+
+import com.minute.auth.entity.RevokedAccessToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedAccessTokenRepository extends JpaRepository<RevokedAccessToken, String> {
+
+    /** 아직 원래 만료 시각이 지나지 않아 확인이 필요한 폐기 토큰 ID 목록 (Bloom 필터 재구성용) */
+    @Query("SELECT r.tokenId FROM RevokedAccessToken r WHERE r.expiresAt > :now")
+    List<String> findActiveTokenIds(@Param("now") LocalDateTime now);
+
+    /** 기준 시각 이후 폐기된 토큰 ID 목록 (다른 서버에서 폐기한 토큰을 Bloom 필터에 반영하기 위한 주기 조회) */
+    @Query("SELECT r.tokenId FROM RevokedAccessToken r WHERE r.revokedAt >= :since")
+    List<String> findTokenIdsRevokedSince(@Param("since") LocalDateTime since);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedAccessToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -14,11 +14,11 @@ public interface AuthService {
 
     ResponseEntity<? super SignupResponseDto> signUp(SignUpRequestDTO dto);
 
-    ResponseEntity<? super EmailCertificationResponseDto> emailCertification(EmailCertificationRequestDto dto);
+    ResponseEntity<? super EmailCertificationResponseDto> emailCertification(EmailCertificationRequestDto dto, String clientIp);
 
-    ResponseEntity<?> verifyCertificationCode(VerifyCodeRequestDto dto);
+    ResponseEntity<?> verifyCertificationCode(VerifyCodeRequestDto dto, String clientIp);
 
-    ResponseEntity<?> verifyCertificationCodeForSignUp(VerifyCodeRequestDto dto);
+    ResponseEntity<?> verifyCertificationCodeForSignUp(VerifyCodeRequestDto dto, String clientIp);
 
     ResponseEntity<? super ResetPasswordResponseDto> resetPassword(ResetPasswordRequestDto dto);
 }
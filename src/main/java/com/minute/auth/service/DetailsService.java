@@ -1,8 +1,7 @@
 package com.minute.auth.service;
 
-import com.minute.user.service.UserService;
+import com.minute.user.cache.LoginUserCache;
 import org.springframework.security.authentication.AuthenticationServiceException;
-import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -10,13 +9,18 @@ import org.springframework.stereotype.Service;
 
 import java.util.Optional;
 
+/**
+ * 로그인 시 아이디로 사용자를 찾습니다.
+ * User 엔티티 대신 로그인에 필요한 컬럼만 담은 {@link com.minute.user.cache.LoginUser}를 짧은 TTL 캐시({@link LoginUserCache})에서 조회합니다.
+ * 정지 계정 처리는 로그인 성공 후 CustomAuthSuccessHandler 에서 합니다.
+ */
 @Service
 public class DetailsService implements UserDetailsService {
 
-    private final UserService userService;
+    private final LoginUserCache loginUserCache;
 
-    public DetailsService(UserService userService) {
-        this.userService = userService;
+    public DetailsService(LoginUserCache loginUserCache) {
+        this.loginUserCache = loginUserCache;
     }
 
     @Override
@@ -26,14 +30,8 @@ public class DetailsService implements UserDetailsService {
             throw new AuthenticationServiceException("이메일이 비어 있습니다.");
         }
 
-        return userService.getUserEntityByEmail(username)
-                .map(user -> {
-                    if ("N".equals(user.getUserStatus())) {
-                        // 정지된 계정이라면 로그인 실패 처리
-                        throw new DisabledException("정지된 계정입니다.");
-                    }
-                    return new DetailUser(Optional.of(user));
-                })
+        return loginUserCache.find(username)
+                .map(loginUser -> new DetailUser(Optional.of(loginUser.toUser())))
                 .orElseThrow(() -> new UsernameNotFoundException("해당 유저를 찾을 수 없습니다: " + username));
 
     }
@@ -0,0 +1,158 @@
+package com.minute.auth.service;
+
+import com.minute.auth.common.ResponseCode;
+import com.minute.auth.common.ResponseMessage;
+import com.minute.auth.dto.request.RefreshTokenRequestDto;
+import com.minute.auth.dto.response.ResponseDto;
+import com.minute.auth.dto.response.TokenResponseDto;
+import com.minute.auth.entity.RefreshToken;
+import com.minute.auth.repository.RefreshTokenRepository;
+import com.minute.security.handler.AccessTokenRevocationList;
+import com.minute.security.handler.JwtProvider;
+import com.minute.security.handler.VerifiedToken;
+import com.minute.user.entity.User;
+import com.minute.user.enumpackage.UserStatus;
+import com.minute.user.repository.UserRepository;
+import io.jsonwebtoken.JwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 액세스 토큰 + 리프레시 토큰 발급/재발급/폐기를 담당합니다.
+ *
+ * <p>액세스 토큰은 짧게(기본 15분) 발급하고, 만료되면 클라이언트가 리프레시 토큰으로 새 토큰 쌍을 받습니다.
+ * 재로그인(BCrypt 비밀번호 확인) 없이 세션을 이어갈 수 있습니다.
+ * 리프레시 토큰은 한 번 쓰면 폐기되고 새 토큰으로 교체(rotation)되며,
+ * DB에는 원문 대신 SHA-256 해시만 저장합니다.
+ * 이미 교체된 토큰이 다시 들어오면 탈취된 것으로 보고 같은 계열(family)의 토큰을 모두 폐기합니다.
+ */
+@Slf4j
+@Service
+public class TokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final JwtProvider jwtProvider;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final AccessTokenRevocationList accessTokenRevocationList;
+    private final long refreshTokenValidity;
+
+    public TokenService(JwtProvider jwtProvider,
+                        RefreshTokenRepository refreshTokenRepository,
+                        UserRepository userRepository,
+                        AccessTokenRevocationList accessTokenRevocationList,
+                        @Value("${jwt.refresh-time:1209600000}") long refreshTokenValidity) {
+        this.jwtProvider = jwtProvider;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.accessTokenRevocationList = accessTokenRevocationList;
+        this.refreshTokenValidity = refreshTokenValidity;
+    }
+
+    /** 로그인 성공 시 새 계열(family)로 액세스/리프레시 토큰을 발급합니다. */
+    @Transactional
+    public TokenResponseDto issue(User user) {
+        return issue(user, UUID.randomUUID().toString());
+    }
+
+    /** 리프레시 토큰으로 새 토큰 쌍을 발급하고, 사용한 리프레시 토큰은 폐기합니다. */
+    @Transactional
+    public ResponseEntity<? super TokenResponseDto> refresh(RefreshTokenRequestDto dto) {
+        String rawToken = dto == null ? null : dto.getRefreshToken();
+        if (rawToken == null || rawToken.isBlank()) {
+            return TokenResponseDto.invalidRefreshToken();
+        }
+
+        // 같은 토큰으로 동시에 들어온 요청은 행 락으로 직렬화되어 하나만 교체에 성공합니다.
+        RefreshToken current = refreshTokenRepository.findByTokenHashForUpdate(JwtProvider.sha256Hex(rawToken)).orElse(null);
+        if (current == null) {
+            return TokenResponseDto.invalidRefreshToken();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (current.isRevoked()) {
+            int revoked = refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            log.warn("[TokenService] 폐기된 리프레시 토큰 재사용 감지 - userId: {}, family: {}, 추가 폐기 {}건",
+                    current.getUserId(), current.getFamilyId(), revoked);
+            return TokenResponseDto.invalidRefreshToken();
+        }
+        if (current.isExpired(now)) {
+            return TokenResponseDto.invalidRefreshToken();
+        }
+
+        User user = userRepository.findById(current.getUserId()).orElse(null);
+        if (user == null || user.getUserStatus() == UserStatus.Y) { // 탈퇴/정지 계정은 재발급 불가
+            refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            return TokenResponseDto.invalidRefreshToken();
+        }
+
+        current.setRevokedAt(now);
+        return TokenResponseDto.success(issue(user, current.getFamilyId()));
+    }
+
+    /**
+     * 로그아웃: 전달된 리프레시 토큰의 계열을 폐기하고, 액세스 토큰은 남은 유효 시간 동안 사용할 수 없게 합니다.
+     *
+     * @param accessToken "Bearer " 를 뗀 액세스 토큰 (없으면 null)
+     */
+    @Transactional
+    public ResponseEntity<ResponseDto> logout(String accessToken, RefreshTokenRequestDto dto) {
+        LocalDateTime now = LocalDateTime.now();
+        if (dto != null && dto.getRefreshToken() != null && !dto.getRefreshToken().isBlank()) {
+            refreshTokenRepository.findByTokenHash(JwtProvider.sha256Hex(dto.getRefreshToken()))
+                    .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId(), now));
+        }
+        if (accessToken != null) {
+            try {
+                VerifiedToken verified = jwtProvider.verify(accessToken);
+                accessTokenRevocationList.revoke(verified.tokenId(), verified.userId(), verified.expiresAtMillis());
+            } catch (JwtException | IllegalArgumentException e) {
+                log.debug("[TokenService] logout - 이미 만료되었거나 유효하지 않은 액세스 토큰: {}", e.getMessage());
+            }
+        }
+        return ResponseEntity.ok(new ResponseDto(ResponseCode.SUCCESS, ResponseMessage.SUCCESS));
+    }
+
+    /** 비밀번호 재설정 등으로 사용자의 모든 리프레시 토큰을 폐기합니다. */
+    @Transactional
+    public void revokeAllForUser(String userId) {
+        refreshTokenRepository.revokeAllByUserId(userId, LocalDateTime.now());
+    }
+
+    /** 만료된 리프레시 토큰 행 정리 (매일 새벽 4시) */
+    @Scheduled(cron = "${jwt.refresh-cleanup-cron:0 0 4 * * *}")
+    public void deleteExpiredRefreshTokens() {
+        int deleted = refreshTokenRepository.deleteExpiredBefore(LocalDateTime.now());
+        log.info("=== TokenService: 만료된 리프레시 토큰 {}건 삭제 ===", deleted);
+    }
+
+    private TokenResponseDto issue(User user, String familyId) {
+        String accessToken = jwtProvider.generateToken(user);
+        String rawRefreshToken = newRefreshToken();
+        refreshTokenRepository.save(RefreshToken.builder()
+                .userId(user.getUserId())
+                .tokenHash(JwtProvider.sha256Hex(rawRefreshToken))
+                .familyId(familyId)
+                .expiresAt(LocalDateTime.now().plus(Duration.ofMillis(refreshTokenValidity)))
+                .build());
+        return TokenResponseDto.of(accessToken, rawRefreshToken,
+                jwtProvider.getTokenValidity() / 1000, refreshTokenValidity / 1000);
+    }
+
+    private static String newRefreshToken() {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
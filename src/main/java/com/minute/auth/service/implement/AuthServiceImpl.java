@@ -4,15 +4,21 @@ import com.minute.auth.common.CertificationNumber;
 import com.minute.auth.common.CertificationStorage;
 import com.minute.auth.dto.request.*;
 import com.minute.auth.dto.response.*;
+import com.minute.security.crypto.PasswordHashingRejectedException;
 import com.minute.security.handler.EmailProvider;
 import com.minute.security.handler.JwtProvider;
+import com.minute.user.cache.UserAvailabilityIndex;
+import com.minute.user.cache.UserChangedEvent;
 import com.minute.user.entity.User;
+import com.minute.user.repository.SignupConflictView;
+import com.minute.user.repository.UserNoAllocator;
 import com.minute.user.repository.UserRepository;
 import com.minute.auth.service.AuthService;
+import com.minute.auth.service.TokenService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,12 +30,16 @@ import java.util.Optional;
 public class AuthServiceImpl implements AuthService {
 
     private final UserRepository userRepository;
+    private final UserNoAllocator userNoAllocator;
+    private final UserAvailabilityIndex userAvailabilityIndex; // 입력 중 중복 확인용 Bloom 필터 (가입 저장 시에는 DB로 확인)
     //의존성 주입
     private final JwtProvider jwtProvider;
 
     private final EmailProvider emailProvider;
     private final CertificationStorage certificationStorage;
-    private PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private final TokenService tokenService;
+    private final PasswordEncoder passwordEncoder; // 전용 스레드 풀에서 BCrypt 실행 (WebSecurityConfig)
+    private final ApplicationEventPublisher eventPublisher; // 로그인 캐시 무효화 (LoginUserCache)
 
     private boolean isValidPassword(String password) {
         if (password == null || password.length() < 8 || password.length() > 20)
@@ -43,7 +53,7 @@ public class AuthServiceImpl implements AuthService {
     public ResponseEntity<? super SignupValidateResponseDto> validateSignUp(SignupValidateRequestDto dto) {
         try {
             String userId = dto.getUserId();
-            boolean existedId = userRepository.existsByUserId(userId);
+            boolean existedId = userAvailabilityIndex.existsUserId(userId);
             if (existedId) return SignupValidateResponseDto.duplicateId();
 
         } catch (Exception e) {
@@ -60,47 +70,37 @@ public class AuthServiceImpl implements AuthService {
     public ResponseEntity<? super SignupResponseDto> signUp(SignUpRequestDTO dto) {
 
         try{
-            //중복정보 있는지 검사
-            String id = dto.getUserId();
-            boolean existedId = userRepository.existsByUserId(id);
-            if (existedId) return SignupResponseDto.duplicateId();
-
-            // 비밀번호 조건 검사 추가
+            // 비밀번호 조건 검사 (DB 조회 전에 먼저 확인)
             String password = dto.getUserPw();
             if (!isValidPassword(password)) {
                 return SignupResponseDto.invalidPassword(); //
             }
 
-            String email = dto.getUserEmail();
-            boolean existedEmail = userRepository.existsByUserEmail(email);
-            if (existedEmail) return SignupResponseDto.duplicateEmail();
-
-            String nickname = dto.getUserNickName();
-            boolean existedNickname = userRepository.existsByUserNickName(nickname);
-            if (existedNickname) return SignupResponseDto.duplicateNickName();
-
-            String phone = dto.getUserPhone();
-            boolean existedPhone = userRepository.existsByUserPhone(phone);
-            if (existedPhone) return SignupResponseDto.duplicatePhone();
+            //중복정보 있는지 검사 - 한 번의 조회로 네 항목을 확인
+            // (필터는 이 서버에서의 가입만 알고 이메일/닉네임/전화번호에는 UNIQUE 키가 없으므로 저장 전에는 항상 DB로 확인)
+            SignupConflictView conflicts = userRepository.findSignupConflicts(
+                    dto.getUserId(), dto.getUserEmail(), dto.getUserNickName(), dto.getUserPhone());
+            ResponseEntity<ResponseDto> conflictResponse = SignupConflictResponseDto.of(
+                    conflicts.getUserIdCount() > 0, conflicts.getUserEmailCount() > 0,
+                    conflicts.getUserNickNameCount() > 0, conflicts.getUserPhoneCount() > 0);
+            if (conflictResponse != null) return conflictResponse;
 
             //비번 암호화
-            String pw = dto.getUserPw();
-            String encodedPassword = passwordEncoder.encode(pw);
+            String encodedPassword = passwordEncoder.encode(password);
             dto.setUserPw(encodedPassword);
 
-            // 2. userNo 자동 할당
-            Long maxUserNo = userRepository.findMaxUserNo();
-
-            // 새 userNo는 최대값 + 1
-            Long newUserNo = maxUserNo + 1;
-
-            //db 저장
+            //db 저장 - userNo 는 미리 예약해 둔 구간에서 발급 (UserNoAllocator)
             User user = new User(dto);
-            user.setUserNo(Math.toIntExact(newUserNo));
+            user.setUserNo(userNoAllocator.nextUserNo());
+            userAvailabilityIndex.register(dto.getUserId(), dto.getUserEmail());
             userRepository.save(user);
+            // 가입 전에 이 아이디로 로그인 시도가 있었다면 '없는 아이디'로 캐시되어 있을 수 있음
+            eventPublisher.publishEvent(new UserChangedEvent(user.getUserId()));
 
 
-        }catch (Exception exception) {
+        } catch (PasswordHashingRejectedException exception) {
+            return ResponseDto.tooManyRequests();
+        } catch (Exception exception) {
             exception.printStackTrace();
             return ResponseDto.databaseError();
         }
@@ -109,11 +109,15 @@ public class AuthServiceImpl implements AuthService {
 
     //인증번호 보내기
     @Override
-    public ResponseEntity<? super EmailCertificationResponseDto> emailCertification(EmailCertificationRequestDto dto) {
+    public ResponseEntity<? super EmailCertificationResponseDto> emailCertification(EmailCertificationRequestDto dto, String clientIp) {
         try {
 
             String userEmail = dto.getUserEmail();
 
+            // 1. 이메일/IP별 발송 횟수 제한
+            long retryAfter = certificationStorage.acquireIssue(userEmail, clientIp);
+            if (retryAfter > 0) return ResponseDto.tooManyRequests(retryAfter);
+
             // 2. 인증번호 생성
             String certificationNumber = CertificationNumber.getCertificationNumber();
 
@@ -135,10 +139,14 @@ public class AuthServiceImpl implements AuthService {
 
     //인증번호 검증하기
     @Override
-    public ResponseEntity<?> verifyCertificationCodeForSignUp(VerifyCodeRequestDto dto) {
+    public ResponseEntity<?> verifyCertificationCodeForSignUp(VerifyCodeRequestDto dto, String clientIp) {
         String userEmail = dto.getUserEmail();
         String certificationNumber = dto.getCertificationNumber();
 
+        // 이메일/IP별 확인 시도 횟수 제한 (번호 대입 방지)
+        long retryAfter = certificationStorage.acquireVerify(userEmail, clientIp);
+        if (retryAfter > 0) return ResponseDto.tooManyRequests(retryAfter);
+
         // 1. 임시 저장소에서 인증번호 조회
         String storedNumber = certificationStorage.get(userEmail);
         if (storedNumber == null || !storedNumber.equals(certificationNumber)) {
@@ -151,10 +159,14 @@ public class AuthServiceImpl implements AuthService {
 
     //인증번호 검증하기
     @Override
-    public ResponseEntity<?> verifyCertificationCode(VerifyCodeRequestDto dto) {
+    public ResponseEntity<?> verifyCertificationCode(VerifyCodeRequestDto dto, String clientIp) {
         String userEmail = dto.getUserEmail();
         String certificationNumber = dto.getCertificationNumber();
 
+        // 이메일/IP별 확인 시도 횟수 제한 (번호 대입 방지)
+        long retryAfter = certificationStorage.acquireVerify(userEmail, clientIp);
+        if (retryAfter > 0) return ResponseDto.tooManyRequests(retryAfter);
+
         // 1. 임시 저장소에서 인증번호 조회
         String storedNumber = certificationStorage.get(userEmail);
         if (storedNumber == null || !storedNumber.equals(certificationNumber)) {
@@ -199,9 +211,14 @@ public class AuthServiceImpl implements AuthService {
             String encodedPassword = passwordEncoder.encode(newPassword);
             user.setUserPw(encodedPassword);
             userRepository.save(user);
+            // 비밀번호가 바뀌었으므로 기존 로그인 세션(리프레시 토큰)은 모두 폐기
+            tokenService.revokeAllForUser(user.getUserId());
+            eventPublisher.publishEvent(new UserChangedEvent(user.getUserId()));
 
             return ResetPasswordResponseDto.success();
 
+        } catch (PasswordHashingRejectedException e) {
+            return ResponseDto.tooManyRequests();
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseDto.databaseError();
@@ -0,0 +1,36 @@
+package com.minute.board.free.cache;
+
+/**
+ * 사용자의 좋아요/신고 상태가 바뀌었음을 알리는 이벤트입니다.
+ * 트랜잭션 커밋 이후 사용자별 좋아요/신고 ID 캐시에 반영됩니다.
+ *
+ * @param userId   상태를 바꾼 사용자 ID
+ * @param type     변경 종류
+ * @param targetId 대상 게시글 또는 댓글 ID
+ * @param active   true: 좋아요/신고 추가, false: 취소
+ */
+public record FreeboardInteractionChangedEvent(String userId, Type type, Integer targetId, boolean active) {
+
+    public enum Type {
+        POST_LIKE,
+        POST_REPORT,
+        COMMENT_LIKE,
+        COMMENT_REPORT
+    }
+
+    public static FreeboardInteractionChangedEvent postLike(String userId, Integer postId, boolean liked) {
+        return new FreeboardInteractionChangedEvent(userId, Type.POST_LIKE, postId, liked);
+    }
+
+    public static FreeboardInteractionChangedEvent postReport(String userId, Integer postId) {
+        return new FreeboardInteractionChangedEvent(userId, Type.POST_REPORT, postId, true);
+    }
+
+    public static FreeboardInteractionChangedEvent commentLike(String userId, Integer commentId, boolean liked) {
+        return new FreeboardInteractionChangedEvent(userId, Type.COMMENT_LIKE, commentId, liked);
+    }
+
+    public static FreeboardInteractionChangedEvent commentReport(String userId, Integer commentId) {
+        return new FreeboardInteractionChangedEvent(userId, Type.COMMENT_REPORT, commentId, true);
+    }
+}
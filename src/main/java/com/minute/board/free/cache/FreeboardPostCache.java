@@ -0,0 +1,64 @@
+package com.minute.board.free.cache;
+
+import com.minute.board.free.repository.FreeboardPostRepository;
+import com.minute.common.cache.WeightedLruCache;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 자유게시판 게시글 상세 조회용 캐시입니다.
+ * 게시글 본문과 작성자 아이디를 스냅샷으로 보관하며, (닉네임은 UserSnapshotCache 에서 조회) 전체 크기(대략적인 바이트 수)가 상한을 넘으면 LRU로 제거합니다.
+ *
+ * <p>게시글 수정/삭제/숨김 처리 시 발행되는 {@link FreeboardPostChangedEvent}를
+ * 트랜잭션 커밋 이후에 받아 해당 항목을 제거합니다. (커밋 전 제거 시 이전 데이터가 다시 적재되는 것을 방지)
+ */
+@Slf4j
+@Component
+public class FreeboardPostCache {
+
+    private final FreeboardPostRepository freeboardPostRepository;
+    private final WeightedLruCache<Integer, FreeboardPostSnapshot> cache;
+
+    public FreeboardPostCache(FreeboardPostRepository freeboardPostRepository,
+                              @Value("${freeboard.cache.post-detail-max-bytes:33554432}") long maxBytes) {
+        this.freeboardPostRepository = freeboardPostRepository;
+        this.cache = new WeightedLruCache<>(maxBytes, (postId, snapshot) -> snapshot.estimatedBytes());
+    }
+
+    /**
+     * 게시글 스냅샷을 반환합니다. 캐시에 없으면 게시글과 작성자를 한 번에 조회해 적재합니다.
+     *
+     * @throws EntityNotFoundException 해당 ID의 게시글이 없을 경우
+     */
+    public FreeboardPostSnapshot get(Integer postId) {
+        FreeboardPostSnapshot snapshot = cache.get(postId, id -> freeboardPostRepository.findWithUserByPostId(id)
+                .map(FreeboardPostSnapshot::from)
+                .orElse(null));
+        if (snapshot == null) {
+            throw new EntityNotFoundException("해당 ID의 게시글을 찾을 수 없습니다: " + postId);
+        }
+        return snapshot;
+    }
+
+    /** 캐시에 있는 경우에만 좋아요 수를 갱신합니다. */
+    public void updateLikeCount(Integer postId, int currentLikeCount) {
+        FreeboardPostSnapshot snapshot = cache.getIfPresent(postId);
+        if (snapshot != null) {
+            snapshot.updateLikeCount(currentLikeCount);
+        }
+    }
+
+    public void evict(Integer postId) {
+        cache.invalidate(postId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(FreeboardPostChangedEvent event) {
+        log.debug("[FreeboardPostCache] Evicting post {} after commit", event.postId());
+        evict(event.postId());
+    }
+}
@@ -0,0 +1,10 @@
+package com.minute.board.free.cache;
+
+/**
+ * 게시글의 본문/작성자/숨김 상태가 바뀌었거나 게시글이 삭제되었음을 알리는 이벤트입니다.
+ * 트랜잭션 커밋 이후에 게시글 상세 캐시를 비우는 데 사용됩니다.
+ *
+ * @param postId 변경된 게시글 ID
+ */
+public record FreeboardPostChangedEvent(Integer postId) {
+}
@@ -0,0 +1,74 @@
+package com.minute.board.free.cache;
+
+import com.minute.board.free.entity.FreeboardPost;
+import com.minute.user.entity.User;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게시글 상세 캐시에 저장되는 스냅샷입니다.
+ * 본문/작성자 아이디는 불변이며, 변경(수정/삭제/숨김)이 일어나면 스냅샷 자체를 캐시에서 제거합니다.
+ * 작성자 닉네임은 게시글과 무관하게 바뀌므로 담지 않고, 응답을 만들 때 {@code UserSnapshotCache}에서 조회합니다.
+ * 조회수와 좋아요 수는 자주 바뀌므로 스냅샷을 다시 만들지 않고 카운터만 갱신합니다.
+ */
+@Getter
+public final class FreeboardPostSnapshot {
+
+    private final Integer postId;
+    private final String postTitle;
+    private final String postContent;
+    private final boolean postIsHidden;
+    private final LocalDateTime postCreatedAt;
+    private final LocalDateTime postUpdatedAt;
+    private final String userId;
+
+    @Getter(lombok.AccessLevel.NONE)
+    private final AtomicInteger viewCount;
+    @Getter(lombok.AccessLevel.NONE)
+    private final AtomicInteger likeCount;
+
+    private FreeboardPostSnapshot(FreeboardPost post) {
+        User author = post.getUser();
+        this.postId = post.getPostId();
+        this.postTitle = post.getPostTitle();
+        this.postContent = post.getPostContent();
+        this.postIsHidden = post.isPostIsHidden();
+        this.postCreatedAt = post.getPostCreatedAt();
+        this.postUpdatedAt = post.getPostUpdatedAt();
+        this.userId = author != null ? author.getUserId() : null;
+        this.viewCount = new AtomicInteger(post.getPostViewCount());
+        this.likeCount = new AtomicInteger(post.getPostLikeCount());
+    }
+
+    /** 작성자(user)가 함께 로딩된 엔티티로부터 스냅샷을 만듭니다. */
+    public static FreeboardPostSnapshot from(FreeboardPost post) {
+        return new FreeboardPostSnapshot(post);
+    }
+
+    public int getPostViewCount() {
+        return viewCount.get();
+    }
+
+    public int getPostLikeCount() {
+        return likeCount.get();
+    }
+
+    public int increaseViewCount() {
+        return viewCount.incrementAndGet();
+    }
+
+    public void updateLikeCount(int currentLikeCount) {
+        likeCount.set(currentLikeCount);
+    }
+
+    /** 캐시 무게 계산용 대략적인 메모리 사용량(바이트)입니다. 문자열은 UTF-16 기준으로 계산합니다. */
+    public int estimatedBytes() {
+        return 160 + 2 * (length(postTitle) + length(postContent) + length(userId));
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+}
@@ -0,0 +1,249 @@
+package com.minute.board.free.cache;
+
+import com.minute.board.free.repository.FreeboardCommentLikeRepository;
+import com.minute.board.free.repository.FreeboardCommentReportRepository;
+import com.minute.board.free.repository.FreeboardPostLikeRepository;
+import com.minute.board.free.repository.FreeboardPostReportRepository;
+import com.minute.common.cache.IntSortedSet;
+import com.minute.common.cache.WeightedLruCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용자별로 좋아요/신고한 게시글·댓글 ID 집합을 보관하는 캐시입니다.
+ * 사용자의 전체 이력을 읽지 않고, 화면에 그리는 게시글/댓글 ID 중 아직 확인하지 않은 것만 {@code IN (...)} 으로 읽어
+ * "확인한 ID" 집합과 함께 쌓아 둡니다. 이후에는 좋아요/신고 이벤트로 집합을 갱신합니다.
+ * 집합은 int 배열 기반({@link IntSortedSet})이라 사용자당 메모리 사용량이 작고,
+ * 전체 상한(바이트)을 넘으면 가장 오래 쓰지 않은 사용자부터 제거됩니다.
+ *
+ * <p>목록 조회 시 {@link #postInteractionsOf}/{@link #commentInteractionsOf}에 페이지의 ID 목록을 넘겨
+ * 한 번에 확인한 뒤 로컬에서 포함 여부만 확인합니다. 이미 본 페이지는 DB를 다시 조회하지 않습니다.
+ */
+@Slf4j
+@Component
+public class FreeboardUserInteractionCache {
+
+    private final FreeboardPostLikeRepository freeboardPostLikeRepository;
+    private final FreeboardPostReportRepository freeboardPostReportRepository;
+    private final FreeboardCommentLikeRepository freeboardCommentLikeRepository;
+    private final FreeboardCommentReportRepository freeboardCommentReportRepository;
+    private final WeightedLruCache<String, UserInteractions> cache;
+
+    public FreeboardUserInteractionCache(FreeboardPostLikeRepository freeboardPostLikeRepository,
+                                         FreeboardPostReportRepository freeboardPostReportRepository,
+                                         FreeboardCommentLikeRepository freeboardCommentLikeRepository,
+                                         FreeboardCommentReportRepository freeboardCommentReportRepository,
+                                         @Value("${freeboard.cache.user-interaction-max-bytes:16777216}") long maxBytes) {
+        this.freeboardPostLikeRepository = freeboardPostLikeRepository;
+        this.freeboardPostReportRepository = freeboardPostReportRepository;
+        this.freeboardCommentLikeRepository = freeboardCommentLikeRepository;
+        this.freeboardCommentReportRepository = freeboardCommentReportRepository;
+        this.cache = new WeightedLruCache<>(maxBytes, (userId, interactions) -> interactions.estimatedBytes(userId));
+    }
+
+    /**
+     * 주어진 게시글들에 대한 사용자의 좋아요/신고 여부를 담은 집합을 반환합니다. 비로그인(null)이면 빈 집합을 반환합니다.
+     * 아직 확인하지 않은 게시글만 DB에서 읽습니다. 반환값은 불변이므로 페이지 하나를 꾸미는 동안 그대로 사용하면 됩니다.
+     */
+    public UserInteractions postInteractionsOf(String userId, Collection<Integer> postIds) {
+        if (userId == null) {
+            return UserInteractions.EMPTY;
+        }
+        long version = cache.version();
+        UserInteractions current = orEmpty(cache.getIfPresent(userId));
+        List<Integer> missing = unknown(postIds, current.knownPostIds);
+        if (missing.isEmpty()) {
+            return current;
+        }
+        log.debug("[FreeboardUserInteractionCache] Loading liked/reported flags of {} posts for user {}", missing.size(), userId);
+        Set<Integer> liked = freeboardPostLikeRepository.findLikedPostIdsByUserIdAndPostIdsIn(userId, missing);
+        Set<Integer> reported = freeboardPostReportRepository.findReportedPostIdsByUserIdAndPostIdsIn(userId, missing);
+        UserInteractions merged = cache.mergeIfNotInvalidated(userId, version,
+                existing -> orEmpty(existing).withLoadedPosts(missing, liked, reported));
+        // 그 사이 무효화가 있었으면 저장하지 않고 이번 조회 결과만 사용합니다.
+        return merged != null ? merged : current.withLoadedPosts(missing, liked, reported);
+    }
+
+    /** {@link #postInteractionsOf}의 댓글 버전 */
+    public UserInteractions commentInteractionsOf(String userId, Collection<Integer> commentIds) {
+        if (userId == null) {
+            return UserInteractions.EMPTY;
+        }
+        long version = cache.version();
+        UserInteractions current = orEmpty(cache.getIfPresent(userId));
+        List<Integer> missing = unknown(commentIds, current.knownCommentIds);
+        if (missing.isEmpty()) {
+            return current;
+        }
+        log.debug("[FreeboardUserInteractionCache] Loading liked/reported flags of {} comments for user {}", missing.size(), userId);
+        Set<Integer> liked = freeboardCommentLikeRepository.findLikedCommentIdsByUserIdAndCommentIdsIn(userId, missing);
+        Set<Integer> reported = freeboardCommentReportRepository.findReportedCommentIdsByUserIdAndCommentIdsIn(userId, missing);
+        UserInteractions merged = cache.mergeIfNotInvalidated(userId, version,
+                existing -> orEmpty(existing).withLoadedComments(missing, liked, reported));
+        return merged != null ? merged : current.withLoadedComments(missing, liked, reported);
+    }
+
+    public boolean hasLikedPost(String userId, Integer postId) {
+        return postId != null && postInteractionsOf(userId, List.of(postId)).hasLikedPost(postId);
+    }
+
+    public boolean hasReportedPost(String userId, Integer postId) {
+        return postId != null && postInteractionsOf(userId, List.of(postId)).hasReportedPost(postId);
+    }
+
+    public boolean hasLikedComment(String userId, Integer commentId) {
+        return commentId != null && commentInteractionsOf(userId, List.of(commentId)).hasLikedComment(commentId);
+    }
+
+    public boolean hasReportedComment(String userId, Integer commentId) {
+        return commentId != null && commentInteractionsOf(userId, List.of(commentId)).hasReportedComment(commentId);
+    }
+
+    public void evict(String userId) {
+        cache.invalidate(userId);
+    }
+
+    /**
+     * 확인해 둔 대상이면 집합을 갱신하고, 확인하지 않은 대상이면 사용자 항목을 비웁니다.
+     * (커밋 전에 시작된 조회가 변경 전 값을 저장하지 않도록 캐시의 무효화 버전도 함께 올라갑니다)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onInteractionChanged(FreeboardInteractionChangedEvent event) {
+        int targetId = event.targetId();
+        boolean active = event.active();
+        cache.computeIfPresent(event.userId(), current -> switch (event.type()) {
+            case POST_LIKE -> current.knownPostIds.contains(targetId)
+                    ? current.withLikedPosts(toggle(current.likedPostIds, targetId, active)) : null;
+            case POST_REPORT -> current.knownPostIds.contains(targetId)
+                    ? current.withReportedPosts(toggle(current.reportedPostIds, targetId, active)) : null;
+            case COMMENT_LIKE -> current.knownCommentIds.contains(targetId)
+                    ? current.withLikedComments(toggle(current.likedCommentIds, targetId, active)) : null;
+            case COMMENT_REPORT -> current.knownCommentIds.contains(targetId)
+                    ? current.withReportedComments(toggle(current.reportedCommentIds, targetId, active)) : null;
+        });
+    }
+
+    private static IntSortedSet toggle(IntSortedSet set, int id, boolean active) {
+        return active ? set.with(id) : set.without(id);
+    }
+
+    private static UserInteractions orEmpty(UserInteractions interactions) {
+        return interactions == null ? UserInteractions.EMPTY : interactions;
+    }
+
+    private static List<Integer> unknown(Collection<Integer> ids, IntSortedSet known) {
+        List<Integer> missing = new ArrayList<>();
+        for (Integer id : ids) {
+            if (id != null && !known.contains(id) && !missing.contains(id)) {
+                missing.add(id);
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * 한 사용자의 좋아요/신고 ID 집합. 불변 객체이며 갱신 시 새 인스턴스로 교체합니다.
+     * known 집합에 없는 ID는 아직 확인하지 않은 것이므로, 좋아요/신고 여부를 false 로 답합니다.
+     */
+    public static final class UserInteractions {
+
+        public static final UserInteractions EMPTY = new UserInteractions(
+                IntSortedSet.EMPTY, IntSortedSet.EMPTY, IntSortedSet.EMPTY,
+                IntSortedSet.EMPTY, IntSortedSet.EMPTY, IntSortedSet.EMPTY);
+
+        private final IntSortedSet knownPostIds;
+        private final IntSortedSet likedPostIds;
+        private final IntSortedSet reportedPostIds;
+        private final IntSortedSet knownCommentIds;
+        private final IntSortedSet likedCommentIds;
+        private final IntSortedSet reportedCommentIds;
+
+        UserInteractions(IntSortedSet knownPostIds, IntSortedSet likedPostIds, IntSortedSet reportedPostIds,
+                         IntSortedSet knownCommentIds, IntSortedSet likedCommentIds, IntSortedSet reportedCommentIds) {
+            this.knownPostIds = knownPostIds;
+            this.likedPostIds = likedPostIds;
+            this.reportedPostIds = reportedPostIds;
+            this.knownCommentIds = knownCommentIds;
+            this.likedCommentIds = likedCommentIds;
+            this.reportedCommentIds = reportedCommentIds;
+        }
+
+        public boolean hasLikedPost(int postId) {
+            return likedPostIds.contains(postId);
+        }
+
+        public boolean hasReportedPost(int postId) {
+            return reportedPostIds.contains(postId);
+        }
+
+        public boolean hasLikedComment(int commentId) {
+            return likedCommentIds.contains(commentId);
+        }
+
+        public boolean hasReportedComment(int commentId) {
+            return reportedCommentIds.contains(commentId);
+        }
+
+        /** 새로 읽은 게시글 상태를 합칩니다. 이미 확인한 ID는 이벤트로 갱신된 값이 더 최신이므로 건드리지 않습니다. */
+        UserInteractions withLoadedPosts(Collection<Integer> postIds, Set<Integer> liked, Set<Integer> reported) {
+            IntSortedSet known = knownPostIds;
+            IntSortedSet likedIds = likedPostIds;
+            IntSortedSet reportedIds = reportedPostIds;
+            for (Integer postId : postIds) {
+                if (known.contains(postId)) {
+                    continue;
+                }
+                known = known.with(postId);
+                likedIds = liked.contains(postId) ? likedIds.with(postId) : likedIds;
+                reportedIds = reported.contains(postId) ? reportedIds.with(postId) : reportedIds;
+            }
+            return new UserInteractions(known, likedIds, reportedIds, knownCommentIds, likedCommentIds, reportedCommentIds);
+        }
+
+        /** {@link #withLoadedPosts}의 댓글 버전 */
+        UserInteractions withLoadedComments(Collection<Integer> commentIds, Set<Integer> liked, Set<Integer> reported) {
+            IntSortedSet known = knownCommentIds;
+            IntSortedSet likedIds = likedCommentIds;
+            IntSortedSet reportedIds = reportedCommentIds;
+            for (Integer commentId : commentIds) {
+                if (known.contains(commentId)) {
+                    continue;
+                }
+                known = known.with(commentId);
+                likedIds = liked.contains(commentId) ? likedIds.with(commentId) : likedIds;
+                reportedIds = reported.contains(commentId) ? reportedIds.with(commentId) : reportedIds;
+            }
+            return new UserInteractions(knownPostIds, likedPostIds, reportedPostIds, known, likedIds, reportedIds);
+        }
+
+        UserInteractions withLikedPosts(IntSortedSet ids) {
+            return new UserInteractions(knownPostIds, ids, reportedPostIds, knownCommentIds, likedCommentIds, reportedCommentIds);
+        }
+
+        UserInteractions withReportedPosts(IntSortedSet ids) {
+            return new UserInteractions(knownPostIds, likedPostIds, ids, knownCommentIds, likedCommentIds, reportedCommentIds);
+        }
+
+        UserInteractions withLikedComments(IntSortedSet ids) {
+            return new UserInteractions(knownPostIds, likedPostIds, reportedPostIds, knownCommentIds, ids, reportedCommentIds);
+        }
+
+        UserInteractions withReportedComments(IntSortedSet ids) {
+            return new UserInteractions(knownPostIds, likedPostIds, reportedPostIds, knownCommentIds, likedCommentIds, ids);
+        }
+
+        int estimatedBytes(String userId) {
+            return 64 + 2 * userId.length()
+                    + knownPostIds.estimatedBytes() + likedPostIds.estimatedBytes() + reportedPostIds.estimatedBytes()
+                    + knownCommentIds.estimatedBytes() + likedCommentIds.estimatedBytes() + reportedCommentIds.estimatedBytes();
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.minute.board.common.dto.response.PageResponseDTO;
 import com.minute.board.common.dto.response.ReportSuccessResponseDTO;
 import com.minute.board.free.dto.request.*;
 import com.minute.board.free.dto.response.*;
+import com.minute.board.free.ranking.HotWindow;
 import com.minute.board.free.service.FreeboardCommentService;
 import com.minute.board.free.service.FreeboardPostService;
 import com.minute.board.free.service.admin.AdminReportViewService;
@@ -33,6 +34,7 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
 import java.time.LocalDate;
+import java.util.List;
 
 @Tag(name = "01. 자유게시판 API", description = "자유게시판 게시글 관련 API입니다.")
 @RestController
@@ -59,6 +61,15 @@ public class FreeboardPostController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "자유게시판 인기 게시글 조회", description = "좋아요/댓글/조회수와 작성 시각을 반영한 점수 순으로 기간(DAY/WEEK)별 인기 게시글을 조회합니다.")
+    @GetMapping("/hot")
+    public ResponseEntity<List<FreeboardPostSimpleResponseDTO>> getHotPosts(
+            @Parameter(description = "집계 기간 (DAY: 최근 24시간, WEEK: 최근 7일)") @RequestParam(defaultValue = "DAY") HotWindow window,
+            @Parameter(description = "최대 개수 (1~50)") @RequestParam(defaultValue = "10") int size) {
+        List<FreeboardPostSimpleResponseDTO> response = freeboardPostService.getHotPosts(window, Math.max(1, Math.min(size, 50)));
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "자유게시판 게시글 상세 조회", description = "특정 ID의 게시글 상세 정보를 조회하고, 조회수를 1 증가시킵니다.")
     @GetMapping("/{postId}")
     public ResponseEntity<FreeboardPostResponseDTO> getPostById(@PathVariable Integer postId) {
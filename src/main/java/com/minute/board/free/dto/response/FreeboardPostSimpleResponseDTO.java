@@ -39,9 +39,8 @@ public class FreeboardPostSimpleResponseDTO {
     @Schema(description = "현재 로그인한 사용자의 해당 게시글 신고 여부", example = "false")
     private boolean isReportedByCurrentUser;
 
-    // 목록에서는 댓글 수를 함께 보여주는 것도 좋음 (필요 시 추가)
-    // @Schema(description = "댓글 수", example = "5")
-    // private int commentCount;
+    @Schema(description = "댓글 수 (숨김 처리된 댓글 제외)", example = "5")
+    private int commentCount;
 
     // Lombok의 @Builder를 사용하면 모든 필드를 받는 생성자가 필요 없어지거나,
     // 특정 생성자가 필요하면 @AllArgsConstructor 등을 추가할 수 있습니다.
@@ -40,6 +40,11 @@ public class FreeboardPost {
     @ColumnDefault("0")
     private int postLikeCount = 0; // 실제 좋아요 수는 FreeboardPostLike 테이블 집계를 통해 관리될 수도 있습니다.
 
+    @Column(name = "comment_count", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private int commentCount = 0; // 숨김 처리되지 않은 댓글 수 (댓글 작성/삭제/숨김 변경 시 갱신, 주기적으로 재계산)
+
     @Column(name = "post_is_hidden", nullable = false)
     @ColumnDefault("false") // DB 스키마: DEFAULT 0
     private boolean postIsHidden = false;
@@ -0,0 +1,246 @@
+package com.minute.board.free.ranking;
+
+import com.minute.board.free.cache.FreeboardPostChangedEvent;
+import com.minute.board.free.repository.FreeboardPostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 자유게시판 인기글 랭킹입니다.
+ *
+ * <p>점수는 Reddit "hot" 방식으로 계산합니다.
+ * <pre>
+ *   score = log10(max(1, 좋아요*likeWeight + 댓글*commentWeight + 조회*viewWeight)) + 작성시각(초) / decaySeconds
+ * </pre>
+ * 작성 시각이 decaySeconds 만큼 늦을수록 반응이 10배 적어도 같은 점수를 받으므로 오래된 글은 자연스럽게 밀려납니다.
+ * decaySeconds 는 기간별로 따로 둡니다. 하루 기준 값을 주간 순위에 그대로 쓰면 7일 사이 시간 항 차이가 반응 10^13배에 해당해
+ * 주간 순위가 사실상 최신순이 되므로, 주간은 기간 길이에 맞춰 더 크게 잡습니다.
+ * 점수가 "현재 시각"에 의존하지 않기 때문에 게시글의 점수는 반응이 생길 때만 바뀌고,
+ * 기간별로 정렬된 집합을 이벤트마다 부분 갱신하는 것만으로 순위가 유지됩니다.
+ *
+ * <p>최근 {@link HotWindow#longest()} 이내에 작성된 공개 게시글만 메모리에 둡니다.
+ * 좋아요/조회/댓글 이벤트로 점수를 갱신하고, 기간별 상위 N개 목록은 주기적으로 미리 만들어 둔 것을 그대로 반환합니다.
+ * 누락된 이벤트 등으로 생긴 오차는 정기 재동기화(DB 재적재)로 바로잡습니다.
+ */
+@Slf4j
+@Component
+public class FreeboardHotRanking {
+
+    private static final long SCORE_EPOCH_SECONDS = 1_700_000_000L; // 점수의 시간 항을 작은 값으로 유지하기 위한 기준 시각
+
+    private final FreeboardPostRepository freeboardPostRepository;
+    private final double likeWeight;
+    private final double commentWeight;
+    private final double viewWeight;
+    private final Map<HotWindow, Double> decaySeconds;
+    private final int topSize;
+    private final long maxStaleMillis;
+
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    private final Map<HotWindow, TreeSet<Entry>> byScore = new EnumMap<>(HotWindow.class);
+
+    private volatile Map<HotWindow, List<Integer>> topLists = emptyTopLists();
+    private boolean dirty;
+    private long lastBuiltAt;
+
+    public FreeboardHotRanking(FreeboardPostRepository freeboardPostRepository,
+                               @Value("${freeboard.hot.like-weight:3.0}") double likeWeight,
+                               @Value("${freeboard.hot.comment-weight:2.0}") double commentWeight,
+                               @Value("${freeboard.hot.view-weight:0.1}") double viewWeight,
+                               @Value("${freeboard.hot.day-decay-seconds:45000}") double dayDecaySeconds,
+                               @Value("${freeboard.hot.week-decay-seconds:315000}") double weekDecaySeconds,
+                               @Value("${freeboard.hot.top-size:50}") int topSize,
+                               @Value("${freeboard.hot.max-stale-ms:60000}") long maxStaleMillis) {
+        this.freeboardPostRepository = freeboardPostRepository;
+        this.likeWeight = likeWeight;
+        this.commentWeight = commentWeight;
+        this.viewWeight = viewWeight;
+        this.decaySeconds = new EnumMap<>(Map.of(HotWindow.DAY, dayDecaySeconds, HotWindow.WEEK, weekDecaySeconds));
+        this.topSize = topSize;
+        this.maxStaleMillis = maxStaleMillis;
+        for (HotWindow window : HotWindow.values()) {
+            byScore.put(window, new TreeSet<>(
+                    Comparator.comparingDouble((Entry e) -> e.scores[window.ordinal()]).reversed().thenComparing(e -> e.postId)));
+        }
+    }
+
+    /**
+     * 미리 계산된 기간별 인기글 ID 목록(점수 내림차순)을 반환합니다.
+     *
+     * @param limit 최대 개수 (미리 계산해 두는 개수 {@code freeboard.hot.top-size} 를 넘을 수 없음)
+     */
+    public List<Integer> topPostIds(HotWindow window, int limit) {
+        List<Integer> ids = topLists.get(window);
+        return ids.size() <= limit ? ids : ids.subList(0, Math.max(0, limit));
+    }
+
+    // --- 이벤트 반영 ---
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStatsChanged(FreeboardPostStatsChangedEvent event) {
+        synchronized (this) {
+            Entry entry = entries.get(event.postId());
+            if (entry == null) {
+                return; // 집계 기간 밖이거나 숨김 처리된 게시글
+            }
+            unindex(entry);
+            entry.likeCount += event.likeDelta();
+            entry.viewCount += event.viewDelta();
+            entry.commentCount += event.commentDelta();
+            index(entry);
+            dirty = true;
+        }
+    }
+
+    /** 작성/수정/삭제/숨김 변경 시 해당 게시글 수치만 다시 읽어와 반영합니다. */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(FreeboardPostChangedEvent event) {
+        HotPostStats stats = freeboardPostRepository
+                .findHotStatsByPostId(event.postId(), LocalDateTime.now().minus(HotWindow.longest()))
+                .orElse(null);
+        synchronized (this) {
+            Entry previous = entries.remove(event.postId());
+            if (previous != null) {
+                unindex(previous);
+            }
+            if (stats != null) {
+                put(stats);
+            }
+            dirty = true;
+        }
+    }
+
+    // --- 주기 작업 ---
+
+    /** 서버 시작 직후와 매시간 DB에서 집계 기간 내 게시글 수치를 다시 읽어옵니다. */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${freeboard.hot.resync-cron:0 0 * * * *}")
+    public void resync() {
+        List<HotPostStats> recent = freeboardPostRepository.findHotStatsSince(LocalDateTime.now().minus(HotWindow.longest()));
+        synchronized (this) {
+            entries.clear();
+            byScore.values().forEach(TreeSet::clear);
+            recent.forEach(this::put);
+            dirty = true;
+        }
+        refreshTopLists();
+        log.info("=== FreeboardHotRanking: 인기글 재동기화 완료 (게시글 {}건) ===", recent.size());
+    }
+
+    /**
+     * 변경이 있었거나 마지막 계산 후 일정 시간이 지났으면 기간별 상위 N개 목록을 다시 만듭니다.
+     * (시간이 지나 집계 기간을 벗어난 게시글을 목록에서 빼기 위해 변경이 없어도 주기적으로 다시 계산)
+     */
+    @Scheduled(fixedDelayString = "${freeboard.hot.refresh-interval-ms:5000}")
+    public void refreshTopLists() {
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            if (!dirty && now - lastBuiltAt < maxStaleMillis) {
+                return;
+            }
+            LocalDateTime current = LocalDateTime.now();
+            evictExpired(current.minus(HotWindow.longest()));
+
+            Map<HotWindow, List<Integer>> built = new EnumMap<>(HotWindow.class);
+            for (HotWindow window : HotWindow.values()) {
+                built.put(window, buildTopList(window, current.minus(window.getDuration())));
+            }
+            topLists = built;
+            dirty = false;
+            lastBuiltAt = now;
+        }
+    }
+
+    // --- 내부 구현 (모두 this 락 안에서 호출) ---
+
+    private void put(HotPostStats stats) {
+        Entry entry = new Entry(stats.postId(), stats.createdAt());
+        entry.likeCount = stats.likeCount();
+        entry.viewCount = stats.viewCount();
+        entry.commentCount = stats.commentCount();
+        entries.put(entry.postId, entry);
+        index(entry);
+    }
+
+    // 점수를 다시 계산해 기간별 정렬 집합에 넣습니다. (점수를 바꾸기 전에 unindex 로 먼저 빼야 함)
+    private void index(Entry entry) {
+        for (HotWindow window : HotWindow.values()) {
+            entry.scores[window.ordinal()] = score(window, entry.likeCount, entry.commentCount, entry.viewCount, entry.createdAt);
+            byScore.get(window).add(entry);
+        }
+    }
+
+    private void unindex(Entry entry) {
+        for (TreeSet<Entry> sorted : byScore.values()) {
+            sorted.remove(entry);
+        }
+    }
+
+    private List<Integer> buildTopList(HotWindow window, LocalDateTime since) {
+        List<Integer> ids = new ArrayList<>(topSize);
+        for (Entry entry : byScore.get(window)) {
+            if (ids.size() >= topSize) {
+                break;
+            }
+            if (!entry.createdAt.isBefore(since)) {
+                ids.add(entry.postId);
+            }
+        }
+        return Collections.unmodifiableList(ids);
+    }
+
+    private void evictExpired(LocalDateTime threshold) {
+        entries.values().removeIf(entry -> {
+            if (entry.createdAt.isBefore(threshold)) {
+                unindex(entry);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    double score(HotWindow window, int likeCount, int commentCount, int viewCount, LocalDateTime createdAt) {
+        double points = likeCount * likeWeight + commentCount * commentWeight + viewCount * viewWeight;
+        long createdSeconds = createdAt.atZone(ZoneId.systemDefault()).toEpochSecond();
+        return Math.log10(Math.max(1.0, points)) + (createdSeconds - SCORE_EPOCH_SECONDS) / decaySeconds.get(window);
+    }
+
+    private static Map<HotWindow, List<Integer>> emptyTopLists() {
+        Map<HotWindow, List<Integer>> empty = new EnumMap<>(HotWindow.class);
+        for (HotWindow window : HotWindow.values()) {
+            empty.put(window, List.of());
+        }
+        return empty;
+    }
+
+    private static final class Entry {
+        private final Integer postId;
+        private final LocalDateTime createdAt;
+        private int likeCount;
+        private int viewCount;
+        private int commentCount;
+        private final double[] scores = new double[HotWindow.values().length];
+
+        private Entry(Integer postId, LocalDateTime createdAt) {
+            this.postId = postId;
+            this.createdAt = createdAt;
+        }
+    }
+}
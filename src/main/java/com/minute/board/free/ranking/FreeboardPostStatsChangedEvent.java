@@ -0,0 +1,25 @@
+package com.minute.board.free.ranking;
+
+/**
+ * 게시글의 좋아요/조회/댓글 수가 바뀌었음을 알리는 이벤트입니다.
+ * 변화량만 전달하므로 인기글 랭킹은 DB를 다시 읽지 않고 점수를 갱신합니다.
+ *
+ * @param postId       게시글 ID
+ * @param likeDelta    좋아요 수 변화량
+ * @param viewDelta    조회수 변화량
+ * @param commentDelta 댓글 수 변화량
+ */
+public record FreeboardPostStatsChangedEvent(Integer postId, int likeDelta, int viewDelta, int commentDelta) {
+
+    public static FreeboardPostStatsChangedEvent liked(Integer postId, boolean liked) {
+        return new FreeboardPostStatsChangedEvent(postId, liked ? 1 : -1, 0, 0);
+    }
+
+    public static FreeboardPostStatsChangedEvent viewed(Integer postId) {
+        return new FreeboardPostStatsChangedEvent(postId, 0, 1, 0);
+    }
+
+    public static FreeboardPostStatsChangedEvent commented(Integer postId, int delta) {
+        return new FreeboardPostStatsChangedEvent(postId, 0, 0, delta);
+    }
+}
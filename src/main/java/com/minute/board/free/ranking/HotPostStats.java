@@ -0,0 +1,9 @@
+package com.minute.board.free.ranking;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기글 점수 계산에 필요한 게시글 수치만 담은 조회 전용 projection 입니다.
+ */
+public record HotPostStats(Integer postId, int likeCount, int viewCount, int commentCount, LocalDateTime createdAt) {
+}
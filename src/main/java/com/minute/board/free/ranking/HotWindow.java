@@ -0,0 +1,26 @@
+package com.minute.board.free.ranking;
+
+import java.time.Duration;
+
+/**
+ * 인기글 집계 기간입니다. 작성 시각이 기간 안에 있는 게시글만 순위에 포함됩니다.
+ */
+public enum HotWindow {
+    DAY(Duration.ofDays(1)),
+    WEEK(Duration.ofDays(7));
+
+    private final Duration duration;
+
+    HotWindow(Duration duration) {
+        this.duration = duration;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /** 가장 긴 집계 기간. 이 기간보다 오래된 게시글은 메모리에서 제거합니다. */
+    public static Duration longest() {
+        return WEEK.duration;
+    }
+}
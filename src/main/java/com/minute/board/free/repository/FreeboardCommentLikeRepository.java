@@ -4,6 +4,7 @@ import com.minute.board.free.entity.FreeboardComment;
 import com.minute.board.free.entity.FreeboardCommentLike;
 import com.minute.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query; // Query import 추가
 import org.springframework.data.repository.query.Param; // Param import 추가
 
@@ -27,4 +28,21 @@ public interface FreeboardCommentLikeRepository extends JpaRepository<FreeboardC
      */
     @Query("SELECT fcl.freeboardComment.commentId FROM FreeboardCommentLike fcl WHERE fcl.user.userId = :userId AND fcl.freeboardComment.commentId IN :commentIds")
     Set<Integer> findLikedCommentIdsByUserIdAndCommentIdsIn(@Param("userId") String userId, @Param("commentIds") List<Integer> commentIds);
-}
\ No newline at end of file
+
+    /**
+     * 댓글 좋아요를 추가합니다. (user_id, comment_id) 유니크 키로 중복을 막습니다.
+     * @return 추가된 행 수 (0: 이미 좋아요 상태)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO freeboard_comment_likes (user_id, comment_id, comment_created_at) " +
+            "VALUES (:userId, :commentId, NOW())", nativeQuery = true)
+    int insertIgnore(@Param("userId") String userId, @Param("commentId") Integer commentId);
+
+    /**
+     * 댓글 좋아요를 삭제합니다.
+     * @return 삭제된 행 수 (0: 좋아요 상태가 아니었음)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM freeboard_comment_likes WHERE user_id = :userId AND comment_id = :commentId", nativeQuery = true)
+    int deleteByUserIdAndCommentId(@Param("userId") String userId, @Param("commentId") Integer commentId);
+}
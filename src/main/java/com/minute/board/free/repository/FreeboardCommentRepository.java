@@ -9,12 +9,14 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.lang.Nullable; // Spring의 @Nullable 사용
 
 import java.time.LocalDateTime;
 import java.util.List; // List import 추가
+import java.util.Optional;
 
 public interface FreeboardCommentRepository extends JpaRepository<FreeboardComment, Integer>, JpaSpecificationExecutor<FreeboardComment> {
 
@@ -59,4 +61,28 @@ public interface FreeboardCommentRepository extends JpaRepository<FreeboardComme
      */
     @Query("SELECT count(c) FROM FreeboardComment c WHERE c.freeboardPost.postId = :postId AND c.commentCreatedAt < :createdAt")
     long countPreviousComments(@Param("postId") Integer postId, @Param("createdAt") LocalDateTime createdAt);
-}
\ No newline at end of file
+
+    /**
+     * 댓글 좋아요 수를 원자적으로 증감하고 변경된 행 수를 반환합니다. 댓글 행 락을 먼저 잡는 용도로도 쓰이므로 0 하한을 두지 않습니다.
+     * (좋아요 행 변화와 짝지어 호출해야 하며, {@link com.minute.common.like.LikeToggle} 참고)
+     */
+    @Modifying
+    @Query("UPDATE FreeboardComment c SET c.commentLikeCount = c.commentLikeCount + :delta WHERE c.commentId = :commentId")
+    int adjustLikeCount(@Param("commentId") Integer commentId, @Param("delta") int delta);
+
+    /**
+     * 댓글 엔티티를 읽지 않고 현재 좋아요 수만 조회합니다.
+     */
+    @Query("SELECT c.commentLikeCount FROM FreeboardComment c WHERE c.commentId = :commentId")
+    Optional<Integer> findLikeCountByCommentId(@Param("commentId") Integer commentId);
+
+    /**
+     * 숨김 상태가 실제로 바뀌는 경우에만 변경합니다. 동시에 같은 변경이 들어와도 한 번만 1을 반환하므로
+     * 반환값을 기준으로 게시글 댓글 수를 증감하면 카운트가 어긋나지 않습니다.
+     * @return 변경된 행 수 (0: 이미 같은 상태이거나 댓글 없음)
+     */
+    @Modifying
+    @Query("UPDATE FreeboardComment c SET c.commentIsHidden = :hidden, c.commentUpdatedAt = CURRENT_TIMESTAMP " +
+            "WHERE c.commentId = :commentId AND c.commentIsHidden <> :hidden")
+    int updateHiddenIfChanged(@Param("commentId") Integer commentId, @Param("hidden") boolean hidden);
+}
@@ -4,6 +4,7 @@ import com.minute.board.free.entity.FreeboardPost;
 import com.minute.board.free.entity.FreeboardPostLike;
 import com.minute.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -37,4 +38,21 @@ public interface FreeboardPostLikeRepository extends JpaRepository<FreeboardPost
 
     // 특정 사용자의 모든 좋아요 삭제 (사용자 탈퇴 시 사용될 수 있음)
     // void deleteByUser(User user);
-}
\ No newline at end of file
+
+    /**
+     * 좋아요를 추가합니다. (user_id, post_id) 유니크 키로 중복을 막습니다.
+     * @return 추가된 행 수 (0: 이미 좋아요 상태)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO freeboard_post_likes (user_id, post_id, post_like_created_at) " +
+            "VALUES (:userId, :postId, NOW())", nativeQuery = true)
+    int insertIgnore(@Param("userId") String userId, @Param("postId") Integer postId);
+
+    /**
+     * 좋아요를 삭제합니다.
+     * @return 삭제된 행 수 (0: 좋아요 상태가 아니었음)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM freeboard_post_likes WHERE user_id = :userId AND post_id = :postId", nativeQuery = true)
+    int deleteByUserIdAndPostId(@Param("userId") String userId, @Param("postId") Integer postId);
+}
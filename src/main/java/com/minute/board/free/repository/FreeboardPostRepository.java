@@ -1,6 +1,7 @@
 package com.minute.board.free.repository;
 
 import com.minute.board.free.entity.FreeboardPost;
+import com.minute.board.free.ranking.HotPostStats;
 import com.minute.user.entity.User;
 import io.micrometer.common.lang.Nullable;
 import org.springframework.data.domain.Page;
@@ -9,8 +10,14 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface FreeboardPostRepository extends JpaRepository<FreeboardPost, Integer>, JpaSpecificationExecutor<FreeboardPost> {
     // FreeboardPost 엔티티의 ID (postId) 타입은 Integer 입니다.
@@ -48,4 +55,87 @@ public interface FreeboardPostRepository extends JpaRepository<FreeboardPost, In
     @Override
     @EntityGraph(attributePaths = {"user"})
     Page<FreeboardPost> findAll(@Nullable Specification<FreeboardPost> spec, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * 게시글 상세 캐시 적재용. 게시글과 작성자를 한 번의 쿼리로 조회합니다.
+     *
+     * @param postId 게시글 ID
+     * @return 작성자 정보가 함께 로딩된 게시글
+     */
+    @EntityGraph(attributePaths = {"user"})
+    Optional<FreeboardPost> findWithUserByPostId(Integer postId);
+
+    /**
+     * 게시글을 읽어오지 않고 조회수만 1 증가시킵니다.
+     * (JPQL UPDATE이므로 post_updated_at은 변경되지 않습니다.)
+     *
+     * @param postId 게시글 ID
+     * @return 변경된 행 수 (게시글이 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE FreeboardPost p SET p.postViewCount = p.postViewCount + 1 WHERE p.postId = :postId")
+    int incrementViewCount(@Param("postId") Integer postId);
+
+    /**
+     * 좋아요 수를 원자적으로 증감합니다. 게시글 행 락을 먼저 잡는 용도로도 쓰이므로 0 하한을 두지 않습니다.
+     * (좋아요 행 변화와 짝지어 호출해야 하며, {@link com.minute.common.like.LikeToggle} 참고)
+     *
+     * @param postId 게시글 ID
+     * @param delta  +1 또는 -1
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE FreeboardPost p SET p.postLikeCount = p.postLikeCount + :delta WHERE p.postId = :postId")
+    int adjustLikeCount(@Param("postId") Integer postId, @Param("delta") int delta);
+
+    /**
+     * 게시글 엔티티를 읽지 않고 현재 좋아요 수만 조회합니다.
+     */
+    @Query("SELECT p.postLikeCount FROM FreeboardPost p WHERE p.postId = :postId")
+    Optional<Integer> findLikeCountByPostId(@Param("postId") Integer postId);
+
+    /**
+     * 댓글 수를 원자적으로 증감합니다. 게시글 행 락을 먼저 잡아 댓글 INSERT 의 FK 검사와 데드락이 나지 않게 합니다.
+     * @return 변경된 행 수 (0: 게시글 없음)
+     */
+    @Modifying
+    @Query("UPDATE FreeboardPost p SET p.commentCount = p.commentCount + :delta WHERE p.postId = :postId")
+    int adjustCommentCount(@Param("postId") Integer postId, @Param("delta") int delta);
+
+    /**
+     * post_id 구간 안의 게시글 댓글 수를 실제 (숨김 아님) 댓글 행 수로 다시 맞춥니다.
+     * 구간 단위로 짧은 트랜잭션을 쓰도록 메서드 자체에 트랜잭션을 둡니다.
+     * @return 값이 달라서 수정된 게시글 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE freeboard_posts p " +
+            "SET p.comment_count = (SELECT COUNT(*) FROM freeboard_comments c WHERE c.post_id = p.post_id AND c.comment_is_hidden = false) " +
+            "WHERE p.post_id BETWEEN :fromId AND :toId " +
+            "AND p.comment_count <> (SELECT COUNT(*) FROM freeboard_comments c WHERE c.post_id = p.post_id AND c.comment_is_hidden = false)",
+            nativeQuery = true)
+    int reconcileCommentCounts(@Param("fromId") int fromId, @Param("toId") int toId);
+
+    @Query("SELECT COALESCE(MAX(p.postId), 0) FROM FreeboardPost p")
+    int findMaxPostId();
+
+    /**
+     * 인기글 랭킹 적재용: 기준 시각 이후 작성된 공개 게시글의 수치만 조회합니다. (엔티티/본문을 읽지 않음)
+     */
+    @Query("SELECT new com.minute.board.free.ranking.HotPostStats(p.postId, p.postLikeCount, p.postViewCount, p.commentCount, p.postCreatedAt) " +
+            "FROM FreeboardPost p WHERE p.postIsHidden = false AND p.postCreatedAt >= :since")
+    List<HotPostStats> findHotStatsSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 인기글 랭킹 갱신용: 게시글 하나의 수치를 조회합니다. 숨김 처리되었거나 기준 시각 이전 글이면 비어 있습니다.
+     */
+    @Query("SELECT new com.minute.board.free.ranking.HotPostStats(p.postId, p.postLikeCount, p.postViewCount, p.commentCount, p.postCreatedAt) " +
+            "FROM FreeboardPost p WHERE p.postId = :postId AND p.postIsHidden = false AND p.postCreatedAt >= :since")
+    Optional<HotPostStats> findHotStatsByPostId(@Param("postId") Integer postId, @Param("since") LocalDateTime since);
+
+    /**
+     * ID 목록에 해당하는 게시글을 작성자와 함께 조회합니다. (인기글 목록 구성용, 순서는 보장하지 않음)
+     */
+    @EntityGraph(attributePaths = {"user"})
+    List<FreeboardPost> findByPostIdIn(List<Integer> postIds);
+}
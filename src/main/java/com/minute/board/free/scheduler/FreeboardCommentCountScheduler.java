@@ -0,0 +1,40 @@
+package com.minute.board.free.scheduler;
+
+import com.minute.board.free.repository.FreeboardPostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FreeboardCommentCountScheduler {
+
+    private final FreeboardPostRepository freeboardPostRepository;
+
+    @Value("${freeboard.comment-count.reconcile-batch-size:1000}")
+    private int batchSize;
+
+    /**
+     * 게시글의 comment_count 를 실제 (숨김 아님) 댓글 수와 주기적으로 맞춥니다.
+     *
+     * 댓글 작성/삭제/숨김 변경 시 카운트를 즉시 증감하지만, 수동 DB 작업 등으로 어긋날 수 있으므로
+     * 새벽 시간에 post_id 구간 단위(짧은 트랜잭션)로 다시 계산합니다.
+     */
+    @Scheduled(cron = "${freeboard.comment-count.reconcile-cron:0 30 4 * * *}")
+    public void reconcileCommentCounts() {
+        int maxPostId = freeboardPostRepository.findMaxPostId();
+        int fixed = 0;
+        for (int fromId = 1; fromId <= maxPostId; fromId += batchSize) {
+            int toId = (int) Math.min((long) fromId + batchSize - 1, maxPostId);
+            try {
+                fixed += freeboardPostRepository.reconcileCommentCounts(fromId, toId);
+            } catch (Exception e) {
+                log.warn("[FreeboardCommentCountScheduler] 댓글 수 재계산 실패 (post_id {} ~ {}): {}", fromId, toId, e.getMessage());
+            }
+        }
+        log.info("=== FreeboardCommentCountScheduler: 댓글 수 재계산 완료 (maxPostId={}, 수정된 게시글={}) ===", maxPostId, fixed);
+    }
+}
@@ -1,8 +1,10 @@
 package com.minute.board.free.service;
 
-import com.minute.auth.service.DetailUser;
 import com.minute.board.common.dto.response.PageResponseDTO;
 import com.minute.board.common.dto.response.ReportSuccessResponseDTO;
+import com.minute.board.free.cache.FreeboardInteractionChangedEvent;
+import com.minute.board.free.cache.FreeboardUserInteractionCache;
+import com.minute.common.like.LikeToggle;
 import com.minute.board.free.dto.request.*;
 import com.minute.board.free.dto.response.AdminReportedCommentEntryDTO;
 import com.minute.board.free.dto.response.CommentLikeResponseDTO;
@@ -11,23 +13,27 @@ import com.minute.board.free.entity.FreeboardComment;
 import com.minute.board.free.entity.FreeboardCommentLike;
 import com.minute.board.free.entity.FreeboardCommentReport;
 import com.minute.board.free.entity.FreeboardPost;
+import com.minute.board.free.ranking.FreeboardPostStatsChangedEvent;
 import com.minute.board.free.repository.FreeboardCommentLikeRepository;
 import com.minute.board.free.repository.FreeboardCommentReportRepository;
 import com.minute.board.free.repository.FreeboardCommentRepository;
 import com.minute.board.free.repository.FreeboardPostRepository;
 import com.minute.board.free.repository.specification.FreeboardCommentSpecification;
+import com.minute.user.cache.CurrentUser;
+import com.minute.user.cache.UserSnapshot;
+import com.minute.user.cache.UserSnapshotCache;
 import com.minute.user.entity.User;
+import com.minute.user.enumpackage.Role;
 import com.minute.user.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.lang.Nullable;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -50,29 +56,13 @@ public class FreeboardCommentServiceImpl implements FreeboardCommentService {
     private final UserRepository userRepository;
     private final FreeboardCommentLikeRepository freeboardCommentLikeRepository;
     private final FreeboardCommentReportRepository freeboardCommentReportRepository;
+    private final FreeboardUserInteractionCache freeboardUserInteractionCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserSnapshotCache userSnapshotCache;
+    private final CurrentUser currentUser;
 
     private String getCurrentUserId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated() &&
-                !(authentication.getPrincipal() instanceof String &&
-                        authentication.getPrincipal().equals("anonymousUser"))) {
-            Object principal = authentication.getPrincipal();
-            if (principal instanceof DetailUser) {
-                DetailUser detailUser = (DetailUser) principal;
-                if (detailUser.getUser() != null) {
-                    return detailUser.getUser().getUserId();
-                }
-            }
-        }
-        return null;
-    }
-
-    private User getCurrentUserEntity() {
-        String currentUserId = getCurrentUserId();
-        if (currentUserId != null) {
-            return userRepository.findUserByUserId(currentUserId).orElse(null);
-        }
-        return null;
+        return currentUser.getUserId();
     }
 
     @Override
@@ -80,35 +70,21 @@ public class FreeboardCommentServiceImpl implements FreeboardCommentService {
         Page<FreeboardComment> commentPage = freeboardCommentRepository.findByFreeboardPost_PostId(postId, pageable);
         List<FreeboardComment> comments = commentPage.getContent();
 
-        Set<Integer> likedCommentIds = Collections.emptySet();
-        Set<Integer> reportedCommentIds = Collections.emptySet();
         String currentUserId = getCurrentUserId();
 
         log.debug("[getCommentsByPostId] Fetching comments for postId: {}", postId);
         log.debug("[getCommentsByPostId] Current logged in user ID: {}", currentUserId != null ? currentUserId : "null (guest)");
         log.debug("[getCommentsByPostId] Number of comments fetched from DB: {}", comments.size());
 
-        if (currentUserId != null && !comments.isEmpty()) {
-            List<Integer> commentIds = comments.stream().map(FreeboardComment::getCommentId).collect(Collectors.toList());
-            log.debug("[getCommentsByPostId] Passing comment IDs to like/report repo: {}", commentIds);
-
-            likedCommentIds = freeboardCommentLikeRepository.findLikedCommentIdsByUserIdAndCommentIdsIn(currentUserId, commentIds);
-            log.debug("[getCommentsByPostId] Fetched likedCommentIds from repository: {}", likedCommentIds);
-
-            reportedCommentIds = freeboardCommentReportRepository.findReportedCommentIdsByUserIdAndCommentIdsIn(currentUserId, commentIds);
-            log.debug("[getCommentsByPostId] Fetched reportedCommentIds from repository: {}", reportedCommentIds);
-        }
-
-        final Set<Integer> finalLikedCommentIds = likedCommentIds;
-        final Set<Integer> finalReportedCommentIds = reportedCommentIds;
+        // 좋아요/신고 여부는 사용자별 ID 집합 캐시에서 확인합니다. (이 페이지에서 처음 보는 댓글만 IN 조회)
+        FreeboardUserInteractionCache.UserInteractions interactions =
+                freeboardUserInteractionCache.commentInteractionsOf(currentUserId,
+                        comments.stream().map(FreeboardComment::getCommentId).toList());
 
         List<FreeboardCommentResponseDTO> dtoList = comments.stream()
-                .map(comment -> {
-                    boolean isLiked = finalLikedCommentIds.contains(comment.getCommentId());
-                    boolean isReported = finalReportedCommentIds.contains(comment.getCommentId());
-                    log.debug("[getCommentsByPostId] Comment ID: {}, isLiked (final in DTO): {}, isReported (final in DTO): {}", comment.getCommentId(), isLiked, isReported);
-                    return convertToDto(comment, finalLikedCommentIds, finalReportedCommentIds);
-                })
+                .map(comment -> convertToDto(comment,
+                        interactions.hasLikedComment(comment.getCommentId()),
+                        interactions.hasReportedComment(comment.getCommentId())))
                 .collect(Collectors.toList());
 
         return PageResponseDTO.<FreeboardCommentResponseDTO>builder()
@@ -126,20 +102,23 @@ public class FreeboardCommentServiceImpl implements FreeboardCommentService {
     @Override
     @Transactional
     public FreeboardCommentResponseDTO createComment(Integer postId, FreeboardCommentRequestDTO requestDto, String currentUserIdFromController) {
-        FreeboardPost targetPost = freeboardPostRepository.findById(postId)
-                .orElseThrow(() -> new EntityNotFoundException("댓글을 작성할 게시글을 찾을 수 없습니다: " + postId));
+        UserSnapshot author = userSnapshotCache.require(currentUserIdFromController, "댓글 작성자 정보를 찾을 수 없습니다: ");
 
-        User author = userRepository.findUserByUserId(currentUserIdFromController)
-                .orElseThrow(() -> new EntityNotFoundException("댓글 작성자 정보를 찾을 수 없습니다: " + currentUserIdFromController));
+        // 댓글 수 증가로 게시글 존재 확인과 게시글 행 락을 함께 처리한 뒤 댓글을 저장합니다.
+        if (freeboardPostRepository.adjustCommentCount(postId, 1) == 0) {
+            throw new EntityNotFoundException("댓글을 작성할 게시글을 찾을 수 없습니다: " + postId);
+        }
+        FreeboardPost targetPost = freeboardPostRepository.getReferenceById(postId);
+        eventPublisher.publishEvent(FreeboardPostStatsChangedEvent.commented(postId, 1));
 
         FreeboardComment newComment = FreeboardComment.builder()
                 .commentContent(requestDto.getCommentContent())
-                .user(author)
+                .user(userRepository.getReferenceById(author.userId()))
                 .freeboardPost(targetPost)
                 .build();
 
         FreeboardComment savedComment = freeboardCommentRepository.save(newComment);
-        return convertToDto(savedComment, Collections.emptySet(), Collections.emptySet());
+        return convertToDto(savedComment, author.userId(), author.userNickName(), author.role(), false, false);
     }
 
     @Override
@@ -154,18 +133,9 @@ public class FreeboardCommentServiceImpl implements FreeboardCommentService {
 
         commentToUpdate.setCommentContent(requestDto.getCommentContent());
 
-        boolean isLiked = false;
-        boolean isReported = false;
-        User currentUser = getCurrentUserEntity();
-        if (currentUser != null && currentUser.getUserId().equals(currentUserIdFromController)) {
-            isLiked = freeboardCommentLikeRepository.findByUserAndFreeboardComment(currentUser, commentToUpdate).isPresent();
-            log.debug("[updateComment] Individual like check for comment {}: {}", commentId, isLiked);
-            isReported = freeboardCommentReportRepository.existsByUserAndFreeboardComment(currentUser, commentToUpdate);
-        }
-        Set<Integer> likedIds = isLiked ? Set.of(commentId) : Collections.emptySet();
-        Set<Integer> reportedIds = isReported ? Set.of(commentId) : Collections.emptySet();
-
-        return convertToDto(commentToUpdate, likedIds, reportedIds);
+        return convertToDto(commentToUpdate,
+                freeboardUserInteractionCache.hasLikedComment(currentUserIdFromController, commentId),
+                freeboardUserInteractionCache.hasReportedComment(currentUserIdFromController, commentId));
     }
 
     @Override
@@ -179,38 +149,42 @@ public class FreeboardCommentServiceImpl implements FreeboardCommentService {
         }
 
         freeboardCommentRepository.delete(commentToDelete);
+        if (!commentToDelete.isCommentIsHidden()) {
+            // 삭제를 먼저 반영해 동시 삭제 요청 중 실제로 삭제한 쪽만 댓글 수를 줄이도록 합니다.
+            freeboardCommentRepository.flush();
+            Integer postId = commentToDelete.getFreeboardPost().getPostId();
+            freeboardPostRepository.adjustCommentCount(postId, -1);
+            eventPublisher.publishEvent(FreeboardPostStatsChangedEvent.commented(postId, -1));
+        }
     }
 
     @Override
     @Transactional
     public CommentLikeResponseDTO toggleCommentLike(Integer commentId, String currentUserIdFromController) {
-        FreeboardComment comment = freeboardCommentRepository.findById(commentId)
-                .orElseThrow(() -> new EntityNotFoundException("좋아요를 누를 댓글을 찾을 수 없습니다: " + commentId));
-
-        User user = userRepository.findUserByUserId(currentUserIdFromController)
-                .orElseThrow(() -> new EntityNotFoundException("사용자 정보를 찾을 수 없습니다: " + currentUserIdFromController));
-
-        Optional<FreeboardCommentLike> existingLike = freeboardCommentLikeRepository.findByUserAndFreeboardComment(user, comment);
+        LikeToggle.Outcome outcome = LikeToggle.toggle(
+                freeboardUserInteractionCache.hasLikedComment(currentUserIdFromController, commentId),
+                () -> freeboardCommentLikeRepository.insertIgnore(currentUserIdFromController, commentId),
+                () -> freeboardCommentLikeRepository.deleteByUserIdAndCommentId(currentUserIdFromController, commentId),
+                delta -> freeboardCommentRepository.adjustLikeCount(commentId, delta));
+
+        if (outcome == LikeToggle.Outcome.TARGET_NOT_FOUND) {
+            throw new EntityNotFoundException("좋아요를 누를 댓글을 찾을 수 없습니다: " + commentId);
+        }
         boolean likedByCurrentUser;
-
-        if (existingLike.isPresent()) {
-            freeboardCommentLikeRepository.delete(existingLike.get());
-            comment.setCommentLikeCount(Math.max(0, comment.getCommentLikeCount() - 1));
-            likedByCurrentUser = false;
+        if (outcome == LikeToggle.Outcome.UNCHANGED) {
+            // INSERT IGNORE 가 무시되고 삭제할 행도 없었음: 사용자가 없으면(FK 위반) 404, 있으면 변화 없이 현재 상태를 반환
+            userSnapshotCache.require(currentUserIdFromController, "사용자 정보를 찾을 수 없습니다: ");
+            likedByCurrentUser = freeboardCommentLikeRepository
+                    .findLikedCommentIdsByUserIdAndCommentIdsIn(currentUserIdFromController, List.of(commentId))
+                    .contains(commentId);
         } else {
-            FreeboardCommentLike newLike = FreeboardCommentLike.builder()
-                    .user(user)
-                    .freeboardComment(comment)
-                    .build();
-            freeboardCommentLikeRepository.save(newLike);
-            comment.setCommentLikeCount(comment.getCommentLikeCount() + 1);
-            likedByCurrentUser = true;
+            likedByCurrentUser = outcome == LikeToggle.Outcome.LIKED;
+            eventPublisher.publishEvent(FreeboardInteractionChangedEvent.commentLike(currentUserIdFromController, commentId, likedByCurrentUser));
         }
-        freeboardCommentRepository.save(comment);
 
         return CommentLikeResponseDTO.builder()
-                .commentId(comment.getCommentId())
-                .currentLikeCount(comment.getCommentLikeCount())
+                .commentId(commentId)
+                .currentLikeCount(freeboardCommentRepository.findLikeCountByCommentId(commentId).orElse(0))
                 .likedByCurrentUser(likedByCurrentUser)
                 .build();
     }
@@ -221,10 +195,9 @@ public class FreeboardCommentServiceImpl implements FreeboardCommentService {
         FreeboardComment commentToReport = freeboardCommentRepository.findById(commentId)
                 .orElseThrow(() -> new EntityNotFoundException("신고할 댓글을 찾을 수 없습니다: " + commentId));
 
-        User reporter = userRepository.findUserByUserId(currentUserIdFromController)
-                .orElseThrow(() -> new EntityNotFoundException("신고자 정보를 찾을 수 없습니다: " + currentUserIdFromController));
+        User reporter = userSnapshotCache.referenceOf(currentUserIdFromController, "신고자 정보를 찾을 수 없습니다: ");
 
-        if (commentToReport.getUser().getUserId().equals(reporter.getUserId())) {
+        if (commentToReport.getUser().getUserId().equals(currentUserIdFromController)) {
             throw new IllegalStateException("자신의 댓글은 신고할 수 없습니다.");
         }
         boolean alreadyReported = freeboardCommentReportRepository.existsByUserAndFreeboardComment(reporter, commentToReport);
@@ -237,6 +210,7 @@ public class FreeboardCommentServiceImpl implements FreeboardCommentService {
                 .freeboardComment(commentToReport)
                 .build();
         freeboardCommentReportRepository.save(newReport);
+        eventPublisher.publishEvent(FreeboardInteractionChangedEvent.commentReport(currentUserIdFromController, commentId));
 
         User reportedUser = commentToReport.getUser();
         reportedUser.setUserReport(reportedUser.getUserReport() + 1);
@@ -280,28 +254,27 @@ public class FreeboardCommentServiceImpl implements FreeboardCommentService {
     @Override
     @Transactional
     public FreeboardCommentResponseDTO updateCommentVisibility(Integer commentId, CommentVisibilityRequestDTO requestDto) {
+        boolean hidden = Boolean.TRUE.equals(requestDto.getIsHidden());
+        boolean changed = freeboardCommentRepository.updateHiddenIfChanged(commentId, hidden) > 0;
+
         FreeboardComment comment = freeboardCommentRepository.findById(commentId)
                 .orElseThrow(() -> new EntityNotFoundException("상태를 변경할 댓글을 찾을 수 없습니다: " + commentId));
-        comment.setCommentIsHidden(requestDto.getIsHidden());
-        freeboardCommentRepository.save(comment);
-
-        boolean isLiked = false;
-        boolean isReported = false;
-        User currentUser = getCurrentUserEntity();
-        if (currentUser != null) {
-            isLiked = freeboardCommentLikeRepository.findByUserAndFreeboardComment(currentUser, comment).isPresent();
-            isReported = freeboardCommentReportRepository.existsByUserAndFreeboardComment(currentUser, comment);
+        if (changed) {
+            // 숨김 처리된 댓글은 목록의 댓글 수에서 제외합니다.
+            Integer postId = comment.getFreeboardPost().getPostId();
+            freeboardPostRepository.adjustCommentCount(postId, hidden ? -1 : 1);
+            eventPublisher.publishEvent(FreeboardPostStatsChangedEvent.commented(postId, hidden ? -1 : 1));
         }
-        Set<Integer> likedIds = isLiked ? Set.of(commentId) : Collections.emptySet();
-        Set<Integer> reportedIds = isReported ? Set.of(commentId) : Collections.emptySet();
 
-        return convertToDto(comment, likedIds, reportedIds);
+        String currentUserId = getCurrentUserId();
+        return convertToDto(comment,
+                freeboardUserInteractionCache.hasLikedComment(currentUserId, commentId),
+                freeboardUserInteractionCache.hasReportedComment(currentUserId, commentId));
     }
 
     @Override
     public PageResponseDTO<FreeboardCommentResponseDTO> getCommentsByAuthor(String currentUserIdFromController, @Nullable AdminMyCommentFilterDTO filter, Pageable pageable) {
-        User author = userRepository.findUserByUserId(currentUserIdFromController)
-                .orElseThrow(() -> new EntityNotFoundException("사용자 정보를 찾을 수 없습니다: " + currentUserIdFromController));
+        User author = userSnapshotCache.referenceOf(currentUserIdFromController, "사용자 정보를 찾을 수 없습니다: ");
 
         Specification<FreeboardComment> spec = Specification.where(FreeboardCommentSpecification.hasAuthor(author));
 
@@ -320,20 +293,14 @@ public class FreeboardCommentServiceImpl implements FreeboardCommentService {
         Page<FreeboardComment> commentPage = freeboardCommentRepository.findAll(spec, pageable);
         List<FreeboardComment> comments = commentPage.getContent();
 
-        Set<Integer> likedCommentIds = Collections.emptySet();
-        Set<Integer> reportedCommentIds = Collections.emptySet();
-
-        if (!comments.isEmpty()) {
-            List<Integer> commentIds = comments.stream().map(FreeboardComment::getCommentId).collect(Collectors.toList());
-            likedCommentIds = freeboardCommentLikeRepository.findLikedCommentIdsByUserIdAndCommentIdsIn(currentUserIdFromController, commentIds);
-            reportedCommentIds = freeboardCommentReportRepository.findReportedCommentIdsByUserIdAndCommentIdsIn(currentUserIdFromController, commentIds);
-        }
-
-        final Set<Integer> finalLikedCommentIds = likedCommentIds;
-        final Set<Integer> finalReportedCommentIds = reportedCommentIds;
+        FreeboardUserInteractionCache.UserInteractions interactions =
+                freeboardUserInteractionCache.commentInteractionsOf(currentUserIdFromController,
+                        comments.stream().map(FreeboardComment::getCommentId).toList());
 
         List<FreeboardCommentResponseDTO> dtoList = comments.stream()
-                .map(comment -> convertToDto(comment, finalLikedCommentIds, finalReportedCommentIds))
+                .map(comment -> convertToDto(comment,
+                        interactions.hasLikedComment(comment.getCommentId()),
+                        interactions.hasReportedComment(comment.getCommentId())))
                 .collect(Collectors.toList());
 
         return PageResponseDTO.<FreeboardCommentResponseDTO>builder()
@@ -349,14 +316,24 @@ public class FreeboardCommentServiceImpl implements FreeboardCommentService {
     }
 
     private FreeboardCommentResponseDTO convertToDto(FreeboardComment comment,
-                                                     Set<Integer> likedCommentIdsForCurrentUser,
-                                                     Set<Integer> reportedCommentIdsForCurrentUser) {
+                                                     boolean isLiked,
+                                                     boolean isReported) {
         User author = comment.getUser();
-        Integer postId = (comment.getFreeboardPost() != null) ? comment.getFreeboardPost().getPostId() : null;
+        return convertToDto(comment,
+                author != null ? author.getUserId() : null,
+                author != null ? author.getUserNickName() : null,
+                author != null ? author.getRole() : null,
+                isLiked, isReported);
+    }
 
-        boolean isLiked = likedCommentIdsForCurrentUser.contains(comment.getCommentId());
-        boolean isReported = reportedCommentIdsForCurrentUser.contains(comment.getCommentId());
-        String authorRole = (author != null && author.getRole() != null) ? author.getRole().name() : "USER";
+    private FreeboardCommentResponseDTO convertToDto(FreeboardComment comment,
+                                                     String userId,
+                                                     String userNickName,
+                                                     Role role,
+                                                     boolean isLiked,
+                                                     boolean isReported) {
+        Integer postId = (comment.getFreeboardPost() != null) ? comment.getFreeboardPost().getPostId() : null;
+        String authorRole = role != null ? role.name() : "USER";
 
         log.debug("[convertToDto] Final values for DTO - Comment ID: {}, isLikedByCurrentUser: {}, isReportedByCurrentUser: {}", comment.getCommentId(), isLiked, isReported);
 
@@ -367,8 +344,8 @@ public class FreeboardCommentServiceImpl implements FreeboardCommentService {
                 .commentIsHidden(comment.isCommentIsHidden())
                 .commentCreatedAt(comment.getCommentCreatedAt())
                 .commentUpdatedAt(comment.getCommentUpdatedAt())
-                .userId(author != null ? author.getUserId() : null)
-                .userNickName(author != null ? author.getUserNickName() : "알 수 없는 사용자")
+                .userId(userId)
+                .userNickName(userNickName != null ? userNickName : "알 수 없는 사용자")
                 .postId(postId)
                 .isLikedByCurrentUser(isLiked)
                 .isReportedByCurrentUser(isReported)
@@ -4,10 +4,12 @@ import com.minute.board.common.dto.response.PageResponseDTO;
 import com.minute.board.common.dto.response.ReportSuccessResponseDTO;
 import com.minute.board.free.dto.request.*; // request DTO들 import
 import com.minute.board.free.dto.response.*; // response DTO들 import
+import com.minute.board.free.ranking.HotWindow;
 import org.springframework.data.domain.Pageable;
 import org.springframework.lang.Nullable; // @Nullable 어노테이션 사용
 
 import java.time.LocalDate;
+import java.util.List;
 
 public interface FreeboardPostService {
 
@@ -122,4 +124,14 @@ public interface FreeboardPostService {
      * @return 페이징된 사용자 활동 목록
      */
     PageResponseDTO<FreeboardUserActivityItemDTO> getUserFreeboardActivity(String currentUserId, Pageable pageable); // <<< userId를 currentUserId로 변경
-}
\ No newline at end of file
+
+    /**
+     * 기간(하루/일주일)별 인기 게시글 목록을 조회합니다.
+     * 좋아요/댓글/조회수와 작성 시각을 반영한 점수 순이며, 미리 계산된 순위를 사용하므로 정렬 쿼리를 보내지 않습니다.
+     *
+     * @param window 집계 기간
+     * @param size 최대 개수
+     * @return 인기 게시글 목록 (점수 내림차순)
+     */
+    List<FreeboardPostSimpleResponseDTO> getHotPosts(HotWindow window, int size);
+}
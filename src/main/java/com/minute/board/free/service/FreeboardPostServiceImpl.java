@@ -1,11 +1,19 @@
 package com.minute.board.free.service;
 
-import com.minute.auth.service.DetailUser;
 import com.minute.board.common.dto.response.PageResponseDTO;
 import com.minute.board.common.dto.response.ReportSuccessResponseDTO;
+import com.minute.common.like.LikeToggle;
+import com.minute.board.free.cache.FreeboardInteractionChangedEvent;
+import com.minute.board.free.cache.FreeboardPostCache;
+import com.minute.board.free.cache.FreeboardPostChangedEvent;
+import com.minute.board.free.cache.FreeboardPostSnapshot;
+import com.minute.board.free.cache.FreeboardUserInteractionCache;
 import com.minute.board.free.dto.request.*;
 import com.minute.board.free.dto.response.*;
 import com.minute.board.free.entity.FreeboardComment;
+import com.minute.board.free.ranking.FreeboardHotRanking;
+import com.minute.board.free.ranking.FreeboardPostStatsChangedEvent;
+import com.minute.board.free.ranking.HotWindow;
 import com.minute.board.free.entity.FreeboardPost;
 import com.minute.board.free.entity.FreeboardPostLike;
 import com.minute.board.free.entity.FreeboardPostReport;
@@ -13,20 +21,22 @@ import com.minute.board.free.repository.FreeboardCommentRepository;
 import com.minute.board.free.repository.FreeboardPostLikeRepository;
 import com.minute.board.free.repository.FreeboardPostReportRepository;
 import com.minute.board.free.repository.FreeboardPostRepository;
+import com.minute.user.cache.CurrentUser;
+import com.minute.user.cache.UserSnapshot;
+import com.minute.user.cache.UserSnapshotCache;
 import com.minute.user.entity.User;
 import com.minute.user.repository.UserRepository;
 import io.micrometer.common.lang.Nullable;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -37,8 +47,10 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j // <<< @Slf4j 어노테이션 추가
@@ -52,29 +64,15 @@ public class FreeboardPostServiceImpl implements FreeboardPostService {
     private final FreeboardPostLikeRepository freeboardPostLikeRepository;
     private final FreeboardPostReportRepository freeboardPostReportRepository;
     private final FreeboardCommentRepository freeboardCommentRepository;
+    private final FreeboardPostCache freeboardPostCache;
+    private final FreeboardUserInteractionCache freeboardUserInteractionCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FreeboardHotRanking freeboardHotRanking;
+    private final UserSnapshotCache userSnapshotCache;
+    private final CurrentUser currentUser;
 
     private String getCurrentUserId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated() &&
-                !(authentication.getPrincipal() instanceof String &&
-                        authentication.getPrincipal().equals("anonymousUser"))) {
-            Object principal = authentication.getPrincipal();
-            if (principal instanceof DetailUser) {
-                DetailUser detailUser = (DetailUser) principal;
-                if (detailUser.getUser() != null) {
-                    return detailUser.getUser().getUserId();
-                }
-            }
-        }
-        return null;
-    }
-
-    private User getCurrentUserEntity() {
-        String currentUserId = getCurrentUserId();
-        if (currentUserId != null) {
-            return userRepository.findUserByUserId(currentUserId).orElse(null);
-        }
-        return null;
+        return currentUser.getUserId();
     }
 
 
@@ -107,30 +105,13 @@ public class FreeboardPostServiceImpl implements FreeboardPostService {
         Page<FreeboardPost> postPage = freeboardPostRepository.findAll(spec, pageable);
         List<FreeboardPost> posts = postPage.getContent();
 
-        Set<Integer> likedPostIds = Collections.emptySet();
-        Set<Integer> reportedPostIds = Collections.emptySet();
-
-        if (currentLoggedInUserId != null && !posts.isEmpty()) {
-            List<Integer> postIds = posts.stream().map(FreeboardPost::getPostId).collect(Collectors.toList());
-            log.debug("[getAllPosts] Attempting to fetch liked/reported IDs for user {} on posts: {}", currentLoggedInUserId, postIds);
-
-            likedPostIds = freeboardPostLikeRepository.findLikedPostIdsByUserIdAndPostIdsIn(currentLoggedInUserId, postIds);
-            log.debug("[getAllPosts] Fetched likedPostIds from repository: {}", likedPostIds);
-
-            reportedPostIds = freeboardPostReportRepository.findReportedPostIdsByUserIdAndPostIdsIn(currentLoggedInUserId, postIds);
-            log.debug("[getAllPosts] Fetched reportedPostIds from repository: {}", reportedPostIds);
-        }
-
-        final Set<Integer> finalLikedPostIds = likedPostIds;
-        final Set<Integer> finalReportedPostIds = reportedPostIds;
+        // 좋아요/신고 여부는 사용자별 ID 집합 캐시에서 확인합니다. (이 페이지에서 처음 보는 게시글만 IN 조회)
+        FreeboardUserInteractionCache.UserInteractions interactions =
+                freeboardUserInteractionCache.postInteractionsOf(currentLoggedInUserId,
+                        posts.stream().map(FreeboardPost::getPostId).toList());
 
         List<FreeboardPostSimpleResponseDTO> dtoList = posts.stream()
-                .map(post -> {
-                    boolean isLiked = finalLikedPostIds.contains(post.getPostId());
-                    boolean isReported = finalReportedPostIds.contains(post.getPostId());
-                    log.debug("[getAllPosts] Post ID: {}, isLiked (for DTO): {}, isReported (for DTO): {}", post.getPostId(), isLiked, isReported);
-                    return convertToSimpleDto(post, finalLikedPostIds, finalReportedPostIds);
-                })
+                .map(post -> convertToSimpleDto(post, interactions))
                 .collect(Collectors.toList());
 
         return PageResponseDTO.<FreeboardPostSimpleResponseDTO>builder()
@@ -146,46 +127,69 @@ public class FreeboardPostServiceImpl implements FreeboardPostService {
     }
 
 
+    @Override
+    public List<FreeboardPostSimpleResponseDTO> getHotPosts(HotWindow window, int size) {
+        List<Integer> hotIds = freeboardHotRanking.topPostIds(window, size);
+        if (hotIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // 순위는 메모리에서, 게시글/작성자는 ID 목록으로 한 번에 조회한 뒤 순위 순서대로 정렬합니다.
+        Map<Integer, FreeboardPost> postsById = freeboardPostRepository.findByPostIdIn(hotIds).stream()
+                .collect(Collectors.toMap(FreeboardPost::getPostId, Function.identity()));
+        FreeboardUserInteractionCache.UserInteractions interactions =
+                freeboardUserInteractionCache.postInteractionsOf(getCurrentUserId(), postsById.keySet());
+
+        return hotIds.stream()
+                .map(postsById::get)
+                .filter(post -> post != null && !post.isPostIsHidden())
+                .map(post -> convertToSimpleDto(post, interactions))
+                .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional
     public FreeboardPostResponseDTO getPostById(Integer postId) {
-        FreeboardPost post = freeboardPostRepository.findById(postId)
-                .orElseThrow(() -> new EntityNotFoundException("해당 ID의 게시글을 찾을 수 없습니다: " + postId));
+        // 본문/작성자는 캐시된 스냅샷을 사용하고, DB에는 조회수 증가 UPDATE 한 번만 보냅니다.
+        FreeboardPostSnapshot snapshot = freeboardPostCache.get(postId);
 
-        post.setPostViewCount(post.getPostViewCount() + 1);
+        if (freeboardPostRepository.incrementViewCount(postId) == 0) {
+            freeboardPostCache.evict(postId); // 캐시에만 남아 있던 삭제된 게시글
+            throw new EntityNotFoundException("해당 ID의 게시글을 찾을 수 없습니다: " + postId);
+        }
+        snapshot.increaseViewCount();
+        eventPublisher.publishEvent(FreeboardPostStatsChangedEvent.viewed(postId));
 
         boolean isLiked = false;
         boolean isReported = false;
-        User currentUser = getCurrentUserEntity();
-
-        if (currentUser != null) {
-            log.debug("[getPostById] User {} is logged in. Checking like/report status for post {}.", currentUser.getUserId(), postId);
-            isLiked = freeboardPostLikeRepository.existsByUserAndFreeboardPost(currentUser, post);
-            log.debug("[getPostById] existsByUserAndFreeboardPost result for post {}: {}", postId, isLiked);
+        String currentUserId = getCurrentUserId();
 
-            isReported = freeboardPostReportRepository.existsByUserAndFreeboardPost(currentUser, post);
-            log.debug("[getPostById] existsByUserAndFreeboardPost (report) result for post {}: {}", postId, isReported);
+        if (currentUserId != null) {
+            log.debug("[getPostById] User {} is logged in. Checking like/report status for post {}.", currentUserId, postId);
+            isLiked = freeboardUserInteractionCache.hasLikedPost(currentUserId, postId);
+            isReported = freeboardUserInteractionCache.hasReportedPost(currentUserId, postId);
         }
 
-        FreeboardPostResponseDTO dto = convertToDetailDto(post, isLiked, isReported);
-        log.debug("[getPostById] Final DTO for post {}. isLikedByCurrentUser: {}, isReportedByCurrentUser: {}", post.getPostId(), dto.isLikedByCurrentUser(), dto.isReportedByCurrentUser());
+        FreeboardPostResponseDTO dto = convertToDetailDto(snapshot, isLiked, isReported);
+        log.debug("[getPostById] Final DTO for post {}. isLikedByCurrentUser: {}, isReportedByCurrentUser: {}", postId, dto.isLikedByCurrentUser(), dto.isReportedByCurrentUser());
         return dto;
     }
 
     @Override
     @Transactional
     public FreeboardPostResponseDTO createPost(FreeboardPostRequestDTO requestDto, String currentUserId) {
-        User author = userRepository.findUserByUserId(currentUserId)
-                .orElseThrow(() -> new EntityNotFoundException("작성자 정보를 찾을 수 없습니다: " + currentUserId));
+        // 작성자 행 전체를 읽지 않고 스냅샷으로 존재 확인 + 프록시로 연관관계만 설정
+        UserSnapshot author = userSnapshotCache.require(currentUserId, "작성자 정보를 찾을 수 없습니다: ");
 
         FreeboardPost newPost = FreeboardPost.builder()
                 .postTitle(requestDto.getPostTitle())
                 .postContent(requestDto.getPostContent())
-                .user(author)
+                .user(userRepository.getReferenceById(author.userId()))
                 .build();
 
         FreeboardPost savedPost = freeboardPostRepository.save(newPost);
-        return convertToDetailDto(savedPost, false, false);
+        eventPublisher.publishEvent(new FreeboardPostChangedEvent(savedPost.getPostId()));
+        return convertToDetailDto(savedPost, author.userId(), author.userNickName(), false, false);
     }
 
     @Override
@@ -200,14 +204,10 @@ public class FreeboardPostServiceImpl implements FreeboardPostService {
 
         postToUpdate.setPostTitle(requestDto.getPostTitle());
         postToUpdate.setPostContent(requestDto.getPostContent());
+        eventPublisher.publishEvent(new FreeboardPostChangedEvent(postId));
 
-        boolean isLiked = false;
-        boolean isReported = false;
-        User currentUser = getCurrentUserEntity();
-        if (currentUser != null) {
-            isLiked = freeboardPostLikeRepository.existsByUserAndFreeboardPost(currentUser, postToUpdate);
-            isReported = freeboardPostReportRepository.existsByUserAndFreeboardPost(currentUser, postToUpdate);
-        }
+        boolean isLiked = freeboardUserInteractionCache.hasLikedPost(currentUserId, postId);
+        boolean isReported = freeboardUserInteractionCache.hasReportedPost(currentUserId, postId);
         return convertToDetailDto(postToUpdate, isLiked, isReported);
     }
 
@@ -222,37 +222,42 @@ public class FreeboardPostServiceImpl implements FreeboardPostService {
         }
 
         freeboardPostRepository.delete(postToDelete);
+        eventPublisher.publishEvent(new FreeboardPostChangedEvent(postId));
     }
 
     @Override
     @Transactional
     public PostLikeResponseDTO togglePostLike(Integer postId, String currentUserId) {
-        FreeboardPost post = freeboardPostRepository.findById(postId)
-                .orElseThrow(() -> new EntityNotFoundException("좋아요를 누를 게시글을 찾을 수 없습니다: " + postId));
-
-        User user = userRepository.findUserByUserId(currentUserId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자 정보를 찾을 수 없습니다: " + currentUserId));
-
-        Optional<FreeboardPostLike> existingLike = freeboardPostLikeRepository.findByUserAndFreeboardPost(user, post);
-        boolean likedByCurrentUser;
-
-        if (existingLike.isPresent()) {
-            freeboardPostLikeRepository.delete(existingLike.get());
-            post.setPostLikeCount(Math.max(0, post.getPostLikeCount() - 1));
-            likedByCurrentUser = false;
-        } else {
-            FreeboardPostLike newLike = FreeboardPostLike.builder()
-                    .user(user)
-                    .freeboardPost(post)
+        // 캐시된 좋아요 여부를 추정값으로 사용합니다. 추정이 맞으면 카운터 UPDATE + INSERT/DELETE 두 문장으로 끝납니다.
+        LikeToggle.Outcome outcome = LikeToggle.toggle(
+                freeboardUserInteractionCache.hasLikedPost(currentUserId, postId),
+                () -> freeboardPostLikeRepository.insertIgnore(currentUserId, postId),
+                () -> freeboardPostLikeRepository.deleteByUserIdAndPostId(currentUserId, postId),
+                delta -> freeboardPostRepository.adjustLikeCount(postId, delta));
+
+        if (outcome == LikeToggle.Outcome.TARGET_NOT_FOUND) {
+            throw new EntityNotFoundException("좋아요를 누를 게시글을 찾을 수 없습니다: " + postId);
+        }
+        if (outcome == LikeToggle.Outcome.UNCHANGED) {
+            // INSERT IGNORE 가 무시되고 삭제할 행도 없었음: 사용자가 없으면(FK 위반) 404, 있으면 변화 없이 현재 상태를 반환
+            userSnapshotCache.require(currentUserId, "사용자 정보를 찾을 수 없습니다: ");
+            return PostLikeResponseDTO.builder()
+                    .postId(postId)
+                    .currentLikeCount(freeboardPostRepository.findLikeCountByPostId(postId).orElse(0))
+                    .likedByCurrentUser(freeboardPostLikeRepository
+                            .findLikedPostIdsByUserIdAndPostIdsIn(currentUserId, List.of(postId)).contains(postId))
                     .build();
-            freeboardPostLikeRepository.save(newLike);
-            post.setPostLikeCount(post.getPostLikeCount() + 1);
-            likedByCurrentUser = true;
         }
+        boolean likedByCurrentUser = outcome == LikeToggle.Outcome.LIKED;
+        int currentLikeCount = freeboardPostRepository.findLikeCountByPostId(postId).orElse(0);
+
+        freeboardPostCache.updateLikeCount(postId, currentLikeCount);
+        eventPublisher.publishEvent(FreeboardInteractionChangedEvent.postLike(currentUserId, postId, likedByCurrentUser));
+        eventPublisher.publishEvent(FreeboardPostStatsChangedEvent.liked(postId, likedByCurrentUser));
 
         return PostLikeResponseDTO.builder()
-                .postId(post.getPostId())
-                .currentLikeCount(post.getPostLikeCount())
+                .postId(postId)
+                .currentLikeCount(currentLikeCount)
                 .likedByCurrentUser(likedByCurrentUser)
                 .build();
     }
@@ -263,10 +268,9 @@ public class FreeboardPostServiceImpl implements FreeboardPostService {
         FreeboardPost postToReport = freeboardPostRepository.findById(postId)
                 .orElseThrow(() -> new EntityNotFoundException("신고할 게시글을 찾을 수 없습니다: " + postId));
 
-        User reporter = userRepository.findUserByUserId(currentUserId)
-                .orElseThrow(() -> new EntityNotFoundException("신고자 정보를 찾을 수 없습니다: " + currentUserId));
+        User reporter = userSnapshotCache.referenceOf(currentUserId, "신고자 정보를 찾을 수 없습니다: ");
 
-        if (postToReport.getUser().getUserId().equals(reporter.getUserId())) {
+        if (postToReport.getUser().getUserId().equals(currentUserId)) {
             throw new IllegalStateException("자신의 게시글은 신고할 수 없습니다.");
         }
         boolean alreadyReported = freeboardPostReportRepository.existsByUserAndFreeboardPost(reporter, postToReport);
@@ -279,6 +283,7 @@ public class FreeboardPostServiceImpl implements FreeboardPostService {
                 .freeboardPost(postToReport)
                 .build();
         freeboardPostReportRepository.save(newReport);
+        eventPublisher.publishEvent(FreeboardInteractionChangedEvent.postReport(currentUserId, postId));
 
         User reportedUser = postToReport.getUser();
         reportedUser.setUserReport(reportedUser.getUserReport() + 1);
@@ -325,21 +330,18 @@ public class FreeboardPostServiceImpl implements FreeboardPostService {
         FreeboardPost post = freeboardPostRepository.findById(postId)
                 .orElseThrow(() -> new EntityNotFoundException("상태를 변경할 게시글을 찾을 수 없습니다: " + postId));
         post.setPostIsHidden(requestDto.getIsHidden());
+        eventPublisher.publishEvent(new FreeboardPostChangedEvent(postId));
 
-        boolean isLiked = false;
-        boolean isReported = false;
-        User currentUser = getCurrentUserEntity();
-        if (currentUser != null) {
-            isLiked = freeboardPostLikeRepository.existsByUserAndFreeboardPost(currentUser, post);
-            isReported = freeboardPostReportRepository.existsByUserAndFreeboardPost(currentUser, post);
-        }
+        String currentUserId = getCurrentUserId();
+        boolean isLiked = freeboardUserInteractionCache.hasLikedPost(currentUserId, postId);
+        boolean isReported = freeboardUserInteractionCache.hasReportedPost(currentUserId, postId);
         return convertToDetailDto(post, isLiked, isReported);
     }
 
     @Override
     public PageResponseDTO<FreeboardUserActivityItemDTO> getUserFreeboardActivity(String currentUserId, Pageable pageable) {
-        User user = userRepository.findUserByUserId(currentUserId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자 정보를 찾을 수 없습니다: " + currentUserId));
+        UserSnapshot author = userSnapshotCache.require(currentUserId, "사용자 정보를 찾을 수 없습니다: ");
+        User user = userRepository.getReferenceById(author.userId());
 
         List<FreeboardPost> userPosts = freeboardPostRepository.findByUserOrderByPostCreatedAtDesc(user);
         List<FreeboardComment> userComments = freeboardCommentRepository.findByUserOrderByCommentCreatedAtDesc(user);
@@ -350,8 +352,8 @@ public class FreeboardPostServiceImpl implements FreeboardPostService {
                         .itemType("POST")
                         .itemId(post.getPostId())
                         .postTitle(post.getPostTitle())
-                        .authorUserId(user.getUserId())
-                        .authorNickname(user.getUserNickName())
+                        .authorUserId(author.userId())
+                        .authorNickname(author.userNickName())
                         .createdAt(post.getPostCreatedAt())
                         .likeCount(post.getPostLikeCount())
                         .viewCount(post.getPostViewCount())
@@ -370,8 +372,8 @@ public class FreeboardPostServiceImpl implements FreeboardPostService {
                             .commentContentPreview(contentPreview)
                             .originalPostId(originalPost != null ? originalPost.getPostId() : null)
                             .originalPostTitle(originalPost != null ? originalPost.getPostTitle() : null)
-                            .authorUserId(user.getUserId())
-                            .authorNickname(user.getUserNickName())
+                            .authorUserId(author.userId())
+                            .authorNickname(author.userNickName())
                             .createdAt(comment.getCommentCreatedAt())
                             .likeCount(comment.getCommentLikeCount())
                             .build()
@@ -422,17 +424,17 @@ public class FreeboardPostServiceImpl implements FreeboardPostService {
     }
 
     private FreeboardPostSimpleResponseDTO convertToSimpleDto(FreeboardPost post,
-                                                              Set<Integer> likedPostIds,
-                                                              Set<Integer> reportedPostIds) {
+                                                              FreeboardUserInteractionCache.UserInteractions interactions) {
         User author = post.getUser();
-        boolean isLiked = likedPostIds.contains(post.getPostId());
-        boolean isReported = reportedPostIds.contains(post.getPostId());
+        boolean isLiked = interactions.hasLikedPost(post.getPostId());
+        boolean isReported = interactions.hasReportedPost(post.getPostId());
 
         return FreeboardPostSimpleResponseDTO.builder()
                 .postId(post.getPostId())
                 .postTitle(post.getPostTitle())
                 .postViewCount(post.getPostViewCount())
                 .postLikeCount(post.getPostLikeCount())
+                .commentCount(post.getCommentCount())
                 .postCreatedAt(post.getPostCreatedAt())
                 .userId(author != null ? author.getUserId() : null)
                 .userNickName(author != null ? author.getUserNickName() : "알 수 없는 사용자")
@@ -443,6 +445,12 @@ public class FreeboardPostServiceImpl implements FreeboardPostService {
 
     private FreeboardPostResponseDTO convertToDetailDto(FreeboardPost post, boolean isLikedByCurrentUser, boolean isReportedByCurrentUser) {
         User user = post.getUser();
+        return convertToDetailDto(post, user != null ? user.getUserId() : null, user != null ? user.getUserNickName() : null,
+                isLikedByCurrentUser, isReportedByCurrentUser);
+    }
+
+    private FreeboardPostResponseDTO convertToDetailDto(FreeboardPost post, String userId, String userNickName,
+                                                        boolean isLikedByCurrentUser, boolean isReportedByCurrentUser) {
         return FreeboardPostResponseDTO.builder()
                 .postId(post.getPostId())
                 .postTitle(post.getPostTitle())
@@ -452,8 +460,27 @@ public class FreeboardPostServiceImpl implements FreeboardPostService {
                 .postIsHidden(post.isPostIsHidden())
                 .postCreatedAt(post.getPostCreatedAt())
                 .postUpdatedAt(post.getPostUpdatedAt())
-                .userId(user != null ? user.getUserId() : null)
-                .userNickName(user != null ? user.getUserNickName() : "알 수 없는 사용자")
+                .userId(userId)
+                .userNickName(userNickName != null ? userNickName : "알 수 없는 사용자")
+                .isLikedByCurrentUser(isLikedByCurrentUser)
+                .isReportedByCurrentUser(isReportedByCurrentUser)
+                .build();
+    }
+
+    private FreeboardPostResponseDTO convertToDetailDto(FreeboardPostSnapshot snapshot, boolean isLikedByCurrentUser, boolean isReportedByCurrentUser) {
+        return FreeboardPostResponseDTO.builder()
+                .postId(snapshot.getPostId())
+                .postTitle(snapshot.getPostTitle())
+                .postContent(snapshot.getPostContent())
+                .postViewCount(snapshot.getPostViewCount())
+                .postLikeCount(snapshot.getPostLikeCount())
+                .postIsHidden(snapshot.isPostIsHidden())
+                .postCreatedAt(snapshot.getPostCreatedAt())
+                .postUpdatedAt(snapshot.getPostUpdatedAt())
+                .userId(snapshot.getUserId())
+                .userNickName(userSnapshotCache.find(snapshot.getUserId())
+                        .map(UserSnapshot::userNickName)
+                        .orElse("알 수 없는 사용자")) // 닉네임 변경은 UserChangedEvent 로 UserSnapshotCache 에서 반영됨
                 .isLikedByCurrentUser(isLikedByCurrentUser)
                 .isReportedByCurrentUser(isReportedByCurrentUser)
                 .build();
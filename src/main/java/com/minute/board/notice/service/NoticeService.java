@@ -8,6 +8,8 @@ import com.minute.board.notice.dto.response.NoticeDetailResponseDTO;
 import com.minute.board.notice.dto.response.NoticeListResponseDTO;
 import com.minute.board.notice.entity.Notice;
 import com.minute.board.notice.repository.NoticeRepository;
+import com.minute.user.cache.UserSnapshot;
+import com.minute.user.cache.UserSnapshotCache;
 import com.minute.user.entity.User;
 import com.minute.user.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
@@ -31,6 +33,7 @@ public class NoticeService {
 
     private final NoticeRepository noticeRepository;
     private final UserRepository userRepository;
+    private final UserSnapshotCache userSnapshotCache;
 
     @Transactional(readOnly = true)
     public PageResponseDTO<NoticeListResponseDTO> getNoticeList(
@@ -122,14 +125,13 @@ public class NoticeService {
     // 공지사항 작성 기능 관련
     @Transactional
     public NoticeDetailResponseDTO createNotice(NoticeCreateRequestDTO requestDto, String authenticatedUserId) {
-        User author = userRepository.findUserByUserId(authenticatedUserId)
-                .orElseThrow(() -> new EntityNotFoundException("작성자 정보를 찾을 수 없습니다: " + authenticatedUserId));
+        UserSnapshot author = userSnapshotCache.require(authenticatedUserId, "작성자 정보를 찾을 수 없습니다: ");
 
         Notice newNotice = Notice.builder()
                 .noticeTitle(requestDto.getNoticeTitle())
                 .noticeContent(requestDto.getNoticeContent())
                 .noticeIsImportant(requestDto.isNoticeIsImportant())
-                .user(author)
+                .user(userRepository.getReferenceById(author.userId()))
                 .noticeViewCount(0)
                 .build();
 
@@ -139,8 +141,8 @@ public class NoticeService {
                 .noticeId(savedNotice.getNoticeId())
                 .noticeTitle(savedNotice.getNoticeTitle())
                 .noticeContent(savedNotice.getNoticeContent())
-                .authorId(savedNotice.getUser().getUserId())
-                .authorNickname(savedNotice.getUser().getUserNickName())
+                .authorId(author.userId())
+                .authorNickname(author.userNickName())
                 .noticeCreatedAt(savedNotice.getNoticeCreatedAt())
                 .noticeViewCount(savedNotice.getNoticeViewCount())
                 .noticeIsImportant(savedNotice.isNoticeIsImportant())
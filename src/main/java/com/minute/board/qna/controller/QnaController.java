@@ -2,8 +2,10 @@ package com.minute.board.qna.controller;
 
 import com.minute.board.qna.dto.request.QnaCreateRequestDTO;
 import com.minute.board.qna.dto.request.QnaUpdateRequestDTO; // 추가
+import com.minute.board.qna.dto.request.QnaUploadSessionRequestDTO;
 import com.minute.board.qna.dto.response.QnaDetailResponseDTO;
 import com.minute.board.qna.dto.response.QnaSummaryResponseDTO;
+import com.minute.board.qna.dto.response.QnaUploadUrlResponseDTO;
 import com.minute.board.qna.service.QnaService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -71,6 +73,47 @@ public class QnaController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdQna);
     }
 
+    @Operation(summary = "새 문의 작성 (직접 업로드한 첨부파일)", description = "POST /uploads 로 받은 URL에 파일을 올린 뒤, 파일 키(uploadedFiles)와 함께 문의를 작성합니다. 파일 본문은 서버를 거치지 않습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "문의 작성 성공",
+                    content = @Content(schema = @Schema(implementation = QnaDetailResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+            @ApiResponse(responseCode = "409", description = "발급되지 않았거나 업로드가 끝나지 않은 파일 키")
+    })
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<QnaDetailResponseDTO> createQnaWithUploadedFiles(
+            @Valid @RequestBody QnaCreateRequestDTO requestDTO,
+            Authentication authentication) throws IOException {
+
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        String userId = authentication.getName();
+        log.info("Creating QnA with direct uploads for user: {}", userId);
+
+        QnaDetailResponseDTO createdQna = qnaService.createQna(requestDTO, null, userId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(createdQna);
+    }
+
+    @Operation(summary = "첨부파일 직접 업로드 URL 발급", description = "첨부파일을 S3에 직접 올릴 presigned PUT URL을 발급합니다. 응답의 headers 를 그대로 담아 PUT 요청해야 합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "발급 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+            @ApiResponse(responseCode = "409", description = "파일 개수/크기 제한 초과")
+    })
+    @PostMapping("/uploads")
+    public ResponseEntity<List<QnaUploadUrlResponseDTO>> createUploadSession(
+            @Valid @RequestBody QnaUploadSessionRequestDTO requestDTO,
+            Authentication authentication) {
+
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(qnaService.createUploadSession(requestDTO, authentication.getName()));
+    }
+
     @Operation(summary = "내 문의 목록 조회", description = "현재 로그인한 사용자의 문의 목록을 페이징 및 검색 조건과 함께 조회합니다.")
     @Parameters({
             @Parameter(name = "page", description = "페이지 번호 (0부터 시작)", example = "0", in = ParameterIn.QUERY),
@@ -163,6 +206,32 @@ public class QnaController {
         return ResponseEntity.ok(updatedQna);
     }
 
+    @Operation(summary = "내 문의 수정 (직접 업로드한 첨부파일)", description = "POST /uploads 로 올린 파일 키(uploadedFiles)를 새 첨부파일로 추가하며 문의를 수정합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "문의 수정 성공",
+                    content = @Content(schema = @Schema(implementation = QnaDetailResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+            @ApiResponse(responseCode = "403", description = "수정 권한 없음 (본인 문의가 아님)"),
+            @ApiResponse(responseCode = "404", description = "수정할 문의를 찾을 수 없음"),
+            @ApiResponse(responseCode = "409", description = "답변 완료된 문의이거나 확인할 수 없는 파일 키")
+    })
+    @PutMapping(value = "/{qnaId}", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<QnaDetailResponseDTO> updateMyQnaWithUploadedFiles(
+            @Parameter(description = "수정할 문의 ID", required = true, example = "1") @PathVariable Integer qnaId,
+            @Valid @RequestBody QnaUpdateRequestDTO requestDTO,
+            Authentication authentication) throws IOException {
+
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        String userId = authentication.getName();
+        log.info("User {} updating QnA ID: {} with direct uploads", userId, qnaId);
+
+        QnaDetailResponseDTO updatedQna = qnaService.updateMyQna(qnaId, requestDTO, null, userId);
+        return ResponseEntity.ok(updatedQna);
+    }
+
     @Operation(summary = "내 문의 삭제", description = "사용자가 자신이 작성한 문의를 삭제합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "문의 삭제 성공 (No Content)"),
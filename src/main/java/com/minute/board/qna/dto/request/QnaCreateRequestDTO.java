@@ -1,12 +1,15 @@
 package com.minute.board.qna.dto.request;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.util.List;
+
 @Getter
 @Setter
 @NoArgsConstructor
@@ -23,4 +26,8 @@ public class QnaCreateRequestDTO {
     private String inquiryContent;
 
     // 첨부파일은 컨트롤러에서 @RequestPart List<MultipartFile> files 로 받습니다.
+
+    @Valid
+    @Schema(description = "presigned URL(POST /api/v1/qna/uploads)로 직접 업로드를 마친 첨부파일 목록")
+    private List<QnaUploadedFileDTO> uploadedFiles;
 }
\ No newline at end of file
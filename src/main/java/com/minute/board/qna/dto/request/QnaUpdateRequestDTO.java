@@ -1,6 +1,7 @@
 package com.minute.board.qna.dto.request;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
@@ -28,4 +29,8 @@ public class QnaUpdateRequestDTO {
     private List<Integer> attachmentIdsToDelete;
 
     // 새로운 첨부파일은 컨트롤러에서 @RequestPart List<MultipartFile> newFiles 로 받습니다.
+
+    @Valid
+    @Schema(description = "presigned URL(POST /api/v1/qna/uploads)로 직접 업로드를 마친 첨부파일 목록")
+    private List<QnaUploadedFileDTO> uploadedFiles;
 }
\ No newline at end of file
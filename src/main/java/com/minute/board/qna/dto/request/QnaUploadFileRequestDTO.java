@@ -0,0 +1,29 @@
+package com.minute.board.qna.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(description = "직접 업로드할 첨부파일 정보")
+public class QnaUploadFileRequestDTO {
+
+    @NotBlank(message = "파일명은 필수입니다.")
+    @Schema(description = "원본 파일명", requiredMode = Schema.RequiredMode.REQUIRED, example = "증빙자료.jpg")
+    private String filename;
+
+    @NotBlank(message = "Content-Type 은 필수입니다.")
+    @Schema(description = "파일 Content-Type (업로드 시 같은 값으로 보내야 함)", requiredMode = Schema.RequiredMode.REQUIRED, example = "image/jpeg")
+    private String contentType;
+
+    @NotNull(message = "파일 크기는 필수입니다.")
+    @Positive(message = "파일 크기는 0보다 커야 합니다.")
+    @Schema(description = "파일 크기(byte). 업로드 시 Content-Length 와 같아야 함", requiredMode = Schema.RequiredMode.REQUIRED, example = "524288")
+    private Long size;
+}
@@ -0,0 +1,22 @@
+package com.minute.board.qna.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(description = "QnA 첨부파일 직접 업로드(presigned URL) 요청 DTO")
+public class QnaUploadSessionRequestDTO {
+
+    @Valid
+    @NotEmpty(message = "업로드할 파일 정보가 필요합니다.")
+    @Schema(description = "업로드할 파일 목록 (최대 qna.upload.max-files 개)", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<QnaUploadFileRequestDTO> files;
+}
@@ -0,0 +1,21 @@
+package com.minute.board.qna.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(description = "presigned URL 로 업로드를 마친 첨부파일 (문의 작성/수정 시 확인)")
+public class QnaUploadedFileDTO {
+
+    @NotBlank(message = "파일 키는 필수입니다.")
+    @Schema(description = "업로드 세션에서 발급받은 파일 키", requiredMode = Schema.RequiredMode.REQUIRED, example = "qna/1a2b3c4d5e6f7a8b/uuid.jpg")
+    private String fileKey;
+
+    @Schema(description = "원본 파일명", example = "증빙자료.jpg")
+    private String originalFilename;
+}
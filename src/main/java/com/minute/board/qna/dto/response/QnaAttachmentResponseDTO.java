@@ -4,6 +4,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Getter
 @Builder
@@ -16,6 +17,10 @@ public class QnaAttachmentResponseDTO {
     @Schema(description = "파일 S3 URL", example = "https://minuteproject.s3.ap-northeast-2.amazonaws.com/qna/uuid_filename.jpg")
     private String fileUrl; // 필드명을 S3 URL임을 명확히 하기 위해 변경 (기존: imgFilePath)
 
+    @Schema(description = "축소본 URL (너비별, JPEG). 이미지가 아니거나 아직 만들어지지 않았으면 비어 있음",
+            example = "{\"w200\": \"https://minuteproject.s3.ap-northeast-2.amazonaws.com/qna/uuid_filename.jpg.w200.jpg\"}")
+    private Map<String, String> variantUrls;
+
     @Schema(description = "원본 파일명", example = "증빙자료.jpg")
     private String originalFilename; // 필드명 변경 (기존: imgOriginalFilename)
 
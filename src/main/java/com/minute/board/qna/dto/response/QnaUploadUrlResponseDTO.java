@@ -0,0 +1,29 @@
+package com.minute.board.qna.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Getter
+@Builder
+@Schema(description = "QnA 첨부파일 직접 업로드 URL 응답 DTO")
+public class QnaUploadUrlResponseDTO {
+
+    @Schema(description = "파일 키 (문의 작성/수정 시 uploadedFiles.fileKey 로 전달)", example = "qna/1a2b3c4d5e6f7a8b/uuid.jpg")
+    private String fileKey;
+
+    @Schema(description = "원본 파일명", example = "증빙자료.jpg")
+    private String originalFilename;
+
+    @Schema(description = "파일을 PUT 으로 올릴 presigned URL")
+    private String uploadUrl;
+
+    @Schema(description = "업로드 요청에 그대로 보내야 하는 헤더 (Content-Type 등)")
+    private Map<String, String> headers;
+
+    @Schema(description = "업로드 URL 만료 시각")
+    private Instant expiresAt;
+}
@@ -12,7 +12,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "inquiry_attachments") // DB 테이블명은 'inquiry_attachments'
+@Table(name = "inquiry_attachments", // DB 테이블명은 'inquiry_attachments'
+        uniqueConstraints = @UniqueConstraint(name = "uk_inquiry_attachments_saved_filename", columnNames = "img_saved_filename")) // 같은 S3 객체를 두 문의에 첨부 불가 (db/07)
 public class QnaAttachment { // 클래스명은 'QnaAttachment'
 
     @Id
@@ -33,6 +34,10 @@ public class QnaAttachment { // 클래스명은 'QnaAttachment'
     @Column(name = "img_saved_filename", nullable = false, length = 255)
     private String imgSavedFilename;
 
+    // 만들어진 축소본 너비 목록 (예: "200,600"). 아직 없으면 null (ImageVariantPipeline, db/09)
+    @Column(name = "img_variant_widths", length = 32)
+    private String imgVariantWidths;
+
     @CreationTimestamp
     @Column(name = "img_created_at", nullable = false, updatable = false)
     private LocalDateTime imgCreatedAt;
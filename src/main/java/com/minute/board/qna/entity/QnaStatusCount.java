@@ -0,0 +1,40 @@
+package com.minute.board.qna.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 작성일별·상태별 문의 수 (inquiry_status_counts, db/12).
+ * 문의 작성/답변 등록·삭제/문의 삭제 시 같은 트랜잭션에서 증감하며, 대시보드는 inquiries 를 세지 않고 이 행을 읽습니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "inquiry_status_counts")
+@IdClass(QnaStatusCount.Key.class)
+public class QnaStatusCount {
+
+    @Id
+    @Column(name = "count_date", nullable = false)
+    private LocalDate countDate; // 문의 작성일
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "inquiry_status", nullable = false, length = 20)
+    private QnaStatus inquiryStatus;
+
+    @Column(name = "inquiry_count", nullable = false)
+    private long inquiryCount;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private LocalDate countDate;
+        private QnaStatus inquiryStatus;
+    }
+}
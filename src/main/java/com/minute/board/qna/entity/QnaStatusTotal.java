@@ -0,0 +1,24 @@
+package com.minute.board.qna.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상태별 전체 문의 수 (inquiry_status_totals, db/12). {@link QnaStatusCount} 와 함께 증감합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "inquiry_status_totals")
+public class QnaStatusTotal {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "inquiry_status", nullable = false, length = 20)
+    private QnaStatus inquiryStatus;
+
+    @Column(name = "inquiry_count", nullable = false)
+    private long inquiryCount;
+}
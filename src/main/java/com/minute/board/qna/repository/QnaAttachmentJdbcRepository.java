@@ -0,0 +1,70 @@
+package com.minute.board.qna.repository;
+
+import com.minute.board.qna.entity.Qna;
+import com.minute.board.qna.entity.QnaAttachment;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 첨부파일 행을 JDBC 배치로 한 번에 저장합니다.
+ * img_id 가 IDENTITY 라 JPA(saveAll)로는 행마다 INSERT 가 따로 나가기 때문에 사용합니다.
+ * (MySQL 은 rewriteBatchedStatements=true 로 하나의 다중 행 INSERT 로 전송)
+ */
+@Repository
+@RequiredArgsConstructor
+public class QnaAttachmentJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO inquiry_attachments (inquiry_id, img_file_path, img_original_filename, img_saved_filename, img_created_at) " +
+            "VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 첨부파일을 저장하고 생성된 img_id, 생성 시각을 각 객체에 채웁니다.
+     * 저장된 객체는 영속성 컨텍스트에 없으므로 Qna.attachments 컬렉션에 추가하면 안 됩니다.
+     */
+    public void insertAll(Qna qna, List<QnaAttachment> attachments) {
+        if (attachments.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_SQL, new String[]{"img_id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        QnaAttachment attachment = attachments.get(i);
+                        ps.setInt(1, qna.getInquiryId());
+                        ps.setString(2, attachment.getImgFilePath());
+                        ps.setString(3, attachment.getImgOriginalFilename());
+                        ps.setString(4, attachment.getImgSavedFilename());
+                        ps.setTimestamp(5, Timestamp.valueOf(now));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return attachments.size();
+                    }
+                }, keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < attachments.size(); i++) {
+            QnaAttachment attachment = attachments.get(i);
+            attachment.setQna(qna);
+            attachment.setImgId(((Number) keys.get(i).values().iterator().next()).intValue());
+            attachment.setImgCreatedAt(now);
+        }
+    }
+}
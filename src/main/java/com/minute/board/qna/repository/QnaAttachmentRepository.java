@@ -2,8 +2,28 @@ package com.minute.board.qna.repository;
 
 import com.minute.board.qna.entity.QnaAttachment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface QnaAttachmentRepository extends JpaRepository<QnaAttachment, Integer> {
     // QnaAttachment (InquiryAttachment) 엔티티의 ID (imgId) 타입은 Integer 입니다.
     // 기능 구현 시 필요한 쿼리 메서드를 여기에 추가합니다.
+
+    // 직접 업로드한 파일이 이미 다른 문의에 첨부되었는지 확인 (img_saved_filename = S3 키)
+    boolean existsByImgSavedFilenameIn(Collection<String> imgSavedFilenames);
+
+    // 고아 파일 정리: 주어진 S3 키 중 첨부파일 행이 있는 키
+    @Query("SELECT a.imgSavedFilename FROM QnaAttachment a WHERE a.imgSavedFilename IN :keys")
+    List<String> findExistingSavedFilenames(@Param("keys") Collection<String> keys);
+
+    // 축소본 생성 완료 기록 (ImageVariantPipeline 작업 스레드에서 호출)
+    @Transactional
+    @Modifying
+    @Query("UPDATE QnaAttachment a SET a.imgVariantWidths = :widths WHERE a.imgSavedFilename = :key")
+    int updateVariantWidths(@Param("key") String imgSavedFilename, @Param("widths") String widths);
 }
\ No newline at end of file
@@ -0,0 +1,155 @@
+package com.minute.board.qna.repository;
+
+import com.minute.board.qna.entity.QnaStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 문의 제목/내용 전문 검색 (MySQL FULLTEXT ngram 인덱스, db/11).
+ *
+ * <p>{@code LIKE '%검색어%'} 는 인덱스를 타지 못해 문의가 늘수록 전체를 읽으므로, 검색어가 있으면 이 경로로
+ * {@code MATCH ... AGAINST (BOOLEAN MODE)} 조회를 하고 관련도 순으로 정렬합니다. 검색어의 단어는 모두 포함되어야 합니다.
+ * 관리자 목록은 작성자 아이디(일치)/닉네임(접두사)으로도 찾으며, 이 결과를 먼저 보여줍니다. (PK, idx_user_nickname 사용)
+ *
+ * <p>결과는 {@link QnaSummaryRow} 로 반환하며, 정렬은 관련도 순으로 고정이라 Pageable 의 정렬은 쓰지 않습니다.
+ * ngram 토큰보다 짧은 검색어는 인덱스로 찾을 수 없으므로 {@link #supports} 가 false 이고, 호출 쪽에서 기존 LIKE 조회를 사용합니다.
+ *
+ * <p>인덱스(db/11)가 없는 DB 에서는 쿼리가 실패하므로 {@code qna.search.fulltext-enabled} 는 기본 false 이며, db/11 을 적용한 뒤 켭니다.
+ */
+@Repository
+public class QnaFullTextSearchRepository {
+
+    private static final String BOOLEAN_OPERATORS = "[+\\-<>()~*\"@]";
+
+    private static final String ROW_COLUMNS =
+            "SELECT q.inquiry_id, q.inquiry_title, u.user_id, u.user_nickname, q.inquiry_status, q.inquiry_created_at, " +
+            "(SELECT COUNT(*) FROM inquiry_reports r WHERE r.inquiry_id = q.inquiry_id) AS report_count, " +
+            "EXISTS (SELECT 1 FROM inquiry_attachments a WHERE a.inquiry_id = q.inquiry_id) AS has_attachments ";
+
+    private static final String TEXT_HITS =
+            "SELECT i.inquiry_id, MATCH (i.inquiry_title, i.inquiry_content) AGAINST (:query IN BOOLEAN MODE) AS score, 0 AS author_match " +
+            "FROM inquiries i " +
+            "WHERE MATCH (i.inquiry_title, i.inquiry_content) AGAINST (:query IN BOOLEAN MODE)";
+
+    private static final String AUTHOR_HITS =
+            "SELECT i.inquiry_id, 0 AS score, 1 AS author_match " +
+            "FROM inquiries i JOIN `user` au ON au.user_id = i.user_id " +
+            "WHERE (au.user_id = :author OR au.user_nickname LIKE :authorPrefix)";
+
+    private static final RowMapper<QnaSummaryRow> ROW_MAPPER = (rs, rowNum) -> new QnaSummaryRow(
+            rs.getInt("inquiry_id"),
+            rs.getString("inquiry_title"),
+            rs.getString("user_id"),
+            rs.getString("user_nickname"),
+            QnaStatus.valueOf(rs.getString("inquiry_status")),
+            rs.getTimestamp("inquiry_created_at").toLocalDateTime(),
+            rs.getLong("report_count"),
+            rs.getBoolean("has_attachments"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int ngramTokenSize;
+
+    public QnaFullTextSearchRepository(NamedParameterJdbcTemplate jdbcTemplate,
+                                       @Value("${qna.search.fulltext-enabled:false}") boolean enabled,
+                                       @Value("${qna.search.ngram-token-size:2}") int ngramTokenSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.ngramTokenSize = ngramTokenSize;
+    }
+
+    /** 전문 검색으로 처리할 수 있는 검색어인지 (꺼져 있거나 ngram 토큰 크기 이상인 단어가 없으면 false) */
+    public boolean supports(String searchTerm) {
+        return enabled && !toBooleanQuery(searchTerm, ngramTokenSize).isEmpty();
+    }
+
+    /**
+     * 관련도 순 검색. {@link #supports} 가 true 인 검색어로만 호출해야 합니다.
+     *
+     * @param searchTerm 사용자가 입력한 검색어 (불리언 연산자는 제거하고 단어마다 필수 구문으로 검색)
+     * @param filter     상태/작성일/작성자 등 목록 조건
+     * @param pageable   페이지 (정렬은 무시)
+     */
+    public Page<QnaSummaryRow> search(String searchTerm, QnaSearchFilter filter, Pageable pageable) {
+        MapSqlParameterSource params = new MapSqlParameterSource("query", toBooleanQuery(searchTerm, ngramTokenSize));
+        String conditions = conditions(filter, params);
+        String hits = TEXT_HITS + conditions;
+        if (filter.matchAuthor()) {
+            String author = searchTerm.trim();
+            params.addValue("author", author).addValue("authorPrefix", escapeLike(author) + "%");
+            hits += " UNION ALL " + AUTHOR_HITS + conditions;
+        }
+
+        StringBuilder sql = new StringBuilder(ROW_COLUMNS)
+                .append("FROM (SELECT h.inquiry_id, MAX(h.score) AS score, MAX(h.author_match) AS author_match FROM (")
+                .append(hits)
+                .append(") h GROUP BY h.inquiry_id) m ")
+                .append("JOIN inquiries q ON q.inquiry_id = m.inquiry_id ")
+                .append("LEFT JOIN `user` u ON u.user_id = q.user_id ")
+                .append("ORDER BY m.author_match DESC, m.score DESC, q.inquiry_created_at DESC, q.inquiry_id DESC");
+        if (pageable.isPaged()) {
+            sql.append(" LIMIT :limit OFFSET :offset");
+            params.addValue("limit", pageable.getPageSize()).addValue("offset", pageable.getOffset());
+        }
+
+        List<QnaSummaryRow> content = jdbcTemplate.query(sql.toString(), params, ROW_MAPPER);
+        String countSql = "SELECT COUNT(DISTINCT h.inquiry_id) FROM (" + hits + ") h";
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> jdbcTemplate.queryForObject(countSql, params, Long.class));
+    }
+
+    // 검색 결과 후보(hits)마다 거는 조건 (별칭 i = inquiries)
+    private static String conditions(QnaSearchFilter filter, MapSqlParameterSource params) {
+        StringBuilder where = new StringBuilder();
+        if (filter.userId() != null) {
+            where.append(" AND i.user_id = :userId");
+            params.addValue("userId", filter.userId());
+        }
+        if (filter.status() != null) {
+            where.append(" AND i.inquiry_status = :status");
+            params.addValue("status", filter.status().name());
+        }
+        if (filter.createdFrom() != null) {
+            where.append(" AND i.inquiry_created_at >= :createdFrom");
+            params.addValue("createdFrom", filter.createdFrom());
+        }
+        if (filter.createdTo() != null) {
+            where.append(" AND i.inquiry_created_at <= :createdTo");
+            params.addValue("createdTo", filter.createdTo());
+        }
+        if (filter.reportedOnly()) {
+            where.append(" AND EXISTS (SELECT 1 FROM inquiry_reports ir WHERE ir.inquiry_id = i.inquiry_id)");
+        }
+        return where.toString();
+    }
+
+    /**
+     * 검색어를 BOOLEAN MODE 식으로 바꿉니다. 예: {@code 환불 요청} → {@code +"환불" +"요청"}
+     * 연산자 문자는 공백으로 바꾸고, ngram 토큰보다 짧은 단어는 인덱스에 없으므로 뺍니다. 남는 단어가 없으면 빈 문자열.
+     */
+    static String toBooleanQuery(String searchTerm, int ngramTokenSize) {
+        if (searchTerm == null) {
+            return "";
+        }
+        List<String> terms = new ArrayList<>();
+        for (String word : searchTerm.replaceAll(BOOLEAN_OPERATORS, " ").trim().split("\\s+")) {
+            if (word.codePointCount(0, word.length()) >= ngramTokenSize) {
+                terms.add("+\"" + word + "\"");
+            }
+        }
+        return String.join(" ", terms);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,23 @@
+package com.minute.board.qna.repository;
+
+import com.minute.board.qna.entity.QnaStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전문 검색(QnaFullTextSearchRepository)에 함께 거는 목록 조건입니다. null 인 조건은 적용하지 않습니다.
+ *
+ * @param userId       작성자 (내 문의 목록)
+ * @param status       답변 상태
+ * @param createdFrom  작성일 시작 (포함)
+ * @param createdTo    작성일 끝 (포함)
+ * @param reportedOnly 신고된 문의만
+ * @param matchAuthor  검색어를 작성자 아이디(일치)/닉네임(접두사)으로도 찾을지 (관리자 목록)
+ */
+public record QnaSearchFilter(String userId,
+                              QnaStatus status,
+                              LocalDateTime createdFrom,
+                              LocalDateTime createdTo,
+                              boolean reportedOnly,
+                              boolean matchAuthor) {
+}
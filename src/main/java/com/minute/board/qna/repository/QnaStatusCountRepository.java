@@ -0,0 +1,34 @@
+package com.minute.board.qna.repository;
+
+import com.minute.board.qna.entity.QnaStatusCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface QnaStatusCountRepository extends JpaRepository<QnaStatusCount, QnaStatusCount.Key> {
+
+    /** 작성일·상태 행의 문의 수를 증감합니다. 행이 없으면 delta 로 만듭니다. */
+    @Modifying
+    @Query(value = "INSERT INTO inquiry_status_counts (count_date, inquiry_status, inquiry_count) VALUES (:countDate, :status, :delta) " +
+            "ON DUPLICATE KEY UPDATE inquiry_count = inquiry_count + :delta", nativeQuery = true)
+    int adjust(@Param("countDate") LocalDate countDate, @Param("status") String status, @Param("delta") long delta);
+
+    List<QnaStatusCount> findByCountDateBetweenOrderByCountDate(LocalDate from, LocalDate to);
+
+    @Modifying
+    @Query(value = "DELETE FROM inquiry_status_counts", nativeQuery = true)
+    int deleteAllRows();
+
+    /** inquiries 에서 다시 집계해 채웁니다. (deleteAllRows 와 같은 트랜잭션에서 호출) */
+    @Modifying
+    @Query(value = "INSERT INTO inquiry_status_counts (count_date, inquiry_status, inquiry_count) " +
+            "SELECT CAST(inquiry_created_at AS DATE), inquiry_status, COUNT(*) FROM inquiries " +
+            "GROUP BY CAST(inquiry_created_at AS DATE), inquiry_status", nativeQuery = true)
+    int rebuildFromInquiries();
+}
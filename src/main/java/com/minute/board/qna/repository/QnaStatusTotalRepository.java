@@ -0,0 +1,29 @@
+package com.minute.board.qna.repository;
+
+import com.minute.board.qna.entity.QnaStatus;
+import com.minute.board.qna.entity.QnaStatusTotal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface QnaStatusTotalRepository extends JpaRepository<QnaStatusTotal, QnaStatus> {
+
+    /** 상태별 전체 문의 수를 증감합니다. 행이 없으면 delta 로 만듭니다. */
+    @Modifying
+    @Query(value = "INSERT INTO inquiry_status_totals (inquiry_status, inquiry_count) VALUES (:status, :delta) " +
+            "ON DUPLICATE KEY UPDATE inquiry_count = inquiry_count + :delta", nativeQuery = true)
+    int adjust(@Param("status") String status, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "DELETE FROM inquiry_status_totals", nativeQuery = true)
+    int deleteAllRows();
+
+    /** inquiries 에서 다시 집계해 채웁니다. (deleteAllRows 와 같은 트랜잭션에서 호출) */
+    @Modifying
+    @Query(value = "INSERT INTO inquiry_status_totals (inquiry_status, inquiry_count) " +
+            "SELECT inquiry_status, COUNT(*) FROM inquiries GROUP BY inquiry_status", nativeQuery = true)
+    int rebuildFromInquiries();
+}
@@ -0,0 +1,108 @@
+package com.minute.board.qna.repository;
+
+import com.minute.board.qna.entity.Qna;
+import com.minute.board.qna.entity.QnaAttachment;
+import com.minute.board.qna.entity.QnaReport;
+import com.minute.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 문의 목록을 엔티티 대신 {@link QnaSummaryRow} 로 조회합니다.
+ *
+ * <p>엔티티로 조회한 뒤 {@code getReports().size()}, {@code getAttachments().isEmpty()} 를 부르면 행마다 컬렉션을 두 번 더 읽으므로(N+1),
+ * 작성자 컬럼은 조인으로, 신고 수와 첨부파일 여부는 상관 서브쿼리로 한 번에 가져옵니다.
+ * 페이지 조회 1번 + (필요할 때만) 전체 건수 1번으로 끝납니다.
+ */
+@Repository
+public class QnaSummaryQueryRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    /**
+     * @param spec     목록 조건 (서비스의 기존 Specification 그대로 사용)
+     * @param pageable 페이지/정렬 (정렬은 Qna 속성 기준)
+     */
+    public Page<QnaSummaryRow> findSummaries(Specification<Qna> spec, Pageable pageable) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+
+        CriteriaQuery<QnaSummaryRow> query = cb.createQuery(QnaSummaryRow.class);
+        Root<Qna> root = query.from(Qna.class);
+        Predicate where = spec.toPredicate(root, query, cb);
+        Join<Qna, User> user = userJoin(root);
+        query.select(cb.construct(QnaSummaryRow.class,
+                        root.get("inquiryId"),
+                        root.get("inquiryTitle"),
+                        user.get("userId"),
+                        user.get("userNickName"),
+                        root.get("inquiryStatus"),
+                        root.get("inquiryCreatedAt"),
+                        reportCount(query, cb, root),
+                        hasAttachments(query, cb, root)))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        if (where != null) {
+            query.where(where);
+        }
+
+        TypedQuery<QnaSummaryRow> typedQuery = em.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<QnaSummaryRow> content = typedQuery.getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    private long count(Specification<Qna> spec) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Qna> root = query.from(Qna.class);
+        Predicate where = spec.toPredicate(root, query, cb);
+        query.select(cb.count(root));
+        if (where != null) {
+            query.where(where);
+        }
+        return em.createQuery(query).getSingleResult();
+    }
+
+    // 조건에서 이미 작성자를 조인했으면 그 조인을 사용 (같은 테이블을 두 번 조인하지 않도록)
+    @SuppressWarnings("unchecked")
+    private static Join<Qna, User> userJoin(Root<Qna> root) {
+        return root.getJoins().stream()
+                .filter(join -> "user".equals(join.getAttribute().getName()))
+                .map(join -> (Join<Qna, User>) join)
+                .findFirst()
+                .orElseGet(() -> root.join("user", JoinType.LEFT));
+    }
+
+    private static Expression<Long> reportCount(CriteriaQuery<?> query, CriteriaBuilder cb, Root<Qna> root) {
+        Subquery<Long> reports = query.subquery(Long.class);
+        Root<QnaReport> report = reports.from(QnaReport.class);
+        return reports.select(cb.count(report)).where(cb.equal(report.get("qna"), root));
+    }
+
+    private static Expression<Boolean> hasAttachments(CriteriaQuery<?> query, CriteriaBuilder cb, Root<Qna> root) {
+        Subquery<Integer> attachments = query.subquery(Integer.class);
+        Root<QnaAttachment> attachment = attachments.from(QnaAttachment.class);
+        attachments.select(cb.literal(1)).where(cb.equal(attachment.get("qna"), root));
+        return cb.<Boolean>selectCase().when(cb.exists(attachments), true).otherwise(false);
+    }
+}
@@ -0,0 +1,18 @@
+package com.minute.board.qna.repository;
+
+import com.minute.board.qna.entity.QnaStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 문의 목록 한 행 (QnaSummaryQueryRepository). 신고 수와 첨부파일 여부는 SQL 서브쿼리로 계산합니다.
+ */
+public record QnaSummaryRow(Integer inquiryId,
+                            String inquiryTitle,
+                            String authorUserId,
+                            String authorNickname,
+                            QnaStatus inquiryStatus,
+                            LocalDateTime inquiryCreatedAt,
+                            Long reportCount,
+                            Boolean hasAttachments) {
+}
@@ -0,0 +1,71 @@
+package com.minute.board.qna.scheduler;
+
+import com.minute.board.qna.repository.QnaAttachmentRepository;
+import com.minute.common.file.deletion.FileDeletionQueue;
+import com.minute.common.file.service.FileStorageService;
+import com.minute.common.image.ImageVariants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+@Component
+@Slf4j
+public class QnaAttachmentReconcileScheduler {
+
+    private static final String QNA_PREFIX = "qna/";
+
+    private final QnaAttachmentRepository qnaAttachmentRepository;
+    private final FileStorageService fileStorageService;
+    private final FileDeletionQueue fileDeletionQueue;
+
+    @Value("${qna.attachment.reconcile-grace-hours:24}")
+    private long graceHours;
+
+    public QnaAttachmentReconcileScheduler(QnaAttachmentRepository qnaAttachmentRepository,
+                                           @Qualifier("s3FileStorageService") FileStorageService fileStorageService,
+                                           FileDeletionQueue fileDeletionQueue) {
+        this.qnaAttachmentRepository = qnaAttachmentRepository;
+        this.fileStorageService = fileStorageService;
+        this.fileDeletionQueue = fileDeletionQueue;
+    }
+
+    /**
+     * S3 의 qna/ 아래 객체 중 첨부파일 행(inquiry_attachments.img_saved_filename)이 없는 객체를 삭제 대기열에 넣습니다.
+     *
+     * 확인만 하고 첨부하지 않은 직접 업로드, 저장 실패 후 정리되지 못한 업로드 등이 대상입니다.
+     * 이미지 축소본({원본 키}.w{너비}.jpg)은 원본 키의 첨부파일 행으로 확인합니다. (첨부 삭제와 겹쳐 늦게 저장된 축소본 정리)
+     * 아직 첨부 전일 수 있는 최근 객체는 제외하기 위해 {@code qna.attachment.reconcile-grace-hours} 이전에 올라간 것만 봅니다.
+     * 목록 페이지(최대 1000개)마다 한 번의 IN 조회로 확인합니다. (db/07 유니크 인덱스 사용)
+     */
+    @Scheduled(cron = "${qna.attachment.reconcile-cron:0 50 4 * * *}")
+    public void reconcileOrphanFiles() {
+        Instant modifiedBefore = Instant.now().minus(Duration.ofHours(graceHours));
+        AtomicInteger scanned = new AtomicInteger();
+        AtomicInteger orphans = new AtomicInteger();
+        try {
+            fileStorageService.forEachFileKeyPage(QNA_PREFIX, modifiedBefore, keys -> {
+                scanned.addAndGet(keys.size());
+                Set<String> originalKeys = keys.stream().map(ImageVariants::originalKey).collect(Collectors.toSet());
+                Set<String> attached = new HashSet<>(qnaAttachmentRepository.findExistingSavedFilenames(originalKeys));
+                List<String> orphanKeys = keys.stream().filter(key -> !attached.contains(ImageVariants.originalKey(key))).toList();
+                if (!orphanKeys.isEmpty()) {
+                    fileDeletionQueue.enqueue(orphanKeys);
+                    orphans.addAndGet(orphanKeys.size());
+                }
+            });
+        } catch (Exception e) {
+            log.warn("[QnaAttachmentReconcileScheduler] 고아 파일 확인 중단 (확인 {}건): {}", scanned.get(), e.getMessage());
+        }
+        log.info("=== QnaAttachmentReconcileScheduler: S3 객체 {}건 확인, 고아 파일 {}건 삭제 요청 ===", scanned.get(), orphans.get());
+    }
+}
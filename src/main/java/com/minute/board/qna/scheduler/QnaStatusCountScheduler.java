@@ -0,0 +1,31 @@
+package com.minute.board.qna.scheduler;
+
+import com.minute.board.qna.stats.QnaStatusCounter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QnaStatusCountScheduler {
+
+    private final QnaStatusCounter qnaStatusCounter;
+
+    /**
+     * 상태별/작성일별 문의 수를 inquiries 에서 다시 집계합니다.
+     *
+     * 문의 작성/답변/삭제 시 같은 트랜잭션에서 증감하지만, 수동 DB 작업이나 회원 탈퇴(FK 연쇄 삭제)로 어긋날 수 있으므로
+     * 새벽 시간에 한 번 통째로 다시 계산합니다. (문의 수가 많지 않아 한 트랜잭션으로 처리)
+     */
+    @Scheduled(cron = "${qna.status-count.rebuild-cron:0 40 4 * * *}")
+    public void rebuildStatusCounts() {
+        try {
+            qnaStatusCounter.rebuild();
+            log.info("=== QnaStatusCountScheduler: 문의 상태별 집계 재계산 완료 ===");
+        } catch (Exception e) {
+            log.warn("[QnaStatusCountScheduler] 문의 상태별 집계 재계산 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -2,8 +2,10 @@ package com.minute.board.qna.service;
 
 import com.minute.board.qna.dto.request.QnaCreateRequestDTO;
 import com.minute.board.qna.dto.request.QnaUpdateRequestDTO;
+import com.minute.board.qna.dto.request.QnaUploadSessionRequestDTO;
 import com.minute.board.qna.dto.response.QnaDetailResponseDTO;
 import com.minute.board.qna.dto.response.QnaSummaryResponseDTO;
+import com.minute.board.qna.dto.response.QnaUploadUrlResponseDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
@@ -32,6 +34,16 @@ public interface QnaService {
      */
     QnaDetailResponseDTO createQna(QnaCreateRequestDTO requestDTO, List<MultipartFile> files, String userId) throws IOException;
 
+    /**
+     * 첨부파일을 S3에 직접 올릴 수 있는 presigned PUT URL 을 발급합니다.
+     * 업로드 후 문의 작성/수정 요청의 uploadedFiles 에 파일 키를 담아 보내면 첨부파일로 확정됩니다.
+     *
+     * @param requestDTO 업로드할 파일 정보 (파일명, Content-Type, 크기)
+     * @param userId     요청한 사용자 ID (발급되는 키는 이 사용자 전용 경로)
+     * @return 파일별 업로드 URL 정보
+     */
+    List<QnaUploadUrlResponseDTO> createUploadSession(QnaUploadSessionRequestDTO requestDTO, String userId);
+
     /**
      * 현재 로그인한 사용자의 문의 목록을 검색어 및 필터 조건과 함께 페이징하여 조회합니다. // 설명 수정
      *
@@ -1,16 +1,32 @@
 package com.minute.board.qna.service.implement;
 
 import com.minute.board.qna.dto.request.QnaCreateRequestDTO;
+import com.minute.board.qna.dto.request.QnaUploadFileRequestDTO;
+import com.minute.board.qna.dto.request.QnaUploadSessionRequestDTO;
+import com.minute.board.qna.dto.request.QnaUploadedFileDTO;
 import com.minute.board.qna.dto.response.QnaAttachmentResponseDTO;
 import com.minute.board.qna.dto.response.QnaDetailResponseDTO;
 import com.minute.board.qna.dto.response.QnaReplyResponseDTO;
 import com.minute.board.qna.dto.response.QnaSummaryResponseDTO;
+import com.minute.board.qna.dto.response.QnaUploadUrlResponseDTO;
 import com.minute.board.qna.entity.*;
+import com.minute.board.qna.repository.QnaAttachmentJdbcRepository;
 import com.minute.board.qna.repository.QnaAttachmentRepository;
+import com.minute.board.qna.repository.QnaFullTextSearchRepository;
 import com.minute.board.qna.repository.QnaReportRepository;
 import com.minute.board.qna.repository.QnaRepository;
+import com.minute.board.qna.repository.QnaSearchFilter;
+import com.minute.board.qna.repository.QnaSummaryQueryRepository;
+import com.minute.board.qna.repository.QnaSummaryRow;
 import com.minute.board.qna.service.QnaService;
+import com.minute.board.qna.stats.QnaStatusCounter;
+import com.minute.common.file.deletion.FileDeletionQueue;
+import com.minute.common.file.dto.PresignedUpload;
+import com.minute.common.file.dto.StoredFile;
 import com.minute.common.file.service.FileStorageService; // FileStorageService 인터페이스
+import com.minute.common.image.ImageVariantPipeline;
+import com.minute.common.image.ImageVariantStore;
+import com.minute.common.image.ImageVariants;
 import com.minute.user.entity.User;
 import com.minute.user.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
@@ -18,6 +34,8 @@ import jakarta.persistence.criteria.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.NonTransientDataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException; // 권한 예외
@@ -25,7 +43,10 @@ import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
 import org.springframework.util.StringUtils; // StringUtils 임포트
 import org.springframework.web.multipart.MultipartFile;
 
@@ -42,7 +63,9 @@ import com.minute.board.qna.dto.response.ReportedQnaItemResponseDTO; // 추가
 import com.minute.board.qna.entity.QnaReport; // 추가
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -51,6 +74,7 @@ import java.time.LocalDateTime; // 추가
 import java.time.LocalTime; // 추가
 
 import java.util.Optional; // 추가
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
@@ -60,6 +84,13 @@ public class QnaServiceImpl implements QnaService {
 
     private final QnaRepository qnaRepository;
     private final QnaAttachmentRepository qnaAttachmentRepository;
+    private final QnaAttachmentJdbcRepository qnaAttachmentJdbcRepository; // 첨부파일 행 배치 저장
+    private final QnaSummaryQueryRepository qnaSummaryQueryRepository; // 목록 조회 (신고 수/첨부파일 여부 포함 projection)
+    private final QnaFullTextSearchRepository qnaFullTextSearchRepository; // 검색어가 있을 때 FULLTEXT 인덱스로 관련도 순 조회
+    private final QnaStatusCounter qnaStatusCounter; // 상태별/작성일별 문의 수 (대시보드용 집계)
+    private final TransactionTemplate transactionTemplate; // 업로드 이후의 DB 작업용
+    private final FileDeletionQueue fileDeletionQueue; // S3 파일 삭제는 커밋 후 대기열에서 처리
+    private final ImageVariantPipeline imageVariantPipeline; // 첨부 이미지 축소본은 커밋 후 백그라운드에서 생성
     private final UserRepository userRepository;
     private final QnaReplyRepository qnaReplyRepository; // 추가
     private final QnaReportRepository qnaReportRepository; // 추가
@@ -69,9 +100,96 @@ public class QnaServiceImpl implements QnaService {
 
     private static final String QNA_FILE_SUBDIRECTORY = "qna"; // S3 내 QnA 파일 저장 경로
 
+    @Value("${qna.upload.max-files:3}")
+    private int maxUploadFiles; // 직접 업로드 시 한 문의당 최대 파일 수
+
+    @Value("${qna.upload.max-file-bytes:10485760}")
+    private long maxUploadBytes; // 직접 업로드 파일 최대 크기 (multipart 업로드 제한과 같은 10MB)
+
     @Override
-    @Transactional // 쓰기 작업이므로 클래스 레벨의 readOnly=true를 오버라이드
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 파일 업로드 동안 DB 트랜잭션(커넥션)을 잡지 않음
     public QnaDetailResponseDTO createQna(QnaCreateRequestDTO requestDTO, List<MultipartFile> files, String userId) throws IOException {
+        // presigned URL 로 직접 올린 파일은 키만 확인하고, multipart 로 받은 파일은 동시에 모두 올린 뒤(하나라도 실패하면 전부 삭제)
+        // 한 트랜잭션에서 문의와 첨부파일 행을 저장
+        List<StoredFile> confirmedFiles = confirmUploadedFiles(requestDTO.getUploadedFiles(), userId);
+        List<StoredFile> uploadedFiles = fileStorageService.uploadAll(files, QNA_FILE_SUBDIRECTORY);
+        List<StoredFile> attachedFiles = concat(confirmedFiles, uploadedFiles);
+        QnaDetailResponseDTO created = executeOrDiscardUploads(uploadedFiles, () -> saveNewQna(requestDTO, attachedFiles, userId));
+        requestImageVariants(attachedFiles);
+        return created;
+    }
+
+    @Override
+    public List<QnaUploadUrlResponseDTO> createUploadSession(QnaUploadSessionRequestDTO requestDTO, String userId) {
+        List<QnaUploadFileRequestDTO> files = requestDTO.getFiles();
+        if (files.size() > maxUploadFiles) {
+            throw new IllegalStateException("첨부파일은 최대 " + maxUploadFiles + "개까지 올릴 수 있습니다.");
+        }
+        String directory = uploadDirectory(userId);
+        List<QnaUploadUrlResponseDTO> uploads = new ArrayList<>();
+        for (QnaUploadFileRequestDTO file : files) {
+            if (file.getSize() > maxUploadBytes) {
+                throw new IllegalStateException("파일 크기는 " + (maxUploadBytes / 1024 / 1024) + "MB를 넘을 수 없습니다: " + file.getFilename());
+            }
+            PresignedUpload presigned = fileStorageService.createPresignedUpload(
+                    directory, file.getFilename(), file.getContentType(), file.getSize());
+            uploads.add(QnaUploadUrlResponseDTO.builder()
+                    .fileKey(presigned.key())
+                    .originalFilename(file.getFilename())
+                    .uploadUrl(presigned.url())
+                    .headers(presigned.headers())
+                    .expiresAt(presigned.expiresAt())
+                    .build());
+        }
+        log.info("Issued {} presigned QnA upload URL(s) for user {}", uploads.size(), userId);
+        return uploads;
+    }
+
+    // 사용자별 업로드 경로 ("qna/{사용자 해시}"). 다른 사용자에게 발급된 키는 확인 단계에서 거절됨
+    private String uploadDirectory(String userId) {
+        String scope = DigestUtils.md5DigestAsHex(userId.getBytes(StandardCharsets.UTF_8)).substring(0, 16);
+        return QNA_FILE_SUBDIRECTORY + "/" + scope;
+    }
+
+    // presigned URL 로 올린 파일 확인: 이 사용자에게 발급한 경로의 키인지, 실제로 올라갔는지(HeadObject),
+    // 허용 크기를 넘지 않는지(서명 조건을 벗어난 업로드 방지), 다른 문의에 이미 첨부되지 않았는지
+    private List<StoredFile> confirmUploadedFiles(List<QnaUploadedFileDTO> uploadedFiles, String userId) {
+        if (uploadedFiles == null || uploadedFiles.isEmpty()) {
+            return List.of();
+        }
+        if (uploadedFiles.size() > maxUploadFiles) {
+            throw new IllegalStateException("첨부파일은 최대 " + maxUploadFiles + "개까지 올릴 수 있습니다.");
+        }
+        String prefix = uploadDirectory(userId) + "/";
+        List<StoredFile> confirmed = new ArrayList<>();
+        for (QnaUploadedFileDTO file : uploadedFiles) {
+            String key = file.getFileKey();
+            if (key == null || !key.startsWith(prefix) || key.indexOf('/', prefix.length()) >= 0) {
+                throw new IllegalStateException("발급되지 않은 업로드 키입니다: " + key);
+            }
+            Long size = fileStorageService.getObjectSize(key);
+            if (size == null) {
+                throw new IllegalStateException("업로드가 완료되지 않은 파일입니다: " + key);
+            }
+            if (size > maxUploadBytes) {
+                throw new IllegalStateException("파일 크기는 " + (maxUploadBytes / 1024 / 1024) + "MB를 넘을 수 없습니다: " + key);
+            }
+            confirmed.add(new StoredFile(key, fileStorageService.getFileUrl(key), file.getOriginalFilename()));
+        }
+        List<String> keys = confirmed.stream().map(StoredFile::key).collect(Collectors.toList());
+        if (keys.stream().distinct().count() < keys.size() || qnaAttachmentRepository.existsByImgSavedFilenameIn(keys)) {
+            throw new IllegalStateException("이미 첨부된 파일입니다.");
+        }
+        return confirmed;
+    }
+
+    private static List<StoredFile> concat(List<StoredFile> first, List<StoredFile> second) {
+        List<StoredFile> all = new ArrayList<>(first);
+        all.addAll(second);
+        return all;
+    }
+
+    private QnaDetailResponseDTO saveNewQna(QnaCreateRequestDTO requestDTO, List<StoredFile> uploadedFiles, String userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + userId));
 
@@ -83,34 +201,10 @@ public class QnaServiceImpl implements QnaService {
                 .attachments(new ArrayList<>()) // NullPointerException 방지
                 .build();
         Qna savedQna = qnaRepository.save(qna);
+        qnaStatusCounter.created(savedQna);
 
-        List<QnaAttachmentResponseDTO> attachmentDTOs = new ArrayList<>();
-        if (files != null && !files.isEmpty()) {
-            // S3에 파일 업로드 및 QnaAttachment 엔티티 생성/저장
-            List<String> uploadedFileUrls = fileStorageService.uploadFiles(files, QNA_FILE_SUBDIRECTORY);
-
-            for (int i = 0; i < files.size(); i++) {
-                MultipartFile file = files.get(i);
-                String fileUrl = uploadedFileUrls.get(i); // uploadFiles가 URL 목록을 순서대로 반환한다고 가정
-
-                QnaAttachment attachment = QnaAttachment.builder()
-                        .qna(savedQna)
-                        .imgFilePath(fileUrl) // S3에서 반환된 전체 URL 저장
-                        .imgOriginalFilename(file.getOriginalFilename())
-                        .imgSavedFilename(extractKeyFromUrl(fileUrl)) // URL에서 Key 부분만 추출하거나, S3 서비스가 Key도 반환하도록 수정
-                        .build();
-                qnaAttachmentRepository.save(attachment);
-                savedQna.getAttachments().add(attachment); // Qna 엔티티의 attachments 리스트에도 추가 (양방향 연관관계 편의상)
-
-                // 응답 DTO용 첨부파일 정보 생성
-                attachmentDTOs.add(QnaAttachmentResponseDTO.builder()
-                        .imgId(attachment.getImgId())
-                        .fileUrl(attachment.getImgFilePath())
-                        .originalFilename(attachment.getImgOriginalFilename())
-                        .createdAt(attachment.getImgCreatedAt())
-                        .build());
-            }
-        }
+        // 첨부파일 행은 배치로 한 번에 저장
+        List<QnaAttachmentResponseDTO> attachmentDTOs = saveAttachments(savedQna, uploadedFiles);
 
         // 생성된 QnA 상세 정보를 DTO로 변환하여 반환
         return QnaDetailResponseDTO.builder()
@@ -126,16 +220,73 @@ public class QnaServiceImpl implements QnaService {
                 .build();
     }
 
+    // 업로드된 파일로 첨부파일 행을 저장하고 응답 DTO 목록을 반환
+    private List<QnaAttachmentResponseDTO> saveAttachments(Qna qna, List<StoredFile> uploadedFiles) {
+        List<QnaAttachment> attachments = uploadedFiles.stream()
+                .map(file -> QnaAttachment.builder()
+                        .imgFilePath(file.url()) // S3 전체 URL 저장
+                        .imgOriginalFilename(file.originalFilename())
+                        .imgSavedFilename(file.key())
+                        .build())
+                .collect(Collectors.toList());
+        qnaAttachmentJdbcRepository.insertAll(qna, attachments);
+
+        return attachments.stream().map(this::toAttachmentDTO).collect(Collectors.toList());
+    }
+
+    private QnaAttachmentResponseDTO toAttachmentDTO(QnaAttachment att) {
+        return QnaAttachmentResponseDTO.builder()
+                .imgId(att.getImgId())
+                .fileUrl(att.getImgFilePath()) // S3 전체 URL
+                .variantUrls(ImageVariants.variantUrls(att.getImgSavedFilename(), att.getImgVariantWidths(), fileStorageService::getFileUrl))
+                .originalFilename(att.getImgOriginalFilename())
+                .createdAt(att.getImgCreatedAt())
+                .build();
+    }
+
+    // 삭제할 첨부파일의 S3 키 (원본 + 만들어진 축소본)
+    private static List<String> fileKeysOf(Collection<QnaAttachment> attachments) {
+        return attachments.stream()
+                .flatMap(att -> ImageVariants.withVariantKeys(att.getImgSavedFilename(), att.getImgVariantWidths()).stream())
+                .collect(Collectors.toList());
+    }
+
+    // 커밋된 첨부 이미지의 축소본 생성 요청. 만들어지면 첨부파일 행에 너비 목록을 기록
+    private void requestImageVariants(List<StoredFile> attachedFiles) {
+        ImageVariantStore store = ImageVariantStore.of(fileStorageService);
+        for (StoredFile file : attachedFiles) {
+            if (ImageVariants.isReadableImage(file.originalFilename()) || ImageVariants.isReadableImage(file.key())) {
+                imageVariantPipeline.submit(store, file.key(),
+                        widths -> qnaAttachmentRepository.updateVariantWidths(file.key(), ImageVariants.formatWidths(widths)));
+            }
+        }
+    }
+
+    // DB 작업을 트랜잭션으로 실행하고, 롤백(또는 커밋 실패)되면 어디에서도 참조되지 않게 된 업로드 파일을 삭제
+    // (직접 업로드 후 확인한 파일은 클라이언트가 다시 시도할 수 있도록 남겨 둠)
+    private <T> T executeOrDiscardUploads(List<StoredFile> uploadedFiles, Supplier<T> work) {
+        try {
+            return transactionTemplate.execute(status -> work.get());
+        } catch (RuntimeException e) {
+            if (!uploadedFiles.isEmpty()) {
+                log.warn("QnA 저장 실패로 업로드한 첨부파일 {}개를 삭제합니다.", uploadedFiles.size());
+                fileDeletionQueue.enqueue(uploadedFiles.stream().map(StoredFile::key).collect(Collectors.toList()));
+            }
+            throw e;
+        }
+    }
+
     // QnaServiceImpl.java 내 getMyQnas 메서드 수정 예시
     @Override
     public Page<QnaSummaryResponseDTO> getMyQnas(String userId, Pageable pageable, String searchTerm,
                                                  String statusFilter, LocalDate startDate, LocalDate endDate) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + userId));
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException("사용자를 찾을 수 없습니다: " + userId);
+        }
 
         Specification<Qna> spec = (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
-            predicates.add(criteriaBuilder.equal(root.get("user"), user));
+            predicates.add(criteriaBuilder.equal(root.get("user").get("userId"), userId));
 
             if (StringUtils.hasText(searchTerm)) {
                 String likePattern = "%" + searchTerm + "%"; // searchTerm 자체를 사용 (DB가 대소문자 구분 안하게 설정되었거나, 구분 감수)
@@ -177,15 +328,16 @@ public class QnaServiceImpl implements QnaService {
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
 
-        Page<Qna> qnaPage = qnaRepository.findAll(spec, pageable);
-
-        return qnaPage.map(qna -> QnaSummaryResponseDTO.builder()
-                .inquiryId(qna.getInquiryId())
-                .inquiryTitle(qna.getInquiryTitle())
-                .authorNickname(qna.getUser().getUserNickName())
-                .inquiryStatus(qna.getInquiryStatus().name())
-                .inquiryCreatedAt(qna.getInquiryCreatedAt())
-                .hasAttachments(qna.getAttachments() != null && !qna.getAttachments().isEmpty())
+        QnaSearchFilter filter = new QnaSearchFilter(userId, parseStatusFilter(statusFilter),
+                startOfDay(startDate), endOfDay(endDate), false, false);
+        // 작성자/첨부파일 여부까지 한 번의 조회로 (행마다 첨부파일 컬렉션을 읽지 않음)
+        return findSummaries(spec, searchTerm, filter, pageable).map(row -> QnaSummaryResponseDTO.builder()
+                .inquiryId(row.inquiryId())
+                .inquiryTitle(row.inquiryTitle())
+                .authorNickname(row.authorNickname())
+                .inquiryStatus(row.inquiryStatus().name())
+                .inquiryCreatedAt(row.inquiryCreatedAt())
+                .hasAttachments(row.hasAttachments())
                 .build());
     }
 
@@ -200,12 +352,7 @@ public class QnaServiceImpl implements QnaService {
         }
 
         List<QnaAttachmentResponseDTO> attachmentDTOs = qna.getAttachments().stream()
-                .map(att -> QnaAttachmentResponseDTO.builder()
-                        .imgId(att.getImgId())
-                        .fileUrl(att.getImgFilePath()) // 이미 전체 URL이 저장되어 있다고 가정
-                        .originalFilename(att.getImgOriginalFilename())
-                        .createdAt(att.getImgCreatedAt())
-                        .build())
+                .map(this::toAttachmentDTO)
                 .collect(Collectors.toList());
 
         QnaReplyResponseDTO replyDTO = null;
@@ -312,17 +459,18 @@ public class QnaServiceImpl implements QnaService {
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
 
-        Page<Qna> qnaPage = qnaRepository.findAll(spec, pageable);
-
-        return qnaPage.map(qna -> AdminQnaSummaryResponseDTO.builder()
-                .inquiryId(qna.getInquiryId())
-                .inquiryTitle(qna.getInquiryTitle())
-                .authorUserId(qna.getUser() != null ? qna.getUser().getUserId() : "N/A")
-                .authorNickname(qna.getUser() != null ? qna.getUser().getUserNickName() : "N/A")
-                .inquiryStatus(qna.getInquiryStatus().name())
-                .inquiryCreatedAt(qna.getInquiryCreatedAt())
-                .reportCount(qna.getReports() != null ? qna.getReports().size() : 0)
-                .hasAttachments(qna.getAttachments() != null && !qna.getAttachments().isEmpty())
+        QnaSearchFilter filter = new QnaSearchFilter(null, parseStatusFilter(statusFilter),
+                startOfDay(startDate), endOfDay(endDate), false, true);
+        // 신고 수/첨부파일 여부는 SQL 서브쿼리로 계산 (행마다 신고/첨부파일 컬렉션을 읽지 않음)
+        return findSummaries(spec, searchTerm, filter, pageable).map(row -> AdminQnaSummaryResponseDTO.builder()
+                .inquiryId(row.inquiryId())
+                .inquiryTitle(row.inquiryTitle())
+                .authorUserId(row.authorUserId() != null ? row.authorUserId() : "N/A")
+                .authorNickname(row.authorNickname() != null ? row.authorNickname() : "N/A")
+                .inquiryStatus(row.inquiryStatus().name())
+                .inquiryCreatedAt(row.inquiryCreatedAt())
+                .reportCount(row.reportCount())
+                .hasAttachments(row.hasAttachments())
                 .build());
     }
 
@@ -351,12 +499,7 @@ public class QnaServiceImpl implements QnaService {
 
         // 3. 첨부파일 DTO 목록 생성
         List<QnaAttachmentResponseDTO> attachmentDTOs = qna.getAttachments().stream()
-                .map(att -> QnaAttachmentResponseDTO.builder()
-                        .imgId(att.getImgId())
-                        .fileUrl(att.getImgFilePath()) // S3 URL
-                        .originalFilename(att.getImgOriginalFilename())
-                        .createdAt(att.getImgCreatedAt())
-                        .build())
+                .map(this::toAttachmentDTO)
                 .collect(Collectors.toList());
 
         // 4. 답변 DTO 생성
@@ -420,6 +563,7 @@ public class QnaServiceImpl implements QnaService {
         QnaReply savedReply = qnaReplyRepository.save(newReply);
 
         // 문의 상태를 'ANSWERED'로 변경
+        qnaStatusCounter.statusChanged(qna, qna.getInquiryStatus(), QnaStatus.ANSWERED);
         qna.setInquiryStatus(QnaStatus.ANSWERED);
         qna.setQnaReply(savedReply); // Qna 엔티티에도 답변 연관관계 설정
         qnaRepository.save(qna); // 변경된 상태 저장
@@ -436,15 +580,25 @@ public class QnaServiceImpl implements QnaService {
     // --- 사용자 문의 수정/삭제 메서드 구현 (새로 추가) ---
 
     @Override
-    @Transactional // 쓰기 작업
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 파일 업로드 동안 DB 트랜잭션(커넥션)을 잡지 않음
     public QnaDetailResponseDTO updateMyQna(Integer qnaId, QnaUpdateRequestDTO requestDTO, List<MultipartFile> newFiles, String userId) throws IOException {
         log.info("User {} updating QnA ID: {}", userId, qnaId);
+        // 수정할 수 없는 문의라면 파일을 올리기 전에 거절
+        transactionTemplate.executeWithoutResult(status -> findUpdatableQna(qnaId, userId));
+
+        List<StoredFile> confirmedFiles = confirmUploadedFiles(requestDTO.getUploadedFiles(), userId);
+        List<StoredFile> uploadedFiles = fileStorageService.uploadAll(newFiles, QNA_FILE_SUBDIRECTORY);
+        List<StoredFile> attachedFiles = concat(confirmedFiles, uploadedFiles);
+        QnaDetailResponseDTO updated = executeOrDiscardUploads(uploadedFiles, () -> applyQnaUpdate(qnaId, requestDTO, attachedFiles, userId));
+        requestImageVariants(attachedFiles);
+        return updated;
+    }
+
+    // 본인 문의이고 아직 답변 전인지 확인 (업로드 전후로 두 번 확인하므로 그 사이 답변이 달려도 수정되지 않음)
+    private Qna findUpdatableQna(Integer qnaId, String userId) {
         Qna qna = qnaRepository.findById(qnaId)
                 .orElseThrow(() -> new EntityNotFoundException("수정할 문의를 찾을 수 없습니다: ID " + qnaId));
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + userId));
-
         // 본인 문의 여부 확인
         if (!qna.getUser().getUserId().equals(userId)) {
             throw new AccessDeniedException("해당 문의를 수정할 권한이 없습니다.");
@@ -456,6 +610,14 @@ public class QnaServiceImpl implements QnaService {
             throw new IllegalStateException("이미 답변이 완료된 문의는 수정할 수 없습니다."); // 400 또는 409 에러로 처리될 수 있음 (GlobalExceptionHandler 설정에 따라)
         }
         // --- 👆 [수정] 답변 완료된 문의는 수정 불가 로직 추가 ---
+        return qna;
+    }
+
+    private QnaDetailResponseDTO applyQnaUpdate(Integer qnaId, QnaUpdateRequestDTO requestDTO, List<StoredFile> uploadedFiles, String userId) {
+        Qna qna = findUpdatableQna(qnaId, userId);
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + userId));
 
         // 문의 제목 및 내용 업데이트
         qna.setInquiryTitle(requestDTO.getInquiryTitle());
@@ -469,49 +631,24 @@ public class QnaServiceImpl implements QnaService {
             for (QnaAttachment attachment : qna.getAttachments()) {
                 if (idsToDelete.contains(attachment.getImgId())) {
                     attachmentsToRemove.add(attachment);
-                    fileStorageService.deleteFile(attachment.getImgFilePath());
                 } else {
                     remainingAttachments.add(attachment);
                 }
             }
             qnaAttachmentRepository.deleteAll(attachmentsToRemove);
             qna.getAttachments().removeAll(attachmentsToRemove);
+            // S3 삭제는 이 트랜잭션이 커밋된 뒤 대기열에서 처리 (롤백되면 파일도 남음)
+            fileDeletionQueue.enqueue(fileKeysOf(attachmentsToRemove));
         } else {
             remainingAttachments.addAll(qna.getAttachments());
         }
 
         List<QnaAttachmentResponseDTO> currentAttachmentDTOs = remainingAttachments.stream()
-                .map(att -> QnaAttachmentResponseDTO.builder()
-                        .imgId(att.getImgId())
-                        .fileUrl(att.getImgFilePath())
-                        .originalFilename(att.getImgOriginalFilename())
-                        .createdAt(att.getImgCreatedAt())
-                        .build())
+                .map(this::toAttachmentDTO)
                 .collect(Collectors.toList());
 
-        if (newFiles != null && !newFiles.isEmpty()) {
-            List<String> uploadedFileUrls = fileStorageService.uploadFiles(newFiles, QNA_FILE_SUBDIRECTORY);
-            for (int i = 0; i < newFiles.size(); i++) {
-                MultipartFile file = newFiles.get(i);
-                String fileUrl = uploadedFileUrls.get(i);
-
-                QnaAttachment newAttachment = QnaAttachment.builder()
-                        .qna(qna)
-                        .imgFilePath(fileUrl)
-                        .imgOriginalFilename(file.getOriginalFilename())
-                        .imgSavedFilename(extractKeyFromUrl(fileUrl))
-                        .build();
-                qnaAttachmentRepository.save(newAttachment);
-                qna.getAttachments().add(newAttachment);
-
-                currentAttachmentDTOs.add(QnaAttachmentResponseDTO.builder()
-                        .imgId(newAttachment.getImgId())
-                        .fileUrl(newAttachment.getImgFilePath())
-                        .originalFilename(newAttachment.getImgOriginalFilename())
-                        .createdAt(newAttachment.getImgCreatedAt())
-                        .build());
-            }
-        }
+        // 새 첨부파일 행은 배치로 한 번에 저장 (Qna.attachments 컬렉션에는 추가하지 않음)
+        currentAttachmentDTOs.addAll(saveAttachments(qna, uploadedFiles));
 
         Qna updatedQna = qnaRepository.save(qna);
 
@@ -551,11 +688,9 @@ public class QnaServiceImpl implements QnaService {
             throw new AccessDeniedException("해당 문의를 삭제할 권한이 없습니다.");
         }
 
-        // 1. S3에서 첨부파일 삭제
+        // 1. S3 첨부파일 삭제 요청 (같은 트랜잭션으로 대기열에 저장, 커밋 후 FileDeletionWorker 가 묶음 삭제)
         if (qna.getAttachments() != null) {
-            for (QnaAttachment attachment : qna.getAttachments()) {
-                fileStorageService.deleteFile(attachment.getImgFilePath()); // 또는 getImgSavedFilename()
-            }
+            fileDeletionQueue.enqueue(fileKeysOf(qna.getAttachments()));
         }
         // Qna 엔티티 삭제 시, QnaAttachment, QnaReply는 CascadeType.ALL 또는 CascadeType.REMOVE 등으로
         // 자동으로 함께 삭제되도록 설정되어 있다면 DB에서는 별도 삭제 호출이 필요 없을 수 있습니다.
@@ -572,6 +707,7 @@ public class QnaServiceImpl implements QnaService {
         // qnaReportRepository.deleteAll(qna.getReports()); // QnaReport도 있다면
 
         qnaRepository.delete(qna); // Qna 삭제 (Cascade 설정에 따라 연관 엔티티도 삭제됨)
+        qnaStatusCounter.deleted(qna);
         log.info("QnA ID: {} deleted successfully by user {}", qnaId, userId);
     }
 
@@ -631,6 +767,7 @@ public class QnaServiceImpl implements QnaService {
         qnaReplyRepository.delete(qnaReply);
 
         // 답변이 삭제되었으므로 원본 문의(Qna)의 상태를 PENDING으로 변경
+        qnaStatusCounter.statusChanged(qna, qna.getInquiryStatus(), QnaStatus.PENDING);
         qna.setInquiryStatus(QnaStatus.PENDING);
         qna.setQnaReply(null); // Qna 엔티티에서 답변 연관관계 제거
         qnaRepository.save(qna);
@@ -719,22 +856,59 @@ public class QnaServiceImpl implements QnaService {
                 predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("inquiryCreatedAt"), LocalDateTime.of(qnaCreationEndDate, LocalTime.MAX)));
             }
 
-            query.distinct(true);
+            // EXISTS 조건이라 행이 중복되지 않으므로 distinct 불필요
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
 
-        Page<Qna> reportedQnaPage = qnaRepository.findAll(spec, pageable);
-
-        return reportedQnaPage.map(qna -> ReportedQnaItemResponseDTO.builder()
-                .id(qna.getInquiryId())
+        QnaSearchFilter filter = new QnaSearchFilter(null, null,
+                startOfDay(qnaCreationStartDate), endOfDay(qnaCreationEndDate), true, true);
+        return findSummaries(spec, searchTerm, filter, pageable).map(row -> ReportedQnaItemResponseDTO.builder()
+                .id(row.inquiryId())
                 .itemType("QNA")
-                .authorId(qna.getUser() != null ? qna.getUser().getUserId() : "N/A")
-                .authorNickname(qna.getUser() != null ? qna.getUser().getUserNickName() : "N/A")
-                .titleOrContentSnippet(qna.getInquiryTitle())
-                .originalPostDate(qna.getInquiryCreatedAt())
-                .reportCount(qna.getReports() != null ? qna.getReports().size() : 0)
+                .authorId(row.authorUserId() != null ? row.authorUserId() : "N/A")
+                .authorNickname(row.authorNickname() != null ? row.authorNickname() : "N/A")
+                .titleOrContentSnippet(row.inquiryTitle())
+                .originalPostDate(row.inquiryCreatedAt())
+                .reportCount(row.reportCount())
                 .build());
     }
 
 
+    /**
+     * 검색어가 있으면 FULLTEXT 인덱스로 관련도 순 조회, 없거나 인덱스로 찾을 수 없는 짧은 검색어면 기존 조건(spec)으로 조회합니다.
+     * 전문 검색 결과는 관련도 순이라 Pageable 의 정렬은 적용되지 않습니다.
+     * 전문 검색 SQL 이 실패하면(db/11 미적용 등) 기존 조건으로 조회합니다. 인덱스가 없을 때의 MySQL 오류(1191)는
+     * BadSqlGrammarException 으로 분류되지 않으므로 재시도해도 소용없는 오류({@link NonTransientDataAccessException}) 전체를 받습니다.
+     */
+    private Page<QnaSummaryRow> findSummaries(Specification<Qna> spec, String searchTerm, QnaSearchFilter filter, Pageable pageable) {
+        if (StringUtils.hasText(searchTerm) && qnaFullTextSearchRepository.supports(searchTerm)) {
+            try {
+                return qnaFullTextSearchRepository.search(searchTerm, filter, pageable);
+            } catch (NonTransientDataAccessException e) {
+                log.warn("QnA 전문 검색 실패, LIKE 검색으로 대신합니다. (db/11 적용 여부 확인): {}", e.getMostSpecificCause().getMessage());
+            }
+        }
+        return qnaSummaryQueryRepository.findSummaries(spec, pageable);
+    }
+
+    // 잘못된 상태 값은 필터 없이 조회 (spec 과 같은 동작)
+    private static QnaStatus parseStatusFilter(String statusFilter) {
+        if (!StringUtils.hasText(statusFilter)) {
+            return null;
+        }
+        try {
+            return QnaStatus.valueOf(statusFilter.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static LocalDateTime startOfDay(LocalDate date) {
+        return date != null ? LocalDateTime.of(date, LocalTime.MIN) : null;
+    }
+
+    private static LocalDateTime endOfDay(LocalDate date) {
+        return date != null ? LocalDateTime.of(date, LocalTime.MAX) : null;
+    }
+
 }
\ No newline at end of file
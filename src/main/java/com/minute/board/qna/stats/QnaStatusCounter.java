@@ -0,0 +1,114 @@
+package com.minute.board.qna.stats;
+
+import com.minute.board.qna.entity.Qna;
+import com.minute.board.qna.entity.QnaStatus;
+import com.minute.board.qna.entity.QnaStatusCount;
+import com.minute.board.qna.entity.QnaStatusTotal;
+import com.minute.board.qna.repository.QnaStatusCountRepository;
+import com.minute.board.qna.repository.QnaStatusTotalRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 문의 수를 상태별(inquiry_status_totals)·작성일별(inquiry_status_counts)로 미리 집계해 둡니다. (db/12)
+ *
+ * <p>문의 작성/답변 등록·삭제/문의 삭제가 문의를 바꾸는 트랜잭션 안에서 호출해야 하며({@code MANDATORY}),
+ * 대시보드는 inquiries 를 COUNT 하지 않고 상태 수만큼의 행만 읽습니다.
+ * 여러 요청이 같은 행을 갱신하므로 작성일별 → 전체 순, 같은 표 안에서는 상태 순서대로 갱신해 데드락을 피합니다.
+ *
+ * <p>수동 DB 작업이나 회원 탈퇴(FK 연쇄 삭제) 등으로 어긋난 값은 {@code QnaStatusCountScheduler} 가 다시 집계합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QnaStatusCounter {
+
+    private final QnaStatusCountRepository qnaStatusCountRepository;
+    private final QnaStatusTotalRepository qnaStatusTotalRepository;
+
+    /** 새 문의 저장 후 호출 */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void created(Qna qna) {
+        adjust(countDateOf(qna), qna.getInquiryStatus(), 1);
+    }
+
+    /** 문의 상태 변경 시 호출 (같은 상태면 아무것도 하지 않음) */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void statusChanged(Qna qna, QnaStatus from, QnaStatus to) {
+        if (from == to) {
+            return;
+        }
+        LocalDate countDate = countDateOf(qna);
+        QnaStatus first = from.compareTo(to) < 0 ? from : to;
+        QnaStatus second = first == from ? to : from;
+        long firstDelta = first == from ? -1 : 1;
+        qnaStatusCountRepository.adjust(countDate, first.name(), firstDelta);
+        qnaStatusCountRepository.adjust(countDate, second.name(), -firstDelta);
+        qnaStatusTotalRepository.adjust(first.name(), firstDelta);
+        qnaStatusTotalRepository.adjust(second.name(), -firstDelta);
+    }
+
+    /** 문의 삭제 시 호출 */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void deleted(Qna qna) {
+        adjust(countDateOf(qna), qna.getInquiryStatus(), -1);
+    }
+
+    /** 상태별 전체 문의 수 (모든 상태 포함, 없으면 0) */
+    @Transactional(readOnly = true)
+    public Map<QnaStatus, Long> totals() {
+        Map<QnaStatus, Long> totals = emptyCounts();
+        for (QnaStatusTotal total : qnaStatusTotalRepository.findAll()) {
+            totals.put(total.getInquiryStatus(), total.getInquiryCount());
+        }
+        return totals;
+    }
+
+    /** 전체 문의 수 */
+    public long total() {
+        return totals().values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /** 작성일 구간(양 끝 포함)의 날짜별·상태별 문의 수. 문의가 없는 날은 빠집니다. */
+    @Transactional(readOnly = true)
+    public Map<LocalDate, Map<QnaStatus, Long>> daily(LocalDate from, LocalDate to) {
+        Map<LocalDate, Map<QnaStatus, Long>> daily = new TreeMap<>();
+        for (QnaStatusCount count : qnaStatusCountRepository.findByCountDateBetweenOrderByCountDate(from, to)) {
+            daily.computeIfAbsent(count.getCountDate(), date -> emptyCounts())
+                    .put(count.getInquiryStatus(), count.getInquiryCount());
+        }
+        return daily;
+    }
+
+    /** inquiries 에서 두 집계 표를 다시 채웁니다. (한 트랜잭션, 정리 작업용) */
+    @Transactional
+    public void rebuild() {
+        qnaStatusCountRepository.deleteAllRows();
+        qnaStatusCountRepository.rebuildFromInquiries();
+        qnaStatusTotalRepository.deleteAllRows();
+        qnaStatusTotalRepository.rebuildFromInquiries();
+    }
+
+    private void adjust(LocalDate countDate, QnaStatus status, long delta) {
+        qnaStatusCountRepository.adjust(countDate, status.name(), delta);
+        qnaStatusTotalRepository.adjust(status.name(), delta);
+    }
+
+    private static LocalDate countDateOf(Qna qna) {
+        return qna.getInquiryCreatedAt() != null ? qna.getInquiryCreatedAt().toLocalDate() : LocalDate.now();
+    }
+
+    private static Map<QnaStatus, Long> emptyCounts() {
+        Map<QnaStatus, Long> counts = new EnumMap<>(QnaStatus.class);
+        for (QnaStatus status : QnaStatus.values()) {
+            counts.put(status, 0L);
+        }
+        return counts;
+    }
+}
@@ -1,10 +1,7 @@
 package com.minute.calendar.controller;
 
 import com.minute.calendar.dto.response.CalendarResponseDTO;
-import com.minute.plan.dto.response.PlanResponseDTO;
-import com.minute.plan.service.PlanService;
-import com.minute.checklist.dto.response.ChecklistResponseDTO;
-import com.minute.checklist.service.ChecklistService;
+import com.minute.calendar.service.CalendarService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -13,15 +10,14 @@ import org.springframework.web.bind.annotation.*;
 
 import java.security.Principal;
 import java.time.LocalDate;
-import java.util.List;
+import java.util.Map;
 
 @Tag(name = "Calendar", description = "캘린더 통합 조회 API")
 @RestController
 @RequestMapping("/api/v1/calendar")
 @RequiredArgsConstructor
 public class CalendarController {
-    private final PlanService planService;
-    private final ChecklistService checklistService;
+    private final CalendarService calendarService;
 
     @Operation(summary = "특정 날짜의 Plan + Checklist 동시에 조회")
     @GetMapping("/details")
@@ -31,9 +27,17 @@ public class CalendarController {
             LocalDate date) {
         String userId = principal.getName();
 
-        List<PlanResponseDTO> plans = planService.getPlansByUserAndDate(userId, date);
-        List<ChecklistResponseDTO> checklists = checklistService.getChecklistsForCalendar(userId, date);
+        return calendarService.getDetails(userId, date);
+    }
+
+    @Operation(summary = "일주일치 Plan + Checklist 조회", description = "startDate 부터 7일간의 일정과 체크리스트를 날짜별로 조회합니다.")
+    @GetMapping("/details/week")
+    public Map<LocalDate, CalendarResponseDTO> getWeekDetails(
+            Principal principal,
+            @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate startDate) {
+        String userId = principal.getName();
 
-        return new CalendarResponseDTO(plans, checklists);
+        return calendarService.getDetailsBetween(userId, startDate, startDate.plusDays(6));
     }
 }
@@ -0,0 +1,15 @@
+package com.minute.calendar.repository;
+
+import java.time.LocalDate;
+
+/**
+ * 캘린더 dot 한 건. 같은 날짜에 일정과 체크리스트가 모두 있으면 kind 별로 한 행씩 나옵니다.
+ *
+ * @param date 여행 날짜
+ * @param kind {@link #PLAN} 또는 {@link #CHECKLIST}
+ */
+public record CalendarDotRow(LocalDate date, String kind) {
+
+    public static final String PLAN = "plan";
+    public static final String CHECKLIST = "checklist";
+}
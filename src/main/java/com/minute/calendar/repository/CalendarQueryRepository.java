@@ -0,0 +1,60 @@
+package com.minute.calendar.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 일정(plan)과 체크리스트(checklist)를 함께 읽는 캘린더 조회.
+ * 두 표를 따로 조회해 합치지 않고 한 번의 쿼리로 가져옵니다. (user_id, travel_date 조건)
+ */
+@Repository
+@RequiredArgsConstructor
+public class CalendarQueryRepository {
+
+    private static final String DOTS_SQL =
+            "SELECT travel_date, '" + CalendarDotRow.PLAN + "' AS kind FROM plan " +
+            "WHERE user_id = :userId AND travel_date BETWEEN :startDate AND :endDate " +
+            "UNION " +
+            "SELECT travel_date, '" + CalendarDotRow.CHECKLIST + "' AS kind FROM checklist " +
+            "WHERE user_id = :userId AND travel_date BETWEEN :startDate AND :endDate " +
+            "ORDER BY travel_date, kind";
+
+    private static final String VERSION_SQL =
+            "SELECT " +
+            "(SELECT COUNT(*) FROM plan WHERE user_id = :userId AND travel_date BETWEEN :startDate AND :endDate) AS plan_count, " +
+            "(SELECT MAX(updated_at) FROM plan WHERE user_id = :userId AND travel_date BETWEEN :startDate AND :endDate) AS plan_updated_at, " +
+            "(SELECT COUNT(*) FROM checklist WHERE user_id = :userId AND travel_date BETWEEN :startDate AND :endDate) AS checklist_count, " +
+            "(SELECT MAX(updated_at) FROM checklist WHERE user_id = :userId AND travel_date BETWEEN :startDate AND :endDate) AS checklist_updated_at";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /** 구간(양 끝 포함) 안에서 일정/체크리스트가 있는 (날짜, 종류) 목록. 날짜 오름차순, 중복 없음 */
+    public List<CalendarDotRow> findDots(String userId, LocalDate startDate, LocalDate endDate) {
+        return jdbcTemplate.query(DOTS_SQL, params(userId, startDate, endDate),
+                (rs, rowNum) -> new CalendarDotRow(rs.getDate("travel_date").toLocalDate(), rs.getString("kind")));
+    }
+
+    /** 구간(양 끝 포함) 안 일정/체크리스트의 수와 마지막 수정 시각 */
+    public CalendarVersion findVersion(String userId, LocalDate startDate, LocalDate endDate) {
+        return jdbcTemplate.queryForObject(VERSION_SQL, params(userId, startDate, endDate), (rs, rowNum) -> {
+            Timestamp planUpdatedAt = rs.getTimestamp("plan_updated_at");
+            Timestamp checklistUpdatedAt = rs.getTimestamp("checklist_updated_at");
+            Timestamp latest = planUpdatedAt == null ? checklistUpdatedAt
+                    : checklistUpdatedAt == null || planUpdatedAt.after(checklistUpdatedAt) ? planUpdatedAt : checklistUpdatedAt;
+            return new CalendarVersion(rs.getLong("plan_count"), rs.getLong("checklist_count"),
+                    latest == null ? null : latest.toLocalDateTime());
+        });
+    }
+
+    private static MapSqlParameterSource params(String userId, LocalDate startDate, LocalDate endDate) {
+        return new MapSqlParameterSource("userId", userId)
+                .addValue("startDate", startDate)
+                .addValue("endDate", endDate);
+    }
+}
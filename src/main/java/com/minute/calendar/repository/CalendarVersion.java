@@ -0,0 +1,24 @@
+package com.minute.calendar.repository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 날짜 구간 안의 일정/체크리스트 상태 요약. 캘린더 응답의 ETag/Last-Modified 로 사용합니다.
+ * 수정은 updated_at 최댓값으로, 삭제는 행 수로 드러나므로 둘 중 하나라도 바뀌면 ETag 가 달라집니다.
+ *
+ * @param planCount      구간 안 일정 수
+ * @param checklistCount 구간 안 체크리스트 수
+ * @param lastModified   구간 안 일정/체크리스트의 마지막 수정 시각 (없으면 null)
+ */
+public record CalendarVersion(long planCount, long checklistCount, LocalDateTime lastModified) {
+
+    public String etag() {
+        return Long.toHexString(planCount) + "-" + Long.toHexString(checklistCount) + "-" + Long.toHexString(lastModifiedMillis());
+    }
+
+    /** 마지막 수정 시각(epoch ms), 없으면 -1 */
+    public long lastModifiedMillis() {
+        return lastModified == null ? -1 : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,56 @@
+package com.minute.calendar.service;
+
+import com.minute.calendar.dto.response.CalendarResponseDTO;
+import com.minute.checklist.dto.response.ChecklistResponseDTO;
+import com.minute.checklist.entity.Checklist;
+import com.minute.checklist.repository.ChecklistRepository;
+import com.minute.plan.dto.response.PlanResponseDTO;
+import com.minute.plan.entity.Plan;
+import com.minute.plan.repository.PlanRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 캘린더 상세(일정 + 체크리스트) 조회.
+ *
+ * <p>날짜 수와 관계없이 일정 구간 조회 1번, 체크리스트 구간 조회 1번(연결된 일정 fetch join)으로 끝나며,
+ * 결과를 날짜별 {@link CalendarResponseDTO} 로 나눕니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CalendarService {
+
+    private final PlanRepository planRepository;
+    private final ChecklistRepository checklistRepository;
+
+    /** 특정 날짜의 일정과 체크리스트 */
+    @Transactional(readOnly = true)
+    public CalendarResponseDTO getDetails(String userId, LocalDate date) {
+        return getDetailsBetween(userId, date, date).get(date);
+    }
+
+    /**
+     * 구간(양 끝 포함)의 날짜별 일정과 체크리스트. 항목이 없는 날도 빈 목록으로 포함합니다.
+     * @return 날짜 오름차순
+     */
+    @Transactional(readOnly = true)
+    public Map<LocalDate, CalendarResponseDTO> getDetailsBetween(String userId, LocalDate startDate, LocalDate endDate) {
+        Map<LocalDate, CalendarResponseDTO> days = new LinkedHashMap<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            days.put(date, new CalendarResponseDTO(new ArrayList<>(), new ArrayList<>()));
+        }
+        for (Plan plan : planRepository.findAllByUserAndTravelDateBetween(userId, startDate, endDate)) {
+            days.get(plan.getTravelDate()).getPlans().add(PlanResponseDTO.fromEntity(plan));
+        }
+        for (Checklist checklist : checklistRepository.findAllWithPlanByUserAndTravelDateBetween(userId, startDate, endDate)) {
+            days.get(checklist.getTravelDate()).getChecklists().add(ChecklistResponseDTO.fromEntity(checklist));
+        }
+        return days;
+    }
+}
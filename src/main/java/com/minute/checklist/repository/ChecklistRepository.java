@@ -19,4 +19,12 @@ public interface ChecklistRepository extends JpaRepository<Checklist, Integer> {
     // 날짜별 전체 조회
     List<Checklist> findAllByUser_UserIdAndTravelDate(String userId, LocalDate travelDate);
 
+    // 캘린더 상세 (날짜 구간) 조회: 연결된 일정을 함께 읽어 항목마다 plan 을 따로 조회하지 않음
+    @Query("SELECT c FROM Checklist c LEFT JOIN FETCH c.plan " +
+            "WHERE c.user.userId = :userId AND c.travelDate BETWEEN :startDate AND :endDate " +
+            "ORDER BY c.travelDate, c.checklistId")
+    List<Checklist> findAllWithPlanByUserAndTravelDateBetween(@Param("userId") String userId,
+                                                             @Param("startDate") LocalDate startDate,
+                                                             @Param("endDate") LocalDate endDate);
+
 }
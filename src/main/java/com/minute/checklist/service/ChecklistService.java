@@ -5,6 +5,7 @@ import com.minute.checklist.dto.response.ChecklistResponseDTO;
 import com.minute.checklist.entity.Checklist;
 import com.minute.plan.entity.Plan;
 import com.minute.plan.repository.PlanRepository;
+import com.minute.user.cache.UserSnapshotCache;
 import com.minute.user.entity.User;
 import com.minute.checklist.repository.ChecklistRepository;
 import com.minute.user.repository.UserRepository;
@@ -23,6 +24,7 @@ public class ChecklistService {
     private final ChecklistRepository checklistRepository;
     private final PlanRepository planRepository;
     private final UserRepository userRepository;
+    private final UserSnapshotCache userSnapshotCache;
 
     // 한 달치 dot 데이터
     @Transactional(readOnly = true)
@@ -49,8 +51,10 @@ public class ChecklistService {
     /** 체크리스트 항목 생성 */
     @Transactional
     public ChecklistResponseDTO create(String userId, ChecklistRequestDTO dto) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자: " + userId));
+        if (userSnapshotCache.find(userId).isEmpty()) {
+            throw new IllegalArgumentException("존재하지 않는 사용자: " + userId);
+        }
+        User user = userRepository.getReferenceById(userId);
 
         // 빌더 준비
         Checklist.ChecklistBuilder builder = Checklist.builder()
@@ -0,0 +1,151 @@
+package com.minute.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 만료 처리용 해시 타이밍 휠입니다.
+ *
+ * <p>항목마다 예약 작업을 만들지 않고, 고정된 칸(bucket) 배열을 한 칸씩(tick) 도는 스레드 하나가
+ * 해당 칸에 들어 있는 만료 작업을 실행합니다. 예약/취소는 O(1)이고 만료 시각의 정밀도는 tick 간격입니다.
+ *
+ * <p>칸 배열은 작업 스레드만 다루고, 다른 스레드의 예약은 대기 큐를 거쳐 다음 tick 에 칸으로 옮겨집니다.
+ * 취소된 작업은 표시만 해 두었다가 해당 칸을 지날 때 제거합니다.
+ */
+@Slf4j
+public final class HashedTimingWheel implements AutoCloseable {
+
+    private final long tickNanos;
+    private final Queue<Timeout>[] buckets;
+    private final int mask;
+    private final Queue<Timeout> pendingAdds = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Thread worker;
+    private final long startNanos;
+    private volatile boolean running = true;
+    private long tick; // 작업 스레드 전용
+
+    /**
+     * @param tickMillis tick 간격 (만료 시각 정밀도)
+     * @param wheelSize  칸 수. 2의 거듭제곱으로 올림합니다. (tick × 칸 수 보다 긴 만료는 여러 바퀴를 돕니다)
+     */
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(String name, long tickMillis, int wheelSize) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis 는 0보다 커야 합니다: " + tickMillis);
+        }
+        int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.buckets = new Queue[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        this.mask = size - 1;
+        this.startNanos = System.nanoTime();
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /** {@code delayMillis} 뒤에 {@code task} 를 작업 스레드에서 실행합니다. 작업은 짧게 끝나야 합니다. */
+    public Timeout schedule(Runnable task, long delayMillis) {
+        long deadline = System.nanoTime() - startNanos + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayMillis));
+        Timeout timeout = new Timeout(task, deadline);
+        pending.incrementAndGet();
+        pendingAdds.add(timeout);
+        return timeout;
+    }
+
+    /** 실행/취소되지 않은 예약 수 */
+    public int pending() {
+        return pending.get();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            long nextTickAt = (tick + 1) * tickNanos;
+            long sleepNanos = nextTickAt - (System.nanoTime() - startNanos);
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        return;
+                    }
+                    continue;
+                }
+            }
+            transferPendingAdds();
+            expire(buckets[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    private void transferPendingAdds() {
+        Timeout timeout;
+        while ((timeout = pendingAdds.poll()) != null) {
+            if (timeout.cancelled) {
+                pending.decrementAndGet();
+                continue;
+            }
+            // 이미 지난 시각이면 현재 칸에 넣어 이번 tick 에 실행
+            long targetTick = Math.max(tick, timeout.deadlineNanos / tickNanos);
+            timeout.remainingRounds = (targetTick - tick) / buckets.length;
+            buckets[(int) (targetTick & mask)].add(timeout);
+        }
+    }
+
+    private void expire(Queue<Timeout> bucket) {
+        Iterator<Timeout> it = bucket.iterator();
+        while (it.hasNext()) {
+            Timeout timeout = it.next();
+            if (timeout.cancelled) {
+                it.remove();
+                pending.decrementAndGet();
+            } else if (timeout.remainingRounds <= 0) {
+                it.remove();
+                pending.decrementAndGet();
+                try {
+                    timeout.task.run();
+                } catch (RuntimeException e) {
+                    log.warn("[HashedTimingWheel] 만료 작업 실행 실패", e);
+                }
+            } else {
+                timeout.remainingRounds--;
+            }
+        }
+    }
+
+    public static final class Timeout {
+        private final Runnable task;
+        private final long deadlineNanos;
+        private volatile boolean cancelled;
+        private long remainingRounds; // 작업 스레드 전용
+
+        private Timeout(Runnable task, long deadlineNanos) {
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        /** 아직 실행되지 않았다면 실행하지 않도록 표시합니다. */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.minute.common.cache;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 키별로 최근 {@code window} 동안 허용된 횟수를 {@code limit} 이하로 제한하는 슬라이딩 윈도우 제한기입니다.
+ *
+ * <p>키마다 허용된 시각을 최대 {@code limit} 개까지만 기록(sliding log)하므로 경계 시점에 두 배가 몰리는
+ * 고정 윈도우의 문제가 없고, 키당 메모리도 limit 개의 long 으로 제한됩니다.
+ * 오래 사용되지 않은 키는 {@link #sweep(long)}으로 정리합니다.
+ */
+public final class SlidingWindowRateLimiter {
+
+    private final int limit;
+    private final long windowMillis;
+    private final ConcurrentMap<String, Deque<Long>> logs = new ConcurrentHashMap<>();
+
+    public SlidingWindowRateLimiter(int limit, long windowMillis) {
+        if (limit <= 0 || windowMillis <= 0) {
+            throw new IllegalArgumentException("limit/windowMillis 는 0보다 커야 합니다.");
+        }
+        this.limit = limit;
+        this.windowMillis = windowMillis;
+    }
+
+    /**
+     * 한 번 사용을 시도합니다.
+     *
+     * @return 허용되면 0, 아니면 다시 시도할 수 있을 때까지 남은 밀리초
+     */
+    public long tryAcquire(String key, long nowMillis) {
+        while (true) {
+            Deque<Long> log = logs.computeIfAbsent(key, k -> new ArrayDeque<>(Math.min(limit, 16)));
+            synchronized (log) {
+                if (logs.get(key) != log) {
+                    continue; // sweep 으로 방금 제거된 기록 → 새 기록으로 다시 시도
+                }
+                evictOlderThan(log, nowMillis - windowMillis);
+                if (log.size() >= limit) {
+                    return Math.max(1, log.peekFirst() + windowMillis - nowMillis);
+                }
+                log.addLast(nowMillis);
+                return 0;
+            }
+        }
+    }
+
+    /** 창 밖으로 벗어난 기록만 남은 키를 제거합니다. */
+    public void sweep(long nowMillis) {
+        long threshold = nowMillis - windowMillis;
+        logs.forEach((key, log) -> {
+            synchronized (log) {
+                evictOlderThan(log, threshold);
+                if (log.isEmpty()) {
+                    logs.remove(key, log);
+                }
+            }
+        });
+    }
+
+    /** 추적 중인 키 수 */
+    public int size() {
+        return logs.size();
+    }
+
+    private static void evictOlderThan(Deque<Long> log, long threshold) {
+        while (!log.isEmpty() && log.peekFirst() <= threshold) {
+            log.pollFirst();
+        }
+    }
+}
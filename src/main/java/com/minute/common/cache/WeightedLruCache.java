@@ -0,0 +1,207 @@
+package com.minute.common.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToIntBiFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * 항목별 "무게(대략적인 바이트 수)"의 합이 상한을 넘지 않도록 유지하는 LRU 캐시입니다.
+ * 상한을 넘으면 가장 오래 사용되지 않은 항목부터 제거합니다.
+ *
+ * <p>외부 라이브러리 없이 LinkedHashMap(access-order)을 하나의 락으로 보호하는 단순한 구조입니다.
+ * 로더(loader)는 락 밖에서 실행되므로 DB 조회가 다른 조회를 막지 않습니다.
+ * 대신 로딩 중에 무효화(invalidate)가 있었으면 읽어온 값을 저장하지 않습니다. (변경 커밋 전에 읽은 값이 무효화 뒤에 다시 들어가지 않도록)
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class WeightedLruCache<K, V> {
+
+    private final long maxWeight;
+    private final ToIntBiFunction<K, V> weigher;
+    private final LinkedHashMap<K, Node<V>> map = new LinkedHashMap<>(64, 0.75f, true);
+
+    private long totalWeight;
+    private long invalidations; // 무효화 횟수. 로딩 시작 후 바뀌었으면 로딩한 값을 저장하지 않음
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * @param maxWeight 허용하는 무게 합계의 상한 (대략적인 바이트 수)
+     * @param weigher   키/값의 무게를 계산하는 함수
+     */
+    public WeightedLruCache(long maxWeight, ToIntBiFunction<K, V> weigher) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("maxWeight must be positive: " + maxWeight);
+        }
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    public synchronized V getIfPresent(K key) {
+        Node<V> node = map.get(key);
+        if (node == null) {
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        return node.value;
+    }
+
+    /**
+     * 캐시에 값이 없으면 loader로 읽어와 저장한 뒤 반환합니다.
+     * loader가 null을 반환하거나 예외를 던지면 아무것도 저장하지 않습니다.
+     * 로딩 중에 무효화가 있었으면 읽어온 값을 반환만 하고 저장하지 않습니다.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        long version;
+        synchronized (this) {
+            Node<V> node = map.get(key);
+            if (node != null) {
+                hitCount++;
+                return node.value;
+            }
+            missCount++;
+            version = invalidations;
+        }
+        V loaded = loader.apply(key);
+        if (loaded == null) {
+            return null;
+        }
+        synchronized (this) {
+            if (invalidations != version) {
+                return loaded;
+            }
+            // 로딩 중 다른 스레드가 먼저 넣었다면 그 값을 그대로 사용합니다.
+            Node<V> existing = map.get(key);
+            if (existing != null) {
+                return existing.value;
+            }
+            putInternal(key, loaded);
+            return loaded;
+        }
+    }
+
+    public synchronized void put(K key, V value) {
+        putInternal(key, value);
+    }
+
+    /**
+     * 현재 무효화 버전. 캐시 밖에서 값을 나눠 읽어 {@link #mergeIfNotInvalidated}로 합칠 때, 읽기 전에 받아 둡니다.
+     */
+    public synchronized long version() {
+        return invalidations;
+    }
+
+    /**
+     * version 을 받은 뒤 무효화가 없었을 때만 remapping 결과를 저장합니다.
+     * remapping 에는 현재 값(없으면 null)이 넘어가며, 락 안에서 실행되므로 DB 조회 없이 합치기만 해야 합니다.
+     *
+     * @return 저장한 값. 그 사이 무효화가 있었거나 remapping 이 null 을 반환하면 null (저장하지 않음)
+     */
+    public synchronized V mergeIfNotInvalidated(K key, long version, Function<? super V, ? extends V> remapping) {
+        if (invalidations != version) {
+            return null;
+        }
+        Node<V> node = map.get(key);
+        V merged = remapping.apply(node == null ? null : node.value);
+        if (merged != null) {
+            putInternal(key, merged);
+        }
+        return merged;
+    }
+
+    /**
+     * 값이 캐시에 있을 때만 갱신합니다. (없는 항목을 새로 만들지 않음)
+     * 함수가 null을 반환하면 해당 항목을 제거합니다.
+     * 항목이 없을 때도 무효화로 취급해, 그 사이 진행 중이던 로딩이 변경 전 값을 저장하지 않도록 합니다.
+     */
+    public synchronized void computeIfPresent(K key, UnaryOperator<V> remapping) {
+        Node<V> node = map.get(key);
+        if (node == null) {
+            invalidations++;
+            return;
+        }
+        V updated = remapping.apply(node.value);
+        if (updated == null) {
+            invalidate(key);
+        } else if (updated != node.value) {
+            putInternal(key, updated);
+        } else {
+            // 같은 객체의 내부 상태가 바뀐 경우에도 무게를 다시 계산합니다.
+            int newWeight = weigher.applyAsInt(key, updated);
+            totalWeight += newWeight - node.weight;
+            node.weight = newWeight;
+            evictIfNeeded();
+        }
+    }
+
+    public synchronized void invalidate(K key) {
+        invalidations++;
+        Node<V> removed = map.remove(key);
+        if (removed != null) {
+            totalWeight -= removed.weight;
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        invalidations++;
+        map.clear();
+        totalWeight = 0;
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+
+    public synchronized long weight() {
+        return totalWeight;
+    }
+
+    public synchronized long hitCount() {
+        return hitCount;
+    }
+
+    public synchronized long missCount() {
+        return missCount;
+    }
+
+    public synchronized long evictionCount() {
+        return evictionCount;
+    }
+
+    private void putInternal(K key, V value) {
+        int weight = weigher.applyAsInt(key, value);
+        Node<V> previous = map.put(key, new Node<>(value, weight));
+        if (previous != null) {
+            totalWeight -= previous.weight;
+        }
+        totalWeight += weight;
+        evictIfNeeded();
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<K, Node<V>>> it = map.entrySet().iterator();
+        // 방금 넣은 항목 하나만 남았다면 상한보다 크더라도 유지합니다.
+        while (totalWeight > maxWeight && map.size() > 1 && it.hasNext()) {
+            Map.Entry<K, Node<V>> eldest = it.next();
+            totalWeight -= eldest.getValue().weight;
+            it.remove();
+            evictionCount++;
+        }
+    }
+
+    private static final class Node<V> {
+        private final V value;
+        private int weight;
+
+        private Node(V value, int weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
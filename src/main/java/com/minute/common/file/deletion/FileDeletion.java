@@ -0,0 +1,57 @@
+package com.minute.common.file.deletion;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제할 스토리지 객체 한 개. 삭제에 성공하면 행도 지웁니다.
+ * 작업 서버가 가져간 행은 {@code nextAttemptAt} 을 임대 만료 시각으로 미뤄 두므로,
+ * 서버가 삭제 도중 종료되어도 임대가 끝나면 다시 삭제 대상이 됩니다. (S3 삭제는 여러 번 해도 결과가 같음)
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "file_deletion_queue",
+        indexes = {
+                @Index(name = "idx_fdq_status_next", columnList = "status, next_attempt_at")
+        }
+)
+public class FileDeletion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "deletion_id")
+    private Long deletionId;
+
+    @Column(name = "object_key", nullable = false, length = 512)
+    private String objectKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 10)
+    private FileDeletionStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /** 작업 서버가 가져감: 시도 횟수를 올리고 임대 만료 시각까지 다른 서버가 가져가지 않게 합니다. */
+    public void claim(LocalDateTime leaseUntil) {
+        this.attempts++;
+        this.nextAttemptAt = leaseUntil;
+    }
+}
@@ -0,0 +1,5 @@
+package com.minute.common.file.deletion;
+
+/** 삭제할 파일이 대기열에 추가됨. 커밋 이후 작업 스레드를 깨워 다음 폴링 주기를 기다리지 않게 합니다. */
+public record FileDeletionEnqueuedEvent(int count) {
+}
@@ -0,0 +1,48 @@
+package com.minute.common.file.deletion;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 스토리지 객체 삭제 요청을 {@code file_deletion_queue} 에 저장합니다.
+ *
+ * <p>호출한 쪽의 트랜잭션에 함께 묶이므로, 첨부파일 행 삭제가 롤백되면 파일 삭제 요청도 함께 취소됩니다.
+ * 실제 삭제는 커밋 이후 {@link FileDeletionWorker}가 DeleteObjects 묶음으로 처리합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class FileDeletionQueue {
+
+    private final FileDeletionRepository fileDeletionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 객체 키 목록을 삭제 대기열에 추가합니다. (null/빈 키는 무시) */
+    @Transactional
+    public void enqueue(Collection<String> objectKeys) {
+        if (objectKeys == null || objectKeys.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<FileDeletion> deletions = objectKeys.stream()
+                .filter(key -> key != null && !key.isBlank())
+                .distinct()
+                .map(key -> FileDeletion.builder()
+                        .objectKey(key)
+                        .status(FileDeletionStatus.PENDING)
+                        .attempts(0)
+                        .nextAttemptAt(now)
+                        .build())
+                .toList();
+        if (deletions.isEmpty()) {
+            return;
+        }
+        fileDeletionRepository.saveAll(deletions);
+        eventPublisher.publishEvent(new FileDeletionEnqueuedEvent(deletions.size()));
+    }
+}
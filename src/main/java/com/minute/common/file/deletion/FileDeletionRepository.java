@@ -0,0 +1,47 @@
+package com.minute.common.file.deletion;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface FileDeletionRepository extends JpaRepository<FileDeletion, Long> {
+
+    /**
+     * 삭제할 차례가 된 항목을 행 락을 잡고 조회합니다.
+     * 다른 서버가 잡고 있는 행은 기다리지 않고 건너뜁니다. (lock.timeout -2 → MySQL 8 SKIP LOCKED)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT d FROM FileDeletion d WHERE d.status = com.minute.common.file.deletion.FileDeletionStatus.PENDING " +
+            "AND d.nextAttemptAt <= :now ORDER BY d.nextAttemptAt")
+    List<FileDeletion> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM FileDeletion d WHERE d.deletionId IN :deletionIds")
+    int deleteDone(@Param("deletionIds") Collection<Long> deletionIds);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE FileDeletion d SET d.status = :status, d.nextAttemptAt = :nextAttemptAt, d.lastError = :error " +
+            "WHERE d.deletionId = :deletionId")
+    int markFailedAttempt(@Param("deletionId") Long deletionId,
+                          @Param("status") FileDeletionStatus status,
+                          @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                          @Param("error") String error);
+
+    long countByStatus(FileDeletionStatus status);
+}
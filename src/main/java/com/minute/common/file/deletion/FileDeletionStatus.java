@@ -0,0 +1,6 @@
+package com.minute.common.file.deletion;
+
+public enum FileDeletionStatus {
+    PENDING, // 삭제 대기 (재시도 포함)
+    FAILED   // 최대 시도 횟수 초과
+}
@@ -0,0 +1,203 @@
+package com.minute.common.file.deletion;
+
+import com.minute.common.file.service.FileStorageService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@code file_deletion_queue} 의 대기 항목을 백그라운드에서 삭제합니다.
+ *
+ * <ul>
+ *     <li>새 항목이 커밋되면 바로 깨어나고, 그 외에는 {@code file.deletion.poll-interval-ms} 마다 확인합니다.</li>
+ *     <li>한 번에 최대 {@code file.deletion.batch-size}(S3 DeleteObjects 한도 1000)개를 가져와 한 번의 요청으로 삭제합니다.</li>
+ *     <li>실패한 키는 지수 백오프(기본 10초, 20초 ... 최대 1시간)로 다시 시도하고,
+ *         {@code file.deletion.max-attempts} 를 넘으면 FAILED 로 남깁니다.</li>
+ *     <li>여러 서버가 동시에 실행해도 SKIP LOCKED 조회와 임대 시각으로 같은 항목을 중복으로 가져가지 않습니다.</li>
+ * </ul>
+ *
+ * <p>지표: file.deletion.deleted/retried/failed, file.deletion.pending(대기 건수)
+ */
+@Slf4j
+@Component
+public class FileDeletionWorker implements DisposableBean {
+
+    private static final int MAX_KEYS_PER_REQUEST = 1000;
+
+    private final FileDeletionRepository fileDeletionRepository;
+    private final FileStorageService fileStorageService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+
+    private final ThreadPoolExecutor wakeUps;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean rerun = new AtomicBoolean(); // 삭제 중에 새 항목이 들어옴 → 끝난 뒤 한 번 더 확인
+
+    private final Counter deleted;
+    private final Counter retried;
+    private final Counter failed;
+    private final AtomicLong pending = new AtomicLong();
+
+    public FileDeletionWorker(FileDeletionRepository fileDeletionRepository,
+                              @Qualifier("s3FileStorageService") FileStorageService fileStorageService,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${file.deletion.batch-size:1000}") int batchSize,
+                              @Value("${file.deletion.max-attempts:10}") int maxAttempts,
+                              @Value("${file.deletion.base-backoff-ms:10000}") long baseBackoffMillis,
+                              @Value("${file.deletion.max-backoff-ms:3600000}") long maxBackoffMillis,
+                              @Value("${file.deletion.lease-ms:120000}") long leaseMillis) {
+        this.fileDeletionRepository = fileDeletionRepository;
+        this.fileStorageService = fileStorageService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, Math.min(batchSize, MAX_KEYS_PER_REQUEST));
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseBackoff = Duration.ofMillis(baseBackoffMillis);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMillis);
+        this.lease = Duration.ofMillis(leaseMillis);
+
+        // 깨우기 요청은 하나만 대기시키고 나머지는 버림 (대기 중인 실행이 어차피 새 항목까지 가져감)
+        this.wakeUps = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "file-deletion-worker");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardPolicy());
+
+        this.deleted = Counter.builder("file.deletion.deleted").register(meterRegistry);
+        this.retried = Counter.builder("file.deletion.retried").register(meterRegistry);
+        this.failed = Counter.builder("file.deletion.failed").register(meterRegistry);
+        Gauge.builder("file.deletion.pending", pending, AtomicLong::get).register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEnqueued(FileDeletionEnqueuedEvent event) {
+        wakeUps.execute(this::drain);
+    }
+
+    @Scheduled(fixedDelayString = "${file.deletion.poll-interval-ms:30000}")
+    public void poll() {
+        drain();
+        try {
+            pending.set(fileDeletionRepository.countByStatus(FileDeletionStatus.PENDING));
+        } catch (RuntimeException e) {
+            log.debug("[FileDeletionWorker] 대기열 지표 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 삭제할 차례가 된 항목을 모두 처리합니다. 이미 다른 스레드가 처리 중이면 바로 반환합니다.
+     *
+     * @return 이번에 삭제에 성공한 건수
+     */
+    public int drain() {
+        if (!draining.compareAndSet(false, true)) {
+            rerun.set(true);
+            return 0;
+        }
+        int total = 0;
+        try {
+            do {
+                rerun.set(false);
+                while (true) {
+                    List<FileDeletion> claimed = claim();
+                    if (claimed.isEmpty()) {
+                        break;
+                    }
+                    total += deleteBatch(claimed);
+                    if (claimed.size() < batchSize) {
+                        break;
+                    }
+                }
+            } while (rerun.get());
+        } catch (RuntimeException e) {
+            log.error("[FileDeletionWorker] 파일 삭제 처리 실패", e);
+        } finally {
+            draining.set(false);
+        }
+        return total;
+    }
+
+    @Override
+    public void destroy() {
+        wakeUps.shutdownNow();
+    }
+
+    private List<FileDeletion> claim() {
+        List<FileDeletion> claimed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<FileDeletion> due = fileDeletionRepository.findDueForUpdate(now, PageRequest.of(0, batchSize));
+            due.forEach(deletion -> deletion.claim(now.plus(lease)));
+            return due;
+        });
+        return claimed == null ? List.of() : claimed;
+    }
+
+    /** DeleteObjects 한 번으로 삭제하고, 성공한 행은 지우고 실패한 행은 재시도 시각을 기록합니다. */
+    private int deleteBatch(List<FileDeletion> claimed) {
+        Set<String> failedKeys = fileStorageService.deleteFiles(claimed.stream().map(FileDeletion::getObjectKey).toList());
+
+        List<Long> doneIds = new ArrayList<>(claimed.size());
+        for (FileDeletion deletion : claimed) {
+            if (failedKeys.contains(deletion.getObjectKey())) {
+                recordFailure(deletion);
+            } else {
+                doneIds.add(deletion.getDeletionId());
+            }
+        }
+        if (!doneIds.isEmpty()) {
+            fileDeletionRepository.deleteDone(doneIds);
+            deleted.increment(doneIds.size());
+        }
+        return doneIds.size();
+    }
+
+    private void recordFailure(FileDeletion deletion) {
+        String error = "DeleteObjects failed (attempt " + deletion.getAttempts() + ")";
+        if (deletion.getAttempts() >= maxAttempts) {
+            fileDeletionRepository.markFailedAttempt(deletion.getDeletionId(), FileDeletionStatus.FAILED, deletion.getNextAttemptAt(), error);
+            failed.increment();
+            log.error("[FileDeletionWorker] 파일 삭제 최종 실패 - key: {}, 시도 {}회", deletion.getObjectKey(), deletion.getAttempts());
+            return;
+        }
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(deletion.getAttempts()));
+        fileDeletionRepository.markFailedAttempt(deletion.getDeletionId(), FileDeletionStatus.PENDING, nextAttemptAt, error);
+        retried.increment();
+    }
+
+    /** base × 2^(시도-1), 최대값 제한, 같은 시각에 몰리지 않도록 ±20% 흔들기 */
+    Duration backoff(int attempts) {
+        long base = baseBackoff.toMillis() << Math.min(Math.max(0, attempts - 1), 20);
+        long capped = Math.min(base, maxBackoff.toMillis());
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return Duration.ofMillis((long) (capped * jitter));
+    }
+}
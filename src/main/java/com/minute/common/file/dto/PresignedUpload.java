@@ -0,0 +1,15 @@
+package com.minute.common.file.dto;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 클라이언트가 스토리지에 직접 PUT 으로 올릴 수 있도록 서명된 URL 정보입니다.
+ *
+ * @param key       업로드될 객체 키
+ * @param url       서명된 PUT URL
+ * @param headers   업로드 요청에 그대로 보내야 하는 헤더 (서명에 포함됨)
+ * @param expiresAt URL 만료 시각
+ */
+public record PresignedUpload(String key, String url, Map<String, String> headers, Instant expiresAt) {
+}
@@ -0,0 +1,11 @@
+package com.minute.common.file.dto;
+
+/**
+ * 스토리지에 저장된 파일 한 개의 정보입니다.
+ *
+ * @param key              저장소 객체 키 (예: "qna/uuid.png")
+ * @param url              접근 URL
+ * @param originalFilename 업로드 당시 파일명
+ */
+public record StoredFile(String key, String url, String originalFilename) {
+}
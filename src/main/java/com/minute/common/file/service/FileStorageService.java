@@ -1,8 +1,15 @@
 package com.minute.common.file.service; // 또는 com.minute.board.qna.service
 
+import com.minute.common.file.dto.PresignedUpload;
+import com.minute.common.file.dto.StoredFile;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface FileStorageService {
 
@@ -25,6 +32,72 @@ public interface FileStorageService {
      */
     List<String> uploadFiles(List<MultipartFile> files, String subDirectory);
 
+    /**
+     * 여러 파일을 동시에 업로드합니다. 하나라도 실패하면 이미 올라간 파일까지 삭제하고 예외를 던집니다.
+     *
+     * @param files        업로드할 MultipartFile 목록 (비어 있는 파일은 건너뜀)
+     * @param subDirectory 저장할 하위 디렉토리 경로
+     * @return 업로드한 파일 정보 (files 순서와 같음)
+     * @throws IOException 업로드 실패 시
+     */
+    List<StoredFile> uploadAll(List<MultipartFile> files, String subDirectory) throws IOException;
+
+    /**
+     * 여러 파일을 한 번에 삭제합니다. (S3 DeleteObjects, 1000개 단위)
+     *
+     * @param fileKeys S3 객체 키 목록
+     * @return 삭제에 실패한 키 (모두 성공하면 빈 집합)
+     */
+    Set<String> deleteFiles(Collection<String> fileKeys);
+
+    /**
+     * prefix 아래의 객체 키를 목록 페이지(최대 1000개) 단위로 전달합니다. (고아 파일 정리용)
+     *
+     * @param prefix         조회할 키 prefix (예: "qna/")
+     * @param modifiedBefore 이 시각 이전에 수정된 객체만 포함
+     * @param pageConsumer   페이지별 키 목록을 받을 함수
+     */
+    void forEachFileKeyPage(String prefix, Instant modifiedBefore, Consumer<List<String>> pageConsumer);
+
+    /**
+     * 클라이언트가 서버를 거치지 않고 직접 올릴 수 있는 PUT URL 을 발급합니다.
+     * Content-Type 과 Content-Length 가 서명에 포함되므로 다른 크기/형식의 파일은 올릴 수 없습니다.
+     *
+     * @param subDirectory     저장할 하위 디렉토리 경로
+     * @param originalFilename 원본 파일명 (확장자 추출용)
+     * @param contentType      업로드할 파일의 Content-Type
+     * @param contentLength    업로드할 파일 크기(byte)
+     * @return 객체 키와 서명된 URL
+     */
+    PresignedUpload createPresignedUpload(String subDirectory, String originalFilename, String contentType, long contentLength);
+
+    /**
+     * 저장된 객체의 크기를 조회합니다. (직접 업로드 완료 확인용)
+     *
+     * @param fileKey S3 객체 키
+     * @return 크기(byte), 객체가 없으면 null
+     */
+    Long getObjectSize(String fileKey);
+
+    /**
+     * 저장된 파일을 읽습니다. (이미지 축소본 생성용)
+     *
+     * @param fileKey S3 객체 키
+     * @return 파일 내용 스트림 (호출한 쪽에서 닫아야 함)
+     * @throws IOException 읽기 실패 또는 파일이 없을 때
+     */
+    InputStream openFile(String fileKey) throws IOException;
+
+    /**
+     * 서버에서 만든 내용을 지정한 키로 저장합니다. (이미지 축소본 등, 같은 키가 있으면 덮어씀)
+     *
+     * @param fileKey     S3 객체 키
+     * @param content     파일 내용
+     * @param contentType Content-Type
+     * @throws IOException 저장 실패 시
+     */
+    void putFile(String fileKey, byte[] content, String contentType) throws IOException;
+
     /**
      * 저장된 파일을 삭제합니다.
      *
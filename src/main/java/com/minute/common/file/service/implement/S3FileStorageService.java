@@ -1,35 +1,91 @@
 package com.minute.common.file.service.implement; // 또는 com.minute.board.qna.service.implement
 
+import com.minute.common.file.dto.PresignedUpload;
+import com.minute.common.file.dto.StoredFile;
 import com.minute.common.file.service.FileStorageService; // 인터페이스 경로
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.paginators.ListObjectsV2Iterable;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service("s3FileStorageService") // 빈 이름 지정
-public class S3FileStorageService implements FileStorageService {
+public class S3FileStorageService implements FileStorageService, DisposableBean {
+
+    private static final int MAX_KEYS_PER_DELETE = 1000; // DeleteObjects 한 번에 지울 수 있는 최대 키 수
 
     private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
+    private final S3Presigner s3Presigner;
+    // MultipartFile 의 InputStream 을 읽어 SDK 로 넘기는 스레드 (읽기가 블로킹이라 SDK 이벤트 루프와 분리)
+    private final ExecutorService uploadReadExecutor;
+    private final long uploadTimeoutMillis;
 
     @Value("${cloud.aws.s3.bucket-name}")
     private String bucketName;
 
+    @Value("${cloud.aws.s3.presign-ttl-seconds:600}")
+    private long presignTtlSeconds;
+
     // S3Client는 AWSConfig.java 와 같은 설정 클래스에서 Bean으로 주입받습니다.
-    public S3FileStorageService(S3Client s3Client) {
+    public S3FileStorageService(S3Client s3Client,
+                                S3AsyncClient s3AsyncClient,
+                                S3Presigner s3Presigner,
+                                @Value("${cloud.aws.s3.upload-threads:8}") int uploadThreads,
+                                @Value("${cloud.aws.s3.upload-timeout-seconds:60}") long uploadTimeoutSeconds) {
         this.s3Client = s3Client;
+        this.s3AsyncClient = s3AsyncClient;
+        this.s3Presigner = s3Presigner;
+        this.uploadTimeoutMillis = TimeUnit.SECONDS.toMillis(uploadTimeoutSeconds);
+        AtomicInteger threadNo = new AtomicInteger();
+        this.uploadReadExecutor = Executors.newFixedThreadPool(uploadThreads, runnable -> {
+            Thread thread = new Thread(runnable, "s3-upload-" + threadNo.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     @Override
@@ -38,46 +94,130 @@ public class S3FileStorageService implements FileStorageService {
             return null; // 또는 예외 처리
         }
 
-        String originalFilename = file.getOriginalFilename();
-        String extension = "";
-        if (originalFilename != null && originalFilename.contains(".")) {
-            extension = originalFilename.substring(originalFilename.lastIndexOf("."));
-        }
-        String uniqueFilename = UUID.randomUUID().toString() + extension;
-        String s3Key = (subDirectory != null && !subDirectory.isEmpty() ? subDirectory.replaceAll("^/+", "").replaceAll("/+$", "") + "/" : "") + uniqueFilename;
+        String s3Key = newKey(file.getOriginalFilename(), subDirectory);
 
-        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                .bucket(bucketName)
-                .key(s3Key)
-                .contentType(file.getContentType())
-//                .acl(ObjectCannedACL.PUBLIC_READ) // 필요에 따라 ACL 설정 (예: 공개 읽기 가능)
-                .build();
-
-        s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
+        s3Client.putObject(putRequest(s3Key, file), RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
         log.info("File uploaded to S3: bucket={}, key={}", bucketName, s3Key);
 
         // 업로드된 파일의 URL 반환
-        return s3Client.utilities().getUrl(builder -> builder.bucket(bucketName).key(s3Key)).toExternalForm();
+        return getFileUrl(s3Key);
     }
 
+    /**
+     * {@link #uploadAll} 과 같이 동시에 올리고 URL 목록을 반환합니다.
+     * 하나라도 실패하면 전부 삭제되고 {@link UncheckedIOException}을 던집니다.
+     */
     @Override
     public List<String> uploadFiles(List<MultipartFile> files, String subDirectory) {
+        try {
+            return uploadAll(files, subDirectory).stream().map(StoredFile::url).collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 모든 파일의 PutObject 요청을 동시에 보내고(큰 파일은 S3AsyncClient 가 멀티파트로 분할) 전부 끝날 때까지 기다립니다.
+     * 실패가 있으면 다른 업로드도 모두 끝난 뒤 올라간 키를 한꺼번에 삭제하므로, 늦게 끝난 업로드가 고아 객체로 남지 않습니다.
+     */
+    @Override
+    public List<StoredFile> uploadAll(List<MultipartFile> files, String subDirectory) throws IOException {
         if (files == null || files.isEmpty()) {
             return new ArrayList<>();
         }
-        return files.stream()
-                .map(file -> {
-                    try {
-                        return uploadFile(file, subDirectory);
-                    } catch (IOException e) {
-                        log.error("Error uploading file to S3: {}", file.getOriginalFilename(), e);
-                        // 개별 파일 업로드 실패 시 null을 반환하거나, 예외를 던지거나, 실패 목록을 별도로 관리할 수 있습니다.
-                        // 여기서는 null을 반환하고 나중에 filter(Objects::nonNull) 등으로 처리할 수 있습니다.
-                        return null;
-                    }
-                })
-                .filter(url -> url != null && !url.isEmpty()) // 실패한(null) 업로드는 제외
-                .collect(Collectors.toList());
+        List<StoredFile> stored = new ArrayList<>();
+        List<CompletableFuture<?>> uploads = new ArrayList<>();
+        IOException failure = null;
+        try {
+            for (MultipartFile file : files) {
+                if (file == null || file.isEmpty()) {
+                    continue;
+                }
+                String s3Key = newKey(file.getOriginalFilename(), subDirectory);
+                stored.add(new StoredFile(s3Key, getFileUrl(s3Key), file.getOriginalFilename()));
+                uploads.add(s3AsyncClient.putObject(putRequest(s3Key, file),
+                        AsyncRequestBody.fromInputStream(file.getInputStream(), file.getSize(), uploadReadExecutor)));
+            }
+            CompletableFuture.allOf(uploads.toArray(new CompletableFuture[0]))
+                    .get(uploadTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (IOException e) {
+            failure = e;
+        } catch (ExecutionException e) {
+            failure = new IOException("S3 업로드 실패", e.getCause());
+        } catch (TimeoutException e) {
+            uploads.forEach(upload -> upload.cancel(true));
+            failure = new IOException("S3 업로드 시간 초과 (" + uploadTimeoutMillis + "ms)", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure = new IOException("S3 업로드 중단", e);
+        }
+
+        if (failure != null) {
+            awaitSettled(uploads);
+            deleteFiles(stored.stream().map(StoredFile::key).collect(Collectors.toList()));
+            log.error("S3 업로드 실패로 {}개 파일을 롤백했습니다: bucket={}", stored.size(), bucketName, failure);
+            throw failure;
+        }
+        log.info("Files uploaded to S3: bucket={}, count={}", bucketName, stored.size());
+        return stored;
+    }
+
+    @Override
+    public PresignedUpload createPresignedUpload(String subDirectory, String originalFilename, String contentType, long contentLength) {
+        String s3Key = newKey(originalFilename, subDirectory);
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(builder -> builder
+                .signatureDuration(Duration.ofSeconds(presignTtlSeconds))
+                .putObjectRequest(PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(s3Key)
+                        .contentType(contentType)
+                        .contentLength(contentLength)
+                        .build()));
+
+        // host 는 클라이언트가 URL 에서 자동으로 채우므로 제외
+        Map<String, String> headers = new LinkedHashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!"host".equalsIgnoreCase(name)) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+        return new PresignedUpload(s3Key, presigned.url().toExternalForm(), headers, presigned.expiration());
+    }
+
+    @Override
+    public Long getObjectSize(String fileKey) {
+        try {
+            return s3Client.headObject(builder -> builder.bucket(bucketName).key(fileKey)).contentLength();
+        } catch (NoSuchKeyException e) {
+            return null;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public InputStream openFile(String fileKey) throws IOException {
+        try {
+            return s3Client.getObject(builder -> builder.bucket(bucketName).key(fileKey));
+        } catch (SdkException e) {
+            throw new IOException("S3 파일 읽기 실패: " + fileKey, e);
+        }
+    }
+
+    @Override
+    public void putFile(String fileKey, byte[] content, String contentType) throws IOException {
+        try {
+            s3Client.putObject(builder -> builder
+                    .bucket(bucketName)
+                    .key(fileKey)
+                    .contentType(contentType)
+                    .contentLength((long) content.length), RequestBody.fromBytes(content));
+        } catch (SdkException e) {
+            throw new IOException("S3 파일 저장 실패: " + fileKey, e);
+        }
     }
 
     @Override
@@ -130,6 +270,63 @@ public class S3FileStorageService implements FileStorageService {
         }
     }
 
+    @Override
+    public Set<String> deleteFiles(Collection<String> fileKeys) {
+        if (fileKeys == null || fileKeys.isEmpty()) {
+            return Set.of();
+        }
+        List<String> keys = fileKeys.stream()
+                .filter(key -> key != null && !key.isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+        Set<String> failedKeys = new HashSet<>();
+        for (int from = 0; from < keys.size(); from += MAX_KEYS_PER_DELETE) {
+            List<String> chunk = keys.subList(from, Math.min(from + MAX_KEYS_PER_DELETE, keys.size()));
+            List<ObjectIdentifier> objects = chunk.stream()
+                    .map(key -> ObjectIdentifier.builder().key(key).build())
+                    .collect(Collectors.toList());
+            try {
+                // quiet 모드: 실패한 키만 응답에 포함 (없는 키 삭제는 성공으로 처리됨)
+                DeleteObjectsResponse response = s3Client.deleteObjects(builder -> builder
+                        .bucket(bucketName)
+                        .delete(Delete.builder().objects(objects).quiet(true).build()));
+                if (response.hasErrors()) {
+                    response.errors().forEach(error -> failedKeys.add(error.key()));
+                    log.error("Some files could not be deleted from S3: bucket={}, errors={}", bucketName, response.errors());
+                }
+            } catch (Exception e) {
+                failedKeys.addAll(chunk);
+                log.error("Error deleting files from S3: bucket={}, count={}", bucketName, chunk.size(), e);
+            }
+        }
+        if (failedKeys.size() < keys.size()) {
+            log.info("Files deleted from S3: bucket={}, count={}", bucketName, keys.size() - failedKeys.size());
+        }
+        return failedKeys;
+    }
+
+    @Override
+    public void forEachFileKeyPage(String prefix, Instant modifiedBefore, Consumer<List<String>> pageConsumer) {
+        ListObjectsV2Iterable pages = s3Client.listObjectsV2Paginator(builder -> builder
+                .bucket(bucketName)
+                .prefix(prefix)
+                .maxKeys(MAX_KEYS_PER_DELETE));
+        for (ListObjectsV2Response page : pages) {
+            List<String> keys = page.contents().stream()
+                    .filter(object -> object.lastModified().isBefore(modifiedBefore))
+                    .map(S3Object::key)
+                    .collect(Collectors.toList());
+            if (!keys.isEmpty()) {
+                pageConsumer.accept(keys);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        uploadReadExecutor.shutdownNow();
+    }
+
     @Override
     public String getFileUrl(String fileKey) {
         if (fileKey == null || fileKey.isEmpty()) {
@@ -142,4 +339,41 @@ public class S3FileStorageService implements FileStorageService {
             return null; // 또는 기본 이미지 URL 반환
         }
     }
-}
\ No newline at end of file
+
+    private String newKey(String originalFilename, String subDirectory) {
+        String extension = "";
+        if (originalFilename != null && originalFilename.contains(".")) {
+            extension = originalFilename.substring(originalFilename.lastIndexOf("."));
+        }
+        String uniqueFilename = UUID.randomUUID().toString() + extension;
+        return (subDirectory != null && !subDirectory.isEmpty() ? subDirectory.replaceAll("^/+", "").replaceAll("/+$", "") + "/" : "") + uniqueFilename;
+    }
+
+    private PutObjectRequest putRequest(String s3Key, MultipartFile file) {
+        return PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(s3Key)
+                .contentType(file.getContentType())
+                .contentLength(file.getSize())
+//                .acl(ObjectCannedACL.PUBLIC_READ) // 필요에 따라 ACL 설정 (예: 공개 읽기 가능)
+                .build();
+    }
+
+    /**
+     * 성공/실패와 관계없이 남은 업로드 요청이 끝날 때까지 기다림 (삭제보다 늦게 PUT 이 끝나 고아 객체가 남는 것 방지).
+     * 그래도 끝나지 않는 요청은 취소합니다. (멀티파트 업로드는 SDK 가 abort)
+     */
+    private void awaitSettled(List<CompletableFuture<?>> uploads) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(uploadTimeoutMillis);
+        for (CompletableFuture<?> upload : uploads) {
+            try {
+                upload.handle((result, error) -> null).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                upload.cancel(true);
+            } catch (ExecutionException | TimeoutException e) {
+                upload.cancel(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.minute.common.image;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 업로드된 이미지의 축소본(JPEG)을 백그라운드에서 만들어 원본 옆에 저장합니다. ({@link ImageVariants} 키 규칙)
+ *
+ * <ul>
+ *     <li>{@code image.variant.threads} 개의 스레드와 {@code image.variant.queue-capacity} 크기의 대기열로만 처리하고,
+ *         대기열이 차면 요청을 버립니다. (축소본이 없으면 응답에 원본 URL 만 나감)</li>
+ *     <li>가장 큰 축소본 너비의 2배 이하가 되도록 디코딩 단계에서 건너뛰며 읽어(subsampling) 큰 원본도 메모리를 적게 씁니다.</li>
+ *     <li>원본보다 큰 너비는 만들지 않고, 이미지가 아니거나 {@code image.variant.max-pixels} 를 넘는 파일은 건너뜁니다.</li>
+ * </ul>
+ *
+ * <p>JDK ImageIO 에 WebP 인코더가 없어 축소본은 JPEG 으로만 만듭니다. (투명 배경은 흰색으로 채움)
+ *
+ * <p>지표: image.variant.generated/skipped/failed/rejected, image.variant.queued(대기 건수)
+ */
+@Slf4j
+@Component
+public class ImageVariantPipeline implements DisposableBean {
+
+    private static final String CONTENT_TYPE = "image/jpeg";
+
+    private final int[] widths;
+    private final float jpegQuality;
+    private final long maxPixels;
+    private final ThreadPoolExecutor workers;
+
+    private final Counter generated;
+    private final Counter skipped;
+    private final Counter failed;
+    private final Counter rejected;
+
+    public ImageVariantPipeline(MeterRegistry meterRegistry,
+                                @Value("${image.variant.widths:200,600}") int[] widths,
+                                @Value("${image.variant.jpeg-quality:0.82}") float jpegQuality,
+                                @Value("${image.variant.max-pixels:50000000}") long maxPixels,
+                                @Value("${image.variant.threads:2}") int threads,
+                                @Value("${image.variant.queue-capacity:200}") int queueCapacity) {
+        this.widths = Arrays.stream(widths).filter(width -> width > 0).distinct().sorted().toArray();
+        this.jpegQuality = jpegQuality;
+        this.maxPixels = maxPixels;
+
+        AtomicInteger threadNo = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variant-" + threadNo.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.NORM_PRIORITY - 1); // 요청 처리 스레드보다 낮게
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.generated = Counter.builder("image.variant.generated").register(meterRegistry);
+        this.skipped = Counter.builder("image.variant.skipped").register(meterRegistry);
+        this.failed = Counter.builder("image.variant.failed").register(meterRegistry);
+        this.rejected = Counter.builder("image.variant.rejected").register(meterRegistry);
+        Gauge.builder("image.variant.queued", workers, executor -> executor.getQueue().size()).register(meterRegistry);
+    }
+
+    /**
+     * 축소본 생성을 요청합니다. 원본 저장이 커밋된 뒤에 호출해야 합니다.
+     *
+     * @param store      원본을 읽고 축소본을 쓸 저장소
+     * @param key        원본 키
+     * @param onComplete 축소본을 하나 이상 저장했을 때 만든 너비 목록과 함께 호출 (작업 스레드에서 실행)
+     * @return 대기열에 들어갔으면 true, 가득 차서 버렸으면 false
+     */
+    public boolean submit(ImageVariantStore store, String key, Consumer<List<Integer>> onComplete) {
+        if (widths.length == 0 || key == null) {
+            return false;
+        }
+        try {
+            workers.execute(() -> generate(store, key, onComplete));
+            return true;
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("[ImageVariantPipeline] 대기열이 가득 차 축소본 생성을 건너뜁니다: {}", key);
+            return false;
+        }
+    }
+
+    void generate(ImageVariantStore store, String key, Consumer<List<Integer>> onComplete) {
+        try {
+            BufferedImage source = read(store, key);
+            if (source == null) {
+                skipped.increment();
+                return;
+            }
+            List<Integer> saved = new ArrayList<>();
+            for (int width : widths) {
+                if (width >= source.getWidth()) {
+                    break; // 원본보다 크게는 만들지 않음 (widths 는 오름차순)
+                }
+                store.write(ImageVariants.variantKey(key, width), encodeJpeg(scaleToWidth(source, width)), CONTENT_TYPE);
+                saved.add(width);
+            }
+            if (saved.isEmpty()) {
+                skipped.increment();
+                return;
+            }
+            onComplete.accept(saved);
+            generated.increment();
+        } catch (Exception e) {
+            failed.increment();
+            log.warn("[ImageVariantPipeline] 축소본 생성 실패 - key: {}, error: {}", key, e.toString());
+        }
+    }
+
+    /** 가장 큰 축소본 너비의 2배 정도로 줄여서 읽음. 이미지가 아니거나 너무 크면 null */
+    private BufferedImage read(ImageVariantStore store, String key) throws IOException {
+        try (InputStream in = store.open(key);
+             ImageInputStream input = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int sourceWidth = reader.getWidth(0);
+                int sourceHeight = reader.getHeight(0);
+                if ((long) sourceWidth * sourceHeight > maxPixels) {
+                    log.info("[ImageVariantPipeline] 픽셀 수 제한 초과로 건너뜀 - key: {}, {}x{}", key, sourceWidth, sourceHeight);
+                    return null;
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, sourceWidth / (widths[widths.length - 1] * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /** 절반씩 줄여 가며(bilinear) 목표 너비에 맞춤. 한 번에 크게 줄일 때 생기는 계단 현상 방지 */
+    static BufferedImage scaleToWidth(BufferedImage source, int width) {
+        BufferedImage current = source;
+        while (current.getWidth() > width) {
+            int nextWidth = Math.max(width, current.getWidth() / 2);
+            int nextHeight = Math.max(1, (int) Math.round((double) source.getHeight() * nextWidth / source.getWidth()));
+            current = draw(current, nextWidth, nextHeight);
+        }
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE); // JPEG 은 투명도가 없으므로 흰 배경
+            graphics.fillRect(0, 0, width, height);
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(bytes)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT); // 큰 축소본도 먼저 흐리게 보임
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public void destroy() {
+        workers.shutdownNow();
+    }
+}
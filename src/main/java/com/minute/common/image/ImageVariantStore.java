@@ -0,0 +1,64 @@
+package com.minute.common.image;
+
+import com.minute.common.file.service.FileStorageService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * {@link ImageVariantPipeline} 이 원본을 읽고 축소본을 쓰는 저장소입니다.
+ */
+public interface ImageVariantStore {
+
+    InputStream open(String key) throws IOException;
+
+    void write(String key, byte[] content, String contentType) throws IOException;
+
+    /** 파일 저장소(S3). 키는 객체 키입니다. */
+    static ImageVariantStore of(FileStorageService fileStorageService) {
+        return new ImageVariantStore() {
+            @Override
+            public InputStream open(String key) throws IOException {
+                return fileStorageService.openFile(key);
+            }
+
+            @Override
+            public void write(String key, byte[] content, String contentType) throws IOException {
+                fileStorageService.putFile(key, content, contentType);
+            }
+        };
+    }
+
+    /** 로컬 디렉토리. 키는 디렉토리 안의 파일명입니다. 임시 파일에 쓴 뒤 교체하므로 읽는 쪽에 쓰다 만 파일이 보이지 않습니다. */
+    static ImageVariantStore directory(Path root) {
+        return new ImageVariantStore() {
+            @Override
+            public InputStream open(String key) throws IOException {
+                return Files.newInputStream(resolve(key));
+            }
+
+            @Override
+            public void write(String key, byte[] content, String contentType) throws IOException {
+                Path target = resolve(key);
+                Path temp = Files.createTempFile(target.getParent(), ".variant", ".tmp");
+                try {
+                    Files.write(temp, content);
+                    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    Files.deleteIfExists(temp);
+                }
+            }
+
+            private Path resolve(String key) {
+                Path path = root.resolve(key).normalize();
+                if (!path.startsWith(root.normalize())) {
+                    throw new IllegalArgumentException("저장소 밖의 경로입니다: " + key);
+                }
+                return path;
+            }
+        };
+    }
+}
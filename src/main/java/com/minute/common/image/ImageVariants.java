@@ -0,0 +1,80 @@
+package com.minute.common.image;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 원본 이미지와 같은 위치에 저장하는 축소본(variant)의 키 규칙입니다.
+ *
+ * <p>축소본 키는 원본 키 뒤에 {@code .w{너비}.jpg} 를 붙입니다. (예: {@code qna/ab12/uuid.png} → {@code qna/ab12/uuid.png.w200.jpg})
+ * 원본 키를 그대로 포함하므로 축소본 키에서 원본 키를 다시 구할 수 있습니다. (고아 파일 정리용)
+ * 만들어진 축소본 너비는 {@code "200,600"} 형태의 문자열로 원본 행에 저장합니다.
+ */
+public final class ImageVariants {
+
+    private static final Pattern VARIANT_SUFFIX = Pattern.compile("\\.w\\d+\\.jpg$");
+    private static final Pattern READABLE_IMAGE = Pattern.compile("(?i).+\\.(jpe?g|png|gif|bmp)$"); // JDK ImageIO 로 읽을 수 있는 형식
+
+    private ImageVariants() {
+    }
+
+    public static String variantKey(String originalKey, int width) {
+        return originalKey + ".w" + width + ".jpg";
+    }
+
+    /** 축소본 키면 원본 키, 아니면 그대로 반환 */
+    public static String originalKey(String key) {
+        return VARIANT_SUFFIX.matcher(key).replaceFirst("");
+    }
+
+    /** 축소본을 만들 수 있는 이미지 파일명인지 (확장자 기준, 실제 형식은 읽을 때 다시 확인) */
+    public static boolean isReadableImage(String filename) {
+        return filename != null && READABLE_IMAGE.matcher(filename).matches();
+    }
+
+    public static String formatWidths(Collection<Integer> widths) {
+        return widths.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    public static int[] parseWidths(String widths) {
+        if (widths == null || widths.isBlank()) {
+            return new int[0];
+        }
+        return Arrays.stream(widths.split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray();
+    }
+
+    /**
+     * 저장된 축소본의 접근 URL 목록 ("w200" → URL). 아직 만들어지지 않았으면 빈 맵입니다.
+     *
+     * @param originalKey 원본 키 (또는 경로)
+     * @param widths      원본 행에 저장된 축소본 너비 목록
+     * @param urlOf       키를 접근 URL 로 바꾸는 함수
+     */
+    public static Map<String, String> variantUrls(String originalKey, String widths, Function<String, String> urlOf) {
+        Map<String, String> urls = new LinkedHashMap<>();
+        if (originalKey == null) {
+            return urls;
+        }
+        for (int width : parseWidths(widths)) {
+            urls.put("w" + width, urlOf.apply(variantKey(originalKey, width)));
+        }
+        return urls;
+    }
+
+    /** 원본 키와 저장된 축소본 키를 모두 반환 (파일 삭제용) */
+    public static List<String> withVariantKeys(String originalKey, String widths) {
+        List<String> keys = new ArrayList<>();
+        keys.add(originalKey);
+        for (int width : parseWidths(widths)) {
+            keys.add(variantKey(originalKey, width));
+        }
+        return keys;
+    }
+}
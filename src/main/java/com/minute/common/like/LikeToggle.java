@@ -0,0 +1,107 @@
+package com.minute.common.like;
+
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 유니크 키(사용자, 대상)를 가진 좋아요 테이블과 대상 테이블의 카운터 컬럼을 함께 바꾸는 토글 로직입니다.
+ *
+ * <p>"존재 확인 → 저장/삭제 → 엔티티 카운터 수정" 방식은 더블클릭처럼 같은 요청이 동시에 들어오면
+ * 중복 행이 생기거나 카운터가 실제 행 수와 어긋납니다. 여기서는
+ * <ol>
+ *     <li>먼저 대상 행의 카운터를 {@code UPDATE ... SET count = count + delta} 로 바꿔 대상 행 락을 잡고
+ *         (영향받은 행이 0이면 대상이 없는 것),</li>
+ *     <li>그 다음 INSERT IGNORE / DELETE 의 영향받은 행 수(affected rows)로 실제 상태 변화를 확인한 뒤,</li>
+ *     <li>추정이 틀렸다면 같은 트랜잭션 안에서 카운터를 보정합니다.</li>
+ * </ol>
+ * 같은 대상에 대한 토글은 대상 행 락으로 직렬화되고, 카운터의 최종 변화량은 항상 실제 행 변화와 일치합니다.
+ * 부모 행을 먼저 X 락으로 잡기 때문에 자식 INSERT 의 FK 검사(S 락)와 카운터 UPDATE 사이의 데드락도 생기지 않습니다.
+ *
+ * <p>현재 상태에 대한 추정값(캐시 등)이 맞으면 카운터 1번 + 쓰기 1번, 총 2개의 문장으로 끝납니다.
+ * 카운터 쿼리는 중간 보정 중 값이 일시적으로 음수가 될 수 있으므로 0 하한(clamp)을 두지 않아야 합니다.
+ */
+public final class LikeToggle {
+
+    public enum Outcome {
+        /** 토글/추가 후 좋아요 상태 */
+        LIKED,
+        /** 토글/삭제 후 좋아요가 없는 상태 */
+        UNLIKED,
+        /** 카운터를 가진 대상 행이 없음 */
+        TARGET_NOT_FOUND,
+        /** 행 변화가 없었음 (이미 같은 상태이거나, 사용자 FK 위반 등으로 INSERT IGNORE 가 무시됨) */
+        UNCHANGED
+    }
+
+    private LikeToggle() {
+    }
+
+    /**
+     * 좋아요 상태를 토글합니다.
+     *
+     * @param likelyActive  현재 좋아요 상태에 대한 추정값 (모르면 false)
+     * @param insertIgnore  INSERT IGNORE 실행 후 영향받은 행 수를 반환
+     * @param delete        DELETE 실행 후 영향받은 행 수를 반환
+     * @param adjustCounter 카운터를 주어진 값만큼 원자적으로 변경하고 영향받은 행 수를 반환
+     */
+    public static Outcome toggle(boolean likelyActive,
+                                 IntSupplier insertIgnore,
+                                 IntSupplier delete,
+                                 IntUnaryOperator adjustCounter) {
+        if (likelyActive) {
+            if (adjustCounter.applyAsInt(-1) == 0) {
+                return Outcome.TARGET_NOT_FOUND;
+            }
+            if (delete.getAsInt() > 0) {
+                return Outcome.UNLIKED;
+            }
+            if (insertIgnore.getAsInt() > 0) {
+                adjustCounter.applyAsInt(2);
+                return Outcome.LIKED;
+            }
+            adjustCounter.applyAsInt(1);
+            return Outcome.UNCHANGED;
+        }
+
+        if (adjustCounter.applyAsInt(1) == 0) {
+            return Outcome.TARGET_NOT_FOUND;
+        }
+        if (insertIgnore.getAsInt() > 0) {
+            return Outcome.LIKED;
+        }
+        if (delete.getAsInt() > 0) {
+            adjustCounter.applyAsInt(-2);
+            return Outcome.UNLIKED;
+        }
+        adjustCounter.applyAsInt(-1);
+        return Outcome.UNCHANGED;
+    }
+
+    /**
+     * 좋아요를 추가만 합니다. 이미 좋아요 상태라면 카운터를 되돌리고 {@link Outcome#UNCHANGED}를 반환합니다.
+     */
+    public static Outcome add(IntSupplier insertIgnore, IntUnaryOperator adjustCounter) {
+        if (adjustCounter.applyAsInt(1) == 0) {
+            return Outcome.TARGET_NOT_FOUND;
+        }
+        if (insertIgnore.getAsInt() > 0) {
+            return Outcome.LIKED;
+        }
+        adjustCounter.applyAsInt(-1);
+        return Outcome.UNCHANGED;
+    }
+
+    /**
+     * 좋아요를 삭제만 합니다. 좋아요가 없었다면 카운터를 되돌리고 {@link Outcome#UNCHANGED}를 반환합니다.
+     */
+    public static Outcome remove(IntSupplier delete, IntUnaryOperator adjustCounter) {
+        if (adjustCounter.applyAsInt(-1) == 0) {
+            return Outcome.TARGET_NOT_FOUND;
+        }
+        if (delete.getAsInt() > 0) {
+            return Outcome.UNLIKED;
+        }
+        adjustCounter.applyAsInt(1);
+        return Outcome.UNCHANGED;
+    }
+}
@@ -0,0 +1,5 @@
+package com.minute.common.mail;
+
+/** 메일이 발송 대기열에 추가됨. 커밋 이후 발송기를 깨워 다음 폴링 주기를 기다리지 않게 합니다. */
+public record MailEnqueuedEvent(Long mailId) {
+}
@@ -0,0 +1,67 @@
+package com.minute.common.mail;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발송할 메일 한 건. 요청 처리 중에는 이 행만 저장하고 실제 SMTP 발송은 {@link MailOutboxDispatcher}가 합니다.
+ * 발송 서버가 가져간 행은 {@code nextAttemptAt} 을 임대 만료 시각으로 미뤄 두므로,
+ * 서버가 발송 도중 종료되어도 임대가 끝나면 다시 발송 대상이 됩니다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "mail_outbox",
+        indexes = {
+                @Index(name = "idx_mo_status_next", columnList = "status, next_attempt_at")
+        }
+)
+public class MailOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "mail_id")
+    private Long mailId;
+
+    @Column(name = "recipient", nullable = false, length = 100)
+    private String recipient;
+
+    @Column(name = "subject", nullable = false)
+    private String subject;
+
+    @Lob
+    @Column(name = "body", nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 10)
+    private MailOutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    /** 발송 서버가 가져감: 시도 횟수를 올리고 임대 만료 시각까지 다른 서버가 가져가지 않게 합니다. */
+    public void claim(LocalDateTime leaseUntil) {
+        this.attempts++;
+        this.nextAttemptAt = leaseUntil;
+    }
+}
@@ -0,0 +1,307 @@
+package com.minute.common.mail;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@code mail_outbox} 의 대기 메일을 백그라운드에서 발송합니다.
+ *
+ * <ul>
+ *     <li>새 메일이 커밋되면 바로 깨어나고, 그 외에는 {@code mail.outbox.poll-interval-ms} 마다 확인합니다.</li>
+ *     <li>가져온 메일을 발송 스레드 수만큼 나눠 각 스레드가 SMTP 연결 하나로 묶음 발송합니다.
+ *         ({@link JavaMailSender#send(MimeMessage...)}는 한 연결로 여러 건을 보냄)</li>
+ *     <li>발송한 메일은 본문(인증번호 등)을 비우고 SENT 로 남깁니다. (7일 뒤 정리)</li>
+ *     <li>실패한 메일은 지수 백오프(기본 5초, 10초, 20초 ... 최대 10분)로 다시 시도하고,
+ *         {@code mail.outbox.max-attempts} 를 넘으면 본문을 비우고 FAILED 로 남깁니다. (7일 뒤 정리)</li>
+ *     <li>여러 서버가 동시에 발송해도 SKIP LOCKED 조회와 임대 시각으로 같은 메일을 중복으로 가져가지 않습니다.</li>
+ * </ul>
+ *
+ * <p>지표: mail.outbox.lag(등록~발송 시간), mail.outbox.sent/retried/failed,
+ * mail.outbox.pending(대기 건수), mail.outbox.oldest.age(가장 오래 기다린 메일의 대기 초)
+ */
+@Slf4j
+@Component
+public class MailOutboxDispatcher implements DisposableBean {
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final int workers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+
+    private final ExecutorService senders;
+    private final ThreadPoolExecutor wakeUps;
+    private final AtomicBoolean dispatching = new AtomicBoolean();
+    private final AtomicBoolean rerun = new AtomicBoolean(); // 발송 중에 새 메일이 들어옴 → 끝난 뒤 한 번 더 확인
+
+    private final Timer lag;
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter failed;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong oldestAgeSeconds = new AtomicLong();
+
+    public MailOutboxDispatcher(MailOutboxRepository mailOutboxRepository,
+                                JavaMailSender mailSender,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${mail.outbox.workers:2}") int workers,
+                                @Value("${mail.outbox.batch-size:20}") int batchSize,
+                                @Value("${mail.outbox.max-attempts:8}") int maxAttempts,
+                                @Value("${mail.outbox.base-backoff-ms:5000}") long baseBackoffMillis,
+                                @Value("${mail.outbox.max-backoff-ms:600000}") long maxBackoffMillis,
+                                @Value("${mail.outbox.lease-ms:120000}") long leaseMillis) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailSender = mailSender;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.workers = Math.max(1, workers);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseBackoff = Duration.ofMillis(baseBackoffMillis);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMillis);
+        this.lease = Duration.ofMillis(leaseMillis);
+
+        AtomicInteger threadNo = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(this.workers, runnable -> {
+            Thread thread = new Thread(runnable, "mail-sender-" + threadNo.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 깨우기 요청은 하나만 대기시키고 나머지는 버림 (대기 중인 발송이 어차피 새 메일까지 가져감)
+        this.wakeUps = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "mail-outbox-dispatcher");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardPolicy());
+
+        this.lag = Timer.builder("mail.outbox.lag").description("메일 등록부터 발송 완료까지 걸린 시간").register(meterRegistry);
+        this.sent = Counter.builder("mail.outbox.sent").register(meterRegistry);
+        this.retried = Counter.builder("mail.outbox.retried").register(meterRegistry);
+        this.failed = Counter.builder("mail.outbox.failed").register(meterRegistry);
+        Gauge.builder("mail.outbox.pending", pending, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("mail.outbox.oldest.age", oldestAgeSeconds, AtomicLong::get)
+                .baseUnit("seconds").register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEnqueued(MailEnqueuedEvent event) {
+        wakeUps.execute(this::dispatch);
+    }
+
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:5000}")
+    public void poll() {
+        dispatch();
+        refreshGauges();
+    }
+
+    /**
+     * 발송할 차례가 된 메일을 모두 보냅니다. 이미 다른 스레드가 발송 중이면 바로 반환합니다.
+     *
+     * @return 이번에 발송에 성공한 건수
+     */
+    public int dispatch() {
+        if (!dispatching.compareAndSet(false, true)) {
+            rerun.set(true);
+            return 0;
+        }
+        int total = 0;
+        try {
+            do {
+                rerun.set(false);
+                while (true) {
+                    List<MailOutbox> claimed = claim(workers * batchSize);
+                    if (claimed.isEmpty()) {
+                        break;
+                    }
+                    total += sendInParallel(claimed);
+                    if (claimed.size() < workers * batchSize) {
+                        break;
+                    }
+                }
+            } while (rerun.get());
+        } catch (RuntimeException e) {
+            log.error("[MailOutboxDispatcher] 메일 발송 처리 실패", e);
+        } finally {
+            dispatching.set(false);
+        }
+        return total;
+    }
+
+    /** 오래된 발송 완료/최종 실패 메일 정리 (매일 새벽 4시 10분) */
+    @Scheduled(cron = "${mail.outbox.cleanup-cron:0 10 4 * * *}")
+    public void deleteOldSentMails() {
+        int deleted = mailOutboxRepository.deleteFinishedBefore(LocalDateTime.now().minusDays(7));
+        log.info("=== MailOutboxDispatcher: 발송 완료/실패 메일 {}건 삭제 ===", deleted);
+    }
+
+    @Override
+    public void destroy() {
+        wakeUps.shutdownNow();
+        senders.shutdownNow();
+    }
+
+    private List<MailOutbox> claim(int limit) {
+        List<MailOutbox> claimed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<MailOutbox> due = mailOutboxRepository.findDueForUpdate(now, PageRequest.of(0, limit));
+            due.forEach(mail -> mail.claim(now.plus(lease)));
+            return due;
+        });
+        return claimed == null ? List.of() : claimed;
+    }
+
+    private int sendInParallel(List<MailOutbox> claimed) {
+        int chunkSize = (claimed.size() + workers - 1) / workers;
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int from = 0; from < claimed.size(); from += chunkSize) {
+            List<MailOutbox> chunk = claimed.subList(from, Math.min(from + chunkSize, claimed.size()));
+            futures.add(senders.submit(() -> sendChunk(chunk)));
+        }
+        int total = 0;
+        for (Future<Integer> future : futures) {
+            try {
+                total += future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                // 결과를 기록하지 못한 메일은 임대가 끝난 뒤 다시 발송 대상이 됨
+                log.error("[MailOutboxDispatcher] 발송 작업 실패", e);
+            }
+        }
+        return total;
+    }
+
+    /** 한 SMTP 연결로 묶음 발송하고 결과를 기록합니다. */
+    private int sendChunk(List<MailOutbox> chunk) {
+        List<MimeMessage> messages = new ArrayList<>(chunk.size());
+        List<MailOutbox> built = new ArrayList<>(chunk.size());
+        for (MailOutbox mail : chunk) {
+            try {
+                messages.add(toMimeMessage(mail));
+                built.add(mail);
+            } catch (Exception e) {
+                recordFailure(mail, e);
+            }
+        }
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        Map<Object, Exception> failures = Map.of();
+        try {
+            mailSender.send(messages.toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            // 일부만 실패한 경우 실패한 메시지만 들어 있음. 비어 있으면 연결 자체가 실패한 것
+            failures = e.getFailedMessages().isEmpty() ? null : e.getFailedMessages();
+            if (failures == null) {
+                built.forEach(mail -> recordFailure(mail, e));
+                return 0;
+            }
+        } catch (MailException e) {
+            built.forEach(mail -> recordFailure(mail, e));
+            return 0;
+        }
+
+        List<Long> sentIds = new ArrayList<>(built.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < built.size(); i++) {
+            Exception failure = failures.get(messages.get(i));
+            if (failure != null) {
+                recordFailure(built.get(i), failure);
+            } else {
+                sentIds.add(built.get(i).getMailId());
+                lag.record(Duration.between(built.get(i).getCreatedAt(), now));
+            }
+        }
+        if (!sentIds.isEmpty()) {
+            mailOutboxRepository.markSent(sentIds, now);
+            sent.increment(sentIds.size());
+        }
+        return sentIds.size();
+    }
+
+    private MimeMessage toMimeMessage(MailOutbox mail) throws Exception {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setTo(mail.getRecipient());
+        helper.setSubject(mail.getSubject());
+        helper.setText(mail.getBody(), true);
+        return message;
+    }
+
+    private void recordFailure(MailOutbox mail, Exception cause) {
+        String error = truncate(cause.getClass().getSimpleName() + ": " + cause.getMessage());
+        if (mail.getAttempts() >= maxAttempts) {
+            mailOutboxRepository.markFinallyFailed(mail.getMailId(), error);
+            failed.increment();
+            log.error("[MailOutboxDispatcher] 메일 발송 최종 실패 - mailId: {}, 시도 {}회: {}", mail.getMailId(), mail.getAttempts(), error);
+            return;
+        }
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(mail.getAttempts()));
+        mailOutboxRepository.markFailedAttempt(mail.getMailId(), MailOutboxStatus.PENDING, nextAttemptAt, error);
+        retried.increment();
+        log.warn("[MailOutboxDispatcher] 메일 발송 실패, {} 재시도 - mailId: {}: {}", nextAttemptAt, mail.getMailId(), error);
+    }
+
+    /** base × 2^(시도-1), 최대값 제한, 동시에 실패한 메일이 같은 시각에 몰리지 않도록 ±20% 흔들기 */
+    Duration backoff(int attempts) {
+        long base = baseBackoff.toMillis() << Math.min(Math.max(0, attempts - 1), 20);
+        long capped = Math.min(base, maxBackoff.toMillis());
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return Duration.ofMillis((long) (capped * jitter));
+    }
+
+    private void refreshGauges() {
+        try {
+            pending.set(mailOutboxRepository.countByStatus(MailOutboxStatus.PENDING));
+            LocalDateTime oldest = mailOutboxRepository.findOldestPendingCreatedAt();
+            oldestAgeSeconds.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toSeconds()));
+        } catch (RuntimeException e) {
+            log.debug("[MailOutboxDispatcher] 대기열 지표 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    private static String truncate(String value) {
+        return value.length() <= 500 ? value : value.substring(0, 500);
+    }
+}
@@ -0,0 +1,65 @@
+package com.minute.common.mail;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    /**
+     * 발송할 차례가 된 메일을 행 락을 잡고 조회합니다.
+     * 다른 서버가 잡고 있는 행은 기다리지 않고 건너뜁니다. (lock.timeout -2 → MySQL 8 SKIP LOCKED)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT m FROM MailOutbox m WHERE m.status = com.minute.common.mail.MailOutboxStatus.PENDING " +
+            "AND m.nextAttemptAt <= :now ORDER BY m.nextAttemptAt")
+    List<MailOutbox> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /** 발송 완료: 본문(인증번호 등)은 더 쓸 일이 없으므로 비워 둡니다. (행은 deleteFinishedBefore 가 정리) */
+    @Transactional
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = com.minute.common.mail.MailOutboxStatus.SENT, m.sentAt = :sentAt, " +
+            "m.body = '', m.lastError = NULL WHERE m.mailId IN :mailIds")
+    int markSent(@Param("mailIds") Collection<Long> mailIds, @Param("sentAt") LocalDateTime sentAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = :status, m.nextAttemptAt = :nextAttemptAt, m.lastError = :error " +
+            "WHERE m.mailId = :mailId")
+    int markFailedAttempt(@Param("mailId") Long mailId,
+                          @Param("status") MailOutboxStatus status,
+                          @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                          @Param("error") String error);
+
+    /** 최종 실패: 본문(인증번호 등)은 더 쓸 일이 없으므로 비워 둡니다. */
+    @Transactional
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = com.minute.common.mail.MailOutboxStatus.FAILED, m.body = '', " +
+            "m.lastError = :error WHERE m.mailId = :mailId")
+    int markFinallyFailed(@Param("mailId") Long mailId, @Param("error") String error);
+
+    long countByStatus(MailOutboxStatus status);
+
+    @Query("SELECT MIN(m.createdAt) FROM MailOutbox m WHERE m.status = com.minute.common.mail.MailOutboxStatus.PENDING")
+    LocalDateTime findOldestPendingCreatedAt();
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM MailOutbox m WHERE (m.status = com.minute.common.mail.MailOutboxStatus.SENT AND m.sentAt < :threshold) " +
+            "OR (m.status = com.minute.common.mail.MailOutboxStatus.FAILED AND m.createdAt < :threshold)")
+    int deleteFinishedBefore(@Param("threshold") LocalDateTime threshold);
+}
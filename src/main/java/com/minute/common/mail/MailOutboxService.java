@@ -0,0 +1,35 @@
+package com.minute.common.mail;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 메일 발송 요청을 {@code mail_outbox} 에 저장합니다.
+ * 요청 스레드는 INSERT 한 번으로 끝나고, SMTP 발송은 {@link MailOutboxDispatcher}가 백그라운드에서 처리합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MailOutboxService {
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** HTML 본문 메일을 발송 대기열에 추가합니다. */
+    @Transactional
+    public Long enqueue(String recipient, String subject, String htmlBody) {
+        MailOutbox mail = mailOutboxRepository.save(MailOutbox.builder()
+                .recipient(recipient)
+                .subject(subject)
+                .body(htmlBody)
+                .status(MailOutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+        eventPublisher.publishEvent(new MailEnqueuedEvent(mail.getMailId()));
+        return mail.getMailId();
+    }
+}
@@ -0,0 +1,7 @@
+package com.minute.common.mail;
+
+public enum MailOutboxStatus {
+    PENDING, // 발송 대기 (재시도 포함)
+    SENT,
+    FAILED   // 최대 재시도 횟수 초과
+}
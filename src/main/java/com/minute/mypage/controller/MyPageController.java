@@ -1,7 +1,10 @@
 package com.minute.mypage.controller;
 
 import com.minute.mypage.dto.response.AdminStatsResponseDTO;
+import com.minute.calendar.repository.CalendarVersion;
 import com.minute.mypage.dto.response.DotResponseDTO;
+import com.minute.mypage.dto.response.MonthlyDotsResponseDTO;
+import com.minute.mypage.dto.response.QnaDailyStatsResponseDTO;
 import com.minute.mypage.service.MyPageService;
 import com.minute.plan.dto.response.PlanResponseDTO;
 import com.minute.plan.service.PlanService;
@@ -9,16 +12,19 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.security.Principal;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 @Tag(name = "MyPage", description = "마이페이지 관련 API")
@@ -31,6 +37,8 @@ public class MyPageController {
     private final MyPageService myPageService;
     private final PlanService planService;
 
+    private static final int MAX_DOT_RANGE_MONTHS = 12;
+
     @Operation(summary = "한 달치 일정·체크리스트 날짜 조회")
     @GetMapping("/dots")
     public List<DotResponseDTO> getDots(
@@ -42,6 +50,30 @@ public class MyPageController {
         return myPageService.getMonthlyDots(userId, ym);
     }
 
+    @Operation(summary = "여러 달 일정·체크리스트 날짜 조회",
+            description = "from ~ to (yyyy-MM, 최대 12개월)의 dot 을 달별로 조회합니다. 구간 안의 일정/체크리스트가 바뀌지 않았으면 304 를 반환합니다.")
+    @GetMapping("/dots/range")
+    public ResponseEntity<List<MonthlyDotsResponseDTO>> getDotsRange(
+            Principal principal,
+            @RequestParam("from") @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam("to") @DateTimeFormat(pattern = "yyyy-MM") YearMonth to,
+            WebRequest webRequest
+    ) {
+        if (to.isBefore(from) || ChronoUnit.MONTHS.between(from, to) >= MAX_DOT_RANGE_MONTHS) {
+            return ResponseEntity.badRequest().build();
+        }
+        String userId = principal.getName();
+
+        // 변경 여부만 먼저 확인하고, 같으면 dot 조회 없이 304
+        CalendarVersion version = myPageService.getDotsVersion(userId, from, to);
+        if (webRequest.checkNotModified(version.etag(), version.lastModifiedMillis())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(myPageService.getDotsByMonth(userId, from, to));
+    }
+
     @Operation(summary = "마이페이지용 특정 날짜 일정 조회")
     @GetMapping("/plans")
     public List<PlanResponseDTO> getMyPagePlans(
@@ -63,10 +95,23 @@ public class MyPageController {
 
         AdminStatsResponseDTO response = AdminStatsResponseDTO.builder()
                 .qnaCount(qnaCount)
+                .qnaStatusCounts(myPageService.getQnaStatusCounts())
                 .noticeCount(noticeCount)
                 .build();
 
         return ResponseEntity.ok(response);
     }
+
+    @Operation(summary = "[관리자] 작성일별 문의 수 조회", description = "작성일 구간의 날짜별·답변 상태별 문의 수를 조회합니다. (미리 집계된 값)")
+    @GetMapping("/admin/stats/qna-daily")
+    public ResponseEntity<List<QnaDailyStatsResponseDTO>> getQnaDailyStats(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        if (endDate.isBefore(startDate)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(myPageService.getQnaDailyStats(startDate, endDate));
+    }
     // --- 🚨 추가 끝 ---
 }
@@ -4,6 +4,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.Map;
+
 @Getter
 @Builder
 @Schema(description = "관리자 마이페이지 통계 정보 응답 DTO")
@@ -12,6 +14,9 @@ public class AdminStatsResponseDTO {
     @Schema(description = "전체 문의(QnA) 수", example = "19")
     private final long qnaCount;
 
+    @Schema(description = "답변 상태별 문의 수 (PENDING, ANSWERED)", example = "{\"PENDING\": 7, \"ANSWERED\": 12}")
+    private final Map<String, Long> qnaStatusCounts;
+
     @Schema(description = "전체 공지사항 수", example = "3")
     private final long noticeCount;
 
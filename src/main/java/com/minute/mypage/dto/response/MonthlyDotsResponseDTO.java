@@ -0,0 +1,19 @@
+package com.minute.mypage.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@AllArgsConstructor
+@Getter
+@Schema(description = "한 달치 캘린더 dot 응답 DTO")
+public class MonthlyDotsResponseDTO {
+
+    @Schema(description = "연월", example = "2025-06")
+    private String yearMonth;
+
+    @Schema(description = "dot 목록 (날짜 오름차순)")
+    private List<DotResponseDTO> dots;
+}
@@ -0,0 +1,22 @@
+package com.minute.mypage.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@Builder
+@Schema(description = "작성일별 문의 수 응답 DTO")
+public class QnaDailyStatsResponseDTO {
+
+    @Schema(description = "문의 작성일", example = "2025-06-01")
+    private final String date;
+
+    @Schema(description = "그날 작성된 문의의 현재 답변 상태별 수", example = "{\"PENDING\": 1, \"ANSWERED\": 3}")
+    private final Map<String, Long> statusCounts;
+
+    @Schema(description = "그날 작성된 문의 수", example = "4")
+    private final long totalCount;
+}
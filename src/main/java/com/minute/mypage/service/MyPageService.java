@@ -1,9 +1,14 @@
 package com.minute.mypage.service;
 
 import com.minute.board.notice.repository.NoticeRepository;
-import com.minute.board.qna.repository.QnaRepository;
-import com.minute.checklist.service.ChecklistService;
+import com.minute.board.qna.entity.QnaStatus;
+import com.minute.board.qna.stats.QnaStatusCounter;
+import com.minute.calendar.repository.CalendarDotRow;
+import com.minute.calendar.repository.CalendarQueryRepository;
+import com.minute.calendar.repository.CalendarVersion;
 import com.minute.mypage.dto.response.DotResponseDTO;
+import com.minute.mypage.dto.response.MonthlyDotsResponseDTO;
+import com.minute.mypage.dto.response.QnaDailyStatsResponseDTO;
 import com.minute.plan.dto.response.PlanResponseDTO;
 import com.minute.plan.service.PlanService;
 import lombok.AllArgsConstructor;
@@ -11,7 +16,8 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -20,26 +26,43 @@ import java.util.Map;
 public class MyPageService {
 
     private final PlanService planService;
-    private final ChecklistService checklistService;
+    private final CalendarQueryRepository calendarQueryRepository; // 일정/체크리스트 dot 을 한 번에 조회
 
-    private final QnaRepository qnaRepository;         // <<< Repository 의존성 주입
+    private final QnaStatusCounter qnaStatusCounter;   // 상태별/작성일별 문의 수 집계 (inquiries 를 COUNT 하지 않음)
     private final NoticeRepository noticeRepository;   // <<< Repository 의존성 주입
 
     public List<DotResponseDTO> getMonthlyDots(String userId, YearMonth ym) {
-        List<LocalDate> planDates = planService.getPlanDatesInMonth(userId, ym);
-        List<LocalDate> checklistDates = checklistService.getChecklistDatesInMonth(userId, ym);
+        return toDots(calendarQueryRepository.findDots(userId, ym.atDay(1), ym.atEndOfMonth()));
+    }
+
+    /**
+     * 여러 달의 dot 을 한 번의 조회로 가져와 달별로 나눕니다. (dot 이 없는 달도 빈 목록으로 포함)
+     */
+    public List<MonthlyDotsResponseDTO> getDotsByMonth(String userId, YearMonth from, YearMonth to) {
+        Map<YearMonth, List<CalendarDotRow>> rowsByMonth = new LinkedHashMap<>();
+        for (YearMonth ym = from; !ym.isAfter(to); ym = ym.plusMonths(1)) {
+            rowsByMonth.put(ym, new ArrayList<>());
+        }
+        for (CalendarDotRow row : calendarQueryRepository.findDots(userId, from.atDay(1), to.atEndOfMonth())) {
+            rowsByMonth.get(YearMonth.from(row.date())).add(row);
+        }
+        return rowsByMonth.entrySet().stream()
+                .map(e -> new MonthlyDotsResponseDTO(e.getKey().toString(), toDots(e.getValue())))
+                .toList();
+    }
 
-        // dots API
-        Map<LocalDate, String> map = new HashMap<>();
-        planDates.forEach(d -> map.put(d, "plan"));
-        checklistDates.forEach(d ->
-                map.merge(d, "checklist",
-                        (oldVal, newVal) -> "plan".equals(oldVal) ? "both" : oldVal));
+    /** 여러 달 dot 응답의 ETag/Last-Modified 용 (구간 안 일정/체크리스트 수와 마지막 수정 시각) */
+    public CalendarVersion getDotsVersion(String userId, YearMonth from, YearMonth to) {
+        return calendarQueryRepository.findVersion(userId, from.atDay(1), to.atEndOfMonth());
+    }
 
+    // (날짜, 종류) 행을 날짜별 하나로 합침. 둘 다 있으면 "both"
+    private static List<DotResponseDTO> toDots(List<CalendarDotRow> rows) {
+        Map<LocalDate, String> map = new LinkedHashMap<>();
+        rows.forEach(row -> map.merge(row.date(), row.kind(), (oldVal, newVal) -> oldVal.equals(newVal) ? oldVal : "both"));
         return map.entrySet().stream()
                 .map(e -> new DotResponseDTO(e.getKey().toString(), e.getValue()))
                 .toList();
-
     }
 
     // plans API
@@ -53,7 +76,34 @@ public class MyPageService {
      * @return 전체 문의 수
      */
     public long getQnaCount() {
-        return qnaRepository.count();
+        return qnaStatusCounter.total();
+    }
+
+    /**
+     * 답변 상태별 문의 수를 조회합니다.
+     * @return 상태 이름 → 문의 수 (모든 상태 포함)
+     */
+    public Map<String, Long> getQnaStatusCounts() {
+        return toNameKeys(qnaStatusCounter.totals());
+    }
+
+    /**
+     * 작성일 구간(양 끝 포함)의 날짜별 문의 수를 조회합니다. 문의가 없는 날은 빠집니다.
+     */
+    public List<QnaDailyStatsResponseDTO> getQnaDailyStats(LocalDate startDate, LocalDate endDate) {
+        return qnaStatusCounter.daily(startDate, endDate).entrySet().stream()
+                .map(e -> QnaDailyStatsResponseDTO.builder()
+                        .date(e.getKey().toString())
+                        .statusCounts(toNameKeys(e.getValue()))
+                        .totalCount(e.getValue().values().stream().mapToLong(Long::longValue).sum())
+                        .build())
+                .toList();
+    }
+
+    private static Map<String, Long> toNameKeys(Map<QnaStatus, Long> counts) {
+        Map<String, Long> named = new LinkedHashMap<>();
+        counts.forEach((status, count) -> named.put(status.name(), count));
+        return named;
     }
 
     /**
@@ -21,4 +21,11 @@ public interface PlanRepository extends JpaRepository<Plan, Integer> {
     // 날짜별 Plan 전체 조회
     List<Plan> findAllByUser_UserIdAndTravelDate(String userId, LocalDate travelDate);
 
+    // 캘린더 상세 (날짜 구간) 조회
+    @Query("SELECT p FROM Plan p WHERE p.user.userId = :userId AND p.travelDate BETWEEN :startDate AND :endDate " +
+            "ORDER BY p.travelDate, p.startTime, p.planId")
+    List<Plan> findAllByUserAndTravelDateBetween(@Param("userId") String userId,
+                                                 @Param("startDate") LocalDate startDate,
+                                                 @Param("endDate") LocalDate endDate);
+
 }
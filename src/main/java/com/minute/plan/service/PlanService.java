@@ -4,6 +4,7 @@ import com.minute.plan.dto.request.PlanRequestDTO;
 import com.minute.plan.dto.response.PlanResponseDTO;
 import com.minute.plan.entity.Plan;
 import com.minute.plan.repository.PlanRepository;
+import com.minute.user.cache.UserSnapshotCache;
 import com.minute.user.entity.User;
 import com.minute.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +21,7 @@ import java.util.stream.Collectors;
 public class PlanService {
     private final PlanRepository planRepository;
     private final UserRepository userRepository;
+    private final UserSnapshotCache userSnapshotCache;
 
     // 한 달치 dot 표시용
     @Transactional(readOnly = true)
@@ -43,8 +45,10 @@ public class PlanService {
     /** Plan 생성 */
     @Transactional
     public PlanResponseDTO create(String userId, PlanRequestDTO dto) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("없는 사용자입니다: " + userId));
+        if (userSnapshotCache.find(userId).isEmpty()) {
+            throw new IllegalArgumentException("없는 사용자입니다: " + userId);
+        }
+        User user = userRepository.getReferenceById(userId);
 
         Plan p = Plan.builder()
                 .user(user)
@@ -2,17 +2,12 @@ package com.minute.security.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer{
 
-    @Override
-    public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        registry.addResourceHandler("/upload/**")
-                .addResourceLocations("file:/C:/upload/profile/");
-    }
+    // /upload/** (프로필 이미지)는 ProfileImageController 에서 캐시 헤더와 함께 제공
 
     @Bean
     public WebMvcConfigurer corsConfigurer() {
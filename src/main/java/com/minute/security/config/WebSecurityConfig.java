@@ -1,14 +1,21 @@
 package com.minute.security.config;
 
+import com.minute.security.crypto.BoundedPasswordEncoder;
 import com.minute.security.filter.JwtAuthenticationFilter;
 import com.minute.security.filter.JwtLoginFilter;
+import com.minute.security.handler.AccessTokenRevocationList;
 import com.minute.security.handler.CustomAuthFailureHandler;
 import com.minute.security.handler.CustomAuthSuccessHandler;
 import com.minute.security.handler.JwtProvider;
+import com.minute.security.ratelimit.RateLimitFilter;
+import com.minute.security.ratelimit.RateLimitRoute;
+import com.minute.security.ratelimit.StripedTokenBuckets;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -36,8 +43,14 @@ import java.util.List;
 public class WebSecurityConfig {
 
     private final JwtProvider jwtProvider;
+    private final AccessTokenRevocationList accessTokenRevocationList;
     private final CustomAuthSuccessHandler customAuthSuccessHandler;
     private final CustomAuthFailureHandler customAuthFailureHandler;
+    private final StripedTokenBuckets rateLimitBuckets;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${security.rate-limit.enabled:true}")
+    private boolean rateLimitEnabled;
 
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration authenticationConfiguration) throws Exception {
@@ -46,7 +59,7 @@ public class WebSecurityConfig {
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter(AuthenticationManager authenticationManager) {
-        return new JwtAuthenticationFilter(authenticationManager, jwtProvider);
+        return new JwtAuthenticationFilter(authenticationManager, jwtProvider, accessTokenRevocationList);
     }
 
     @Bean
@@ -58,9 +71,16 @@ public class WebSecurityConfig {
         return jwtLoginFilter;
     }
 
+    /**
+     * BCrypt 해싱/검증은 전용 스레드 풀(기본: CPU 코어 수)에서 실행하고, 대기열이 차면 429로 바로 거절합니다.
+     * 로그인 폭주 시에도 요청 스레드가 해싱에 모두 묶이지 않도록 하기 위함입니다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                           @Value("${security.password-hashing.threads:0}") int threads,
+                                           @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity,
+                                           @Value("${security.password-hashing.max-wait-ms:3000}") long maxWaitMillis) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), threads, queueCapacity, maxWaitMillis, meterRegistry);
     }
 
     @Bean
@@ -81,6 +101,10 @@ public class WebSecurityConfig {
                                 "/webjars/**"
                         ).permitAll()
 
+                        // 1-1. 헬스 체크는 공개, 그 외 Actuator(메트릭 등)는 관리자만
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                         // 2. 회원가입 및 인증 관련 API (로그인, 회원가입 검증 등)
                         .requestMatchers("/api/v1/auth/sign-up/validate").permitAll()
                         // .requestMatchers("/api/v1/auth/sign-up").permitAll() // 아래 /api/v1/auth/** 에 포함됨
@@ -169,6 +193,13 @@ public class WebSecurityConfig {
                 // JwtAuthenticationFilter는 모든 요청에 대해 토큰 유효성 검사 (JwtLoginFilter 이후)
                 .addFilterAfter(jwtAuthenticationFilter(authenticationManager), JwtLoginFilter.class);
 
+        // 요청 횟수 제한은 로그인(BCrypt) 처리보다 먼저 (빈으로 등록하지 않아 서블릿 필터로 중복 등록되지 않음)
+        if (rateLimitEnabled) {
+            httpSecurity.addFilterBefore(
+                    new RateLimitFilter(RateLimitRoute.defaults(), rateLimitBuckets, jwtProvider, meterRegistry),
+                    JwtLoginFilter.class);
+        }
+
         return httpSecurity.build();
     }
 
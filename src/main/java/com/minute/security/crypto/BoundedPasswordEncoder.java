@@ -0,0 +1,131 @@
+package com.minute.security.crypto;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BCrypt 해싱/검증을 CPU 코어 수 크기의 전용 스레드 풀에서 실행하는 {@link PasswordEncoder}입니다.
+ *
+ * <p>BCrypt 는 의도적으로 느린(수십~수백 ms) CPU 작업이라 요청 스레드에서 바로 실행하면
+ * 로그인이 몰릴 때 Tomcat 요청 스레드와 CPU 를 모두 차지해 다른 API 까지 느려집니다.
+ * 여기서는
+ * <ul>
+ *     <li>동시에 실행되는 해싱 수를 풀 크기(기본: 코어 수)로 제한하고,</li>
+ *     <li>대기열이 가득 차면 기다리지 않고 바로 {@link PasswordHashingRejectedException}(429)으로 거절하며,</li>
+ *     <li>대기 시간이 maxWait 를 넘으면 작업을 취소하고 거절합니다.</li>
+ * </ul>
+ * 따라서 해싱 때문에 붙잡히는 요청 스레드는 최대 "풀 크기 + 대기열 크기"개로 제한되고,
+ * 나머지 요청 스레드는 다른 API 를 계속 처리할 수 있습니다.
+ *
+ * <p>메트릭: {@code auth.password.hash}(해싱 소요 시간, operation=encode|matches),
+ * {@code auth.password.queue.depth}, {@code auth.password.active}, {@code auth.password.rejected}
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitMillis;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    /**
+     * @param threads       해싱 스레드 수 (0 이하이면 사용 가능한 CPU 코어 수)
+     * @param queueCapacity 실행 대기열 크기. 넘치면 즉시 거절
+     * @param maxWaitMillis 요청 스레드가 결과를 기다리는 최대 시간
+     */
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity,
+                                  long maxWaitMillis, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maxWaitMillis = maxWaitMillis;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder("auth.password.hash").tag("operation", "encode")
+                .description("BCrypt 해싱 소요 시간").publishPercentiles(0.5, 0.95, 0.99).register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.password.hash").tag("operation", "matches")
+                .description("BCrypt 검증 소요 시간").publishPercentiles(0.5, 0.95, 0.99).register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.rejected")
+                .description("스레드 풀 포화로 거절된 해싱 요청 수").register(meterRegistry);
+        Gauge.builder("auth.password.queue.depth", executor, e -> e.getQueue().size())
+                .description("해싱 대기열 길이").register(meterRegistry);
+        Gauge.builder("auth.password.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 해싱 작업 수").register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    private <T> T run(Timer timer, Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.recordCallable(task));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new PasswordHashingRejectedException("비밀번호 처리 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        try {
+            return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new PasswordHashingRejectedException("비밀번호 처리 대기 시간이 초과되었습니다. 잠시 후 다시 시도해 주세요.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingRejectedException("비밀번호 처리 중 요청이 중단되었습니다.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 처리 중 오류가 발생했습니다.", cause);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
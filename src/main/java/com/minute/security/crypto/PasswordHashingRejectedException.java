@@ -0,0 +1,14 @@
+package com.minute.security.crypto;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * 비밀번호 해싱 전용 스레드 풀이 포화되어 요청을 받을 수 없을 때 발생합니다. (HTTP 429로 응답)
+ * 로그인 필터의 실패 핸들러까지 전달되도록 {@link AuthenticationServiceException}을 상속합니다.
+ */
+public class PasswordHashingRejectedException extends AuthenticationServiceException {
+
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+}
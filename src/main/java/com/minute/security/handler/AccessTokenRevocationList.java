@@ -0,0 +1,124 @@
+package com.minute.security.handler;
+
+import com.minute.auth.entity.RevokedAccessToken;
+import com.minute.auth.repository.RevokedAccessTokenRepository;
+import com.minute.common.cache.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 만료 전에 폐기된 액세스 토큰(jti) 확인용 목록입니다.
+ *
+ * <p>모든 인증 요청에서 호출되므로 먼저 메모리의 Bloom 필터로 확인하고,
+ * 필터가 "있을 수도 있음"이라고 답한 경우에만 DB({@code revoked_access_token})에서 정확히 확인합니다.
+ * 폐기된 토큰이 없는 대부분의 요청은 DB 접근 없이 비트 몇 개만 확인하고 통과합니다.
+ *
+ * <p>필터는 서버마다 따로 있으므로, 다른 서버에서 폐기한 토큰은 몇 초 간격으로 최근 폐기분({@code revoked_at} 기준)만
+ * DB에서 읽어와 필터에 더합니다. 폐기가 모든 서버에 반영되기까지의 지연은 이 주기(기본 5초)로, 액세스 토큰 유효 시간(15분)보다 훨씬 짧습니다.
+ * 서버 간 시계 차이나 늦게 커밋된 폐기를 놓치지 않도록 조회 구간은 이전 조회와 겹치게 잡습니다. (같은 ID를 다시 넣어도 무해)
+ *
+ * <p>Bloom 필터는 삭제를 지원하지 않으므로, 원래 만료 시각이 지난 항목을 DB에서 지운 뒤
+ * 남은 항목으로 새 필터를 만들어 교체하는 작업을 주기적으로 수행합니다.
+ */
+@Slf4j
+@Component
+public class AccessTokenRevocationList {
+
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final long syncOverlapMillis;
+
+    private volatile BloomFilter filter;
+    private BloomFilter rebuilding; // 재구성 중에 들어온 폐기도 새 필터에 반영하기 위함 (this 락으로 보호)
+    private volatile LocalDateTime syncedFrom; // 마지막 동기화 조회를 시작한 시각 (재구성 전이면 null)
+
+    public AccessTokenRevocationList(RevokedAccessTokenRepository revokedAccessTokenRepository,
+                                     @Value("${jwt.revocation.expected-insertions:100000}") long expectedInsertions,
+                                     @Value("${jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate,
+                                     @Value("${jwt.revocation.sync-overlap-ms:60000}") long syncOverlapMillis) {
+        this.revokedAccessTokenRepository = revokedAccessTokenRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.syncOverlapMillis = syncOverlapMillis;
+        this.filter = BloomFilter.create(expectedInsertions, falsePositiveRate);
+    }
+
+    /** 폐기된 토큰이면 true. 토큰 ID(jti)가 없는 토큰(이전 형식)은 폐기 대상이 아닙니다. */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !filter.mightContain(tokenId)) {
+            return false;
+        }
+        return revokedAccessTokenRepository.existsById(tokenId);
+    }
+
+    /** 액세스 토큰을 원래 만료 시각까지 사용할 수 없도록 폐기합니다. */
+    @Transactional
+    public void revoke(String tokenId, String userId, long expiresAtMillis) {
+        if (tokenId == null || expiresAtMillis <= System.currentTimeMillis()) {
+            return; // 이미 만료된 토큰은 어차피 거부됨
+        }
+        revokedAccessTokenRepository.save(RevokedAccessToken.builder()
+                .tokenId(tokenId)
+                .userId(userId)
+                .expiresAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(expiresAtMillis), ZoneId.systemDefault()))
+                .build());
+        add(tokenId);
+    }
+
+    /** 마지막 조회 이후(겹치는 구간 포함) 다른 서버에서 폐기된 토큰을 필터에 더합니다. */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:5000}")
+    public void syncRecent() {
+        LocalDateTime from = syncedFrom;
+        if (from == null) {
+            return; // 시작 시 재구성 전 (재구성이 전체를 읽음)
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<String> recent = revokedAccessTokenRepository.findTokenIdsRevokedSince(from.minus(Duration.ofMillis(syncOverlapMillis)));
+        recent.forEach(this::add);
+        syncedFrom = startedAt;
+    }
+
+    /** 서버 시작 직후와 주기적으로 만료된 항목을 정리하고 필터를 새로 만듭니다. */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${jwt.revocation.rebuild-cron:0 */30 * * * *}")
+    public void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        int purged = revokedAccessTokenRepository.deleteExpired(now);
+
+        // 조회 전에 새 필터를 등록해 두어야 조회와 교체 사이에 들어온 폐기도 빠지지 않습니다.
+        BloomFilter fresh = BloomFilter.create(
+                Math.max(expectedInsertions, revokedAccessTokenRepository.count() * 2), falsePositiveRate);
+        synchronized (this) {
+            rebuilding = fresh;
+        }
+        List<String> active = revokedAccessTokenRepository.findActiveTokenIds(now);
+        active.forEach(fresh::put);
+        synchronized (this) {
+            filter = fresh;
+            rebuilding = null;
+        }
+        if (syncedFrom == null) {
+            syncedFrom = now;
+        }
+        log.info("=== AccessTokenRevocationList: 폐기 토큰 필터 재구성 완료 (유효 {}건, 정리 {}건) ===", active.size(), purged);
+    }
+
+    private synchronized void add(String tokenId) {
+        filter.put(tokenId);
+        if (rebuilding != null) {
+            rebuilding.put(tokenId);
+        }
+    }
+}
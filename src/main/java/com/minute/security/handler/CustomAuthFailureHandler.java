@@ -1,5 +1,6 @@
 package com.minute.security.handler;
 
+import com.minute.security.crypto.PasswordHashingRejectedException;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -34,11 +35,20 @@ public class CustomAuthFailureHandler implements AuthenticationFailureHandler {
             failMsg = "정지된 계정입니다.";
         }
 
+        int status = HttpServletResponse.SC_UNAUTHORIZED;
+        if (exception instanceof PasswordHashingRejectedException) {
+            // 비밀번호 검증 스레드 풀 포화 → 인증 실패가 아니라 일시적 과부하
+            failType = "TM";
+            failMsg = exception.getMessage();
+            status = 429;
+            response.setHeader("Retry-After", "1");
+        }
+
         JSONObject result = new JSONObject();
         result.put("code", failType);
         result.put("message", failMsg);
 
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setStatus(status);
         response.setContentType("application/json");
         response.setCharacterEncoding("UTF-8");
         response.getWriter().write(result.toJSONString());
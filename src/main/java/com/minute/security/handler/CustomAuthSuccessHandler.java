@@ -2,9 +2,12 @@ package com.minute.security.handler;
 
 import com.minute.auth.common.AuthConstants;
 import com.minute.auth.common.utils.ConvertUtil;
+import com.minute.auth.dto.response.TokenResponseDto;
 import com.minute.auth.service.DetailUser;
+import com.minute.auth.service.TokenService;
 import com.minute.user.entity.User;
 import com.minute.user.enumpackage.UserStatus;
+import com.minute.user.repository.UserRepository;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -21,16 +24,20 @@ import java.util.HashMap;
 @Component
 public class CustomAuthSuccessHandler extends SavedRequestAwareAuthenticationSuccessHandler {
 
-    private final JwtProvider jwtProvider;
+    private final TokenService tokenService;
+    private final UserRepository userRepository;
 
     @Autowired
-    public CustomAuthSuccessHandler(JwtProvider jwtProvider) {
-        this.jwtProvider = jwtProvider;
+    public CustomAuthSuccessHandler(TokenService tokenService, UserRepository userRepository) {
+        this.tokenService = tokenService;
+        this.userRepository = userRepository;
     }
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws ServletException, IOException {
-        User user = ((DetailUser) authentication.getPrincipal()).getUser();
+        // 인증 단계에서는 로그인용 컬럼만 읽었으므로, 응답(userInfo)에 담을 사용자 정보는 로그인 성공 시에만 조회
+        User principal = ((DetailUser) authentication.getPrincipal()).getUser();
+        User user = userRepository.findById(principal.getUserId()).orElse(principal);
 
         JSONObject jsonValue = (JSONObject) ConvertUtil.converObjectToJsonObject(user);
         HashMap<String, Object> responseMap = new HashMap<>();
@@ -42,12 +49,16 @@ public class CustomAuthSuccessHandler extends SavedRequestAwareAuthenticationSuc
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
         } else {
             // 인스턴스를 통해 메서드 호출
-            String token = jwtProvider.generateToken(user);
+            TokenResponseDto tokens = tokenService.issue(user);
+            String token = tokens.getToken();
             responseMap.put("userInfo", jsonValue);
             responseMap.put("message", "로그인 성공입니다.");
 
             //토큰발행(/user용)
             responseMap.put("token", token);
+            // 액세스 토큰 만료 시 /api/v1/auth/refresh 로 재발급 (재로그인 불필요)
+            responseMap.put("refreshToken", tokens.getRefreshToken());
+            responseMap.put("expiresIn", tokens.getExpiresIn());
             response.addHeader(AuthConstants.AUTH_HEADER, AuthConstants.TOKEN_TYPE + " " + token);
         }
 
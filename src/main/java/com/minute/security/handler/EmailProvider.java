@@ -1,32 +1,24 @@
 package com.minute.security.handler;
 
-import jakarta.mail.internet.MimeMessage;
+import com.minute.common.mail.MailOutboxService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 public class EmailProvider {
 
-    private final JavaMailSender javaMailSender;
+    private final MailOutboxService mailOutboxService; // 발송은 MailOutboxDispatcher 가 백그라운드에서 처리
 
     private final String SUBJECT = "[MIN:UTE] 인증 메일입니다.";
 
     public boolean sendCertificationMail(String email, String certificationNumber) {
 
         try {
-            MimeMessage message = javaMailSender.createMimeMessage();
-            MimeMessageHelper messageHelper = new MimeMessageHelper(message, true);
-
             String htmlContent = getCertificationMessage(certificationNumber);
 
-            messageHelper.setTo(email);
-            messageHelper.setSubject(SUBJECT);
-            messageHelper.setText(htmlContent,true);
-
-            javaMailSender.send(message);
+            // 발송 대기열에 저장만 하고 바로 반환 (SMTP 왕복 시간이 요청 응답 시간에 포함되지 않음)
+            mailOutboxService.enqueue(email, SUBJECT, htmlContent);
 
         } catch (Exception exception) {
             exception.printStackTrace();
@@ -1,9 +1,11 @@
 package com.minute.security.handler;
 
+import com.minute.common.cache.WeightedLruCache;
 import com.minute.user.entity.User;
 import io.jsonwebtoken.*;
 import jakarta.annotation.PostConstruct;
 import jakarta.xml.bind.DatatypeConverter;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -11,12 +13,17 @@ import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
+import java.util.UUID;
 
+@Slf4j
 @Component
 public class JwtProvider {
 
@@ -26,12 +33,22 @@ public class JwtProvider {
     @Value("${jwt.time}")
     private long tokenValidity;
 
+    @Value("${jwt.verified-cache-size:10000}")
+    private int verifiedCacheSize;
+
     private static Key key;
 
+    private JwtParser jwtParser;
+    private WeightedLruCache<String, VerifiedToken> verifiedTokenCache;
+
     @PostConstruct
     public void init() {
         byte[] secretBytes = DatatypeConverter.parseBase64Binary(secretKey);
         key = new SecretKeySpec(secretBytes, SignatureAlgorithm.HS256.getJcaName());
+        // 파서는 thread-safe 하므로 한 번만 만들어 모든 요청에서 재사용합니다.
+        jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        // 항목당 무게 1 → 최대 verifiedCacheSize 개의 토큰을 LRU로 보관
+        verifiedTokenCache = new WeightedLruCache<>(Math.max(1, verifiedCacheSize), (hash, verified) -> 1);
     }
 
 
@@ -43,6 +60,7 @@ public class JwtProvider {
                 .setHeader(createHeader())
                 .setClaims(createClaims(user))
                 .setSubject(user.getUserId())
+                .setId(UUID.randomUUID().toString()) // 로그아웃 시 토큰 단위 폐기를 위한 jti
                 .setIssuedAt(new Date(now))
                 .setExpiration(expireDate)
                 .signWith(key, SignatureAlgorithm.HS256)
@@ -51,53 +69,67 @@ public class JwtProvider {
                 .compact();
     }
 
+    /** 액세스 토큰 유효 시간(ms) */
+    public long getTokenValidity() {
+        return tokenValidity;
+    }
+
     public boolean isValidToken(String token) {
         try {
-            getClaims(token); // 파싱 시도
+            verify(token); // 파싱 시도 (검증된 토큰은 캐시에서 바로 확인)
             return true;
         } catch (JwtException | IllegalArgumentException e) {
-            e.printStackTrace();
+            log.debug("[JwtProvider] isValidToken - 유효하지 않은 토큰: {}", e.getMessage());
             return false;
         }
     }
 
-//    public Claims getClaims(String token) {
-//        return Jwts.parserBuilder()
-//                .setSigningKey(key)
-//                .build()
-//                .parseClaimsJws(token)
-//                .getBody();
-//    }
+    /**
+     * 토큰을 검증하고 인증에 필요한 정보(userId, role, 만료 시각)를 반환합니다.
+     *
+     * <p>한 번 검증에 성공한 토큰은 토큰의 SHA-256 해시를 키로 만료 시각까지 캐시해 두고,
+     * 같은 토큰이 다시 오면 서명 검증(HMAC)과 JSON 파싱 없이 캐시에서 바로 반환합니다.
+     * 만료 시각이 지난 항목은 사용하지 않고 다시 파싱하므로 {@link ExpiredJwtException}이 그대로 발생합니다.
+     *
+     * @throws JwtException 서명 오류, 만료, 형식 오류 또는 필수 클레임 누락
+     */
+    public VerifiedToken verify(String token) {
+        String cacheKey = sha256Hex(token);
+        VerifiedToken cached = verifiedTokenCache.getIfPresent(cacheKey);
+        if (cached != null) {
+            if (!cached.isExpired(System.currentTimeMillis())) {
+                return cached;
+            }
+            verifiedTokenCache.invalidate(cacheKey);
+        }
+
+        Claims claims = getClaims(token);
+        String userId = claims.get("userId", String.class);
+        String role = claims.get("role", String.class);
+        if (userId == null || role == null) {
+            throw new JwtException("Token claims are incomplete.");
+        }
+        Date expiration = claims.getExpiration();
+        VerifiedToken verified = new VerifiedToken(claims.getId(), userId, role,
+                expiration != null ? expiration.getTime() : Long.MAX_VALUE);
+        verifiedTokenCache.put(cacheKey, verified);
+        return verified;
+    }
 
-    //완수 디버깅 추가
-    // JwtProvider.java의 getClaims 메서드 (또는 유사한 검증 로직)
+    /**
+     * 토큰의 서명을 검증하고 클레임을 반환합니다. 파서는 init()에서 한 번만 만들어 재사용합니다.
+     */
     public Claims getClaims(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    /** 토큰 등 문자열의 SHA-256 해시(16진수 64자). 원문 대신 저장/캐시 키로 사용합니다. */
+    public static String sha256Hex(String token) {
         try {
-            System.out.println("[JwtProvider] getClaims - 토큰 검증 및 클레임 추출 시도: " + token);
-            System.out.println("[JwtProvider] getClaims - 검증에 사용될 key: " + (key != null ? key.getAlgorithm() + " key initialized" : "KEY IS NULL"));
-
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(key) // 이 'key'가 init()에서 설정된 key와 동일한지, null이 아닌지 중요
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-            System.out.println("[JwtProvider] getClaims - 클레임 추출 성공: " + claims.toString());
-            return claims;
-        } catch (SignatureException e) {
-            System.err.println("!!!!!!!! [JwtProvider] getClaims - SignatureException 발생: 서명이 유효하지 않음 !!!!!!!!");
-            System.err.println("           (원인: secretKey 불일치 또는 토큰 변조 가능성)");
-            System.err.println("           " + e.getMessage());
-            // e.printStackTrace(); // 필요하면 전체 스택 트레이스 출력
-            throw e; // 예외를 다시 던져서 JwtAuthenticationFilter에서 상세 처리하도록 함
-        } catch (ExpiredJwtException e) {
-            System.err.println("[JwtProvider] getClaims - ExpiredJwtException 발생: 토큰 만료 - " + e.getMessage());
-            throw e;
-        } catch (MalformedJwtException e) {
-            System.err.println("[JwtProvider] getClaims - MalformedJwtException 발생: 토큰 형식 오류 - " + e.getMessage());
-            throw e;
-        } catch (JwtException e) { // 기타 모든 JWT 관련 예외 (UnsupportedJwtException, IllegalArgumentException 등 포함)
-            System.err.println("[JwtProvider] getClaims - JwtException 발생 (일반): " + e.getClass().getName() + " - " + e.getMessage());
-            throw e;
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
         }
     }
 
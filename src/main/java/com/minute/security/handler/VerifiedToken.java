@@ -0,0 +1,16 @@
+package com.minute.security.handler;
+
+/**
+ * 서명 검증을 마친 JWT에서 인증에 필요한 값만 담은 불변 객체입니다.
+ *
+ * @param tokenId         토큰 ID (jti 클레임, 폐기 확인용. 이전 형식 토큰은 null)
+ * @param userId          토큰의 userId 클레임
+ * @param role            토큰의 role 클레임
+ * @param expiresAtMillis 만료 시각 (epoch millis)
+ */
+public record VerifiedToken(String tokenId, String userId, String role, long expiresAtMillis) {
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
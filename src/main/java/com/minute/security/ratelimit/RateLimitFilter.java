@@ -0,0 +1,111 @@
+package com.minute.security.ratelimit;
+
+import com.minute.auth.common.ResponseCode;
+import com.minute.auth.common.ResponseMessage;
+import com.minute.security.handler.JwtProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 인증/쓰기 API 요청 횟수를 토큰 버킷으로 제한하는 필터입니다. (WebSecurityConfig 에서 JwtLoginFilter 앞에 등록)
+ *
+ * <p>규칙({@link RateLimitRoute})에 해당하지 않는 요청은 문자열 비교 몇 번만 하고 통과합니다.
+ * 해당하면 IP별 버킷과, 로그인 사용자라면 사용자별 버킷을 함께 확인해 둘 다 남아 있을 때만 토큰을 하나씩 사용하고
+ * 하나라도 비어 있으면 429 와 토큰이 다시 채워질 때까지의 {@code Retry-After}(초)를 응답합니다.
+ *
+ * <p>IP 는 {@code request.getRemoteAddr()} 를 사용합니다. 로드밸런서 뒤에서는 {@code server.forward-headers-strategy}
+ * 설정에 따라 Tomcat RemoteIpValve 가 신뢰하는 프록시({@code server.tomcat.remoteip.internal-proxies})의
+ * X-Forwarded-For 로 바꿔 둔 실제 클라이언트 IP 입니다.
+ *
+ * <p>로그인 필터보다 앞에서 실행되어 SecurityContext 가 비어 있으므로, 사용자는 Authorization 헤더의 토큰으로 식별합니다.
+ * ({@link JwtProvider#verify}는 검증 캐시를 사용하므로 같은 토큰의 반복 요청은 서명 검증을 다시 하지 않습니다)
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final List<RateLimitRoute> routes;
+    private final StripedTokenBuckets buckets;
+    private final JwtProvider jwtProvider;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitFilter(List<RateLimitRoute> routes, StripedTokenBuckets buckets,
+                           JwtProvider jwtProvider, MeterRegistry meterRegistry) {
+        this.routes = List.copyOf(routes);
+        this.buckets = buckets;
+        this.jwtProvider = jwtProvider;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RateLimitPolicy policy = match(request.getMethod(), request.getRequestURI());
+        if (policy == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long now = System.nanoTime();
+        String ipKey = policy.ipCapacity() > 0 ? policy.name() + "|ip|" + request.getRemoteAddr() : null;
+        String userId = policy.userCapacity() > 0 ? resolveUserId(request) : null;
+        String userKey = userId != null ? policy.name() + "|user|" + userId : null;
+
+        long waitNanos = 0;
+        if (ipKey != null && userKey != null) {
+            waitNanos = buckets.tryConsume(ipKey, policy.ipCapacity(), policy.ipRefillPerSecond(),
+                    userKey, policy.userCapacity(), policy.userRefillPerSecond(), now);
+        } else if (ipKey != null) {
+            waitNanos = buckets.tryConsume(ipKey, policy.ipCapacity(), policy.ipRefillPerSecond(), now);
+        } else if (userKey != null) {
+            waitNanos = buckets.tryConsume(userKey, policy.userCapacity(), policy.userRefillPerSecond(), now);
+        }
+
+        if (waitNanos > 0) {
+            reject(response, policy, waitNanos);
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    RateLimitPolicy match(String method, String uri) {
+        for (RateLimitRoute route : routes) {
+            if (route.matches(method, uri)) {
+                return route.policy();
+            }
+        }
+        return null;
+    }
+
+    private String resolveUserId(HttpServletRequest request) {
+        String header = request.getHeader("Authorization");
+        if (header == null || !header.startsWith("Bearer ")) {
+            return null;
+        }
+        try {
+            return jwtProvider.verify(header.substring(7)).userId();
+        } catch (RuntimeException e) {
+            return null; // 유효하지 않은 토큰은 IP 기준으로만 제한 (인증 실패 응답은 인증 필터가 처리)
+        }
+    }
+
+    private void reject(HttpServletResponse response, RateLimitPolicy policy, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L);
+        if (meterRegistry != null) {
+            Counter.builder("security.rate-limit.rejected").tag("policy", policy.name()).register(meterRegistry).increment();
+        }
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write("{\"code\":\"" + ResponseCode.TOO_MANY_REQUESTS
+                + "\",\"message\":\"" + ResponseMessage.TOO_MANY_REQUESTS + "\"}");
+    }
+}
@@ -0,0 +1,16 @@
+package com.minute.security.ratelimit;
+
+/**
+ * 경로 그룹별 토큰 버킷 설정입니다. 용량(capacity)만큼 연속 요청을 허용하고 초당 refill 개씩 다시 채워집니다.
+ * 용량이 0이면 해당 기준(사용자/IP)으로는 제한하지 않습니다.
+ *
+ * @param name               지표 태그와 버킷 키 접두사로 사용
+ * @param userCapacity       로그인 사용자별 버킷 용량
+ * @param userRefillPerSecond 로그인 사용자별 초당 충전량
+ * @param ipCapacity         IP별 버킷 용량
+ * @param ipRefillPerSecond  IP별 초당 충전량
+ */
+public record RateLimitPolicy(String name,
+                              long userCapacity, double userRefillPerSecond,
+                              long ipCapacity, double ipRefillPerSecond) {
+}
@@ -0,0 +1,49 @@
+package com.minute.security.ratelimit;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 제한 대상 경로입니다. 요청마다 비교하므로 패턴 파싱 없이 메서드 + 접두사/포함 문자열 비교만 합니다.
+ * {@code policy} 가 null 이면 제한하지 않는 예외 경로입니다. (앞쪽 규칙이 우선)
+ */
+public record RateLimitRoute(Set<String> methods, String prefix, String contains, RateLimitPolicy policy) {
+
+    public boolean matches(String method, String uri) {
+        return methods.contains(method)
+                && uri.startsWith(prefix)
+                && (contains == null || uri.indexOf(contains, prefix.length()) >= 0);
+    }
+
+    private static final Set<String> WRITES = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private static final RateLimitPolicy AUTH = new RateLimitPolicy("auth", 0, 0, 30, 0.5);
+    private static final RateLimitPolicy SEARCH = new RateLimitPolicy("search", 20, 1, 60, 3);
+    private static final RateLimitPolicy FREEBOARD_WRITE = new RateLimitPolicy("freeboard-write", 10, 0.2, 40, 1);
+    private static final RateLimitPolicy LIKE = new RateLimitPolicy("like", 30, 2, 120, 10);
+
+    /**
+     * 기본 규칙
+     * <ul>
+     *     <li>좋아요/싫어요 토글: 사용자별 30회 연속, 초당 2회</li>
+     *     <li>인증(로그인/회원가입/인증메일/토큰 재발급 등) 쓰기 요청: IP별 30회 연속, 분당 30회</li>
+     *     <li>검색 POST: 사용자별 20회 연속, 초당 1회</li>
+     *     <li>자유게시판 작성/수정/삭제/신고: 사용자별 10회 연속, 분당 12회</li>
+     * </ul>
+     * 시청 기록 저장은 /api/v1/auth 아래에 있지만 영상 재생마다 호출되므로 제한하지 않습니다.
+     * 자유게시판 관리자 기능(게시글/댓글 공개 여부 변경, /admin 아래)도 사용자 쓰기 제한에서 제외합니다.
+     */
+    public static List<RateLimitRoute> defaults() {
+        return List.of(
+                new RateLimitRoute(Set.of("POST", "DELETE"), "/api/v1/auth/", "/like", LIKE),
+                new RateLimitRoute(Set.of("POST", "DELETE"), "/api/v1/auth/", "/dislike", LIKE),
+                new RateLimitRoute(Set.of("POST"), "/api/v1/board/free/", "/like", LIKE),
+                new RateLimitRoute(WRITES, "/api/v1/auth/", "/watch-history", null),
+                new RateLimitRoute(WRITES, "/api/v1/auth/", null, AUTH),
+                new RateLimitRoute(Set.of("POST"), "/api/v1/search", null, SEARCH),
+                new RateLimitRoute(Set.of("PATCH"), "/api/v1/board/free/", "/visibility", null),
+                new RateLimitRoute(WRITES, "/api/v1/board/free/admin/", null, null),
+                new RateLimitRoute(WRITES, "/api/v1/board/free", null, FREEBOARD_WRITE)
+        );
+    }
+}
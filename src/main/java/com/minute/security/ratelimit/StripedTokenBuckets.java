@@ -0,0 +1,174 @@
+package com.minute.security.ratelimit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 키(정책 + 사용자/IP)별 토큰 버킷 저장소입니다.
+ *
+ * <p>버킷은 키 해시로 나눈 여러 구역(stripe)의 HashMap 에 보관하고 구역 단위로만 락을 잡으므로,
+ * 서로 다른 사용자의 요청은 거의 경합하지 않습니다. 버킷은 요청이 올 때 경과 시간만큼 한 번에 채우므로
+ * 별도의 충전 스레드가 없습니다.
+ *
+ * <p>가득 찬 뒤 {@code security.rate-limit.idle-evict-ms} 동안 쓰이지 않은 버킷은 주기적으로 제거합니다.
+ * (가득 찬 버킷은 새로 만든 버킷과 같으므로 제거해도 제한 결과가 달라지지 않습니다)
+ */
+@Slf4j
+@Component
+public class StripedTokenBuckets {
+
+    private final Stripe[] stripes;
+    private final int mask;
+    private final long idleEvictNanos;
+
+    public StripedTokenBuckets(@Value("${security.rate-limit.stripes:64}") int stripeCount,
+                               @Value("${security.rate-limit.idle-evict-ms:600000}") long idleEvictMillis,
+                               MeterRegistry meterRegistry) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.mask = size - 1;
+        this.idleEvictNanos = TimeUnit.MILLISECONDS.toNanos(idleEvictMillis);
+        if (meterRegistry != null) {
+            Gauge.builder("security.rate-limit.buckets", this, StripedTokenBuckets::size).register(meterRegistry);
+        }
+    }
+
+    /**
+     * 토큰 하나를 사용합니다.
+     *
+     * @return 허용되면 0, 아니면 토큰 하나가 채워질 때까지 남은 나노초
+     */
+    public long tryConsume(String key, long capacity, double refillPerSecond, long nowNanos) {
+        double refillPerNano = refillPerSecond / 1_000_000_000d;
+        Stripe stripe = stripeOf(key);
+        synchronized (stripe) {
+            Bucket bucket = refill(stripe, key, capacity, refillPerNano, nowNanos);
+            long wait = waitNanos(bucket, refillPerNano);
+            if (wait == 0) {
+                bucket.tokens -= 1;
+            }
+            return wait;
+        }
+    }
+
+    /**
+     * 두 버킷에서 토큰을 하나씩 사용합니다. 둘 다 남아 있을 때만 사용하므로,
+     * 한쪽이 비어 거절된 요청이 다른 쪽 토큰을 소모하지 않습니다.
+     * (두 구역의 락은 항상 배열 순서대로 잡습니다)
+     *
+     * @return 허용되면 0, 아니면 두 버킷 모두 토큰이 채워질 때까지 남은 나노초
+     */
+    public long tryConsume(String firstKey, long firstCapacity, double firstRefillPerSecond,
+                           String secondKey, long secondCapacity, double secondRefillPerSecond, long nowNanos) {
+        int firstIndex = spread(firstKey.hashCode()) & mask;
+        int secondIndex = spread(secondKey.hashCode()) & mask;
+        Stripe outer = stripes[Math.min(firstIndex, secondIndex)];
+        Stripe inner = stripes[Math.max(firstIndex, secondIndex)];
+        synchronized (outer) {
+            synchronized (inner) {
+                double firstRefillPerNano = firstRefillPerSecond / 1_000_000_000d;
+                double secondRefillPerNano = secondRefillPerSecond / 1_000_000_000d;
+                Bucket first = refill(stripes[firstIndex], firstKey, firstCapacity, firstRefillPerNano, nowNanos);
+                Bucket second = refill(stripes[secondIndex], secondKey, secondCapacity, secondRefillPerNano, nowNanos);
+                long wait = Math.max(waitNanos(first, firstRefillPerNano), waitNanos(second, secondRefillPerNano));
+                if (wait == 0) {
+                    first.tokens -= 1;
+                    second.tokens -= 1;
+                }
+                return wait;
+            }
+        }
+    }
+
+    // 호출 전에 구역 락을 잡고 있어야 함
+    private static Bucket refill(Stripe stripe, String key, long capacity, double refillPerNano, long nowNanos) {
+        Bucket bucket = stripe.buckets.get(key);
+        if (bucket == null) {
+            bucket = new Bucket(capacity, nowNanos);
+            stripe.buckets.put(key, bucket);
+        } else if (nowNanos > bucket.refilledAt) {
+            bucket.tokens = Math.min(capacity, bucket.tokens + (nowNanos - bucket.refilledAt) * refillPerNano);
+            bucket.refilledAt = nowNanos;
+        }
+        bucket.fullAt = nowNanos + (long) ((capacity - bucket.tokens + 1) / refillPerNano);
+        return bucket;
+    }
+
+    private static long waitNanos(Bucket bucket, double refillPerNano) {
+        if (bucket.tokens >= 1) {
+            return 0;
+        }
+        return Math.max(1, (long) Math.ceil((1 - bucket.tokens) / refillPerNano));
+    }
+
+    @Scheduled(fixedDelayString = "${security.rate-limit.evict-interval-ms:60000}")
+    public void evictIdle() {
+        int evicted = evictIdle(System.nanoTime());
+        if (evicted > 0) {
+            log.debug("[StripedTokenBuckets] 유휴 버킷 {}개 제거 (남은 버킷 {}개)", evicted, size());
+        }
+    }
+
+    int evictIdle(long nowNanos) {
+        int evicted = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                Iterator<Bucket> it = stripe.buckets.values().iterator();
+                while (it.hasNext()) {
+                    Bucket bucket = it.next();
+                    if (nowNanos - bucket.fullAt >= 0 && nowNanos - bucket.refilledAt >= idleEvictNanos) {
+                        it.remove();
+                        evicted++;
+                    }
+                }
+            }
+        }
+        return evicted;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.buckets.size();
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripeOf(String key) {
+        return stripes[spread(key.hashCode()) & mask];
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Stripe {
+        private final Map<String, Bucket> buckets = new HashMap<>();
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long refilledAt;
+        private long fullAt; // 이 시각 이후에는 가득 찬 상태 (제거 가능 판단용)
+
+        private Bucket(long capacity, long nowNanos) {
+            this.tokens = capacity;
+            this.refilledAt = nowNanos;
+            this.fullAt = nowNanos;
+        }
+    }
+}
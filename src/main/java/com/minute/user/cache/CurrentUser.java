@@ -0,0 +1,57 @@
+package com.minute.user.cache;
+
+import com.minute.auth.service.DetailUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Optional;
+
+/**
+ * 현재 요청의 로그인 사용자에 대한 접근자입니다.
+ *
+ * <p>사용자 ID는 JWT 필터가 SecurityContext 에 넣어 둔 값을 그대로 쓰고,
+ * 스냅샷은 요청 속성(request attribute)에 한 번만 조회해 두어 같은 요청 안에서는 캐시 조회도 반복하지 않습니다.
+ * 요청 밖(스케줄러, 비동기 작업 등)에서 호출되면 요청 단위 보관 없이 {@link UserSnapshotCache}를 그대로 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentUser {
+
+    private static final String SNAPSHOT_ATTRIBUTE = CurrentUser.class.getName() + ".snapshot";
+
+    private final UserSnapshotCache userSnapshotCache;
+
+    /** 로그인하지 않았으면 null */
+    public String getUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && authentication.getPrincipal() instanceof DetailUser detailUser
+                && detailUser.getUser() != null) {
+            return detailUser.getUser().getUserId();
+        }
+        return null;
+    }
+
+    /** 로그인 사용자의 스냅샷. 로그인하지 않았거나 사용자가 삭제되었으면 비어 있습니다. */
+    public Optional<UserSnapshot> getSnapshot() {
+        String userId = getUserId();
+        if (userId == null) {
+            return Optional.empty();
+        }
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return userSnapshotCache.find(userId);
+        }
+        Object memo = attributes.getAttribute(SNAPSHOT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo instanceof UserSnapshot snapshot && snapshot.userId().equals(userId)) {
+            return Optional.of(snapshot);
+        }
+        Optional<UserSnapshot> loaded = userSnapshotCache.find(userId);
+        loaded.ifPresent(snapshot -> attributes.setAttribute(SNAPSHOT_ATTRIBUTE, snapshot, RequestAttributes.SCOPE_REQUEST));
+        return loaded;
+    }
+}
@@ -0,0 +1,25 @@
+package com.minute.user.cache;
+
+import com.minute.user.entity.User;
+import com.minute.user.enumpackage.Role;
+import com.minute.user.enumpackage.UserStatus;
+
+/**
+ * 로그인 확인에 필요한 컬럼만 읽은 사용자 정보입니다. ({@code UserRepository.findLoginUser})
+ */
+public record LoginUser(String userId, String userPw, Role role, UserStatus userStatus) {
+
+    /** 인증 처리(DetailUser)용으로 필요한 필드만 채운 User. 영속 상태가 아니므로 저장하면 안 됩니다. */
+    public User toUser() {
+        User user = new User();
+        user.setUserId(userId);
+        user.setUserPw(userPw);
+        user.setRole(role);
+        user.setUserStatus(userStatus);
+        return user;
+    }
+
+    int estimatedBytes() {
+        return 96 + 2 * (userId.length() + (userPw == null ? 0 : userPw.length()));
+    }
+}
@@ -0,0 +1,87 @@
+package com.minute.user.cache;
+
+import com.minute.common.cache.WeightedLruCache;
+import com.minute.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 시 아이디로 {@link LoginUser}(아이디/비밀번호 해시/권한/상태)를 조회하는 짧은 TTL 캐시입니다.
+ *
+ * <p>로그인 시도마다 User 엔티티 전체를 읽지 않도록 필요한 컬럼만 조회하고, 짧은 시간 동안 재사용합니다.
+ * 존재하지 않는 아이디도 따로(부정 캐시) 기억해 두어, 없는 아이디를 대량으로 시도하는 요청(credential stuffing)이
+ * DB까지 내려가지 않게 합니다. 부정 캐시는 별도 용량으로 관리해 무작위 아이디가 정상 항목을 밀어내지 못합니다.
+ *
+ * <p>회원가입/정보 변경/비밀번호 재설정 시 {@link UserChangedEvent}로 커밋 이후 해당 항목을 제거합니다.
+ * 이 제거는 이벤트를 발행한 서버에서만 일어나므로, 다른 서버에서는 TTL 동안 이전 비밀번호 해시로 로그인이 될 수 있습니다.
+ * 그래서 정상 항목의 TTL 은 짧게(기본 5초) 두어, 같은 아이디로 몰리는 로그인 시도만 묶어 주고 재설정 직후의 노출 시간을 줄입니다.
+ * 부정 캐시도 같은 이유로 다른 서버에서 막 가입한 아이디를 TTL 동안 없는 아이디로 봅니다.
+ */
+@Slf4j
+@Component
+public class LoginUserCache {
+
+    private final UserRepository userRepository;
+    private final WeightedLruCache<String, Entry> found;
+    private final WeightedLruCache<String, Entry> missing;
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+
+    public LoginUserCache(UserRepository userRepository,
+                          @Value("${user.login-cache.max-bytes:4194304}") long maxBytes,
+                          @Value("${user.login-cache.negative-max-bytes:1048576}") long negativeMaxBytes,
+                          @Value("${user.login-cache.ttl-seconds:5}") long ttlSeconds,
+                          @Value("${user.login-cache.negative-ttl-seconds:30}") long negativeTtlSeconds) {
+        this.userRepository = userRepository;
+        this.found = new WeightedLruCache<>(maxBytes, (userId, entry) -> entry.user().estimatedBytes());
+        this.missing = new WeightedLruCache<>(negativeMaxBytes, (userId, entry) -> 64 + 2 * userId.length());
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.negativeTtlNanos = TimeUnit.SECONDS.toNanos(negativeTtlSeconds);
+    }
+
+    public Optional<LoginUser> find(String userId) {
+        long now = System.nanoTime();
+        Entry cached = found.getIfPresent(userId);
+        if (cached == null) {
+            cached = missing.getIfPresent(userId);
+        }
+        if (cached != null && now - cached.expiresAt() < 0) {
+            return Optional.ofNullable(cached.user());
+        }
+        if (cached != null) {
+            // 만료된 항목은 그 사이 다른 요청이 새로 넣지 않았을 때만 지움
+            (cached.user() != null ? found : missing).computeIfPresent(userId, e -> now - e.expiresAt() < 0 ? e : null);
+        }
+
+        // 조회 도중 무효화가 있었으면 조회 결과를 캐시에 넣지 않습니다. (버전 확인과 저장은 캐시 락 안에서 함께 수행)
+        long missingVersion = missing.version();
+        Entry loaded = found.get(userId, id -> userRepository.findLoginUser(id)
+                .map(user -> new Entry(user, now + ttlNanos))
+                .orElse(null));
+        if (loaded != null) {
+            return Optional.of(loaded.user());
+        }
+        missing.mergeIfNotInvalidated(userId, missingVersion, old -> new Entry(null, now + negativeTtlNanos));
+        return Optional.empty();
+    }
+
+    public void invalidate(String userId) {
+        found.invalidate(userId);
+        missing.invalidate(userId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        log.debug("[LoginUserCache] Invalidating login entry of user {}", event.userId());
+        invalidate(event.userId());
+    }
+
+    private record Entry(LoginUser user, long expiresAt) {
+    }
+}
@@ -0,0 +1,146 @@
+package com.minute.user.cache;
+
+import com.minute.common.cache.BloomFilter;
+import com.minute.user.repository.UserIdentityView;
+import com.minute.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * 아이디/이메일 사용 여부를 먼저 메모리의 Bloom 필터로 확인합니다.
+ *
+ * <p>회원가입 화면에서 입력할 때마다 중복 확인(아이디, 이메일)이 호출되므로,
+ * 필터가 "확실히 없음"이라고 답하면 DB 조회 없이 사용 가능으로 응답하고
+ * "있을 수도 있음"일 때만 {@code existsBy*} 조회로 정확히 확인합니다.
+ *
+ * <p>필터는 서버마다 따로 있고 이 서버에서 저장한 값과 재구성 시점의 DB 값만 알기 때문에,
+ * 다른 서버에서 방금 가입한 값을 "사용 가능"으로 답할 수 있습니다. 그래서 입력 중 안내용 확인에만 쓰고,
+ * 가입/정보수정 저장 직전의 중복 확인은 항상 DB로 합니다. (이메일/닉네임/전화번호 컬럼에는 UNIQUE 키가 없음)
+ * 닉네임/전화번호는 입력 중 확인 엔드포인트가 없어 필터를 두지 않습니다.
+ *
+ * <p>값은 가입/수정 저장 전에 필터에 추가합니다. 저장이 롤백되어도 오탐(DB 재확인)만 생길 뿐 놓치는 값은 없습니다.
+ * Bloom 필터는 삭제를 지원하지 않아 탈퇴나 변경으로 사용하지 않게 된 값은 다음 재구성 때 빠집니다.
+ * 서버 시작 후 첫 구성이 끝나기 전에는 항상 DB로 확인합니다.
+ */
+@Slf4j
+@Component
+public class UserAvailabilityIndex {
+
+    public enum Field { USER_ID, EMAIL }
+
+    private final UserRepository userRepository;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile Map<Field, BloomFilter> filters; // 첫 구성 전에는 null
+    private Map<Field, BloomFilter> rebuilding;      // 재구성 중 추가된 값도 새 필터에 반영하기 위함 (this 락으로 보호)
+
+    public UserAvailabilityIndex(UserRepository userRepository,
+                                 @Value("${user.availability.expected-insertions:100000}") long expectedInsertions,
+                                 @Value("${user.availability.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    public boolean existsUserId(String userId) {
+        return exists(Field.USER_ID, userId, userRepository::existsByUserId);
+    }
+
+    public boolean existsEmail(String email) {
+        return exists(Field.EMAIL, email, userRepository::existsByUserEmail);
+    }
+
+    /** 필터만으로 사용 가능(확실히 없음)이 확인되면 true. 이 경우 DB 조회를 생략합니다. */
+    private boolean definitelyFree(Field field, String value) {
+        Map<Field, BloomFilter> current = filters;
+        return current != null && value != null && !current.get(field).mightContain(normalize(value));
+    }
+
+    /** 저장 전에 호출해 새로 사용할 값을 필터에 추가합니다. null 값은 무시합니다. */
+    public void register(Field field, String value) {
+        if (value == null) {
+            return;
+        }
+        String key = normalize(value);
+        synchronized (this) {
+            if (filters != null) {
+                filters.get(field).put(key);
+            }
+            if (rebuilding != null) {
+                rebuilding.get(field).put(key);
+            }
+        }
+    }
+
+    public void register(String userId, String email) {
+        register(Field.USER_ID, userId);
+        register(Field.EMAIL, email);
+    }
+
+    /** 서버 시작 직후와 주기적으로(탈퇴/변경된 값 정리) 필터를 새로 만듭니다. */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${user.availability.rebuild-cron:0 30 4 * * *}")
+    public void rebuild() {
+        long expected = Math.max(expectedInsertions, userRepository.count() * 2);
+        Map<Field, BloomFilter> fresh = new EnumMap<>(Field.class);
+        for (Field field : Field.values()) {
+            fresh.put(field, BloomFilter.create(expected, falsePositiveRate));
+        }
+        // 조회 전에 등록해 두어야 조회와 교체 사이에 가입/수정된 값도 빠지지 않습니다.
+        synchronized (this) {
+            rebuilding = fresh;
+        }
+        List<UserIdentityView> identities;
+        try {
+            identities = userRepository.findAllIdentities();
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                rebuilding = null;
+            }
+            throw e;
+        }
+        for (UserIdentityView identity : identities) {
+            putIfPresent(fresh.get(Field.USER_ID), identity.getUserId());
+            putIfPresent(fresh.get(Field.EMAIL), identity.getUserEmail());
+        }
+        synchronized (this) {
+            filters = fresh;
+            rebuilding = null;
+        }
+        log.info("=== UserAvailabilityIndex: 중복 확인 필터 재구성 완료 (회원 {}명) ===", identities.size());
+    }
+
+    private boolean exists(Field field, String value, Predicate<String> database) {
+        if (definitelyFree(field, value)) {
+            return false;
+        }
+        return database.test(value);
+    }
+
+    private static void putIfPresent(BloomFilter filter, String value) {
+        if (value != null) {
+            filter.put(normalize(value));
+        }
+    }
+
+    /**
+     * MySQL 기본 콜레이션(대소문자/악센트 구분 없음, 뒤쪽 공백 무시)에서 같은 값으로 취급되는 문자열이
+     * 같은 키가 되도록 정규화합니다. 필터에서 놓치는 값이 없게 하는 것이 목적이라 조금 넓게 묶여도 괜찮습니다.
+     */
+    static String normalize(String value) {
+        String decomposed = Normalizer.normalize(value.stripTrailing(), Normalizer.Form.NFD);
+        return decomposed.replaceAll("\\p{M}", "").toLowerCase(Locale.ROOT);
+    }
+}
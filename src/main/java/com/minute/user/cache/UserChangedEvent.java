@@ -0,0 +1,8 @@
+package com.minute.user.cache;
+
+/**
+ * 사용자 정보(닉네임, 프로필, 권한, 상태 등)가 바뀌었거나 삭제되었음을 알리는 이벤트입니다.
+ * 트랜잭션 커밋 이후 {@link UserSnapshotCache}, {@link LoginUserCache}에서 해당 사용자를 무효화합니다.
+ */
+public record UserChangedEvent(String userId) {
+}
@@ -0,0 +1,33 @@
+package com.minute.user.cache;
+
+import com.minute.user.entity.User;
+import com.minute.user.enumpackage.Role;
+import com.minute.user.enumpackage.UserStatus;
+
+/**
+ * 화면 표시/권한 확인에 자주 쓰이는 사용자 정보만 담은 불변 객체입니다.
+ * 엔티티와 달리 영속성 컨텍스트와 무관하므로 캐시에 두고 여러 요청에서 공유할 수 있습니다.
+ */
+public record UserSnapshot(String userId,
+                           String userNickName,
+                           String profileImage,
+                           Role role,
+                           UserStatus userStatus) {
+
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(user.getUserId(), user.getUserNickName(), user.getProfileImage(),
+                user.getRole(), user.getUserStatus());
+    }
+
+    public boolean isSuspended() {
+        return userStatus == UserStatus.Y;
+    }
+
+    int estimatedBytes() {
+        return 96 + 2 * (length(userId) + length(userNickName) + length(profileImage));
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
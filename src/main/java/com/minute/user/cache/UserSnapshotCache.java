@@ -0,0 +1,72 @@
+package com.minute.user.cache;
+
+import com.minute.common.cache.WeightedLruCache;
+import com.minute.user.entity.User;
+import com.minute.user.repository.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+
+/**
+ * userId 별 {@link UserSnapshot} 캐시입니다.
+ *
+ * <p>JWT 필터가 이미 사용자를 식별했는데도 서비스마다 {@code findById}로 사용자 행 전체를 다시 읽던 부분을 대신합니다.
+ * 존재 확인과 닉네임/권한 등은 스냅샷으로 처리하고, 엔티티 연관관계가 필요한 쓰기 작업에는
+ * {@link #referenceOf(String, String)}로 SELECT 없이 만든 프록시({@code getReferenceById})를 사용합니다.
+ *
+ * <p>사용자 정보가 바뀌면 {@link UserChangedEvent}를 발행하고, 커밋 이후 해당 항목을 제거합니다.
+ */
+@Slf4j
+@Component
+public class UserSnapshotCache {
+
+    private final UserRepository userRepository;
+    // DB 조회 도중 무효화가 있었으면 조회 결과(이전 값일 수 있음)를 넣지 않음. 확인과 저장은 캐시 락 안에서 함께 처리됨
+    private final WeightedLruCache<String, UserSnapshot> cache;
+
+    public UserSnapshotCache(UserRepository userRepository,
+                             @Value("${user.snapshot-cache.max-bytes:8388608}") long maxBytes) {
+        this.userRepository = userRepository;
+        this.cache = new WeightedLruCache<>(maxBytes, (userId, snapshot) -> snapshot.estimatedBytes());
+    }
+
+    public Optional<UserSnapshot> find(String userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.get(userId, id -> userRepository.findById(id).map(UserSnapshot::from).orElse(null)));
+    }
+
+    /**
+     * @throws EntityNotFoundException 사용자가 없을 때 ({@code message + userId})
+     */
+    public UserSnapshot require(String userId, String message) {
+        return find(userId).orElseThrow(() -> new EntityNotFoundException(message + userId));
+    }
+
+    /**
+     * 사용자가 존재하는지 스냅샷으로 확인한 뒤, 연관관계 설정용 프록시를 반환합니다.
+     * 프록시의 getUserId() 외의 필드에 접근하면 그때 사용자 행을 읽으므로, 화면 표시용 값은 스냅샷을 사용해야 합니다.
+     *
+     * @throws EntityNotFoundException 사용자가 없을 때 ({@code message + userId})
+     */
+    public User referenceOf(String userId, String message) {
+        require(userId, message);
+        return userRepository.getReferenceById(userId);
+    }
+
+    public void invalidate(String userId) {
+        cache.invalidate(userId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        log.debug("[UserSnapshotCache] Invalidating snapshot of user {}", event.userId());
+        invalidate(event.userId());
+    }
+}
@@ -0,0 +1,89 @@
+package com.minute.user.controller;
+
+import com.minute.user.image.ProfileImageStorage;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로필 이미지(GET /upload/{파일명}) 제공.
+ *
+ * <p>내용 주소 파일명은 1년 immutable 로 캐시하고, 예전 파일명({아이디}_profile.*)은 ETag 로 매번 재검증합니다.
+ * If-None-Match / If-Modified-Since 가 맞으면 304 를 반환합니다.
+ * 본문은 Tomcat sendfile 로 커널에서 바로 전송하고, 지원하지 않는 커넥터(TLS 등)에서는 FileChannel.transferTo 로 보냅니다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class ProfileImageController {
+
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable().getHeaderValue();
+    private static final String REVALIDATE = CacheControl.noCache().cachePublic().getHeaderValue();
+
+    private final ProfileImageStorage profileImageStorage;
+
+    @GetMapping(ProfileImageStorage.URL_PREFIX + "{fileName:.+}")
+    public void getProfileImage(@PathVariable("fileName") String fileName,
+                                HttpServletRequest request,
+                                HttpServletResponse response) throws IOException {
+        Path path = profileImageStorage.resolve(fileName);
+        if (path == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        boolean immutable = ProfileImageStorage.isImmutable(fileName);
+        long size = Files.size(path);
+        long lastModified = Files.getLastModifiedTime(path).toMillis();
+        // 내용 주소 파일은 파일명(해시)이 곧 내용 식별자, 예전 파일은 크기+수정 시각
+        String etag = "\"" + (immutable ? fileName : Long.toHexString(size) + "-" + Long.toHexString(lastModified)) + "\"";
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, immutable ? IMMUTABLE : REVALIDATE);
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return; // 304 (ETag, Last-Modified 헤더는 checkNotModified 가 설정)
+        }
+
+        response.setContentType(MediaTypeFactory.getMediaType(fileName).orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+        response.setContentLengthLong(size);
+        if ("HEAD".equalsIgnoreCase(request.getMethod())) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            // 응답 헤더를 보낸 뒤 커넥터가 파일을 소켓으로 직접 전송 (사용자 공간 복사 없음)
+            request.setAttribute(SENDFILE_FILENAME, path.toRealPath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, size);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            long transferred;
+            while (position < size && (transferred = channel.transferTo(position, size - position, out)) > 0) {
+                position += transferred;
+            }
+        }
+    }
+}
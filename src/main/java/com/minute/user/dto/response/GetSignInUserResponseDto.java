@@ -3,12 +3,15 @@ package com.minute.user.dto.response;
 import com.minute.auth.common.ResponseCode;
 import com.minute.auth.common.ResponseMessage;
 import com.minute.auth.dto.response.ResponseDto;
+import com.minute.common.image.ImageVariants;
 import com.minute.user.entity.User;
 import lombok.Getter;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.function.Function;
 
 @Getter
 public class GetSignInUserResponseDto extends ResponseDto {
@@ -18,6 +21,7 @@ public class GetSignInUserResponseDto extends ResponseDto {
     private String userEmail;
     private LocalDateTime createdAt;
     private String profileImage;
+    private Map<String, String> profileImageVariants; // 축소본 경로 ("w200" → 경로), 아직 없으면 비어 있음
 
     private GetSignInUserResponseDto(User user) {
         super(ResponseCode.SUCCESS, ResponseMessage.SUCCESS);
@@ -27,6 +31,7 @@ public class GetSignInUserResponseDto extends ResponseDto {
         this.userEmail=user.getUserEmail();
         this.createdAt=user.getCreatedAt();
         this.profileImage=user.getProfileImage();
+        this.profileImageVariants = ImageVariants.variantUrls(user.getProfileImage(), user.getProfileVariantWidths(), Function.identity());
     }
 
     public static ResponseEntity<GetSignInUserResponseDto> success(User user) {
@@ -3,6 +3,7 @@ package com.minute.user.dto.response;
 import com.minute.auth.common.ResponseCode;
 import com.minute.auth.common.ResponseMessage;
 import com.minute.auth.dto.response.ResponseDto;
+import com.minute.common.image.ImageVariants;
 import com.minute.user.entity.User;
 import com.minute.user.enumpackage.Role;
 import com.minute.user.enumpackage.UserGender;
@@ -11,6 +12,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.function.Function;
 
 @Getter
 public class GetUserResponseDto extends ResponseDto {
@@ -21,6 +24,7 @@ public class GetUserResponseDto extends ResponseDto {
     private LocalDateTime createdAt;
     private String userPhone;
     private String profileImage;
+    private Map<String, String> profileImageVariants; // 축소본 경로 ("w200" → 경로), 아직 없으면 비어 있음
     private int userReport;
     private Role role;
     private UserGender userGender;
@@ -33,6 +37,7 @@ public class GetUserResponseDto extends ResponseDto {
         this.userEmail=user.getUserEmail();
         this.createdAt=user.getCreatedAt();
         this.profileImage=user.getProfileImage();
+        this.profileImageVariants = ImageVariants.variantUrls(user.getProfileImage(), user.getProfileVariantWidths(), Function.identity());
         this.userPhone = user.getUserPhone();
         this.role = user.getRole();
         this.userGender = user.getUserGender();
@@ -59,6 +59,10 @@ public class User {
     @Column(name = "user_profile_image")
     private String profileImage;
 
+    // 프로필 이미지 축소본 너비 목록 (예: "200,600"). 아직 없으면 null (ImageVariantPipeline, db/09)
+    @Column(name = "user_profile_variant_widths", length = 32)
+    private String profileVariantWidths;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "role", nullable = false)
     @ColumnDefault("'USER'") // DB ENUM 기본값과 유사하게 JPA 레벨에서도 명시 (실제 DB 기본값은 USER)
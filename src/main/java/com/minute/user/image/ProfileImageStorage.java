@@ -0,0 +1,181 @@
+package com.minute.user.image;
+
+import com.minute.common.image.ImageVariantStore;
+import com.minute.common.image.ImageVariants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 프로필 이미지를 로컬 디렉토리({@code user.profile.upload-dir})에 내용 주소(SHA-256) 파일명으로 저장합니다.
+ *
+ * <p>업로드는 메모리에 통째로 올리지 않고 채널로 임시 파일에 흘려 쓰면서 해시를 계산한 뒤 {@code {해시}.{확장자}} 로 옮깁니다.
+ * 같은 내용의 파일이 이미 있으면 새로 쓰지 않고 기존 파일을 그대로 사용합니다. (중복 제거)
+ * 파일명이 내용에 따라 정해지므로 한 번 저장된 파일은 바뀌지 않고, 오래 캐시해도 됩니다. ({@link #isImmutable})
+ *
+ * <p>어느 사용자도 참조하지 않게 된 파일은 {@code ProfileImageReconcileScheduler} 가 정리합니다.
+ * 중복 업로드의 "있는지 확인 → 수정 시각 갱신"과 정리 작업의 "수정 시각 확인 → 삭제"가 엇갈리면 방금 재사용한 파일이 지워질 수 있으므로,
+ * 두 작업은 파일명별 잠금({@link #lockFor})으로 순서를 정합니다. (한 서버의 로컬 디렉토리 기준)
+ */
+@Slf4j
+@Component
+public class ProfileImageStorage {
+
+    /** user.user_profile_image 에 저장하는 경로 접두사 (GET /upload/{파일명} 으로 제공) */
+    public static final String URL_PREFIX = "/upload/";
+
+    private static final Set<String> EXTENSIONS = Set.of("jpg", "png", "gif", "webp", "bmp");
+    private static final Pattern FILE_NAME = Pattern.compile("[A-Za-z0-9_][A-Za-z0-9._-]*");
+    private static final Pattern CONTENT_ADDRESSED = Pattern.compile("[0-9a-f]{64}\\.[a-z]+(\\.w\\d+\\.jpg)?");
+    private static final long TRANSFER_CHUNK = 1024 * 1024;
+    private static final int LOCK_STRIPES = 64;
+
+    private final Path root;
+    private final ImageVariantStore variantStore;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    public ProfileImageStorage(@Value("${user.profile.upload-dir:C:/upload/profile/}") String uploadDir) {
+        this.root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.variantStore = ImageVariantStore.directory(root);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * 업로드 파일을 저장하고 파일명을 반환합니다. 같은 내용이 이미 있으면 기존 파일명을 반환합니다.
+     *
+     * @throws IllegalArgumentException 지원하지 않는 확장자
+     * @throws IOException              저장 실패
+     */
+    public String store(MultipartFile file) throws IOException {
+        String extension = extensionOf(file.getOriginalFilename());
+        MessageDigest digest = sha256();
+        Files.createDirectories(root);
+        Path temp = Files.createTempFile(root, ".upload", ".tmp");
+        try {
+            try (ReadableByteChannel in = Channels.newChannel(new DigestInputStream(file.getInputStream(), digest));
+                 FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                long position = 0;
+                long transferred;
+                while ((transferred = out.transferFrom(in, position, TRANSFER_CHUNK)) > 0) {
+                    position += transferred;
+                }
+            }
+
+            String fileName = HexFormat.of().formatHex(digest.digest()) + "." + extension;
+            Path target = root.resolve(fileName);
+            synchronized (lockFor(fileName)) {
+                if (Files.exists(target)) {
+                    // 정리 대상(오래된 미참조 파일)에서 빠지도록 수정 시각 갱신
+                    Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+                    log.debug("[ProfileImageStorage] 같은 내용의 파일 재사용: {}", fileName);
+                } else {
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
+            return fileName;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /** 제공 가능한 파일이면 경로, 잘못된 이름이거나 없으면 null */
+    public Path resolve(String fileName) {
+        if (fileName == null || !FILE_NAME.matcher(fileName).matches()) {
+            return null;
+        }
+        Path path = root.resolve(fileName).normalize();
+        return path.startsWith(root) && Files.isRegularFile(path) ? path : null;
+    }
+
+    /** 내용 주소 파일명(원본 및 축소본)이면 내용이 바뀌지 않음. 예전 방식({아이디}_profile.{확장자})은 덮어써지므로 false */
+    public static boolean isImmutable(String fileName) {
+        return CONTENT_ADDRESSED.matcher(fileName).matches();
+    }
+
+    /** 축소본 생성용 저장소 (같은 디렉토리) */
+    public ImageVariantStore variantStore() {
+        return variantStore;
+    }
+
+    public Path root() {
+        return root;
+    }
+
+    /**
+     * 수정 시각이 cutoff 이전인 경우에만 원본과 축소본을 삭제합니다. (정리 작업용)
+     * 확인과 삭제 사이에 같은 내용이 다시 업로드되어 재사용되지 않도록 {@link #store} 와 같은 잠금 안에서 처리합니다.
+     *
+     * @return 삭제했으면 true
+     */
+    public boolean deleteIfNotModifiedSince(String fileName, FileTime cutoff) throws IOException {
+        synchronized (lockFor(fileName)) {
+            Path path = resolve(fileName);
+            if (path == null || Files.getLastModifiedTime(path).compareTo(cutoff) >= 0) {
+                return false;
+            }
+            delete(fileName);
+            return true;
+        }
+    }
+
+    /** 원본과 축소본 파일 삭제 (정리 작업용) */
+    public void delete(String fileName) throws IOException {
+        Path path = resolve(fileName);
+        if (path != null) {
+            Files.deleteIfExists(path);
+        }
+        try (var variants = Files.newDirectoryStream(root, fileName + ".w*.jpg")) {
+            for (Path variant : variants) {
+                if (ImageVariants.originalKey(variant.getFileName().toString()).equals(fileName)) {
+                    Files.deleteIfExists(variant);
+                }
+            }
+        }
+    }
+
+    private Object lockFor(String fileName) {
+        return locks[Math.floorMod(fileName.hashCode(), LOCK_STRIPES)];
+    }
+
+    private static String extensionOf(String originalFilename) {
+        int dot = originalFilename == null ? -1 : originalFilename.lastIndexOf('.');
+        String extension = dot < 0 ? "" : originalFilename.substring(dot + 1).toLowerCase(Locale.ROOT);
+        if ("jpeg".equals(extension)) {
+            extension = "jpg";
+        }
+        if (!EXTENSIONS.contains(extension)) {
+            throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다: " + originalFilename);
+        }
+        return extension;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
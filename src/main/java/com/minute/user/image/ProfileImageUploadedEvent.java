@@ -0,0 +1,12 @@
+package com.minute.user.image;
+
+/**
+ * 프로필 이미지가 새로 저장되었음을 알리는 이벤트입니다.
+ * 트랜잭션 커밋 이후 {@link ProfileImageVariantListener}가 축소본을 만듭니다.
+ *
+ * @param userId       사용자 아이디
+ * @param profileImage user.user_profile_image 에 저장한 경로 (예: /upload/{파일명})
+ * @param fileName     프로필 저장 디렉토리 안의 파일명
+ */
+public record ProfileImageUploadedEvent(String userId, String profileImage, String fileName) {
+}
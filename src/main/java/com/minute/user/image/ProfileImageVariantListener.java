@@ -0,0 +1,43 @@
+package com.minute.user.image;
+
+import com.minute.common.image.ImageVariantPipeline;
+import com.minute.common.image.ImageVariants;
+import com.minute.user.cache.UserChangedEvent;
+import com.minute.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 프로필 이미지 저장이 커밋되면 같은 디렉토리에 축소본을 만들고, 만들어진 너비를 user 행에 기록합니다.
+ * 기록한 뒤에는 {@link UserChangedEvent}로 사용자 캐시를 무효화합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProfileImageVariantListener {
+
+    private final ImageVariantPipeline imageVariantPipeline;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProfileImageStorage profileImageStorage;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProfileImageUploaded(ProfileImageUploadedEvent event) {
+        if (!ImageVariants.isReadableImage(event.fileName())) {
+            return;
+        }
+        imageVariantPipeline.submit(profileImageStorage.variantStore(), event.fileName(), widths -> {
+            int updated = userRepository.updateProfileVariantWidths(
+                    event.userId(), event.profileImage(), ImageVariants.formatWidths(widths));
+            if (updated > 0) {
+                eventPublisher.publishEvent(new UserChangedEvent(event.userId()));
+            } else {
+                log.debug("[ProfileImageVariantListener] 그 사이 프로필 이미지가 바뀌어 기록하지 않음 - userId: {}", event.userId());
+            }
+        });
+    }
+}
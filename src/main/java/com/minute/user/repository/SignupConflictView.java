@@ -0,0 +1,16 @@
+package com.minute.user.repository;
+
+/**
+ * {@link UserRepository#findSignupConflicts} 결과 프로젝션입니다.
+ * 각 값은 입력값과 같은 값을 이미 사용 중인 회원 수입니다.
+ */
+public interface SignupConflictView {
+
+    Long getUserIdCount();
+
+    Long getUserEmailCount();
+
+    Long getUserNickNameCount();
+
+    Long getUserPhoneCount();
+}
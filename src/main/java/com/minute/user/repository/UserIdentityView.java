@@ -0,0 +1,11 @@
+package com.minute.user.repository;
+
+/**
+ * 중복 확인용 Bloom 필터 구성에 필요한 컬럼만 읽는 프로젝션입니다. ({@link UserRepository#findAllIdentities})
+ */
+public interface UserIdentityView {
+
+    String getUserId();
+
+    String getUserEmail();
+}
@@ -0,0 +1,84 @@
+package com.minute.user.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 회원번호(user_no)를 hi/lo 방식으로 발급합니다.
+ *
+ * <p>{@code user_no_sequence} 행을 잠그고 {@code next_val} 을 블록 크기만큼 올려 구간 하나를 예약한 뒤,
+ * 그 구간 안의 번호는 DB 접근 없이 메모리에서 나눠 줍니다.
+ * 예약은 별도(REQUIRES_NEW) 트랜잭션으로 바로 커밋하므로 여러 서버가 동시에 가입을 처리해도 번호가 겹치지 않습니다.
+ * 서버가 재시작되면 쓰지 않은 구간의 번호는 건너뛰게 되지만(번호 공백) 중복은 생기지 않습니다.
+ */
+@Slf4j
+@Component
+public class UserNoAllocator {
+
+    private static final String SEQUENCE_NAME = "user_no";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate newTransaction;
+    private final int blockSize;
+
+    private long next;  // 다음에 발급할 번호 (this 락으로 보호)
+    private long limit; // 현재 구간의 끝 (미포함)
+
+    public UserNoAllocator(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${user.no-allocator.block-size:50}") int blockSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = Math.max(1, blockSize);
+    }
+
+    public synchronized int nextUserNo() {
+        if (next >= limit) {
+            long start = reserveBlock();
+            next = start;
+            limit = start + blockSize;
+        }
+        return Math.toIntExact(next++);
+    }
+
+    /** 새 구간을 예약하고 구간의 첫 번호를 반환합니다. */
+    private long reserveBlock() {
+        Long start = newTransaction.execute(status -> {
+            List<Long> current = jdbcTemplate.queryForList(
+                    "SELECT next_val FROM user_no_sequence WHERE sequence_name = ? FOR UPDATE", Long.class, SEQUENCE_NAME);
+            if (current.isEmpty()) {
+                return null;
+            }
+            long value = current.get(0);
+            jdbcTemplate.update("UPDATE user_no_sequence SET next_val = ? WHERE sequence_name = ?",
+                    value + blockSize, SEQUENCE_NAME);
+            return value;
+        });
+        if (start != null) {
+            return start;
+        }
+        initializeSequence();
+        return reserveBlock();
+    }
+
+    /** 시퀀스 행이 없으면(스크립트 미적용) 기존 최대 회원번호 다음 값으로 만듭니다. */
+    private void initializeSequence() {
+        try {
+            newTransaction.executeWithoutResult(status -> jdbcTemplate.update(
+                    "INSERT INTO user_no_sequence (sequence_name, next_val) " +
+                            "SELECT ?, COALESCE(MAX(user_no), 0) + 1 FROM `user`", SEQUENCE_NAME));
+            log.info("=== UserNoAllocator: user_no 시퀀스 행 초기화 ===");
+        } catch (DuplicateKeyException e) {
+            // 다른 서버가 먼저 만든 경우
+        }
+    }
+}
@@ -1,25 +1,61 @@
 package com.minute.user.repository;
 
+import com.minute.user.cache.LoginUser;
 import com.minute.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, String> {
 
-    // @Query 어노테이션으로 최대 userNo 조회
-    @Query("SELECT COALESCE(MAX(u.userNo), 0) FROM User u")
-    Long findMaxUserNo();
-
     boolean existsByUserId(String userId);
     boolean existsByUserEmail(String userEmail);
     boolean existsByUserNickName(String userNickName);
     boolean existsByUserPhone(String userPhone);
 
+    /**
+     * 회원가입 시 아이디/이메일/닉네임/전화번호 중복을 한 번의 조회로 모두 확인합니다.
+     * 각 항목은 같은 값을 가진 회원 수(0이면 사용 가능)입니다.
+     */
+    @Query("SELECT COALESCE(SUM(CASE WHEN u.userId = :userId THEN 1 ELSE 0 END), 0) AS userIdCount, " +
+            "COALESCE(SUM(CASE WHEN u.userEmail = :userEmail THEN 1 ELSE 0 END), 0) AS userEmailCount, " +
+            "COALESCE(SUM(CASE WHEN u.userNickName = :userNickName THEN 1 ELSE 0 END), 0) AS userNickNameCount, " +
+            "COALESCE(SUM(CASE WHEN u.userPhone = :userPhone THEN 1 ELSE 0 END), 0) AS userPhoneCount " +
+            "FROM User u " +
+            "WHERE u.userId = :userId OR u.userEmail = :userEmail OR u.userNickName = :userNickName OR u.userPhone = :userPhone")
+    SignupConflictView findSignupConflicts(@Param("userId") String userId,
+                                           @Param("userEmail") String userEmail,
+                                           @Param("userNickName") String userNickName,
+                                           @Param("userPhone") String userPhone);
+
+    // 중복 확인 Bloom 필터(UserAvailabilityIndex) 구성용
+    @Query("SELECT u.userId AS userId, u.userEmail AS userEmail FROM User u")
+    List<UserIdentityView> findAllIdentities();
+
+
+    // 로그인 확인용 (LoginUserCache) - 연관 컬렉션 없이 필요한 컬럼만 조회
+    @Query("SELECT new com.minute.user.cache.LoginUser(u.userId, u.userPw, u.role, u.userStatus) FROM User u WHERE u.userId = :userId")
+    Optional<LoginUser> findLoginUser(@Param("userId") String userId);
+
+    // 프로필 축소본 생성 완료 기록. 그 사이 프로필 이미지가 바뀌었으면 갱신하지 않음
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.profileVariantWidths = :widths WHERE u.userId = :userId AND u.profileImage = :profileImage")
+    int updateProfileVariantWidths(@Param("userId") String userId,
+                                   @Param("profileImage") String profileImage,
+                                   @Param("widths") String widths);
 
+    // 프로필 이미지 파일 정리: 주어진 경로 중 사용자가 참조하는 경로 (db/10 인덱스 사용)
+    @Query("SELECT DISTINCT u.profileImage FROM User u WHERE u.profileImage IN :profileImages")
+    List<String> findReferencedProfileImages(@Param("profileImages") Collection<String> profileImages);
 
     User findByUserEmail(String userEmail);
 
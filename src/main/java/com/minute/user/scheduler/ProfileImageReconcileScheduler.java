@@ -0,0 +1,98 @@
+package com.minute.user.scheduler;
+
+import com.minute.common.image.ImageVariants;
+import com.minute.user.image.ProfileImageStorage;
+import com.minute.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ProfileImageReconcileScheduler {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final ProfileImageStorage profileImageStorage;
+    private final UserRepository userRepository;
+
+    @Value("${user.profile.reconcile-grace-hours:24}")
+    private long graceHours;
+
+    /**
+     * 프로필 디렉토리에서 어느 사용자도 참조하지 않는 이미지(와 그 축소본)를 삭제합니다.
+     *
+     * 내용 주소 저장이라 프로필을 바꿔도 이전 파일을 바로 지우지 않습니다. (같은 내용을 다른 사용자가 쓰고 있을 수 있음)
+     * 방금 올라가 아직 커밋 전일 수 있는 파일은 제외하기 위해 {@code user.profile.reconcile-grace-hours} 이전에 수정된 것만 보고,
+     * 중복 업로드로 재사용된 파일은 수정 시각이 갱신되므로, 업로드와 같은 잠금 안에서 삭제 직전에 한 번 더 확인합니다.
+     * 원본이 없는 축소본과 중단된 업로드의 임시 파일도 함께 정리합니다.
+     */
+    @Scheduled(cron = "${user.profile.reconcile-cron:0 10 5 * * *}")
+    public void reconcileOrphanFiles() {
+        if (!Files.isDirectory(profileImageStorage.root())) {
+            return; // 아직 업로드된 프로필 이미지 없음
+        }
+        FileTime cutoff = FileTime.from(Instant.now().minus(Duration.ofHours(graceHours)));
+        List<String> candidates = new ArrayList<>();
+        int deleted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(profileImageStorage.root())) {
+            for (Path path : files) {
+                String fileName = path.getFileName().toString();
+                if (!Files.isRegularFile(path) || Files.getLastModifiedTime(path).compareTo(cutoff) >= 0) {
+                    continue;
+                }
+                if (fileName.startsWith(".")) {
+                    Files.deleteIfExists(path); // 중단된 업로드/축소본 임시 파일
+                } else if (!ImageVariants.originalKey(fileName).equals(fileName)) {
+                    if (profileImageStorage.resolve(ImageVariants.originalKey(fileName)) == null) {
+                        Files.deleteIfExists(path); // 원본이 지워진 뒤 늦게 만들어진 축소본
+                        deleted++;
+                    }
+                } else {
+                    candidates.add(fileName);
+                    if (candidates.size() == CHUNK_SIZE) {
+                        deleted += deleteUnreferenced(candidates, cutoff);
+                        candidates.clear();
+                    }
+                }
+            }
+            deleted += deleteUnreferenced(candidates, cutoff);
+        } catch (Exception e) {
+            log.warn("[ProfileImageReconcileScheduler] 프로필 이미지 정리 중단: {}", e.getMessage());
+        }
+        log.info("=== ProfileImageReconcileScheduler: 참조되지 않는 프로필 이미지 {}건 삭제 ===", deleted);
+    }
+
+    private int deleteUnreferenced(List<String> fileNames, FileTime cutoff) throws IOException {
+        if (fileNames.isEmpty()) {
+            return 0;
+        }
+        List<String> profileImages = fileNames.stream().map(name -> ProfileImageStorage.URL_PREFIX + name).toList();
+        Set<String> referenced = new HashSet<>(userRepository.findReferencedProfileImages(profileImages));
+        int deleted = 0;
+        for (String fileName : fileNames) {
+            if (referenced.contains(ProfileImageStorage.URL_PREFIX + fileName)) {
+                continue;
+            }
+            if (profileImageStorage.deleteIfNotModifiedSince(fileName, cutoff)) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+}
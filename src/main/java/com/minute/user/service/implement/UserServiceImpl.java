@@ -1,6 +1,8 @@
 package com.minute.user.service.implement;
 
 import com.minute.auth.dto.response.ResponseDto;
+import com.minute.user.cache.UserAvailabilityIndex;
+import com.minute.user.cache.UserChangedEvent;
 import com.minute.user.dto.request.UserPatchInfoRequestDto;
 import com.minute.user.dto.response.GetAllUsersResponseDto;
 import com.minute.user.dto.response.GetSignInUserResponseDto;
@@ -9,20 +11,20 @@ import com.minute.user.dto.response.UserPatchInfoResponseDto;
 import com.minute.user.entity.User;
 import com.minute.user.enumpackage.Role;
 import com.minute.user.enumpackage.UserStatus;
+import com.minute.user.image.ProfileImageStorage;
+import com.minute.user.image.ProfileImageUploadedEvent;
 import com.minute.user.repository.UserRepository;
 import com.minute.user.service.UserService;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,7 +39,9 @@ public class UserServiceImpl implements UserService {
     @PersistenceContext
     private EntityManager em;
     private final UserRepository userRepository;
-    String uploadDir = "C:/upload/profile/";
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserAvailabilityIndex userAvailabilityIndex;
+    private final ProfileImageStorage profileImageStorage;
 
 
     //프론트용 사용자 조회
@@ -107,8 +111,11 @@ public class UserServiceImpl implements UserService {
             if (dto.getUserGender() != null) user.setUserGender(dto.getUserGender());
             if (dto.getUserProfileImage() != null) user.setProfileImage(dto.getUserProfileImage());
 
+            // 바뀐 값은 저장 전에 중복 확인 필터에 추가 (이전 값은 다음 재구성 때 빠짐)
+            userAvailabilityIndex.register(UserAvailabilityIndex.Field.EMAIL, email);
             userRepository.save(user);
             em.flush();
+            eventPublisher.publishEvent(new UserChangedEvent(userId));
             return UserPatchInfoResponseDto.success();
 
         } catch (Exception exception) {
@@ -126,6 +133,7 @@ public class UserServiceImpl implements UserService {
 
         user.setRole(Role.ADMIN);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(userId));
     }
 
     @Override
@@ -143,6 +151,7 @@ public class UserServiceImpl implements UserService {
             }
 
             userRepository.delete(optionalUser.get());
+            eventPublisher.publishEvent(new UserChangedEvent(userId));
             return ResponseEntity.ok(new ResponseDto("SU", "회원 탈퇴가 완료되었습니다."));
 
         } catch (Exception e) {
@@ -164,21 +173,21 @@ public class UserServiceImpl implements UserService {
                 return ResponseEntity.badRequest().body(new ResponseDto("INVALID_FILE", "이미지 파일이 비어 있습니다."));
             }
 
-            // 파일 저장
-            String originalFilename = file.getOriginalFilename();
-            String fileExtension = originalFilename.substring(originalFilename.lastIndexOf("."));
-            String newFileName = userId + "_profile" + fileExtension;
-            Path savePath = Paths.get(uploadDir, newFileName);
-            Files.createDirectories(savePath.getParent());
-            Files.write(savePath, file.getBytes());
+            // 파일 저장 (내용 해시 파일명, 같은 이미지는 기존 파일 재사용)
+            String newFileName = profileImageStorage.store(file);
 
             // DB에 경로 저장
             User user = optionalUser.get(); // ✅ 여기서 객체 꺼냄
-            user.setProfileImage("/upload/" + newFileName);
+            user.setProfileImage(ProfileImageStorage.URL_PREFIX + newFileName);
+            user.setProfileVariantWidths(null); // 이전 이미지의 축소본은 새 축소본이 만들어질 때까지 사용하지 않음
             userRepository.save(user);
+            eventPublisher.publishEvent(new UserChangedEvent(userId));
+            eventPublisher.publishEvent(new ProfileImageUploadedEvent(userId, user.getProfileImage(), newFileName));
 
             return ResponseEntity.ok(new ResponseDto("SU", "프로필 이미지가 성공적으로 업로드되었습니다.", newFileName));
 
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ResponseDto("INVALID_FILE", e.getMessage()));
         } catch (IOException e) {
             e.printStackTrace();
             return ResponseEntity.status(500).body(new ResponseDto("FILE_ERROR", "파일 업로드 중 오류가 발생했습니다."));
@@ -197,6 +206,7 @@ public class UserServiceImpl implements UserService {
         user.setUserStatus(user.getUserStatus().toggle());
 
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(userId));
     }
 
     //전체 유저 조회
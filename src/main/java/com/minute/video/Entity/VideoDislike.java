@@ -10,7 +10,8 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "video_dislikes")
+@Table(name = "video_dislikes",
+        uniqueConstraints = @UniqueConstraint(name = "uk_vd_user_video", columnNames = {"user_id", "video_id"}))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -11,7 +11,8 @@ import java.sql.Date;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "video_likes")
+@Table(name = "video_likes",
+        uniqueConstraints = @UniqueConstraint(name = "uk_vl_user_video", columnNames = {"user_id", "video_id"}))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -2,6 +2,7 @@ package com.minute.video.repository;
 
 import com.minute.video.Entity.VideoDislike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -15,4 +16,15 @@ public interface VideoDislikeRepository extends JpaRepository<VideoDislike, Long
 
     @Query("SELECT d FROM VideoDislike d JOIN FETCH d.video WHERE d.user.userId = :userId")
     List<VideoDislike> findByUserUserId(@Param("userId") String userId);
-}
\ No newline at end of file
+
+    // 싫어요 추가 (user_id, video_id 유니크 키 기준). 사용자가 존재할 때만 추가되며, 추가된 행 수를 반환
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO video_dislikes (user_id, video_id, created_at) " +
+            "SELECT u.user_id, :videoId, NOW() FROM `user` u WHERE u.user_id = :userId", nativeQuery = true)
+    int insertIgnore(@Param("userId") String userId, @Param("videoId") String videoId);
+
+    // 싫어요 삭제 (엔티티를 읽지 않는 단일 DELETE). 삭제된 행 수를 반환
+    @Modifying
+    @Query(value = "DELETE FROM video_dislikes WHERE user_id = :userId AND video_id = :videoId", nativeQuery = true)
+    int deleteDirectly(@Param("userId") String userId, @Param("videoId") String videoId);
+}
@@ -32,4 +32,14 @@ public interface VideoLikesRepository extends JpaRepository<VideoLikes, Integer>
     @Transactional
     int deleteByUserUserIdAndVideoVideoId(String userId, String videoId);
 
-}
\ No newline at end of file
+    // 좋아요 추가 (user_id, video_id 유니크 키 기준). 사용자가 존재할 때만 추가되며, 추가된 행 수를 반환
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO video_likes (user_id, video_id, created_at) " +
+            "SELECT u.user_id, :videoId, NOW() FROM `user` u WHERE u.user_id = :userId", nativeQuery = true)
+    int insertIgnore(@Param("userId") String userId, @Param("videoId") String videoId);
+
+    // 좋아요 삭제 (엔티티를 읽지 않는 단일 DELETE). 삭제된 행 수를 반환
+    @Modifying
+    @Query(value = "DELETE FROM video_likes WHERE user_id = :userId AND video_id = :videoId", nativeQuery = true)
+    int deleteDirectly(@Param("userId") String userId, @Param("videoId") String videoId);
+}
@@ -3,6 +3,7 @@ package com.minute.video.repository;
 import com.minute.video.Entity.Category;
 import com.minute.video.Entity.Video;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -43,4 +44,12 @@ public interface VideoRepository extends JpaRepository<Video, String> {
 """)
     List<Video> searchByTitleOrRegionOrCity(@Param("keyword") String keyword);
 
-}
\ No newline at end of file
+    // 좋아요 수 원자적 증감. 영상 행 락을 먼저 잡는 용도로도 쓰이므로 0 하한을 두지 않음 (LikeToggle 참고). 영상이 없으면 0 반환
+    @Modifying
+    @Query("UPDATE Video v SET v.likes = COALESCE(v.likes, 0) + :delta WHERE v.videoId = :videoId")
+    int adjustLikes(@Param("videoId") String videoId, @Param("delta") int delta);
+
+    // 영상 행 X 락만 잡음 (SELECT ... FOR UPDATE). 자식 행 INSERT 의 FK 검사(S 락)보다 먼저 잡아야 데드락이 없음. 영상이 없으면 null
+    @Query(value = "SELECT 1 FROM video WHERE video_id = :videoId FOR UPDATE", nativeQuery = true)
+    Integer lockForUpdate(@Param("videoId") String videoId);
+}
@@ -1,9 +1,7 @@
 package com.minute.video.service;
 
-import com.minute.user.entity.User;
 import com.minute.user.repository.UserRepository;
-import com.minute.video.Entity.Video;
-import com.minute.video.Entity.VideoDislike;
+import com.minute.common.like.LikeToggle;
 import com.minute.video.dto.VideoDislikesResponseDTO;
 import com.minute.video.repository.VideoDislikeRepository;
 import com.minute.video.repository.VideoLikesRepository;
@@ -22,45 +20,39 @@ public class VideoDislikeService {
     private final UserRepository userRepository;
     private final VideoLikesRepository likesRepository;
 
+    /**
+     * 싫어요 상태를 토글합니다.
+     * 영상 행 락을 먼저 잡고(LikeToggle 과 같은 순서) 싫어요 추가/삭제 → 좋아요 삭제 순으로 처리합니다.
+     * 좋아요 수는 실제로 삭제된 좋아요 행 수만큼만 줄입니다.
+     * @return 토글 후 싫어요 상태 (추가도 삭제도 되지 않았으면 현재 상태)
+     */
     @Transactional
-    public void toggleDislike(String userId, String videoId) {
-        // (1) user/video 존재 체크
-        if (!userRepository.existsById(userId)) {
-            throw new ResourceNotFoundException("User", userId);
-        }
-        if (!videoRepository.existsById(videoId)) {
+    public boolean toggleDislike(String userId, String videoId) {
+        // (1) 영상 행 X 락. 같은 영상에 대한 좋아요/싫어요 처리는 여기서 직렬화됨
+        if (videoRepository.lockForUpdate(videoId) == null) {
             throw new ResourceNotFoundException("Video", videoId);
         }
 
-        boolean alreadyDisliked = dislikeRepository.existsByUserUserIdAndVideoVideoId(userId, videoId);
-        boolean alreadyLiked    = likesRepository.existsByUserUserIdAndVideoVideoId(userId, videoId);
-
-        if (alreadyDisliked) {
-            // ── “이미 dislike가 있으면” → 단순히 삭제
-            dislikeRepository.deleteByUserUserIdAndVideoVideoId(userId, videoId);
-
-        } else {
-            // ── “새롭게 dislike 등록 전”에,
-            //     (2) 만약 기존에 like 레코드가 있으면 먼저 삭제
-            if (alreadyLiked) {
-                likesRepository.deleteByUserUserIdAndVideoVideoId(userId, videoId);
-                // 좋아요 수 감소(선택)
-                Video v = videoRepository.getReferenceById(videoId);
-                v.decreaseLikes();
+        // (2) 싫어요 추가 시도. (user_id, video_id) 유니크 키 덕분에 중복 요청이 와도 한 행만 들어감
+        if (dislikeRepository.insertIgnore(userId, videoId) > 0) {
+            // (3) 새로 싫어요를 등록했다면 기존 좋아요를 제거하고, 삭제된 행 수만큼 좋아요 수를 감소
+            int removedLikes = likesRepository.deleteDirectly(userId, videoId);
+            if (removedLikes > 0) {
+                videoRepository.adjustLikes(videoId, -removedLikes);
             }
+            return true;
+        }
 
-            // ── 그 후에 디스라이크 저장
-            User user   = userRepository.getReferenceById(userId);
-            Video video = videoRepository.getReferenceById(videoId);
+        // (4) 이미 싫어요 상태였다면 → 단순히 삭제
+        if (dislikeRepository.deleteDirectly(userId, videoId) > 0) {
+            return false;
+        }
 
-            dislikeRepository.save(
-                    VideoDislike.builder()
-                            .user(user)
-                            .video(video)
-                            .createdAt(java.time.LocalDateTime.now())
-                            .build()
-            );
+        // 추가도 삭제도 되지 않은 경우: 사용자가 없으면 404, 있으면 변화 없이 현재 상태 반환
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User", userId);
         }
+        return dislikeRepository.existsByUserUserIdAndVideoVideoId(userId, videoId);
     }
 
 
@@ -1,5 +1,6 @@
 package com.minute.video.service;
 
+import com.minute.common.like.LikeToggle;
 import com.minute.user.entity.User;
 import com.minute.user.repository.UserRepository;
 import com.minute.video.Entity.Video;
@@ -30,58 +31,43 @@ public class VideoLikesService {
      * 좋아요 저장
      */
     public void saveLike(String userId, String videoId) {
-        // 1) 존재 확인
-        if (!userRepository.existsById(userId)) {
-            throw new ResourceNotFoundException("User", userId);
-        }
-        if (!videoRepository.existsById(videoId)) {
+        // 영상 좋아요 수 증가(영상 행 락) → INSERT IGNORE 순서로 처리. 중복이면 같은 트랜잭션 안에서 카운터를 되돌림
+        LikeToggle.Outcome outcome = LikeToggle.add(
+                () -> videoLikesRepository.insertIgnore(userId, videoId),
+                delta -> videoRepository.adjustLikes(videoId, delta));
+
+        if (outcome == LikeToggle.Outcome.TARGET_NOT_FOUND) {
             throw new ResourceNotFoundException("Video", videoId);
         }
-
-        // 2) 중복 체크
-        if (videoLikesRepository.existsByUserUserIdAndVideoVideoId(userId, videoId)) {
+        if (outcome == LikeToggle.Outcome.UNCHANGED) {
+            // 실패한 경우에만 원인(사용자 없음/중복)을 구분하기 위해 조회
+            if (!userRepository.existsById(userId)) {
+                throw new ResourceNotFoundException("User", userId);
+            }
             throw new BadRequestException("User already liked this video");
         }
-
-        // 3) 저장
-        User user = userRepository.getReferenceById(userId);
-        Video video = videoRepository.getReferenceById(videoId);
-
-        VideoLikes like = VideoLikes.builder()
-                .user(user)   // 또는 User 레퍼런스로만 세팅
-                .video(video)
-                .build();
-        videoLikesRepository.save(like);
-
-
-        // 좋아요 수 증가
-        video.increaseLikes();
     }
 
     /**
      * 좋아요 삭제
      */
     public void deleteLike(String userId, String videoId) {
-        // 1) 존재 확인
-        if (!userRepository.existsById(userId)) {
-            throw new ResourceNotFoundException("User", userId);
-        }
-        if (!videoRepository.existsById(videoId)) {
+        // 영상 좋아요 수 감소(영상 행 락) → DELETE 순서로 처리. 삭제된 행이 없으면 카운터를 되돌림
+        LikeToggle.Outcome outcome = LikeToggle.remove(
+                () -> videoLikesRepository.deleteDirectly(userId, videoId),
+                delta -> videoRepository.adjustLikes(videoId, delta));
+
+        if (outcome == LikeToggle.Outcome.TARGET_NOT_FOUND) {
             throw new ResourceNotFoundException("Video", videoId);
         }
-
-        // 2) 삭제
-        int deletedCount = videoLikesRepository
-                .deleteByUserUserIdAndVideoVideoId(userId, videoId);
-
-        if (deletedCount == 0) {
+        if (outcome == LikeToggle.Outcome.UNCHANGED) {
+            if (!userRepository.existsById(userId)) {
+                throw new ResourceNotFoundException("User", userId);
+            }
             throw new BadRequestException(
                     "No existing like to delete for user=" + userId + ", video=" + videoId
             );
         }
-        // 좋아요 수 감소
-        Video video = videoRepository.getReferenceById(videoId); // 🔁 삭제 후라도 참조 가능
-        video.decreaseLikes();
     }
 
     /**
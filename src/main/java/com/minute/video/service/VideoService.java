@@ -2,6 +2,7 @@ package com.minute.video.service;
 
 import com.minute.bookmark.entity.Bookmark;
 import com.minute.bookmark.repository.BookmarkRepository;
+import com.minute.user.cache.UserSnapshotCache;
 import com.minute.user.entity.User;
 import com.minute.user.repository.UserRepository;
 import com.minute.video.Entity.*;
@@ -36,6 +37,7 @@ public class VideoService {
     private final YoutubeApiService youtubeApiService;
     private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
+    private final UserSnapshotCache userSnapshotCache;
     private final VideoFilterService videoFilterService;
 
     private static final int RECOMMEND_SIZE = 30;
@@ -302,9 +304,10 @@ public class VideoService {
 
         // WatchHistory 저장 (로그인 사용자만)
         if (userId != null && !userId.isBlank()) {
-            userRepository.findUserByUserId(userId).ifPresent(user -> {
+            // 사용자 존재 여부는 스냅샷으로 확인하고, 연관관계는 SELECT 없는 프록시로 설정
+            userSnapshotCache.find(userId).ifPresent(user -> {
                 WatchHistory history = WatchHistory.builder()
-                        .user(user)
+                        .user(userRepository.getReferenceById(user.userId()))
                         .video(video)
                         .watchedAt(LocalDateTime.now())
                         .build();
@@ -1,5 +1,6 @@
 package com.minute.video.service;
 
+import com.minute.user.cache.UserSnapshotCache;
 import com.minute.user.entity.User;
 import com.minute.user.repository.UserRepository;
 import com.minute.video.Entity.Video;
@@ -25,6 +26,7 @@ public class WatchHistoryService {
 
     private final WatchHistoryRepository watchHistoryRepository;
     private final UserRepository userRepository;
+    private final UserSnapshotCache userSnapshotCache;
     private final VideoRepository videoRepository;
     private final VideoMapper videoMapper;
 
@@ -32,8 +34,10 @@ public class WatchHistoryService {
     public void saveWatchHistory(String userId,WatchHistoryRequestDTO watchHistoryRequestDTO) {
 
         // User 객체 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found with ID: " +userId));
+        if (userSnapshotCache.find(userId).isEmpty()) {
+            throw new RuntimeException("User not found with ID: " + userId);
+        }
+        User user = userRepository.getReferenceById(userId);
 
         // Video 객체 조회
         Video video = videoRepository.findById(watchHistoryRequestDTO.getVideoId())
@@ -0,0 +1,19 @@
+-- 좋아요/싫어요 토글을 INSERT IGNORE 기반으로 바꾸면서 필요한 유니크 키입니다.
+-- ddl-auto: none 이므로 운영 DB에는 수동으로 적용해야 합니다.
+-- (freeboard_post_likes / freeboard_comment_likes 는 엔티티에 이미 uk_fpl_user_post / uk_fcl_user_comment 가 선언되어 있습니다.)
+
+-- 1) 기존 중복 행 정리 (가장 먼저 생성된 행만 남김)
+DELETE l1 FROM video_likes l1
+    JOIN video_likes l2 ON l1.user_id = l2.user_id AND l1.video_id = l2.video_id AND l1.id > l2.id;
+
+DELETE d1 FROM video_dislikes d1
+    JOIN video_dislikes d2 ON d1.user_id = d2.user_id AND d1.video_id = d2.video_id AND d1.id > d2.id;
+
+-- 2) 유니크 키 추가
+ALTER TABLE video_likes ADD CONSTRAINT uk_vl_user_video UNIQUE (user_id, video_id);
+ALTER TABLE video_dislikes ADD CONSTRAINT uk_vd_user_video UNIQUE (user_id, video_id);
+
+-- 3) 좋아요 수를 실제 행 수에 맞춰 한 번 재계산
+UPDATE video v SET v.likes = (SELECT COUNT(*) FROM video_likes l WHERE l.video_id = v.video_id);
+UPDATE freeboard_posts p SET p.post_like_count = (SELECT COUNT(*) FROM freeboard_post_likes l WHERE l.post_id = p.post_id);
+UPDATE freeboard_comments c SET c.comment_like_count = (SELECT COUNT(*) FROM freeboard_comment_likes l WHERE l.comment_id = c.comment_id);
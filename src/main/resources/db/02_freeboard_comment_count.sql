@@ -0,0 +1,12 @@
+-- 자유게시판 목록에 댓글 수를 추가 쿼리 없이 보여주기 위한 비정규화 컬럼입니다.
+-- ddl-auto: none 이므로 운영 DB에는 수동으로 적용해야 합니다.
+
+ALTER TABLE freeboard_posts ADD COLUMN comment_count INT NOT NULL DEFAULT 0;
+
+-- 기존 데이터 초기화 (숨김 처리되지 않은 댓글만 집계)
+UPDATE freeboard_posts p
+    JOIN (SELECT p2.post_id, COUNT(c.comment_id) AS cnt
+          FROM freeboard_posts p2
+                   LEFT JOIN freeboard_comments c ON c.post_id = p2.post_id AND c.comment_is_hidden = false
+          GROUP BY p2.post_id) x ON x.post_id = p.post_id
+SET p.comment_count = x.cnt;
@@ -0,0 +1,24 @@
+-- 리프레시 토큰(해시 저장) 및 로그아웃 등으로 만료 전에 폐기된 액세스 토큰(jti) 테이블입니다.
+-- ddl-auto: none 이므로 운영 DB에는 수동으로 적용해야 합니다.
+
+CREATE TABLE refresh_token (
+    refresh_token_id BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id          VARCHAR(100) NOT NULL,
+    token_hash       CHAR(64)     NOT NULL,
+    family_id        CHAR(36)     NOT NULL,
+    expires_at       DATETIME(6)  NOT NULL,
+    revoked_at       DATETIME(6)  NULL,
+    created_at       DATETIME(6)  NOT NULL,
+    PRIMARY KEY (refresh_token_id),
+    UNIQUE KEY uk_rt_token_hash (token_hash),
+    KEY idx_rt_user (user_id),
+    KEY idx_rt_family (family_id)
+);
+
+CREATE TABLE revoked_access_token (
+    token_id   CHAR(36)     NOT NULL,
+    user_id    VARCHAR(100) NOT NULL,
+    expires_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (token_id),
+    KEY idx_rat_expires_at (expires_at)
+);
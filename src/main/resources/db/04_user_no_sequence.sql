@@ -0,0 +1,18 @@
+-- 회원번호(user_no) 블록 할당용 시퀀스 테이블입니다. (UserNoAllocator)
+-- 서버는 next_val 을 block-size 만큼 증가시켜 구간 하나를 예약한 뒤 메모리에서 순서대로 나눠 줍니다.
+-- ddl-auto: none 이므로 운영 DB에는 수동으로 적용해야 합니다.
+
+CREATE TABLE user_no_sequence (
+    sequence_name VARCHAR(50) NOT NULL,
+    next_val      BIGINT      NOT NULL,
+    PRIMARY KEY (sequence_name)
+);
+
+-- 기존 회원번호 최대값 다음부터 발급
+INSERT INTO user_no_sequence (sequence_name, next_val)
+SELECT 'user_no', COALESCE(MAX(user_no), 0) + 1 FROM `user`;
+
+-- 중복 검사를 한 번의 조회(OR 조건)로 처리하므로 각 컬럼에 인덱스가 있어야 index merge 로 처리됩니다.
+CREATE INDEX idx_user_email    ON `user` (user_email);
+CREATE INDEX idx_user_nickname ON `user` (user_nickname);
+CREATE INDEX idx_user_phone    ON `user` (user_phone);
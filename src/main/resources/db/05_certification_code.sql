@@ -0,0 +1,11 @@
+-- 여러 서버가 이메일 인증번호를 공유할 때 사용하는 테이블입니다. (certification.backing-store: jdbc)
+-- 단일 서버로 운영할 때는 필요하지 않습니다.
+-- ddl-auto: none 이므로 운영 DB에는 수동으로 적용해야 합니다.
+
+CREATE TABLE certification_code (
+    email                VARCHAR(100) NOT NULL,
+    certification_number VARCHAR(10)  NOT NULL,
+    expires_at           DATETIME(6)  NOT NULL,
+    PRIMARY KEY (email),
+    KEY idx_cc_expires_at (expires_at)
+);
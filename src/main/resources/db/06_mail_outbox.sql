@@ -0,0 +1,18 @@
+-- 메일 발송 대기열 테이블입니다. 요청 처리 중에는 이 테이블에 저장만 하고
+-- MailOutboxDispatcher 가 백그라운드에서 SMTP 발송/재시도합니다.
+-- ddl-auto: none 이므로 운영 DB에는 수동으로 적용해야 합니다.
+
+CREATE TABLE mail_outbox (
+    mail_id         BIGINT       NOT NULL AUTO_INCREMENT,
+    recipient       VARCHAR(100) NOT NULL,
+    subject         VARCHAR(255) NOT NULL,
+    body            TEXT         NOT NULL,
+    status          VARCHAR(10)  NOT NULL,
+    attempts        INT          NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    last_error      VARCHAR(500) NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    sent_at         DATETIME(6)  NULL,
+    PRIMARY KEY (mail_id),
+    KEY idx_mo_status_next (status, next_attempt_at)
+);
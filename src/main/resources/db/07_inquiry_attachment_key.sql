@@ -0,0 +1,7 @@
+-- 첨부파일 S3 키(img_saved_filename) 유니크 인덱스입니다.
+-- presigned URL 로 직접 올린 파일을 키로 확인해 첨부하므로, 같은 객체가 두 문의에 첨부되지 않게 막습니다.
+-- (한 문의 삭제 시 다른 문의의 파일까지 지워지는 것 방지. 키로 첨부 여부를 찾는 조회에도 사용)
+-- ddl-auto: none 이므로 운영 DB에는 수동으로 적용해야 합니다.
+
+ALTER TABLE inquiry_attachments
+    ADD UNIQUE INDEX uk_inquiry_attachments_saved_filename (img_saved_filename);
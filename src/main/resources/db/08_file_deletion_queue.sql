@@ -0,0 +1,15 @@
+-- 스토리지(S3) 파일 삭제 대기열 테이블입니다. 첨부파일 행을 지우는 트랜잭션에서 삭제할 키를 함께 저장하고
+-- FileDeletionWorker 가 커밋 이후 DeleteObjects(최대 1000개) 묶음으로 삭제/재시도합니다.
+-- ddl-auto: none 이므로 운영 DB에는 수동으로 적용해야 합니다.
+
+CREATE TABLE file_deletion_queue (
+    deletion_id     BIGINT       NOT NULL AUTO_INCREMENT,
+    object_key      VARCHAR(512) NOT NULL,
+    status          VARCHAR(10)  NOT NULL,
+    attempts        INT          NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    last_error      VARCHAR(500) NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (deletion_id),
+    KEY idx_fdq_status_next (status, next_attempt_at)
+);
@@ -0,0 +1,10 @@
+-- 이미지 축소본(썸네일) 생성 결과 컬럼입니다.
+-- ImageVariantPipeline 이 원본 옆에 "{원본 키}.w{너비}.jpg" 로 축소본을 저장한 뒤 만든 너비 목록(예: "200,600")을 기록하고,
+-- 응답 DTO 는 이 값이 있을 때만 축소본 URL 을 내려줍니다. (NULL 이면 원본만 사용)
+-- ddl-auto: none 이므로 운영 DB에는 수동으로 적용해야 합니다.
+
+ALTER TABLE inquiry_attachments
+    ADD COLUMN img_variant_widths VARCHAR(32) NULL;
+
+ALTER TABLE `user`
+    ADD COLUMN user_profile_variant_widths VARCHAR(32) NULL;
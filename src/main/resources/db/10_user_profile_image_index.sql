@@ -0,0 +1,7 @@
+-- 프로필 이미지 경로 인덱스입니다.
+-- 프로필 이미지는 내용 해시 파일명으로 저장되어 여러 사용자가 같은 파일을 참조할 수 있으므로,
+-- ProfileImageReconcileScheduler 가 디렉토리의 파일을 참조하는 사용자가 있는지 IN 조회로 확인할 때 사용합니다.
+-- ddl-auto: none 이므로 운영 DB에는 수동으로 적용해야 합니다.
+
+ALTER TABLE `user`
+    ADD INDEX idx_user_profile_image (user_profile_image);
@@ -0,0 +1,11 @@
+-- 문의 제목/내용 전문 검색(FULLTEXT, ngram 파서) 인덱스입니다.
+-- QnaFullTextSearchRepository 가 MATCH ... AGAINST (BOOLEAN MODE) 로 검색하고 관련도 순으로 정렬합니다.
+-- ngram 파서는 기본 불용어 목록의 단어("a", "in" 등)를 포함한 토큰을 빼 버리므로, 인덱스를 만드는 세션에서 불용어를 끕니다.
+-- 토큰 크기는 서버 설정 ngram_token_size(기본 2)를 따르며, qna.search.ngram-token-size 와 맞춰야 합니다.
+-- 적용한 뒤 qna.search.fulltext-enabled 를 true 로 켭니다. (기본 false, 꺼져 있으면 LIKE 로 검색)
+-- ddl-auto: none 이므로 운영 DB에는 수동으로 적용해야 합니다.
+
+SET SESSION innodb_ft_enable_stopword = OFF;
+
+ALTER TABLE inquiries
+    ADD FULLTEXT INDEX ftx_inquiries_title_content (inquiry_title, inquiry_content) WITH PARSER ngram;
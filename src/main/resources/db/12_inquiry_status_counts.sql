@@ -0,0 +1,28 @@
+-- 문의 수 집계 표입니다. (QnaStatusCounter)
+-- 문의 작성/답변 등록·삭제/문의 삭제 시 같은 트랜잭션에서 증감하고, 관리자 통계는 inquiries 를 COUNT 하지 않고 이 표를 읽습니다.
+-- inquiry_status_counts 는 문의 작성일별, inquiry_status_totals 는 전체 합계이며, QnaStatusCountScheduler 가 매일 다시 집계합니다.
+-- ddl-auto: none 이므로 운영 DB에는 수동으로 적용해야 합니다.
+
+CREATE TABLE inquiry_status_counts (
+    count_date     DATE        NOT NULL,
+    inquiry_status VARCHAR(20) NOT NULL,
+    inquiry_count  BIGINT      NOT NULL,
+    PRIMARY KEY (count_date, inquiry_status)
+);
+
+CREATE TABLE inquiry_status_totals (
+    inquiry_status VARCHAR(20) NOT NULL,
+    inquiry_count  BIGINT      NOT NULL,
+    PRIMARY KEY (inquiry_status)
+);
+
+-- 기존 데이터 초기화
+INSERT INTO inquiry_status_counts (count_date, inquiry_status, inquiry_count)
+SELECT DATE(inquiry_created_at), inquiry_status, COUNT(*)
+FROM inquiries
+GROUP BY DATE(inquiry_created_at), inquiry_status;
+
+INSERT INTO inquiry_status_totals (inquiry_status, inquiry_count)
+SELECT inquiry_status, COUNT(*)
+FROM inquiries
+GROUP BY inquiry_status;
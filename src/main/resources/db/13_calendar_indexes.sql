@@ -0,0 +1,7 @@
+-- 캘린더 조회 인덱스입니다.
+-- CalendarQueryRepository 가 사용자·여행 날짜 구간으로 일정/체크리스트를 읽고(dot, 날짜별 상세),
+-- 여러 달 dot 응답의 ETag 를 위해 구간 안의 행 수와 MAX(updated_at) 을 구할 때 인덱스만 읽도록 updated_at 까지 포함합니다.
+-- ddl-auto: none 이므로 운영 DB에는 수동으로 적용해야 합니다.
+
+CREATE INDEX idx_plan_user_travel_date ON plan (user_id, travel_date, updated_at);
+CREATE INDEX idx_checklist_user_travel_date ON checklist (user_id, travel_date, updated_at);
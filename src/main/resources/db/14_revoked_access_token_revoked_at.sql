@@ -0,0 +1,9 @@
+-- 폐기된 액세스 토큰의 폐기 시각 컬럼입니다.
+-- 각 서버의 AccessTokenRevocationList 가 몇 초마다 최근 폐기분만(revoked_at 기준) 읽어 자기 Bloom 필터에 더하므로
+-- 한 서버에서의 로그아웃/재사용 감지 폐기가 다른 서버에도 액세스 토큰 만료 전에 반영됩니다.
+-- 기존 행은 적용 시각으로 채워지며, 다음 필터 재구성 때 전체가 다시 읽히므로 문제없습니다.
+-- ddl-auto: none 이므로 운영 DB에는 수동으로 적용해야 합니다.
+
+ALTER TABLE revoked_access_token
+    ADD COLUMN revoked_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    ADD KEY idx_rat_revoked_at (revoked_at);
@@ -0,0 +1,161 @@
+package com.minute.auth.common;
+
+import com.minute.auth.dto.request.EmailCertificationRequestDto;
+import com.minute.auth.dto.request.VerifyCodeRequestDto;
+import com.minute.auth.service.implement.AuthServiceImpl;
+import com.minute.security.handler.EmailProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CertificationStorageTest {
+
+    private final List<CertificationStorage> created = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        created.forEach(CertificationStorage::destroy);
+    }
+
+    @Test
+    void 유효_시간이_지나면_인증번호가_사라진다() throws Exception {
+        CertificationStorage storage = storage(null, 1, 10, 10);
+        storage.save("a@test.com", "1234");
+        assertThat(storage.matches("a@test.com", "1234")).isTrue();
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (storage.get("a@test.com") != null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+
+        assertThat(storage.get("a@test.com")).isNull();
+        assertThat(storage.size()).isZero();
+    }
+
+    @Test
+    void 재발급하면_이전_번호는_더_이상_맞지_않는다() {
+        CertificationStorage storage = storage(null, 300, 10, 10);
+        storage.save("a@test.com", "1111");
+        storage.save("a@test.com", "2222");
+
+        assertThat(storage.matches("a@test.com", "1111")).isFalse();
+        assertThat(storage.matches("a@test.com", "2222")).isTrue();
+        assertThat(storage.size()).isEqualTo(1);
+
+        storage.remove("a@test.com");
+        assertThat(storage.get("a@test.com")).isNull();
+    }
+
+    @Test
+    void 외부_저장소가_있으면_다른_서버의_재발급과_사용_처리를_따른다() {
+        InMemoryBackingStore shared = new InMemoryBackingStore();
+        CertificationStorage nodeA = storage(shared, 300, 10, 10);
+        CertificationStorage nodeB = storage(shared, 300, 10, 10);
+
+        nodeA.save("a@test.com", "1111");
+        assertThat(nodeB.matches("a@test.com", "1111")).isTrue();
+
+        // B 에서 재발급하면 A 에서도 이전 번호는 통과하지 않음
+        nodeB.save("a@test.com", "2222");
+        assertThat(nodeA.matches("a@test.com", "1111")).isFalse();
+        assertThat(nodeA.matches("a@test.com", "2222")).isTrue();
+
+        // B 에서 사용(삭제)한 번호는 A 에서 재사용할 수 없음
+        nodeB.remove("a@test.com");
+        assertThat(nodeA.get("a@test.com")).isNull();
+    }
+
+    @Test
+    void 확인_시도_횟수를_넘으면_429와_Retry_After를_응답한다() {
+        CertificationStorage storage = storage(null, 300, 10, 2);
+        AuthServiceImpl authService = authService(storage, null);
+        storage.save("a@test.com", "1234");
+
+        assertThat(authService.verifyCertificationCodeForSignUp(verifyRequest("0000"), "1.2.3.4").getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(authService.verifyCertificationCodeForSignUp(verifyRequest("1234"), "1.2.3.4").getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+
+        ResponseEntity<?> limited = authService.verifyCertificationCodeForSignUp(verifyRequest("1234"), "1.2.3.4");
+
+        assertThat(limited.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        long retryAfter = Long.parseLong(limited.getHeaders().getFirst("Retry-After"));
+        assertThat(retryAfter).isBetween(1L, 600L);
+    }
+
+    @Test
+    void 발송_횟수를_넘으면_메일을_보내지_않고_429를_응답한다() {
+        CertificationStorage storage = storage(null, 300, 1, 10);
+        EmailProvider emailProvider = mock(EmailProvider.class);
+        when(emailProvider.sendCertificationMail(anyString(), anyString())).thenReturn(true);
+        AuthServiceImpl authService = authService(storage, emailProvider);
+
+        EmailCertificationRequestDto request = new EmailCertificationRequestDto();
+        request.setUserEmail("a@test.com");
+
+        assertThat(authService.emailCertification(request, "1.2.3.4").getStatusCode()).isEqualTo(HttpStatus.OK);
+        String issued = storage.get("a@test.com");
+
+        ResponseEntity<?> limited = authService.emailCertification(request, "1.2.3.4");
+
+        assertThat(limited.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(limited.getHeaders().getFirst("Retry-After")).isNotNull();
+        assertThat(storage.get("a@test.com")).isEqualTo(issued);
+    }
+
+    private CertificationStorage storage(CertificationBackingStore backingStore, long ttlSeconds, int issuePerEmail, int verifyPerEmail) {
+        @SuppressWarnings("unchecked")
+        ObjectProvider<CertificationBackingStore> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(backingStore);
+        CertificationStorage storage = new CertificationStorage(provider, new SimpleMeterRegistry(),
+                ttlSeconds, 600, issuePerEmail, 100, verifyPerEmail, 100);
+        created.add(storage);
+        return storage;
+    }
+
+    private static AuthServiceImpl authService(CertificationStorage storage, EmailProvider emailProvider) {
+        return new AuthServiceImpl(null, null, null, null, emailProvider, storage, null, null, null);
+    }
+
+    private static VerifyCodeRequestDto verifyRequest(String number) {
+        VerifyCodeRequestDto dto = new VerifyCodeRequestDto();
+        ReflectionTestUtils.setField(dto, "userEmail", "a@test.com");
+        ReflectionTestUtils.setField(dto, "certificationNumber", number);
+        return dto;
+    }
+
+    /** 여러 서버가 공유하는 외부 저장소 대역 */
+    private static final class InMemoryBackingStore implements CertificationBackingStore {
+        private final Map<String, String> numbers = new ConcurrentHashMap<>();
+
+        @Override
+        public void put(String email, String number, Duration ttl) {
+            numbers.put(email, number);
+        }
+
+        @Override
+        public String get(String email) {
+            return numbers.get(email);
+        }
+
+        @Override
+        public void remove(String email) {
+            numbers.remove(email);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.minute.auth.service;
+
+import com.minute.auth.common.ResponseCode;
+import com.minute.auth.dto.request.RefreshTokenRequestDto;
+import com.minute.auth.dto.response.ResponseDto;
+import com.minute.auth.dto.response.TokenResponseDto;
+import com.minute.auth.repository.RevokedAccessTokenRepository;
+import com.minute.security.handler.AccessTokenRevocationList;
+import com.minute.security.handler.JwtProvider;
+import com.minute.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리프레시 토큰 교체(rotation), 교체된 토큰 재사용 감지, 로그아웃 시 액세스 토큰 폐기와
+ * 다른 서버의 폐기 목록 반영을 확인합니다. (H2 MySQL 모드)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:tokentest;MODE=MySQL;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "jwt.key=m1bJYRdGfN9x/7XzEL7XTjJmRMnAvLH3KrB2yZhvL1E=",
+        "jwt.time=900000"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TokenServiceTest {
+
+    @Configuration
+    @EntityScan("com.minute")
+    @EnableJpaRepositories("com.minute")
+    @Import({TokenService.class, JwtProvider.class, AccessTokenRevocationList.class})
+    static class TestConfig {
+    }
+
+    @Autowired TokenService tokenService;
+    @Autowired JwtProvider jwtProvider;
+    @Autowired AccessTokenRevocationList revocationList;
+    @Autowired RevokedAccessTokenRepository revokedAccessTokenRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM refresh_token");
+        jdbcTemplate.update("DELETE FROM revoked_access_token");
+        jdbcTemplate.update("DELETE FROM `user`");
+        jdbcTemplate.update("INSERT INTO `user` (user_id, user_pw, user_name, user_nickname, role, created_at, updated_at, " +
+                "user_phone, user_email, user_status, user_gender, user_no, user_report, is_certified) " +
+                "VALUES ('member', 'pw', 'name', 'nick', 'USER', NOW(), NOW(), '010', 'member@test.com', 'N', 'MALE', 1, 0, false)");
+        revocationList.rebuild();
+    }
+
+    @Test
+    void 재발급하면_새_토큰_쌍을_주고_사용한_리프레시_토큰은_교체된다() {
+        TokenResponseDto first = tokenService.issue(userRepository.findById("member").orElseThrow());
+
+        TokenResponseDto second = refreshed(first.getRefreshToken());
+
+        assertThat(second.getRefreshToken()).isNotEqualTo(first.getRefreshToken());
+        assertThat(second.getToken()).isNotEqualTo(first.getToken());
+        assertThat(jwtProvider.verify(second.getToken()).userId()).isEqualTo("member");
+        assertThat(refreshed(second.getRefreshToken())).isNotNull();
+    }
+
+    @Test
+    void 교체된_리프레시_토큰이_다시_오면_같은_계열을_모두_폐기한다() {
+        TokenResponseDto first = tokenService.issue(userRepository.findById("member").orElseThrow());
+        TokenResponseDto second = refreshed(first.getRefreshToken());
+
+        // 탈취된 이전 토큰 재사용
+        assertInvalid(tokenService.refresh(request(first.getRefreshToken())));
+        // 정상 사용자 쪽의 최신 토큰도 같은 계열이라 함께 폐기됨
+        assertInvalid(tokenService.refresh(request(second.getRefreshToken())));
+    }
+
+    @Test
+    void 다른_계열의_토큰은_재사용_감지의_영향을_받지_않는다() {
+        TokenResponseDto stolen = tokenService.issue(userRepository.findById("member").orElseThrow());
+        TokenResponseDto otherDevice = tokenService.issue(userRepository.findById("member").orElseThrow());
+        refreshed(stolen.getRefreshToken());
+
+        assertInvalid(tokenService.refresh(request(stolen.getRefreshToken())));
+        assertThat(refreshed(otherDevice.getRefreshToken())).isNotNull();
+    }
+
+    @Test
+    void 모르는_토큰이나_정지된_계정은_재발급하지_않는다() {
+        assertInvalid(tokenService.refresh(request("unknown-token")));
+        assertInvalid(tokenService.refresh(request(" ")));
+
+        TokenResponseDto issued = tokenService.issue(userRepository.findById("member").orElseThrow());
+        jdbcTemplate.update("UPDATE `user` SET user_status = 'Y' WHERE user_id = 'member'");
+        assertInvalid(tokenService.refresh(request(issued.getRefreshToken())));
+    }
+
+    @Test
+    void 로그아웃하면_액세스_토큰은_폐기되고_리프레시_토큰은_더_쓸_수_없다() {
+        TokenResponseDto issued = tokenService.issue(userRepository.findById("member").orElseThrow());
+        String tokenId = jwtProvider.verify(issued.getToken()).tokenId();
+        assertThat(revocationList.isRevoked(tokenId)).isFalse();
+
+        tokenService.logout(issued.getToken(), request(issued.getRefreshToken()));
+
+        assertThat(revocationList.isRevoked(tokenId)).isTrue();
+        assertInvalid(tokenService.refresh(request(issued.getRefreshToken())));
+    }
+
+    @Test
+    void 다른_서버에서_폐기한_토큰도_동기화_주기_안에_반영된다() {
+        // 같은 DB를 쓰는 다른 서버의 폐기 목록
+        AccessTokenRevocationList otherNode = new AccessTokenRevocationList(revokedAccessTokenRepository, 1000, 0.001, 60_000);
+        otherNode.rebuild();
+        TokenResponseDto issued = tokenService.issue(userRepository.findById("member").orElseThrow());
+        String tokenId = jwtProvider.verify(issued.getToken()).tokenId();
+
+        tokenService.logout(issued.getToken(), null);
+        assertThat(otherNode.isRevoked(tokenId)).isFalse(); // 아직 이 서버 필터에는 없음
+
+        otherNode.syncRecent();
+
+        assertThat(otherNode.isRevoked(tokenId)).isTrue();
+    }
+
+    @Test
+    void 재구성하면_원래_만료_시각이_지난_폐기_항목은_정리된다() {
+        revocationList.revoke("expired-soon", "member", System.currentTimeMillis() + 60_000);
+        revocationList.revoke("still-valid", "member", System.currentTimeMillis() + 600_000);
+        jdbcTemplate.update("UPDATE revoked_access_token SET expires_at = ? WHERE token_id = 'expired-soon'",
+                LocalDateTime.now().minusMinutes(1));
+
+        revocationList.rebuild();
+
+        assertThat(revokedAccessTokenRepository.existsById("expired-soon")).isFalse();
+        assertThat(revocationList.isRevoked("still-valid")).isTrue();
+        assertThat(revocationList.isRevoked(null)).isFalse();
+    }
+
+    private TokenResponseDto refreshed(String refreshToken) {
+        ResponseEntity<? super TokenResponseDto> response = tokenService.refresh(request(refreshToken));
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return (TokenResponseDto) response.getBody();
+    }
+
+    private static void assertInvalid(ResponseEntity<?> response) {
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(((ResponseDto) response.getBody()).getCode()).isEqualTo(ResponseCode.INVALID_REFRESH_TOKEN);
+    }
+
+    private static RefreshTokenRequestDto request(String refreshToken) {
+        RefreshTokenRequestDto dto = new RefreshTokenRequestDto();
+        ReflectionTestUtils.setField(dto, "refreshToken", refreshToken);
+        return dto;
+    }
+}
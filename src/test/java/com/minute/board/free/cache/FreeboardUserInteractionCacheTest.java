@@ -0,0 +1,143 @@
+package com.minute.board.free.cache;
+
+import com.minute.board.free.repository.FreeboardCommentLikeRepository;
+import com.minute.board.free.repository.FreeboardCommentReportRepository;
+import com.minute.board.free.repository.FreeboardPostLikeRepository;
+import com.minute.board.free.repository.FreeboardPostReportRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class FreeboardUserInteractionCacheTest {
+
+    @Mock FreeboardPostLikeRepository postLikeRepository;
+    @Mock FreeboardPostReportRepository postReportRepository;
+    @Mock FreeboardCommentLikeRepository commentLikeRepository;
+    @Mock FreeboardCommentReportRepository commentReportRepository;
+
+    FreeboardUserInteractionCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new FreeboardUserInteractionCache(postLikeRepository, postReportRepository,
+                commentLikeRepository, commentReportRepository, 1 << 20);
+        when(postLikeRepository.findLikedPostIdsByUserIdAndPostIdsIn(eq("user"), anyList())).thenReturn(Set.of());
+        when(postReportRepository.findReportedPostIdsByUserIdAndPostIdsIn(eq("user"), anyList())).thenReturn(Set.of());
+        when(commentLikeRepository.findLikedCommentIdsByUserIdAndCommentIdsIn(eq("user"), anyList())).thenReturn(Set.of());
+        when(commentReportRepository.findReportedCommentIdsByUserIdAndCommentIdsIn(eq("user"), anyList())).thenReturn(Set.of());
+    }
+
+    @Test
+    void 화면에_그리는_게시글_ID만_조회하고_이미_확인한_ID는_다시_조회하지_않는다() {
+        when(postLikeRepository.findLikedPostIdsByUserIdAndPostIdsIn("user", List.of(1, 2, 3))).thenReturn(Set.of(2));
+        when(postReportRepository.findReportedPostIdsByUserIdAndPostIdsIn("user", List.of(1, 2, 3))).thenReturn(Set.of(3));
+
+        FreeboardUserInteractionCache.UserInteractions first = cache.postInteractionsOf("user", List.of(1, 2, 3));
+        assertThat(first.hasLikedPost(2)).isTrue();
+        assertThat(first.hasLikedPost(1)).isFalse();
+        assertThat(first.hasReportedPost(3)).isTrue();
+
+        // 다음 페이지는 처음 보는 ID만 조회
+        cache.postInteractionsOf("user", List.of(3, 4));
+        verify(postLikeRepository).findLikedPostIdsByUserIdAndPostIdsIn("user", List.of(4));
+
+        // 이미 본 페이지는 DB를 다시 조회하지 않음
+        assertThat(cache.postInteractionsOf("user", List.of(1, 2, 3, 4)).hasLikedPost(2)).isTrue();
+        verify(postLikeRepository, times(2)).findLikedPostIdsByUserIdAndPostIdsIn(eq("user"), anyList());
+        verify(postReportRepository, times(2)).findReportedPostIdsByUserIdAndPostIdsIn(eq("user"), anyList());
+    }
+
+    @Test
+    void 게시글과_댓글은_따로_확인하고_비로그인은_조회하지_않는다() {
+        when(commentLikeRepository.findLikedCommentIdsByUserIdAndCommentIdsIn("user", List.of(10))).thenReturn(Set.of(10));
+
+        assertThat(cache.hasLikedComment("user", 10)).isTrue();
+        assertThat(cache.hasLikedPost("user", 10)).isFalse();
+        verify(postLikeRepository).findLikedPostIdsByUserIdAndPostIdsIn("user", List.of(10));
+
+        assertThat(cache.postInteractionsOf(null, List.of(1, 2))).isSameAs(FreeboardUserInteractionCache.UserInteractions.EMPTY);
+        assertThat(cache.hasLikedPost(null, 1)).isFalse();
+        verify(postLikeRepository, never()).findLikedPostIdsByUserIdAndPostIdsIn(eq(null), any());
+    }
+
+    @Test
+    void 빈_목록이면_조회하지_않는다() {
+        cache.postInteractionsOf("user", List.of());
+        cache.commentInteractionsOf("user", List.of());
+
+        verifyNoInteractions(postLikeRepository, postReportRepository, commentLikeRepository, commentReportRepository);
+    }
+
+    @Test
+    void 확인한_대상의_변경_이벤트는_조회없이_반영한다() {
+        cache.postInteractionsOf("user", List.of(1));
+
+        cache.onInteractionChanged(FreeboardInteractionChangedEvent.postLike("user", 1, true));
+        cache.onInteractionChanged(FreeboardInteractionChangedEvent.postReport("user", 1));
+        assertThat(cache.hasLikedPost("user", 1)).isTrue();
+        assertThat(cache.hasReportedPost("user", 1)).isTrue();
+
+        cache.onInteractionChanged(FreeboardInteractionChangedEvent.postLike("user", 1, false));
+        assertThat(cache.hasLikedPost("user", 1)).isFalse();
+        verify(postLikeRepository, times(1)).findLikedPostIdsByUserIdAndPostIdsIn(eq("user"), anyList());
+    }
+
+    @Test
+    void 확인하지_않은_대상의_변경_이벤트는_사용자_항목을_비운다() {
+        cache.postInteractionsOf("user", List.of(1));
+
+        cache.onInteractionChanged(FreeboardInteractionChangedEvent.postLike("user", 2, true));
+        when(postLikeRepository.findLikedPostIdsByUserIdAndPostIdsIn("user", List.of(2))).thenReturn(Set.of(2));
+
+        assertThat(cache.hasLikedPost("user", 2)).isTrue();
+        // 항목을 비웠으므로 1번도 다시 확인
+        cache.hasLikedPost("user", 1);
+        verify(postLikeRepository, times(2)).findLikedPostIdsByUserIdAndPostIdsIn("user", List.of(1));
+    }
+
+    @Test
+    void 조회_중에_변경이_커밋되면_변경_전_값을_저장하지_않는다() {
+        // 좋아요 커밋 전에 읽은 결과(좋아요 없음)를 돌려주는 동안, 커밋 후 이벤트가 도착한 경우
+        when(postLikeRepository.findLikedPostIdsByUserIdAndPostIdsIn("user", List.of(1))).thenAnswer(invocation -> {
+            cache.onInteractionChanged(FreeboardInteractionChangedEvent.postLike("user", 1, true));
+            return Set.of();
+        });
+        assertThat(cache.hasLikedPost("user", 1)).isFalse();
+
+        when(postLikeRepository.findLikedPostIdsByUserIdAndPostIdsIn("user", List.of(1))).thenReturn(Set.of(1));
+        assertThat(cache.hasLikedPost("user", 1)).isTrue();
+    }
+
+    @Test
+    void 조회_중에_이미_확인된_대상은_이벤트로_갱신된_값을_유지한다() {
+        cache.postInteractionsOf("user", List.of(1));
+        // 1번을 다시 포함한 목록을 읽는 동안 1번 좋아요 이벤트가 반영된 경우 (2번만 조회 대상)
+        when(postLikeRepository.findLikedPostIdsByUserIdAndPostIdsIn("user", List.of(2))).thenAnswer(invocation -> {
+            cache.onInteractionChanged(FreeboardInteractionChangedEvent.postLike("user", 1, true));
+            return Set.of();
+        });
+
+        cache.postInteractionsOf("user", List.of(1, 2));
+
+        assertThat(cache.hasLikedPost("user", 1)).isTrue();
+    }
+}
@@ -0,0 +1,126 @@
+package com.minute.board.free.ranking;
+
+import com.minute.board.free.cache.FreeboardPostChangedEvent;
+import com.minute.board.free.repository.FreeboardPostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class FreeboardHotRankingTest {
+
+    private static final double DAY_DECAY = 45000;
+    private static final double WEEK_DECAY = 315000;
+
+    @Mock FreeboardPostRepository freeboardPostRepository;
+
+    FreeboardHotRanking ranking;
+    LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        ranking = new FreeboardHotRanking(freeboardPostRepository, 3.0, 2.0, 0.1, DAY_DECAY, WEEK_DECAY, 50, 60000);
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    void 반응이_많을수록_점수가_높고_decay_만큼_늦은_글은_반응_10배와_같은_점수다() {
+        LocalDateTime createdAt = now.minusHours(1);
+        assertThat(ranking.score(HotWindow.DAY, 10, 0, 0, createdAt))
+                .isGreaterThan(ranking.score(HotWindow.DAY, 1, 0, 0, createdAt));
+        // 반응이 없어도 log10(1) = 0 으로 계산 (음수로 떨어지지 않음)
+        assertThat(ranking.score(HotWindow.DAY, 0, 0, 0, createdAt))
+                .isEqualTo(ranking.score(HotWindow.DAY, 0, 0, 1, createdAt));
+
+        for (HotWindow window : HotWindow.values()) {
+            double decay = window == HotWindow.DAY ? DAY_DECAY : WEEK_DECAY;
+            double older = ranking.score(window, 100, 0, 0, createdAt);
+            double newer = ranking.score(window, 10, 0, 0, createdAt.plusSeconds((long) decay));
+            assertThat(newer).isCloseTo(older, within(1e-9));
+        }
+    }
+
+    @Test
+    void 일간_순위에는_하루_안에_작성된_글만_주간_순위에는_7일_안의_글만_들어간다() {
+        givenPosts(
+                new HotPostStats(1, 1, 0, 0, now.minusHours(2)),
+                new HotPostStats(2, 1, 0, 0, now.minusDays(3)),
+                new HotPostStats(3, 1, 0, 0, now.minusDays(8)));
+
+        assertThat(ranking.topPostIds(HotWindow.DAY, 10)).containsExactly(1);
+        assertThat(ranking.topPostIds(HotWindow.WEEK, 10)).containsExactly(1, 2);
+    }
+
+    @Test
+    void 주간_순위는_며칠_지난_인기글을_방금_올라온_글보다_위에_둔다() {
+        givenPosts(
+                new HotPostStats(1, 1000, 0, 0, now.minusDays(5)),
+                new HotPostStats(2, 1, 0, 0, now.minusHours(1)));
+
+        // 일간 decay 를 주간에 그대로 쓰면 5일(432000초) 차이가 반응 10^9.6배에 해당해 최신글이 이김
+        assertThat(ranking.topPostIds(HotWindow.WEEK, 10)).containsExactly(1, 2);
+        assertThat(ranking.topPostIds(HotWindow.DAY, 10)).containsExactly(2);
+    }
+
+    @Test
+    void 일간_순위는_반응이_같으면_최근_글을_위에_둔다() {
+        givenPosts(
+                new HotPostStats(1, 5, 0, 0, now.minusHours(20)),
+                new HotPostStats(2, 5, 0, 0, now.minusHours(1)));
+
+        assertThat(ranking.topPostIds(HotWindow.DAY, 10)).containsExactly(2, 1);
+        assertThat(ranking.topPostIds(HotWindow.WEEK, 10)).containsExactly(2, 1);
+    }
+
+    @Test
+    void 반응_이벤트로_순위가_바뀌고_모르는_게시글의_이벤트는_무시한다() {
+        givenPosts(
+                new HotPostStats(1, 2, 0, 0, now.minusHours(3)),
+                new HotPostStats(2, 1, 0, 0, now.minusHours(3)));
+        assertThat(ranking.topPostIds(HotWindow.DAY, 10)).containsExactly(1, 2);
+
+        for (int i = 0; i < 5; i++) {
+            ranking.onStatsChanged(FreeboardPostStatsChangedEvent.liked(2, true));
+        }
+        ranking.onStatsChanged(FreeboardPostStatsChangedEvent.commented(99, 1));
+        ranking.refreshTopLists();
+
+        assertThat(ranking.topPostIds(HotWindow.DAY, 10)).containsExactly(2, 1);
+        assertThat(ranking.topPostIds(HotWindow.WEEK, 10)).containsExactly(2, 1);
+    }
+
+    @Test
+    void 숨김_처리된_게시글은_순위에서_빠지고_개수_제한을_지킨다() {
+        givenPosts(
+                new HotPostStats(1, 3, 0, 0, now.minusHours(1)),
+                new HotPostStats(2, 2, 0, 0, now.minusHours(1)),
+                new HotPostStats(3, 1, 0, 0, now.minusHours(1)));
+        when(freeboardPostRepository.findHotStatsByPostId(eq(1), any())).thenReturn(Optional.empty());
+
+        ranking.onPostChanged(new FreeboardPostChangedEvent(1));
+        ranking.refreshTopLists();
+
+        assertThat(ranking.topPostIds(HotWindow.DAY, 10)).containsExactly(2, 3);
+        assertThat(ranking.topPostIds(HotWindow.DAY, 1)).containsExactly(2);
+    }
+
+    private void givenPosts(HotPostStats... stats) {
+        when(freeboardPostRepository.findHotStatsSince(any())).thenReturn(List.of(stats));
+        ranking.resync();
+    }
+}
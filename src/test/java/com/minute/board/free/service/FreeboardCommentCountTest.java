@@ -0,0 +1,161 @@
+package com.minute.board.free.service;
+
+import com.minute.board.free.cache.FreeboardPostCache;
+import com.minute.board.free.cache.FreeboardUserInteractionCache;
+import com.minute.board.free.dto.request.CommentVisibilityRequestDTO;
+import com.minute.board.free.dto.request.FreeboardCommentRequestDTO;
+import com.minute.board.free.entity.FreeboardPost;
+import com.minute.board.free.ranking.FreeboardHotRanking;
+import com.minute.board.free.scheduler.FreeboardCommentCountScheduler;
+import com.minute.user.cache.CurrentUser;
+import com.minute.user.cache.UserSnapshotCache;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 댓글 작성/삭제/숨김 변경 시 게시글의 comment_count 가 숨김 아닌 댓글 수와 같게 유지되고,
+ * 어긋난 값은 {@link FreeboardCommentCountScheduler} 가 구간 단위로 바로잡는지 확인합니다. (H2 MySQL 모드)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:commentcounttest;MODE=MySQL;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "freeboard.comment-count.reconcile-batch-size=2"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class FreeboardCommentCountTest {
+
+    @Configuration
+    @EntityScan("com.minute")
+    @EnableJpaRepositories("com.minute")
+    @Import({FreeboardCommentServiceImpl.class, FreeboardCommentCountScheduler.class, FreeboardPostCache.class,
+            FreeboardUserInteractionCache.class, FreeboardHotRanking.class, UserSnapshotCache.class, CurrentUser.class})
+    static class TestConfig {
+    }
+
+    @Autowired FreeboardCommentServiceImpl freeboardCommentService;
+    @Autowired FreeboardCommentCountScheduler freeboardCommentCountScheduler;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM freeboard_comments");
+        jdbcTemplate.update("DELETE FROM freeboard_posts");
+        jdbcTemplate.update("DELETE FROM `user`");
+
+        jdbcTemplate.update("INSERT INTO `user` (user_id, user_pw, user_name, user_nickname, role, created_at, updated_at, " +
+                "user_phone, user_email, user_status, user_gender, user_no, user_report, is_certified) " +
+                "VALUES ('writer', 'pw', 'name', 'nick', 'USER', NOW(), NOW(), '010', 'writer@test.com', 'N', 'MALE', 1, 0, false)");
+        for (int postId = 1; postId <= 5; postId++) {
+            insertPost(postId, 0);
+        }
+    }
+
+    @Test
+    void 댓글_작성과_삭제가_댓글수에_반영된다() {
+        Integer first = freeboardCommentService.createComment(1, new FreeboardCommentRequestDTO("첫 댓글"), "writer").getCommentId();
+        freeboardCommentService.createComment(1, new FreeboardCommentRequestDTO("둘째 댓글"), "writer");
+        assertThat(commentCountOf(1)).isEqualTo(2);
+
+        freeboardCommentService.deleteComment(first, "writer");
+
+        assertThat(commentCountOf(1)).isEqualTo(1);
+        assertThat(commentCountOf(1)).isEqualTo(visibleCommentRows(1));
+    }
+
+    @Test
+    void 없는_게시글에_댓글을_쓰면_404이고_댓글이_남지_않는다() {
+        assertThatThrownBy(() -> freeboardCommentService.createComment(99, new FreeboardCommentRequestDTO("댓글"), "writer"))
+                .isInstanceOf(EntityNotFoundException.class);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM freeboard_comments", Integer.class)).isZero();
+    }
+
+    @Test
+    void 숨김_변경은_상태가_바뀔때만_댓글수를_증감한다() {
+        Integer commentId = freeboardCommentService.createComment(1, new FreeboardCommentRequestDTO("댓글"), "writer").getCommentId();
+
+        freeboardCommentService.updateCommentVisibility(commentId, new CommentVisibilityRequestDTO(true));
+        freeboardCommentService.updateCommentVisibility(commentId, new CommentVisibilityRequestDTO(true));
+        assertThat(commentCountOf(1)).isZero();
+
+        freeboardCommentService.updateCommentVisibility(commentId, new CommentVisibilityRequestDTO(false));
+        assertThat(commentCountOf(1)).isEqualTo(1);
+    }
+
+    @Test
+    void 숨긴_댓글을_삭제해도_댓글수는_다시_줄지_않는다() {
+        Integer hidden = freeboardCommentService.createComment(1, new FreeboardCommentRequestDTO("숨길 댓글"), "writer").getCommentId();
+        freeboardCommentService.createComment(1, new FreeboardCommentRequestDTO("남길 댓글"), "writer");
+        freeboardCommentService.updateCommentVisibility(hidden, new CommentVisibilityRequestDTO(true));
+
+        freeboardCommentService.deleteComment(hidden, "writer");
+
+        assertThat(commentCountOf(1)).isEqualTo(1);
+        assertThat(commentCountOf(1)).isEqualTo(visibleCommentRows(1));
+    }
+
+    @Test
+    void 재계산_스케줄러는_모든_구간의_어긋난_댓글수를_바로잡는다() {
+        insertComment(1, 1, false);
+        insertComment(2, 1, false);
+        insertComment(3, 1, true);
+        insertComment(4, 4, false);
+        insertComment(5, 5, false);
+        // 수동 DB 작업 등으로 어긋난 값 (배치 크기 2 → 구간 [1,2] [3,4] [5,5])
+        jdbcTemplate.update("UPDATE freeboard_posts SET comment_count = 7 WHERE post_id = 2");
+        jdbcTemplate.update("UPDATE freeboard_posts SET comment_count = 1 WHERE post_id = 5");
+
+        freeboardCommentCountScheduler.reconcileCommentCounts();
+
+        for (int postId = 1; postId <= 5; postId++) {
+            assertThat(commentCountOf(postId)).as("post %d", postId).isEqualTo(visibleCommentRows(postId));
+        }
+        assertThat(commentCountOf(1)).isEqualTo(2);
+        assertThat(commentCountOf(2)).isZero();
+    }
+
+    @Test
+    void 빌더로_만든_게시글의_댓글수는_0이다() {
+        assertThat(FreeboardPost.builder().postTitle("t").postContent("c").build().getCommentCount()).isZero();
+    }
+
+    private void insertPost(int postId, int commentCount) {
+        jdbcTemplate.update("INSERT INTO freeboard_posts (post_id, post_title, post_content, post_view_count, post_like_count, " +
+                "comment_count, post_is_hidden, post_created_at, post_updated_at, user_id) " +
+                "VALUES (?, 'title', 'content', 0, 0, ?, false, NOW(), NOW(), 'writer')", postId, commentCount);
+    }
+
+    private void insertComment(int commentId, int postId, boolean hidden) {
+        jdbcTemplate.update("INSERT INTO freeboard_comments (comment_id, comment_content, comment_like_count, comment_is_hidden, " +
+                "comment_created_at, comment_updated_at, user_id, post_id) VALUES (?, 'comment', 0, ?, NOW(), NOW(), 'writer', ?)",
+                commentId, hidden, postId);
+    }
+
+    private int commentCountOf(int postId) {
+        return jdbcTemplate.queryForObject("SELECT comment_count FROM freeboard_posts WHERE post_id = ?", Integer.class, postId);
+    }
+
+    private int visibleCommentRows(int postId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM freeboard_comments WHERE post_id = ? AND comment_is_hidden = false", Integer.class, postId);
+    }
+}
@@ -0,0 +1,74 @@
+package com.minute.board.free.service;
+
+import com.minute.board.free.cache.FreeboardPostCache;
+import com.minute.board.free.cache.FreeboardUserInteractionCache;
+import com.minute.board.free.ranking.FreeboardHotRanking;
+import com.minute.user.cache.CurrentUser;
+import com.minute.user.cache.UserChangedEvent;
+import com.minute.user.cache.UserSnapshotCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 상세 캐시가 남아 있어도 작성자 닉네임 변경이 바로 반영되는지 확인합니다. (H2 MySQL 모드)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:postdetailtest;MODE=MySQL;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class FreeboardPostDetailTest {
+
+    @Configuration
+    @EntityScan("com.minute")
+    @EnableJpaRepositories("com.minute")
+    @Import({FreeboardPostServiceImpl.class, FreeboardPostCache.class, FreeboardUserInteractionCache.class,
+            FreeboardHotRanking.class, UserSnapshotCache.class, CurrentUser.class})
+    static class TestConfig {
+    }
+
+    @Autowired FreeboardPostServiceImpl freeboardPostService;
+    @Autowired UserSnapshotCache userSnapshotCache;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM freeboard_posts");
+        jdbcTemplate.update("DELETE FROM `user`");
+        jdbcTemplate.update("INSERT INTO `user` (user_id, user_pw, user_name, user_nickname, role, created_at, updated_at, " +
+                "user_phone, user_email, user_status, user_gender, user_no, user_report, is_certified) " +
+                "VALUES ('writer', 'pw', 'name', '이전닉네임', 'USER', NOW(), NOW(), '010', 'writer@test.com', 'N', 'MALE', 1, 0, false)");
+        jdbcTemplate.update("INSERT INTO freeboard_posts (post_id, post_title, post_content, post_view_count, post_like_count, " +
+                "post_is_hidden, post_created_at, post_updated_at, user_id) " +
+                "VALUES (1, 'title', 'content', 0, 0, false, NOW(), NOW(), 'writer')");
+    }
+
+    @Test
+    void 캐시된_게시글도_바뀐_작성자_닉네임으로_보여준다() {
+        assertThat(freeboardPostService.getPostById(1).getUserNickName()).isEqualTo("이전닉네임");
+
+        // 프로필 수정 커밋 후 UserChangedEvent 로 사용자 스냅샷만 무효화됨 (게시글 캐시는 그대로)
+        jdbcTemplate.update("UPDATE `user` SET user_nickname = '새닉네임' WHERE user_id = 'writer'");
+        userSnapshotCache.onUserChanged(new UserChangedEvent("writer"));
+
+        assertThat(freeboardPostService.getPostById(1).getUserNickName()).isEqualTo("새닉네임");
+        assertThat(freeboardPostService.getPostById(1).getPostViewCount()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,141 @@
+package com.minute.board.qna.repository;
+
+import com.minute.board.qna.entity.QnaStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 전문 검색 SQL(MATCH ... AGAINST, 작성자 UNION, COUNT)을 실제 MySQL 에서 실행해 확인합니다.
+ * H2 는 MATCH ... AGAINST 를 지원하지 않으므로 MINUTE_TEST_MYSQL_URL 에 테스트용 MySQL 8 DB 를 지정했을 때만 실행합니다.
+ * 예: {@code MINUTE_TEST_MYSQL_URL=jdbc:mysql://localhost:3306/minute_test MINUTE_TEST_MYSQL_PASSWORD=... gradle test}
+ * (테이블을 create-drop 으로 만들고 지우므로 운영/개발 DB 를 지정하면 안 됩니다)
+ */
+@EnabledIfEnvironmentVariable(named = "MINUTE_TEST_MYSQL_URL", matches = ".+")
+@DataJpaTest(properties = {
+        "spring.datasource.url=${MINUTE_TEST_MYSQL_URL}",
+        "spring.datasource.driver-class-name=com.mysql.cj.jdbc.Driver",
+        "spring.datasource.username=${MINUTE_TEST_MYSQL_USERNAME:root}",
+        "spring.datasource.password=${MINUTE_TEST_MYSQL_PASSWORD:}",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "qna.search.fulltext-enabled=true",
+        "qna.search.ngram-token-size=2"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // FULLTEXT 인덱스는 커밋된 행만 검색됨
+class QnaFullTextSearchMySqlTest {
+
+    @Configuration
+    @EntityScan("com.minute")
+    @EnableJpaRepositories("com.minute")
+    @Import(QnaFullTextSearchRepository.class)
+    static class TestConfig {
+    }
+
+    @Autowired QnaFullTextSearchRepository qnaFullTextSearchRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Integer indexes = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.statistics " +
+                "WHERE table_schema = DATABASE() AND table_name = 'inquiries' AND index_name = 'ftx_inquiries_title_content'", Integer.class);
+        if (indexes == null || indexes == 0) {
+            try (Connection connection = dataSource.getConnection()) {
+                ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/11_inquiry_fulltext.sql"));
+            }
+        }
+        jdbcTemplate.update("DELETE FROM inquiry_reports");
+        jdbcTemplate.update("DELETE FROM inquiry_attachments");
+        jdbcTemplate.update("DELETE FROM inquiries");
+        jdbcTemplate.update("DELETE FROM `user`");
+
+        user("writer", "작성자");
+        user("refund", "환불요정");
+        user("r0", "신고자");
+        inquiry(1, "환불 요청드립니다", "결제한 상품을 환불 받고 싶어요", QnaStatus.PENDING, "writer", 1);
+        inquiry(2, "결제 오류", "카드 결제가 되지 않습니다", QnaStatus.ANSWERED, "writer", 2);
+        inquiry(3, "환불 문의", "환불 환불 환불 요청 처리 기간이 궁금합니다", QnaStatus.ANSWERED, "writer", 3);
+        inquiry(4, "배송 문의", "배송이 늦어요", QnaStatus.PENDING, "refund", 4);
+        jdbcTemplate.update("INSERT INTO inquiry_reports (inquiry_report_date, inquiry_id, user_id) VALUES (NOW(), 3, 'r0')");
+        jdbcTemplate.update("INSERT INTO inquiry_attachments (inquiry_id, img_file_path, img_saved_filename, img_created_at) " +
+                "VALUES (1, 'url', 'qna/key1', NOW())");
+    }
+
+    @Test
+    void 모든_단어를_포함한_문의만_찾고_계산값을_채운다() {
+        Page<QnaSummaryRow> page = qnaFullTextSearchRepository.search("환불 요청",
+                new QnaSearchFilter(null, null, null, null, false, false), PageRequest.of(0, 10));
+
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).extracting(QnaSummaryRow::inquiryId).containsExactlyInAnyOrder(1, 3);
+        QnaSummaryRow third = page.getContent().stream().filter(row -> row.inquiryId() == 3).findFirst().orElseThrow();
+        assertThat(third.reportCount()).isEqualTo(1L);
+        assertThat(third.hasAttachments()).isFalse();
+        assertThat(third.authorNickname()).isEqualTo("작성자");
+        assertThat(third.inquiryStatus()).isEqualTo(QnaStatus.ANSWERED);
+        QnaSummaryRow first = page.getContent().stream().filter(row -> row.inquiryId() == 1).findFirst().orElseThrow();
+        assertThat(first.hasAttachments()).isTrue();
+    }
+
+    @Test
+    void 목록_조건과_페이지를_적용하고_전체_건수를_센다() {
+        QnaSearchFilter answered = new QnaSearchFilter("writer", QnaStatus.ANSWERED, null, null, false, false);
+
+        Page<QnaSummaryRow> page = qnaFullTextSearchRepository.search("환불", answered, PageRequest.of(0, 10));
+        assertThat(page.getContent()).extracting(QnaSummaryRow::inquiryId).containsExactly(3);
+
+        Page<QnaSummaryRow> first = qnaFullTextSearchRepository.search("환불",
+                new QnaSearchFilter(null, null, null, null, false, false), PageRequest.of(0, 1));
+        assertThat(first.getContent()).hasSize(1);
+        assertThat(first.getTotalElements()).isEqualTo(2);
+
+        Page<QnaSummaryRow> reported = qnaFullTextSearchRepository.search("환불",
+                new QnaSearchFilter(null, null, null, null, true, false), PageRequest.of(0, 10));
+        assertThat(reported.getContent()).extracting(QnaSummaryRow::inquiryId).containsExactly(3);
+    }
+
+    @Test
+    void 관리자_검색은_작성자_닉네임_접두사_일치를_먼저_보여주고_중복없이_센다() {
+        Page<QnaSummaryRow> page = qnaFullTextSearchRepository.search("환불",
+                new QnaSearchFilter(null, null, null, null, false, true), PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).extracting(QnaSummaryRow::inquiryId).hasSize(3).startsWith(4).contains(1, 3);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+    }
+
+    private void user(String userId, String nickname) {
+        jdbcTemplate.update("INSERT INTO `user` (user_id, user_pw, user_name, user_nickname, role, created_at, updated_at, " +
+                "user_phone, user_email, user_status, user_gender, user_no, user_report, is_certified) " +
+                "VALUES (?, 'pw', 'name', ?, 'USER', NOW(), NOW(), ?, ?, 'N', 'MALE', 1, 0, false)",
+                userId, nickname, "010-" + userId, userId + "@test.com");
+    }
+
+    private void inquiry(int id, String title, String content, QnaStatus status, String userId, int day) {
+        jdbcTemplate.update("INSERT INTO inquiries (inquiry_id, inquiry_title, inquiry_content, inquiry_status, " +
+                "inquiry_created_at, inquiry_updated_at, user_id) VALUES (?, ?, ?, ?, ?, NOW(), ?)",
+                id, title, content, status.name(), Timestamp.valueOf(LocalDateTime.of(2025, 1, day, 12, 0)), userId);
+    }
+}
@@ -0,0 +1,28 @@
+package com.minute.board.qna.repository;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검색어를 FULLTEXT BOOLEAN MODE 식으로 바꾸는 규칙을 확인합니다. (MATCH ... AGAINST 는 H2 에서 실행할 수 없음)
+ */
+class QnaFullTextSearchRepositoryTest {
+
+    @Test
+    void 단어마다_필수_구문으로_바꾸고_연산자는_제거한다() {
+        assertThat(QnaFullTextSearchRepository.toBooleanQuery("  환불 요청 ", 2)).isEqualTo("+\"환불\" +\"요청\"");
+        assertThat(QnaFullTextSearchRepository.toBooleanQuery("-결제* \"오류\" (취소)", 2)).isEqualTo("+\"결제\" +\"오류\" +\"취소\"");
+    }
+
+    @Test
+    void ngram_토큰보다_짧은_단어는_빼고_남는_단어가_없으면_전문_검색을_쓰지_않는다() {
+        assertThat(QnaFullTextSearchRepository.toBooleanQuery("a 환불", 2)).isEqualTo("+\"환불\"");
+        assertThat(QnaFullTextSearchRepository.toBooleanQuery("a 환", 2)).isEmpty();
+
+        QnaFullTextSearchRepository repository = new QnaFullTextSearchRepository(null, true, 2);
+        assertThat(repository.supports("환")).isFalse();
+        assertThat(repository.supports("환불")).isTrue();
+        assertThat(new QnaFullTextSearchRepository(null, false, 2).supports("환불")).isFalse();
+    }
+}
@@ -0,0 +1,112 @@
+package com.minute.board.qna.repository;
+
+import com.minute.board.qna.entity.Qna;
+import com.minute.board.qna.entity.QnaReport;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 문의 목록 projection 이 신고 수/첨부파일 여부를 SQL 에서 계산하고, 행 수와 관계없이 페이지+건수 두 번의 조회로 끝나는지 확인합니다.
+ * (H2 MySQL 모드)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:qnasummarytest;MODE=MySQL;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class QnaSummaryQueryRepositoryTest {
+
+    @Configuration
+    @EntityScan("com.minute")
+    @EnableJpaRepositories("com.minute")
+    @Import(QnaSummaryQueryRepository.class)
+    static class TestConfig {
+    }
+
+    @Autowired QnaSummaryQueryRepository qnaSummaryQueryRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        for (String userId : new String[]{"writer", "r0", "r1", "r2"}) {
+            jdbcTemplate.update("INSERT INTO `user` (user_id, user_pw, user_name, user_nickname, role, created_at, updated_at, " +
+                    "user_phone, user_email, user_status, user_gender, user_no, user_report, is_certified) " +
+                    "VALUES (?, 'pw', 'name', ?, 'USER', NOW(), NOW(), '010', ?, 'N', 'MALE', 1, 0, false)",
+                    userId, "writer".equals(userId) ? "작성자" : userId, userId + "@test.com");
+        }
+        for (int id = 1; id <= 5; id++) {
+            jdbcTemplate.update("INSERT INTO inquiries (inquiry_id, inquiry_title, inquiry_content, inquiry_status, " +
+                    "inquiry_created_at, inquiry_updated_at, user_id) VALUES (?, ?, 'content', 'PENDING', ?, NOW(), 'writer')",
+                    id, "문의" + id, Timestamp.valueOf(LocalDateTime.of(2025, 1, id, 12, 0)));
+        }
+        // 문의 2: 신고 3건 + 첨부 2개, 문의 4: 신고 1건
+        for (int i = 0; i < 3; i++) {
+            jdbcTemplate.update("INSERT INTO inquiry_reports (inquiry_report_date, inquiry_id, user_id) VALUES (NOW(), 2, ?)", "r" + i);
+        }
+        jdbcTemplate.update("INSERT INTO inquiry_reports (inquiry_report_date, inquiry_id, user_id) VALUES (NOW(), 4, 'r0')");
+        for (int i = 0; i < 2; i++) {
+            jdbcTemplate.update("INSERT INTO inquiry_attachments (inquiry_id, img_file_path, img_saved_filename, img_created_at) " +
+                    "VALUES (2, 'url', ?, NOW())", "qna/key" + i);
+        }
+    }
+
+    @Test
+    void 신고수와_첨부여부를_포함한_페이지를_두_번의_조회로_가져온다() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Page<QnaSummaryRow> page = qnaSummaryQueryRepository.findSummaries(
+                (root, query, cb) -> cb.equal(root.get("user").get("userId"), "writer"),
+                PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "inquiryCreatedAt")));
+
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.getContent()).extracting(QnaSummaryRow::inquiryId).containsExactly(5, 4, 3);
+        QnaSummaryRow fourth = page.getContent().get(1);
+        assertThat(fourth.reportCount()).isEqualTo(1L);
+        assertThat(fourth.hasAttachments()).isFalse();
+        assertThat(fourth.authorNickname()).isEqualTo("작성자");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 신고된_문의만_조건으로_걸러도_계산값이_맞다() {
+        Specification<Qna> reported = (root, query, cb) -> {
+            var sub = query.subquery(Long.class);
+            var report = sub.from(QnaReport.class);
+            sub.select(cb.literal(1L)).where(cb.equal(report.get("qna"), root));
+            return cb.exists(sub);
+        };
+
+        Page<QnaSummaryRow> page = qnaSummaryQueryRepository.findSummaries(reported, PageRequest.of(0, 10, Sort.by("inquiryId")));
+
+        assertThat(page.getContent()).extracting(QnaSummaryRow::inquiryId).containsExactly(2, 4);
+        assertThat(page.getContent().get(0).reportCount()).isEqualTo(3L);
+        assertThat(page.getContent().get(0).hasAttachments()).isTrue();
+    }
+}
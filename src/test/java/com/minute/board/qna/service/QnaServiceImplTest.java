@@ -0,0 +1,170 @@
+package com.minute.board.qna.service;
+
+import com.minute.board.qna.dto.request.QnaCreateRequestDTO;
+import com.minute.board.qna.dto.request.QnaUploadedFileDTO;
+import com.minute.board.qna.dto.response.QnaSummaryResponseDTO;
+import com.minute.board.qna.repository.QnaAttachmentRepository;
+import com.minute.board.qna.repository.QnaFullTextSearchRepository;
+import com.minute.board.qna.repository.QnaSummaryQueryRepository;
+import com.minute.board.qna.service.implement.QnaServiceImpl;
+import com.minute.common.file.service.FileStorageService;
+import com.minute.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * presigned URL 로 직접 올린 첨부파일 확인(QnaServiceImpl.confirmUploadedFiles) 검사와 전문 검색 실패 시의 LIKE 조회 전환을 확인합니다.
+ * 확인을 통과하지 못하면 multipart 업로드나 DB 저장까지 가지 않아야 합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class QnaServiceImplTest {
+
+    private static final long MAX_BYTES = 10 * 1024 * 1024;
+
+    @Mock FileStorageService fileStorageService;
+    @Mock QnaAttachmentRepository qnaAttachmentRepository;
+    @Mock TransactionTemplate transactionTemplate;
+    @Mock QnaFullTextSearchRepository qnaFullTextSearchRepository;
+    @Mock QnaSummaryQueryRepository qnaSummaryQueryRepository;
+    @Mock UserRepository userRepository;
+
+    @InjectMocks QnaServiceImpl qnaService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(qnaService, "fileStorageService", fileStorageService);
+        ReflectionTestUtils.setField(qnaService, "maxUploadFiles", 3);
+        ReflectionTestUtils.setField(qnaService, "maxUploadBytes", MAX_BYTES);
+        when(fileStorageService.getFileUrl(anyString())).thenAnswer(invocation -> "https://cdn/" + invocation.getArgument(0));
+    }
+
+    @Test
+    void 자기_경로에_올라간_파일은_확인을_통과한다() throws Exception {
+        String key = scope("member") + "/uuid.pdf";
+        when(fileStorageService.getObjectSize(key)).thenReturn(1024L);
+
+        assertThatCode(() -> qnaService.createQna(request(key), null, "member")).doesNotThrowAnyException();
+
+        verify(fileStorageService).uploadAll(any(), eq("qna"));
+    }
+
+    @Test
+    void 다른_사용자에게_발급된_키는_거절한다() throws Exception {
+        String key = scope("other") + "/uuid.pdf";
+        when(fileStorageService.getObjectSize(key)).thenReturn(1024L);
+
+        assertRejected(key, "발급되지 않은 업로드 키");
+        verify(fileStorageService, never()).getObjectSize(anyString());
+    }
+
+    @Test
+    void 하위_경로가_있는_키는_거절한다() throws Exception {
+        String key = scope("member") + "/nested/uuid.pdf";
+        when(fileStorageService.getObjectSize(key)).thenReturn(1024L);
+
+        assertRejected(key, "발급되지 않은 업로드 키");
+    }
+
+    @Test
+    void 업로드되지_않은_객체는_거절한다() throws Exception {
+        String key = scope("member") + "/uuid.pdf";
+        when(fileStorageService.getObjectSize(key)).thenReturn(null);
+
+        assertRejected(key, "업로드가 완료되지 않은 파일");
+    }
+
+    @Test
+    void 허용_크기를_넘는_객체는_거절한다() throws Exception {
+        String key = scope("member") + "/uuid.pdf";
+        when(fileStorageService.getObjectSize(key)).thenReturn(MAX_BYTES + 1);
+
+        assertRejected(key, "MB를 넘을 수 없습니다");
+    }
+
+    @Test
+    void 이미_첨부된_키는_거절한다() throws Exception {
+        String key = scope("member") + "/uuid.pdf";
+        when(fileStorageService.getObjectSize(key)).thenReturn(1024L);
+        when(qnaAttachmentRepository.existsByImgSavedFilenameIn(anyCollection())).thenReturn(true);
+
+        assertRejected(key, "이미 첨부된 파일");
+    }
+
+    @Test
+    void 같은_키를_두_번_보내면_거절한다() {
+        String key = scope("member") + "/uuid.pdf";
+        when(fileStorageService.getObjectSize(key)).thenReturn(1024L);
+
+        assertThatThrownBy(() -> qnaService.createQna(request(key, key), null, "member"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("이미 첨부된 파일");
+    }
+
+    @Test
+    void 전문_검색_SQL이_실패하면_LIKE_조건으로_조회한다() {
+        when(userRepository.existsById("member")).thenReturn(true);
+        when(qnaFullTextSearchRepository.supports("환불")).thenReturn(true);
+        when(qnaFullTextSearchRepository.search(eq("환불"), any(), any()))
+                .thenThrow(new BadSqlGrammarException("search", "SELECT ...", new SQLException("Can't find FULLTEXT index")));
+        when(qnaSummaryQueryRepository.findSummaries(any(), any())).thenReturn(Page.empty());
+
+        Page<QnaSummaryResponseDTO> page = qnaService.getMyQnas("member", PageRequest.of(0, 10), "환불", null, null, null);
+
+        assertThat(page.getContent()).isEmpty();
+        verify(qnaSummaryQueryRepository).findSummaries(any(), any());
+    }
+
+    private void assertRejected(String key, String message) throws Exception {
+        assertThatThrownBy(() -> qnaService.createQna(request(key), null, "member"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(message);
+        verify(fileStorageService, never()).uploadAll(any(), anyString());
+        verify(transactionTemplate, never()).execute(any());
+    }
+
+    private static QnaCreateRequestDTO request(String... keys) {
+        QnaCreateRequestDTO request = new QnaCreateRequestDTO();
+        request.setInquiryTitle("title");
+        request.setInquiryContent("content");
+        request.setUploadedFiles(Arrays.stream(keys).map(key -> {
+            QnaUploadedFileDTO file = new QnaUploadedFileDTO();
+            file.setFileKey(key);
+            file.setOriginalFilename("증빙자료.pdf");
+            return file;
+        }).toList());
+        return request;
+    }
+
+    // QnaServiceImpl.uploadDirectory 와 같은 규칙
+    private static String scope(String userId) {
+        return "qna/" + DigestUtils.md5DigestAsHex(userId.getBytes(StandardCharsets.UTF_8)).substring(0, 16);
+    }
+}
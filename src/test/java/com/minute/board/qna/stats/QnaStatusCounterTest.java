@@ -0,0 +1,106 @@
+package com.minute.board.qna.stats;
+
+import com.minute.board.qna.entity.Qna;
+import com.minute.board.qna.entity.QnaStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 문의 작성/상태 변경/삭제에 따라 상태별·작성일별 집계가 증감하고, 재집계로 inquiries 와 다시 맞춰지는지 확인합니다.
+ * (H2 MySQL 모드)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:qnastatustest;MODE=MySQL;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class QnaStatusCounterTest {
+
+    @Configuration
+    @EntityScan("com.minute")
+    @EnableJpaRepositories("com.minute")
+    @Import(QnaStatusCounter.class)
+    static class TestConfig {
+    }
+
+    private static final LocalDate DAY1 = LocalDate.of(2025, 6, 1);
+    private static final LocalDate DAY2 = LocalDate.of(2025, 6, 2);
+
+    @Autowired QnaStatusCounter qnaStatusCounter;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 작성_답변_삭제에_따라_상태별_작성일별_수가_바뀐다() {
+        Qna first = qna(DAY1, QnaStatus.PENDING);
+        Qna second = qna(DAY1, QnaStatus.PENDING);
+        Qna third = qna(DAY2, QnaStatus.PENDING);
+        qnaStatusCounter.created(first);
+        qnaStatusCounter.created(second);
+        qnaStatusCounter.created(third);
+
+        qnaStatusCounter.statusChanged(first, QnaStatus.PENDING, QnaStatus.ANSWERED);   // 답변 등록
+        qnaStatusCounter.statusChanged(first, QnaStatus.ANSWERED, QnaStatus.ANSWERED);  // 변화 없음
+        qnaStatusCounter.statusChanged(second, QnaStatus.PENDING, QnaStatus.ANSWERED);
+        qnaStatusCounter.statusChanged(second, QnaStatus.ANSWERED, QnaStatus.PENDING);  // 답변 삭제
+        second.setInquiryStatus(QnaStatus.PENDING);
+        qnaStatusCounter.deleted(third);
+
+        assertThat(qnaStatusCounter.totals()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                QnaStatus.PENDING, 1L, QnaStatus.ANSWERED, 1L));
+        assertThat(qnaStatusCounter.total()).isEqualTo(2);
+
+        Map<LocalDate, Map<QnaStatus, Long>> daily = qnaStatusCounter.daily(DAY1, DAY2);
+        assertThat(daily.get(DAY1)).containsEntry(QnaStatus.PENDING, 1L).containsEntry(QnaStatus.ANSWERED, 1L);
+        assertThat(daily.get(DAY2)).containsEntry(QnaStatus.PENDING, 0L).containsEntry(QnaStatus.ANSWERED, 0L);
+        assertThat(qnaStatusCounter.daily(DAY2.plusDays(1), DAY2.plusDays(7))).isEmpty();
+    }
+
+    @Test
+    void 재집계하면_inquiries_의_실제_수로_맞춰진다() {
+        jdbcTemplate.update("INSERT INTO `user` (user_id, user_pw, user_name, user_nickname, role, created_at, updated_at, " +
+                "user_phone, user_email, user_status, user_gender, user_no, user_report, is_certified) " +
+                "VALUES ('writer', 'pw', 'name', '작성자', 'USER', NOW(), NOW(), '010', 'writer@test.com', 'N', 'MALE', 1, 0, false)");
+        insertInquiry(1, DAY1, QnaStatus.PENDING);
+        insertInquiry(2, DAY1, QnaStatus.ANSWERED);
+        insertInquiry(3, DAY2, QnaStatus.ANSWERED);
+        qnaStatusCounter.created(qna(DAY2, QnaStatus.PENDING)); // inquiries 에 없는 어긋난 값
+
+        qnaStatusCounter.rebuild();
+
+        assertThat(qnaStatusCounter.totals()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                QnaStatus.PENDING, 1L, QnaStatus.ANSWERED, 2L));
+        Map<LocalDate, Map<QnaStatus, Long>> daily = qnaStatusCounter.daily(DAY1, DAY2);
+        assertThat(daily.get(DAY1)).containsEntry(QnaStatus.PENDING, 1L).containsEntry(QnaStatus.ANSWERED, 1L);
+        assertThat(daily.get(DAY2)).containsEntry(QnaStatus.PENDING, 0L).containsEntry(QnaStatus.ANSWERED, 1L);
+    }
+
+    private static Qna qna(LocalDate createdDate, QnaStatus status) {
+        return Qna.builder()
+                .inquiryStatus(status)
+                .inquiryCreatedAt(createdDate.atTime(10, 0))
+                .build();
+    }
+
+    private void insertInquiry(int id, LocalDate createdDate, QnaStatus status) {
+        jdbcTemplate.update("INSERT INTO inquiries (inquiry_id, inquiry_title, inquiry_content, inquiry_status, " +
+                        "inquiry_created_at, inquiry_updated_at, user_id) VALUES (?, '문의', 'content', ?, ?, NOW(), 'writer')",
+                id, status.name(), Timestamp.valueOf(createdDate.atTime(12, 0)));
+    }
+}
@@ -0,0 +1,108 @@
+package com.minute.calendar.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일정/체크리스트 dot 을 한 번의 UNION 조회로 가져오고, 구간 안의 수정/삭제가 ETag 에 반영되는지 확인합니다.
+ * (H2 MySQL 모드)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:calendartest;MODE=MySQL;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class CalendarQueryRepositoryTest {
+
+    @Configuration
+    @EntityScan("com.minute")
+    @EnableJpaRepositories("com.minute")
+    @Import(CalendarQueryRepository.class)
+    static class TestConfig {
+    }
+
+    private static final LocalDate JUNE_1 = LocalDate.of(2025, 6, 1);
+    private static final LocalDate JUNE_2 = LocalDate.of(2025, 6, 2);
+    private static final LocalDate JULY_1 = LocalDate.of(2025, 7, 1);
+
+    @Autowired CalendarQueryRepository calendarQueryRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        for (String userId : new String[]{"traveler", "other"}) {
+            jdbcTemplate.update("INSERT INTO `user` (user_id, user_pw, user_name, user_nickname, role, created_at, updated_at, " +
+                    "user_phone, user_email, user_status, user_gender, user_no, user_report, is_certified) " +
+                    "VALUES (?, 'pw', 'name', ?, 'USER', NOW(), NOW(), '010', ?, 'N', 'MALE', 1, 0, false)",
+                    userId, userId, userId + "@test.com");
+        }
+        insertPlan(1, "traveler", JUNE_1);
+        insertPlan(2, "traveler", JUNE_1); // 같은 날 일정 두 개 → dot 한 건
+        insertPlan(3, "traveler", JULY_1);
+        insertPlan(4, "other", JUNE_2);
+        insertChecklist(1, "traveler", 1, JUNE_1);
+        insertChecklist(2, "traveler", null, JUNE_2);
+    }
+
+    @Test
+    void 구간_안의_날짜와_종류를_중복없이_날짜순으로_가져온다() {
+        assertThat(calendarQueryRepository.findDots("traveler", JUNE_1, JULY_1.minusDays(1))).containsExactly(
+                new CalendarDotRow(JUNE_1, CalendarDotRow.CHECKLIST),
+                new CalendarDotRow(JUNE_1, CalendarDotRow.PLAN),
+                new CalendarDotRow(JUNE_2, CalendarDotRow.CHECKLIST));
+        assertThat(calendarQueryRepository.findDots("traveler", JUNE_1, JULY_1))
+                .contains(new CalendarDotRow(JULY_1, CalendarDotRow.PLAN))
+                .hasSize(4);
+    }
+
+    @Test
+    void 구간_안의_수정과_삭제가_있으면_ETag가_바뀐다() {
+        CalendarVersion before = calendarQueryRepository.findVersion("traveler", JUNE_1, JUNE_2);
+        assertThat(before.planCount()).isEqualTo(2);
+        assertThat(before.checklistCount()).isEqualTo(2);
+
+        jdbcTemplate.update("UPDATE plan SET updated_at = ? WHERE plan_id = 3", Timestamp.valueOf(JULY_1.atTime(9, 0)));
+        assertThat(calendarQueryRepository.findVersion("traveler", JUNE_1, JUNE_2).etag()).isEqualTo(before.etag()); // 구간 밖
+
+        jdbcTemplate.update("UPDATE checklist SET is_checked = true, updated_at = ? WHERE checklist_id = 2",
+                Timestamp.valueOf(JUNE_2.atTime(9, 0)));
+        CalendarVersion updated = calendarQueryRepository.findVersion("traveler", JUNE_1, JUNE_2);
+        assertThat(updated.etag()).isNotEqualTo(before.etag());
+        assertThat(updated.lastModified()).isEqualTo(JUNE_2.atTime(9, 0));
+
+        jdbcTemplate.update("DELETE FROM checklist WHERE checklist_id = 1"); // 마지막 수정 시각은 그대로, 수가 줄어듦
+        CalendarVersion deleted = calendarQueryRepository.findVersion("traveler", JUNE_1, JUNE_2);
+        assertThat(deleted.lastModified()).isEqualTo(updated.lastModified());
+        assertThat(deleted.etag()).isNotEqualTo(updated.etag());
+    }
+
+    private void insertPlan(int planId, String userId, LocalDate date) {
+        jdbcTemplate.update("INSERT INTO plan (plan_id, user_id, travel_date, title, start_time, end_time, created_at, updated_at) " +
+                "VALUES (?, ?, ?, '일정', '09:00:00', '10:00:00', ?, ?)",
+                planId, userId, Date.valueOf(date), Timestamp.valueOf(date.atTime(8, 0)), Timestamp.valueOf(date.atTime(8, 0)));
+    }
+
+    private void insertChecklist(int checklistId, String userId, Integer planId, LocalDate date) {
+        jdbcTemplate.update("INSERT INTO checklist (checklist_id, user_id, plan_id, travel_date, item_content, is_checked, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, '여권', false, ?, ?)",
+                checklistId, userId, planId, Date.valueOf(date), Timestamp.valueOf(date.atTime(8, 0)), Timestamp.valueOf(date.atTime(8, 0)));
+    }
+}
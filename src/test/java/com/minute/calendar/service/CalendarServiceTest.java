@@ -0,0 +1,104 @@
+package com.minute.calendar.service;
+
+import com.minute.calendar.dto.response.CalendarResponseDTO;
+import com.minute.checklist.dto.response.ChecklistResponseDTO;
+import com.minute.plan.dto.response.PlanResponseDTO;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일주일치 캘린더 상세를 날짜 수와 관계없이 두 번의 조회(일정, 체크리스트+일정 fetch join)로 가져오는지 확인합니다.
+ * (H2 MySQL 모드)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:calendarservicetest;MODE=MySQL;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class CalendarServiceTest {
+
+    @Configuration
+    @EntityScan("com.minute")
+    @EnableJpaRepositories("com.minute")
+    @Import(CalendarService.class)
+    static class TestConfig {
+    }
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 6, 2);
+
+    @Autowired CalendarService calendarService;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO `user` (user_id, user_pw, user_name, user_nickname, role, created_at, updated_at, " +
+                "user_phone, user_email, user_status, user_gender, user_no, user_report, is_certified) " +
+                "VALUES ('traveler', 'pw', 'name', 'traveler', 'USER', NOW(), NOW(), '010', 'traveler@test.com', 'N', 'MALE', 1, 0, false)");
+        insertPlan(1, MONDAY, "10:00:00");
+        insertPlan(2, MONDAY, "09:00:00");
+        insertPlan(3, MONDAY.plusDays(3), "09:00:00");
+        insertPlan(4, MONDAY.plusDays(7), "09:00:00"); // 구간 밖
+        insertChecklist(1, 1, MONDAY);
+        insertChecklist(2, 3, MONDAY.plusDays(3));
+        insertChecklist(3, null, MONDAY.plusDays(6));
+    }
+
+    @Test
+    void 일주일치_일정과_체크리스트를_두_번의_조회로_날짜별로_나눈다() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Map<LocalDate, CalendarResponseDTO> week = calendarService.getDetailsBetween("traveler", MONDAY, MONDAY.plusDays(6));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(week).hasSize(7);
+        assertThat(week.keySet()).first().isEqualTo(MONDAY);
+        assertThat(week.get(MONDAY).getPlans()).extracting(PlanResponseDTO::getPlanId).containsExactly(2, 1); // 시작 시간 순
+        assertThat(week.get(MONDAY).getChecklists()).extracting(ChecklistResponseDTO::getPlanId).containsExactly(1);
+        assertThat(week.get(MONDAY.plusDays(3)).getChecklists()).extracting(ChecklistResponseDTO::getPlanId).containsExactly(3);
+        assertThat(week.get(MONDAY.plusDays(6)).getChecklists()).extracting(ChecklistResponseDTO::getPlanId).containsExactly((Integer) null);
+        assertThat(week.get(MONDAY.plusDays(1)).getPlans()).isEmpty();
+        assertThat(week.get(MONDAY.plusDays(1)).getChecklists()).isEmpty();
+    }
+
+    @Test
+    void 하루_조회도_같은_방식으로_한다() {
+        CalendarResponseDTO day = calendarService.getDetails("traveler", MONDAY.plusDays(3));
+
+        assertThat(day.getPlans()).extracting(PlanResponseDTO::getPlanId).containsExactly(3);
+        assertThat(day.getChecklists()).extracting(ChecklistResponseDTO::getChecklistId).containsExactly(2);
+    }
+
+    private void insertPlan(int planId, LocalDate date, String startTime) {
+        jdbcTemplate.update("INSERT INTO plan (plan_id, user_id, travel_date, title, start_time, end_time, created_at, updated_at) " +
+                "VALUES (?, 'traveler', ?, '일정', ?, '23:00:00', NOW(), NOW())", planId, Date.valueOf(date), startTime);
+    }
+
+    private void insertChecklist(int checklistId, Integer planId, LocalDate date) {
+        jdbcTemplate.update("INSERT INTO checklist (checklist_id, user_id, plan_id, travel_date, item_content, is_checked, created_at, updated_at) " +
+                "VALUES (?, 'traveler', ?, ?, '여권', false, NOW(), NOW())", checklistId, planId, Date.valueOf(date));
+    }
+}
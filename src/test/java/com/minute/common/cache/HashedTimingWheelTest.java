@@ -0,0 +1,31 @@
+package com.minute.common.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashedTimingWheelTest {
+
+    @Test
+    void 예약한_작업은_만료_후_실행되고_취소한_작업은_실행되지_않는다() throws Exception {
+        try (HashedTimingWheel wheel = new HashedTimingWheel("test-wheel", 10, 8)) {
+            CountDownLatch fired = new CountDownLatch(1);
+            AtomicBoolean cancelledFired = new AtomicBoolean();
+            long start = System.nanoTime();
+
+            // 칸 수(8) × tick(10ms) 보다 긴 지연 → 여러 바퀴를 돌아야 실행됨
+            wheel.schedule(fired::countDown, 200);
+            HashedTimingWheel.Timeout cancelled = wheel.schedule(() -> cancelledFired.set(true), 50);
+            cancelled.cancel();
+
+            assertThat(fired.await(2, TimeUnit.SECONDS)).isTrue();
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(190);
+            assertThat(cancelledFired).isFalse();
+            assertThat(wheel.pending()).isZero();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.minute.common.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowRateLimiterTest {
+
+    @Test
+    void 한도를_넘으면_가장_오래된_기록이_빠질_때까지_거부한다() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(2, 1000);
+
+        assertThat(limiter.tryAcquire("k", 0)).isZero();
+        assertThat(limiter.tryAcquire("k", 400)).isZero();
+        assertThat(limiter.tryAcquire("k", 500)).isEqualTo(500);
+        assertThat(limiter.tryAcquire("k", 1000)).isZero();
+
+        limiter.sweep(3000);
+        assertThat(limiter.size()).isZero();
+    }
+
+    @Test
+    void 키마다_따로_센다() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(1, 1000);
+
+        assertThat(limiter.tryAcquire("a", 0)).isZero();
+        assertThat(limiter.tryAcquire("b", 0)).isZero();
+        assertThat(limiter.tryAcquire("a", 100)).isEqualTo(900);
+    }
+
+    @Test
+    void 정리는_윈도우_안의_기록을_남긴다() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(1, 1000);
+        limiter.tryAcquire("old", 0);
+        limiter.tryAcquire("recent", 1500);
+
+        limiter.sweep(2000);
+
+        assertThat(limiter.size()).isEqualTo(1);
+        assertThat(limiter.tryAcquire("recent", 2000)).isEqualTo(500);
+        assertThat(limiter.tryAcquire("old", 2000)).isZero();
+    }
+}
@@ -0,0 +1,76 @@
+package com.minute.common.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeightedLruCacheTest {
+
+    @Test
+    void 무게_상한을_넘으면_가장_오래_사용하지_않은_항목부터_제거한다() {
+        WeightedLruCache<String, String> cache = new WeightedLruCache<>(10, (k, v) -> v.length());
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbb");
+        cache.getIfPresent("a"); // a 를 최근 사용으로
+        cache.put("c", "cccc");
+
+        assertThat(cache.getIfPresent("b")).isNull();
+        assertThat(cache.getIfPresent("a")).isEqualTo("aaaa");
+        assertThat(cache.getIfPresent("c")).isEqualTo("cccc");
+        assertThat(cache.weight()).isEqualTo(8);
+        assertThat(cache.evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 로딩_중에_무효화되면_읽어온_값을_반환만_하고_저장하지_않는다() {
+        WeightedLruCache<String, String> cache = new WeightedLruCache<>(100, (k, v) -> v.length());
+
+        // 변경 전 값을 읽는 동안 변경이 커밋되어 AFTER_COMMIT 무효화가 끼어든 경우
+        String loaded = cache.get("post", key -> {
+            cache.invalidate(key);
+            return "stale";
+        });
+
+        assertThat(loaded).isEqualTo("stale");
+        assertThat(cache.getIfPresent("post")).isNull();
+        assertThat(cache.get("post", key -> "fresh")).isEqualTo("fresh");
+        assertThat(cache.getIfPresent("post")).isEqualTo("fresh");
+    }
+
+    @Test
+    void 로더가_null을_반환하면_저장하지_않는다() {
+        WeightedLruCache<String, String> cache = new WeightedLruCache<>(100, (k, v) -> v.length());
+
+        assertThat(cache.get("missing", key -> null)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void 버전을_받은_뒤_무효화가_없었을_때만_합친_값을_저장한다() {
+        WeightedLruCache<String, String> cache = new WeightedLruCache<>(100, (k, v) -> v.length());
+        cache.put("user", "a");
+
+        long version = cache.version();
+        assertThat(cache.mergeIfNotInvalidated("user", version, current -> current + "b")).isEqualTo("ab");
+        assertThat(cache.getIfPresent("user")).isEqualTo("ab");
+
+        long stale = cache.version();
+        cache.invalidate("other");
+        assertThat(cache.mergeIfNotInvalidated("user", stale, current -> current + "c")).isNull();
+        assertThat(cache.getIfPresent("user")).isEqualTo("ab");
+    }
+
+    @Test
+    void 없는_항목의_computeIfPresent도_진행_중인_로딩의_저장을_막는다() {
+        WeightedLruCache<String, String> cache = new WeightedLruCache<>(100, (k, v) -> v.length());
+
+        // 항목이 없을 때 도착한 변경 이벤트가, 그 전에 시작된 로딩의 값(변경 전)을 저장하지 못하게 합니다.
+        String loaded = cache.get("user", key -> {
+            cache.computeIfPresent(key, current -> current + "!");
+            return "stale";
+        });
+
+        assertThat(loaded).isEqualTo("stale");
+        assertThat(cache.getIfPresent("user")).isNull();
+    }
+}
@@ -0,0 +1,123 @@
+package com.minute.common.file.deletion;
+
+import com.minute.common.file.service.FileStorageService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.when;
+
+/**
+ * 삭제 대기열이 호출한 트랜잭션과 함께 커밋/롤백되고, 작업 스레드가 성공한 키는 지우고 실패한 키는 재시도로 남기는지 확인합니다.
+ * (H2 MySQL 모드, 스토리지는 mock)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:filedeletiontest;MODE=MySQL;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class FileDeletionWorkerTest {
+
+    @Configuration
+    @EntityScan("com.minute")
+    @EnableJpaRepositories("com.minute")
+    @Import({FileDeletionQueue.class, FileDeletionWorker.class})
+    static class TestConfig {
+
+        @Bean(name = "s3FileStorageService")
+        FileStorageService fileStorageService() {
+            return mock(FileStorageService.class);
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired FileDeletionQueue fileDeletionQueue;
+    @Autowired FileDeletionWorker fileDeletionWorker;
+    @Autowired FileDeletionRepository fileDeletionRepository;
+    @Autowired FileStorageService fileStorageService;
+    @Autowired TransactionTemplate transactionTemplate;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM file_deletion_queue");
+        reset(fileStorageService);
+    }
+
+    @Test
+    void 호출한_트랜잭션이_롤백되면_삭제_요청도_남지_않는다() {
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            fileDeletionQueue.enqueue(List.of("qna/a.png"));
+            throw new IllegalStateException("rollback");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(fileDeletionRepository.count()).isZero();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 성공한_키는_대기열에서_지우고_실패한_키는_백오프_후_재시도로_남긴다() {
+        when(fileStorageService.deleteFiles(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> keys = invocation.getArgument(0);
+            assertThat(keys).hasSize(3); // 한 번의 DeleteObjects 로 묶어서 요청
+            return Set.of("qna/b.png");
+        });
+        fileDeletionQueue.enqueue(List.of("qna/a.png", "qna/b.png", "qna/c.png"));
+
+        fileDeletionWorker.drain(); // 커밋 직후 실행과 겹치면 둘 중 하나만 실행됨
+        awaitRemaining(1);
+
+        FileDeletion remaining = fileDeletionRepository.findAll().get(0);
+        assertThat(remaining.getObjectKey()).isEqualTo("qna/b.png");
+        assertThat(remaining.getStatus()).isEqualTo(FileDeletionStatus.PENDING);
+        assertThat(remaining.getAttempts()).isEqualTo(1);
+        assertThat(remaining.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(5)); // 기본 백오프 10초 ±20%
+    }
+
+    private void awaitRemaining(long expected) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (fileDeletionRepository.count() != expected || fileDeletionRepository.findAll().get(0).getLastError() == null) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("대기열이 5초 안에 정리되지 않았습니다.");
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.minute.common.file.service.implement;
+
+import com.minute.common.file.dto.PresignedUpload;
+import com.minute.common.file.dto.StoredFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Utilities;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 첨부파일을 동시에 업로드하고, 하나라도 실패하면 올라간 파일을 모두 삭제하는지 확인합니다. (S3 클라이언트는 mock)
+ */
+class S3FileStorageServiceTest {
+
+    private S3Client s3Client;
+    private S3AsyncClient s3AsyncClient;
+    private S3FileStorageService service;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = mock(S3Client.class);
+        s3AsyncClient = mock(S3AsyncClient.class);
+        when(s3Client.utilities()).thenReturn(S3Utilities.builder().region(Region.AP_NORTHEAST_2).build());
+        when(s3Client.deleteObjects(any(Consumer.class))).thenReturn(DeleteObjectsResponse.builder().build());
+        service = new S3FileStorageService(s3Client, s3AsyncClient, mock(S3Presigner.class), 2, 5);
+        ReflectionTestUtils.setField(service, "bucketName", "test-bucket");
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.destroy();
+    }
+
+    @Test
+    void 모든_파일이_동시에_업로드되고_순서대로_반환된다() throws IOException {
+        // 첫 번째 업로드는 두 번째 요청이 보내진 뒤에야 끝남 (한 건씩 기다렸다면 시간 초과)
+        CompletableFuture<PutObjectResponse> first = new CompletableFuture<>();
+        when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+                .thenReturn(first)
+                .thenAnswer(invocation -> {
+                    first.complete(PutObjectResponse.builder().build());
+                    return CompletableFuture.completedFuture(PutObjectResponse.builder().build());
+                });
+
+        List<StoredFile> stored = service.uploadAll(List.of(file("a.png"), file("b.pdf")), "qna");
+
+        assertThat(stored).extracting(StoredFile::originalFilename).containsExactly("a.png", "b.pdf");
+        assertThat(stored.get(0).key()).startsWith("qna/").endsWith(".png");
+        assertThat(stored.get(0).url()).contains("test-bucket").endsWith(stored.get(0).key());
+        verify(s3AsyncClient, times(2)).putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class));
+        verify(s3Client, never()).deleteObjects(any(Consumer.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 하나라도_실패하면_올라간_파일까지_모두_삭제하고_예외를_던진다() {
+        when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+                .thenReturn(CompletableFuture.completedFuture(PutObjectResponse.builder().build()),
+                        CompletableFuture.failedFuture(S3Exception.builder().message("boom").build()));
+
+        assertThatThrownBy(() -> service.uploadAll(List.of(file("a.png"), file("b.png")), "qna"))
+                .isInstanceOf(IOException.class);
+
+        ArgumentCaptor<Consumer<DeleteObjectsRequest.Builder>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(s3Client).deleteObjects(captor.capture());
+        DeleteObjectsRequest.Builder builder = DeleteObjectsRequest.builder();
+        captor.getValue().accept(builder);
+        assertThat(builder.build().delete().objects()).extracting(ObjectIdentifier::key)
+                .hasSize(2)
+                .allMatch(key -> key.startsWith("qna/"));
+    }
+
+    @Test
+    void presigned_URL은_요청한_경로의_키로_발급되고_Content_Type이_서명에_포함된다() {
+        S3Presigner presigner = S3Presigner.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test")))
+                .build();
+        S3FileStorageService presigning = new S3FileStorageService(s3Client, s3AsyncClient, presigner, 1, 5);
+        ReflectionTestUtils.setField(presigning, "bucketName", "test-bucket");
+        ReflectionTestUtils.setField(presigning, "presignTtlSeconds", 600L);
+
+        PresignedUpload upload = presigning.createPresignedUpload("qna/abc", "사진.jpg", "image/jpeg", 1024);
+
+        assertThat(upload.key()).startsWith("qna/abc/").endsWith(".jpg");
+        assertThat(upload.url()).contains(upload.key()).contains("X-Amz-Signature");
+        assertThat(upload.headers()).containsEntry("content-type", "image/jpeg").doesNotContainKey("host");
+        presigning.destroy();
+        presigner.close();
+    }
+
+    private static MultipartFile file(String name) {
+        return new MockMultipartFile("files", name, "application/octet-stream", new byte[]{1, 2, 3});
+    }
+}
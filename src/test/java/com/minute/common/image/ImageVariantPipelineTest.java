@@ -0,0 +1,80 @@
+package com.minute.common.image;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 디렉토리 저장소로 원본 옆에 너비별 JPEG 축소본이 만들어지는지 확인합니다.
+ */
+class ImageVariantPipelineTest {
+
+    @TempDir
+    Path dir;
+
+    private ImageVariantPipeline pipeline;
+    private ImageVariantStore store;
+
+    @BeforeEach
+    void setUp() {
+        pipeline = new ImageVariantPipeline(new SimpleMeterRegistry(), new int[]{600, 200}, 0.8f, 50_000_000L, 1, 10);
+        store = ImageVariantStore.directory(dir);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipeline.destroy();
+    }
+
+    @Test
+    void 원본보다_작은_너비의_축소본을_비율대로_저장한다() throws Exception {
+        writePng("photo.png", 1000, 500);
+        List<Integer> completed = new ArrayList<>();
+
+        pipeline.generate(store, "photo.png", completed::addAll);
+
+        assertThat(completed).containsExactly(200, 600);
+        BufferedImage small = ImageIO.read(dir.resolve("photo.png.w200.jpg").toFile());
+        BufferedImage medium = ImageIO.read(dir.resolve("photo.png.w600.jpg").toFile());
+        assertThat(small.getWidth()).isEqualTo(200);
+        assertThat(small.getHeight()).isEqualTo(100);
+        assertThat(medium.getWidth()).isEqualTo(600);
+        assertThat(ImageVariants.originalKey("photo.png.w600.jpg")).isEqualTo("photo.png");
+    }
+
+    @Test
+    void 작은_이미지나_이미지가_아닌_파일은_축소본을_만들지_않는다() throws Exception {
+        writePng("icon.png", 150, 150);
+        Files.writeString(dir.resolve("note.png"), "not an image");
+        List<Integer> completed = new ArrayList<>();
+
+        pipeline.generate(store, "icon.png", completed::addAll);
+        pipeline.generate(store, "note.png", completed::addAll);
+
+        assertThat(completed).isEmpty();
+        try (var files = Files.list(dir)) {
+            assertThat(files.map(path -> path.getFileName().toString())).containsExactlyInAnyOrder("icon.png", "note.png");
+        }
+    }
+
+    private void writePng(String name, int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, (x * 255 / width) << 16 | (y * 255 / height) << 8 | 0x80000000);
+            }
+        }
+        ImageIO.write(image, "png", dir.resolve(name).toFile());
+    }
+}
@@ -0,0 +1,225 @@
+package com.minute.common.like;
+
+import com.minute.board.free.cache.FreeboardPostCache;
+import com.minute.board.free.cache.FreeboardUserInteractionCache;
+import com.minute.board.free.ranking.FreeboardHotRanking;
+import com.minute.board.free.service.FreeboardCommentServiceImpl;
+import com.minute.board.free.service.FreeboardPostServiceImpl;
+import com.minute.user.cache.CurrentUser;
+import com.minute.user.cache.UserSnapshotCache;
+import com.minute.video.service.VideoDislikeService;
+import com.minute.video.service.VideoLikesService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 대상에 좋아요/싫어요 요청이 동시에 몰려도 카운터 컬럼이 실제 좋아요 행 수와 어긋나지 않는지 확인합니다.
+ * (H2 MySQL 모드 + 실제 서비스 트랜잭션)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:liketest;MODE=MySQL;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 각 스레드가 서비스의 트랜잭션을 그대로 사용
+class LikeCounterConcurrencyTest {
+
+    private static final int USERS = 8;
+    private static final int ROUNDS = 5;
+
+    @Configuration
+    @EntityScan("com.minute")
+    @EnableJpaRepositories("com.minute")
+    @Import({FreeboardPostServiceImpl.class, FreeboardCommentServiceImpl.class, FreeboardPostCache.class, FreeboardUserInteractionCache.class,
+            FreeboardHotRanking.class, UserSnapshotCache.class, CurrentUser.class,
+            VideoLikesService.class, VideoDislikeService.class})
+    static class TestConfig {
+    }
+
+    @Autowired FreeboardPostServiceImpl freeboardPostService;
+    @Autowired FreeboardCommentServiceImpl freeboardCommentService;
+    @Autowired VideoLikesService videoLikesService;
+    @Autowired VideoDislikeService videoDislikeService;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM freeboard_comment_likes");
+        jdbcTemplate.update("DELETE FROM freeboard_comments");
+        jdbcTemplate.update("DELETE FROM freeboard_post_likes");
+        jdbcTemplate.update("DELETE FROM freeboard_posts");
+        jdbcTemplate.update("DELETE FROM video_likes");
+        jdbcTemplate.update("DELETE FROM video_dislikes");
+        jdbcTemplate.update("DELETE FROM video");
+        jdbcTemplate.update("DELETE FROM `user`");
+
+        for (int i = 0; i < USERS; i++) {
+            jdbcTemplate.update("INSERT INTO `user` (user_id, user_pw, user_name, user_nickname, role, created_at, updated_at, " +
+                            "user_phone, user_email, user_status, user_gender, user_no, user_report, is_certified) " +
+                            "VALUES (?, 'pw', 'name', ?, 'USER', NOW(), NOW(), '010', ?, 'N', 'MALE', ?, 0, false)",
+                    "user" + i, "nick" + i, "user" + i + "@test.com", i);
+        }
+        jdbcTemplate.update("INSERT INTO freeboard_posts (post_id, post_title, post_content, post_view_count, post_like_count, " +
+                "post_is_hidden, post_created_at, post_updated_at, user_id) " +
+                "VALUES (1, 'title', 'content', 0, 0, false, NOW(), NOW(), 'user0')");
+        jdbcTemplate.update("INSERT INTO freeboard_comments (comment_id, comment_content, comment_like_count, comment_is_hidden, " +
+                "comment_created_at, comment_updated_at, user_id, post_id) VALUES (1, 'comment', 0, false, NOW(), NOW(), 'user0', 1)");
+        jdbcTemplate.update("INSERT INTO video (video_id, video_title, video_url, likes, views) " +
+                "VALUES ('v1', 'title', 'url', 0, 0)");
+    }
+
+    @Test
+    void 게시글_좋아요_동시_토글후_카운터와_행수가_일치한다() throws Exception {
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            String userId = "user" + i;
+            // 같은 사용자가 여러 번(더블클릭) 누르는 상황을 함께 섞음
+            for (int r = 0; r < ROUNDS; r++) {
+                tasks.add(() -> {
+                    freeboardPostService.togglePostLike(1, userId);
+                    return null;
+                });
+            }
+        }
+        runConcurrently(tasks);
+
+        Integer likeRows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM freeboard_post_likes WHERE post_id = 1", Integer.class);
+        Integer likeCount = jdbcTemplate.queryForObject(
+                "SELECT post_like_count FROM freeboard_posts WHERE post_id = 1", Integer.class);
+        Integer duplicates = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM (SELECT user_id FROM freeboard_post_likes GROUP BY user_id, post_id HAVING COUNT(*) > 1) d",
+                Integer.class);
+
+        assertThat(likeCount).isEqualTo(likeRows);
+        assertThat(duplicates).isZero();
+    }
+
+    @Test
+    void 댓글_좋아요_동시_토글후_카운터와_행수가_일치한다() throws Exception {
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            String userId = "user" + i;
+            for (int r = 0; r < ROUNDS; r++) {
+                tasks.add(() -> {
+                    freeboardCommentService.toggleCommentLike(1, userId);
+                    return null;
+                });
+            }
+        }
+        runConcurrently(tasks);
+
+        Integer likeRows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM freeboard_comment_likes WHERE comment_id = 1", Integer.class);
+        Integer likeCount = jdbcTemplate.queryForObject(
+                "SELECT comment_like_count FROM freeboard_comments WHERE comment_id = 1", Integer.class);
+
+        assertThat(likeCount).isEqualTo(likeRows);
+        // 사용자마다 홀수 번(5) 눌렀으므로 모두 좋아요 상태
+        assertThat(likeRows).isEqualTo(USERS);
+        assertThat(freeboardCommentService.toggleCommentLike(1, "user0").isLikedByCurrentUser()).isFalse();
+    }
+
+    @Test
+    void 영상_좋아요와_싫어요가_섞여도_카운터와_행수가_일치한다() throws Exception {
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            String userId = "user" + i;
+            for (int r = 0; r < ROUNDS; r++) {
+                tasks.add(() -> {
+                    ignoreBadRequest(() -> videoLikesService.saveLike(userId, "v1"));
+                    return null;
+                });
+                tasks.add(() -> {
+                    videoDislikeService.toggleDislike(userId, "v1");
+                    return null;
+                });
+                tasks.add(() -> {
+                    ignoreBadRequest(() -> videoLikesService.deleteLike(userId, "v1"));
+                    return null;
+                });
+            }
+        }
+        runConcurrently(tasks);
+
+        Integer likeRows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM video_likes WHERE video_id = 'v1'", Integer.class);
+        Integer likes = jdbcTemplate.queryForObject(
+                "SELECT likes FROM video WHERE video_id = 'v1'", Integer.class);
+
+        assertThat(likes).isEqualTo(likeRows);
+    }
+
+    @Test
+    void 좋아요한_사용자들이_동시에_싫어요를_눌러도_좋아요가_모두_빠진다() throws Exception {
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            videoLikesService.saveLike("user" + i, "v1");
+            String userId = "user" + i;
+            tasks.add(() -> {
+                assertThat(videoDislikeService.toggleDislike(userId, "v1")).isTrue();
+                return null;
+            });
+        }
+        runConcurrently(tasks);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT likes FROM video WHERE video_id = 'v1'", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM video_likes", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM video_dislikes", Integer.class)).isEqualTo(USERS);
+        assertThatThrownBy(() -> videoDislikeService.toggleDislike("user0", "none"))
+                .isInstanceOf(VideoDislikeService.ResourceNotFoundException.class);
+    }
+
+    private void ignoreBadRequest(Runnable action) {
+        try {
+            action.run();
+        } catch (VideoLikesService.BadRequestException ignored) {
+            // 이미 좋아요/좋아요 없음 → 정상적인 경합 결과
+        }
+    }
+
+    private void runConcurrently(List<Callable<Void>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(USERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (Callable<Void> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.minute.common.mail;
+
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 발송 대기열에 넣은 메일이 로컬 SMTP 서버(GreenMail)로 발송되고, SMTP 장애 시 백오프 후 재시도 대상으로 남는지 확인합니다.
+ * (H2 MySQL 모드)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:mailtest;MODE=MySQL;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "mail.outbox.batch-size=2"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MailOutboxDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withConfiguration(GreenMailConfiguration.aConfig().withDisabledAuthentication());
+
+    @Configuration
+    @EntityScan("com.minute")
+    @EnableJpaRepositories("com.minute")
+    @Import({MailOutboxService.class, MailOutboxDispatcher.class})
+    static class TestConfig {
+
+        @Bean
+        JavaMailSender javaMailSender() {
+            JavaMailSenderImpl sender = new JavaMailSenderImpl();
+            sender.setHost("localhost");
+            sender.setPort(ServerSetupTest.SMTP.getPort());
+            return sender;
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired MailOutboxService mailOutboxService;
+    @Autowired MailOutboxDispatcher mailOutboxDispatcher;
+    @Autowired MailOutboxRepository mailOutboxRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM mail_outbox");
+    }
+
+    @Test
+    void 대기열의_메일이_묶음으로_발송되고_SENT로_기록된다() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            mailOutboxService.enqueue("user" + i + "@test.com", "[MIN:UTE] 인증 메일입니다.", "<h1>" + i + "</h1>");
+        }
+
+        assertThat(greenMail.waitForIncomingEmail(5000, 5)).isTrue();
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(5);
+        assertThat(received[0].getSubject()).isEqualTo("[MIN:UTE] 인증 메일입니다.");
+        awaitTrue(() -> mailOutboxRepository.countByStatus(MailOutboxStatus.SENT) == 5);
+        assertThat(mailOutboxRepository.findAll()).extracting(MailOutbox::getBody).containsOnly("");
+    }
+
+    @Test
+    void SMTP_장애시_재시도_시각을_미루고_대기_상태로_남긴다() throws Exception {
+        greenMail.stop();
+
+        Long mailId = mailOutboxService.enqueue("user@test.com", "subject", "<p>body</p>");
+        mailOutboxDispatcher.dispatch(); // 커밋 직후 발송과 겹치면 둘 중 하나만 실행됨
+
+        awaitTrue(() -> mailOutboxRepository.findById(mailId).map(m -> m.getLastError() != null).orElse(false));
+        MailOutbox mail = mailOutboxRepository.findById(mailId).orElseThrow();
+        assertThat(mail.getStatus()).isEqualTo(MailOutboxStatus.PENDING);
+        assertThat(mail.getAttempts()).isEqualTo(1);
+        assertThat(mail.getNextAttemptAt()).isAfter(mail.getCreatedAt().plusSeconds(3)); // 기본 백오프 5초 ±20%
+    }
+
+    @Test
+    void 마지막_시도까지_실패하면_본문을_비우고_FAILED로_남긴다() throws Exception {
+        greenMail.stop();
+        jdbcTemplate.update("INSERT INTO mail_outbox (recipient, subject, body, status, attempts, next_attempt_at, created_at) " +
+                "VALUES ('user@test.com', 'subject', '<p>인증번호 123456</p>', 'PENDING', 7, ?, ?)",
+                LocalDateTime.now().minusSeconds(1), LocalDateTime.now());
+
+        mailOutboxDispatcher.dispatch();
+
+        awaitTrue(() -> mailOutboxRepository.countByStatus(MailOutboxStatus.FAILED) == 1);
+        MailOutbox mail = mailOutboxRepository.findAll().get(0);
+        assertThat(mail.getAttempts()).isEqualTo(8);
+        assertThat(mail.getBody()).isEmpty();
+        assertThat(mail.getLastError()).isNotNull();
+    }
+
+    @Test
+    void 오래된_발송_완료_메일과_최종_실패_메일을_정리한다() {
+        LocalDateTime old = LocalDateTime.now().minusDays(8);
+        insert("SENT", old, old);
+        insert("FAILED", old, null);
+        insert("FAILED", LocalDateTime.now(), null);
+        insert("PENDING", old, null);
+
+        mailOutboxDispatcher.deleteOldSentMails();
+
+        assertThat(mailOutboxRepository.findAll())
+                .extracting(MailOutbox::getStatus)
+                .containsExactlyInAnyOrder(MailOutboxStatus.FAILED, MailOutboxStatus.PENDING);
+    }
+
+    private void insert(String status, LocalDateTime createdAt, LocalDateTime sentAt) {
+        jdbcTemplate.update("INSERT INTO mail_outbox (recipient, subject, body, status, attempts, next_attempt_at, created_at, sent_at) " +
+                "VALUES ('user@test.com', 'subject', 'body', ?, 1, ?, ?, ?)",
+                status, LocalDateTime.now().plusDays(1), createdAt, sentAt);
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("조건이 5초 안에 충족되지 않았습니다.");
+            }
+            Thread.sleep(50);
+        }
+    }
+}
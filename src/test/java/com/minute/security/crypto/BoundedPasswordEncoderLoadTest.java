@@ -0,0 +1,99 @@
+package com.minute.security.crypto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그인 폭주(BCrypt 검증 요청 폭주) 중에도 같은 요청 스레드 풀을 쓰는 다른 API 가 계속 빠르게 응답하는지 확인합니다.
+ * (요청 스레드 풀보다 많은 클라이언트가 쉬지 않고 로그인을 보내는 상황을 재현)
+ */
+class BoundedPasswordEncoderLoadTest {
+
+    private static final int REQUEST_THREADS = 16;   // Tomcat 요청 스레드 풀 역할
+    private static final int LOGIN_CLIENTS = 32;     // 동시에 로그인을 반복하는 클라이언트 수
+    private static final long STORM_MILLIS = 1500;
+
+    private ExecutorService requestPool;
+    private ExecutorService clients;
+    private BoundedPasswordEncoder encoder;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        requestPool = Executors.newFixedThreadPool(REQUEST_THREADS);
+        clients = Executors.newFixedThreadPool(LOGIN_CLIENTS);
+        meterRegistry = new SimpleMeterRegistry();
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(10), 2, 4, 2000, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        clients.shutdownNow();
+        requestPool.shutdownNow();
+        encoder.destroy();
+    }
+
+    @Test
+    void 로그인_폭주_중에도_다른_API는_빠르게_응답하고_초과분은_즉시_거절된다() throws Exception {
+        String hashed = new BCryptPasswordEncoder(10).encode("password1!");
+        AtomicBoolean storming = new AtomicBoolean(true);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger maxQueueDepth = new AtomicInteger();
+
+        for (int i = 0; i < LOGIN_CLIENTS; i++) {
+            clients.submit(() -> {
+                while (storming.get()) {
+                    requestPool.submit(() -> {
+                        try {
+                            encoder.matches("password1!", hashed);
+                            accepted.incrementAndGet();
+                        } catch (PasswordHashingRejectedException e) {
+                            rejected.incrementAndGet();
+                        }
+                        maxQueueDepth.accumulateAndGet(encoder.queueDepth(), Math::max);
+                    }).get();
+                }
+                return null;
+            });
+        }
+
+        // 폭주 중에 가벼운 API 요청을 주기적으로 보내 응답 시간을 측정
+        List<Long> probeMillis = new ArrayList<>();
+        long deadline = System.currentTimeMillis() + STORM_MILLIS;
+        Thread.sleep(200); // 폭주가 자리 잡을 때까지 대기
+        while (System.currentTimeMillis() < deadline) {
+            long start = System.nanoTime();
+            Future<Integer> probe = requestPool.submit(() -> "ok".hashCode());
+            probe.get(5, TimeUnit.SECONDS);
+            probeMillis.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            Thread.sleep(50);
+        }
+        storming.set(false);
+        clients.shutdown();
+        assertThat(clients.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        long worstProbe = probeMillis.stream().mapToLong(Long::longValue).max().orElse(0);
+        assertThat(probeMillis).isNotEmpty();
+        assertThat(worstProbe).as("폭주 중 다른 API 최대 응답 시간(ms)").isLessThan(500);
+        assertThat(accepted.get()).isPositive();
+        assertThat(rejected.get()).as("대기열 초과분은 즉시 거절(429)").isPositive();
+        assertThat(maxQueueDepth.get()).isLessThanOrEqualTo(4);
+        assertThat(meterRegistry.get("auth.password.hash").tag("operation", "matches").timer().count())
+                .isGreaterThanOrEqualTo(accepted.get());
+    }
+}
@@ -0,0 +1,99 @@
+package com.minute.security.handler;
+
+import com.minute.user.entity.User;
+import com.minute.user.enumpackage.Role;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 검증된 토큰 캐시(JwtProvider.verify)가 만료/위조 토큰을 캐시에서 통과시키지 않는지 확인합니다.
+ */
+class JwtProviderTest {
+
+    private static final String SECRET = "m1bJYRdGfN9x/7XzEL7XTjJmRMnAvLH3KrB2yZhvL1E=";
+
+    @Test
+    void 같은_토큰은_다시_파싱하지_않고_캐시에서_반환한다() {
+        JwtProvider jwtProvider = jwtProvider(900_000);
+        String token = jwtProvider.generateToken(user("member", Role.USER));
+
+        VerifiedToken first = jwtProvider.verify(token);
+        VerifiedToken second = jwtProvider.verify(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.userId()).isEqualTo("member");
+        assertThat(first.role()).isEqualTo("USER");
+        assertThat(first.tokenId()).isNotNull();
+    }
+
+    @Test
+    void 캐시에_있어도_만료된_토큰은_거절한다() throws Exception {
+        JwtProvider jwtProvider = jwtProvider(2_000);
+        String token = jwtProvider.generateToken(user("member", Role.USER));
+        VerifiedToken verified = jwtProvider.verify(token);
+        assertThat(jwtProvider.verify(token)).isSameAs(verified);
+
+        while (!verified.isExpired(System.currentTimeMillis())) {
+            Thread.sleep(50);
+        }
+
+        assertThatThrownBy(() -> jwtProvider.verify(token)).isInstanceOf(ExpiredJwtException.class);
+        assertThat(jwtProvider.isValidToken(token)).isFalse();
+    }
+
+    @Test
+    void 같은_사용자의_위조_토큰은_캐시에서_통과하지_않는다() {
+        JwtProvider jwtProvider = jwtProvider(900_000);
+        String token = jwtProvider.generateToken(user("member", Role.USER));
+        jwtProvider.verify(token);
+
+        // 다른 키로 서명한 같은 subject/클레임의 토큰
+        String forged = Jwts.builder()
+                .claim("userId", "member")
+                .claim("role", "ADMIN")
+                .setSubject("member")
+                .setExpiration(new Date(System.currentTimeMillis() + 900_000))
+                .signWith(Keys.hmacShaKeyFor("another-secret-key-another-secret-key!!".getBytes(StandardCharsets.UTF_8)),
+                        SignatureAlgorithm.HS256)
+                .compact();
+        assertThatThrownBy(() -> jwtProvider.verify(forged)).isInstanceOf(JwtException.class);
+
+        // 원래 서명은 그대로 두고 payload 의 role 만 바꾼 토큰
+        String[] parts = token.split("\\.");
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+        String tamperedPayload = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(payload.replace("\"USER\"", "\"ADMIN\"").getBytes(StandardCharsets.UTF_8));
+        String tampered = parts[0] + "." + tamperedPayload + "." + parts[2];
+        assertThatThrownBy(() -> jwtProvider.verify(tampered)).isInstanceOf(JwtException.class);
+
+        assertThat(jwtProvider.verify(token).role()).isEqualTo("USER");
+    }
+
+    private static JwtProvider jwtProvider(long tokenValidity) {
+        JwtProvider jwtProvider = new JwtProvider();
+        ReflectionTestUtils.setField(jwtProvider, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtProvider, "tokenValidity", tokenValidity);
+        ReflectionTestUtils.setField(jwtProvider, "verifiedCacheSize", 100);
+        jwtProvider.init();
+        return jwtProvider;
+    }
+
+    private static User user(String userId, Role role) {
+        User user = new User();
+        user.setUserId(userId);
+        user.setRole(role);
+        return user;
+    }
+}
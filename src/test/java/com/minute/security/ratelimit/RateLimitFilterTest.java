@@ -0,0 +1,105 @@
+package com.minute.security.ratelimit;
+
+import com.minute.security.handler.JwtProvider;
+import com.minute.security.handler.VerifiedToken;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RateLimitFilterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void 버킷이_비면_다음_토큰까지_남은_시간을_돌려주고_시간이_지나면_다시_허용한다() {
+        StripedTokenBuckets buckets = new StripedTokenBuckets(4, 1000, null);
+
+        assertThat(buckets.tryConsume("k", 2, 0.5, 0)).isZero();
+        assertThat(buckets.tryConsume("k", 2, 0.5, 0)).isZero();
+        assertThat(buckets.tryConsume("k", 2, 0.5, SECOND)).isEqualTo(SECOND); // 0.5개 충전됨 → 1초 더 필요
+        assertThat(buckets.tryConsume("k", 2, 0.5, 2 * SECOND)).isZero();
+
+        // 가득 찬 뒤 유휴 시간이 지나야 제거
+        assertThat(buckets.evictIdle(3 * SECOND)).isZero();
+        assertThat(buckets.evictIdle(10 * SECOND)).isEqualTo(1);
+        assertThat(buckets.size()).isZero();
+    }
+
+    @Test
+    void 규칙에_해당하는_요청이_한도를_넘으면_429와_Retry_After를_응답한다() throws Exception {
+        RateLimitPolicy policy = new RateLimitPolicy("test", 0, 0, 1, 0.1);
+        RateLimitFilter filter = new RateLimitFilter(
+                List.of(new RateLimitRoute(Set.of("POST"), "/api/v1/auth/", null, policy)),
+                new StripedTokenBuckets(4, 1000, null), null, null);
+
+        assertThat(run(filter, "POST", "/api/v1/auth/sign-in").getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse limited = run(filter, "POST", "/api/v1/auth/sign-in");
+        assertThat(limited.getStatus()).isEqualTo(429);
+        assertThat(Long.parseLong(limited.getHeader("Retry-After"))).isBetween(9L, 10L);
+
+        // 규칙에 없는 요청은 제한하지 않음
+        assertThat(run(filter, "GET", "/api/v1/auth/sign-in").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void 두_버킷_중_하나가_비어_있으면_어느_쪽_토큰도_사용하지_않는다() {
+        StripedTokenBuckets buckets = new StripedTokenBuckets(4, 1000, null);
+        assertThat(buckets.tryConsume("user", 1, 1, 0)).isZero();
+
+        assertThat(buckets.tryConsume("ip", 1, 1, "user", 1, 1, 0)).isEqualTo(SECOND);
+        assertThat(buckets.tryConsume("ip", 1, 1, 0)).isZero(); // 거절된 요청이 ip 토큰을 쓰지 않음
+    }
+
+    @Test
+    void 사용자_버킷에서_거절된_요청은_IP_토큰을_사용하지_않는다() throws Exception {
+        JwtProvider jwtProvider = mock(JwtProvider.class);
+        when(jwtProvider.verify("token")).thenReturn(new VerifiedToken("jti", "user1", "USER", Long.MAX_VALUE));
+        RateLimitPolicy policy = new RateLimitPolicy("test", 1, 0.1, 2, 0.1);
+        RateLimitFilter filter = new RateLimitFilter(
+                List.of(new RateLimitRoute(Set.of("POST"), "/api/v1/board/free", null, policy)),
+                new StripedTokenBuckets(4, 1000, null), jwtProvider, null);
+
+        assertThat(run(filter, "POST", "/api/v1/board/free", "token").getStatus()).isEqualTo(200);
+        assertThat(run(filter, "POST", "/api/v1/board/free", "token").getStatus()).isEqualTo(429);
+
+        // 같은 IP 의 다른 요청은 남은 IP 토큰 하나로 허용
+        assertThat(run(filter, "POST", "/api/v1/board/free", null).getStatus()).isEqualTo(200);
+        assertThat(run(filter, "POST", "/api/v1/board/free", null).getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void 기본_규칙은_자유게시판_관리자_요청을_제한하지_않는다() {
+        RateLimitFilter filter = new RateLimitFilter(RateLimitRoute.defaults(),
+                new StripedTokenBuckets(4, 1000, null), null, null);
+
+        assertThat(filter.match("PATCH", "/api/v1/board/free/posts/1/visibility")).isNull();
+        assertThat(filter.match("PATCH", "/api/v1/board/free/comments/1/visibility")).isNull();
+        assertThat(filter.match("POST", "/api/v1/board/free/admin/reports")).isNull();
+        assertThat(filter.match("POST", "/api/v1/board/free")).isNotNull();
+        assertThat(filter.match("PUT", "/api/v1/board/free/1")).isNotNull();
+    }
+
+    private static MockHttpServletResponse run(RateLimitFilter filter, String method, String uri) throws Exception {
+        return run(filter, method, uri, null);
+    }
+
+    private static MockHttpServletResponse run(RateLimitFilter filter, String method, String uri, String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr("10.0.0.1");
+        if (token != null) {
+            request.addHeader("Authorization", "Bearer " + token);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,117 @@
+package com.minute.user.cache;
+
+import com.minute.auth.service.DetailUser;
+import com.minute.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CurrentUserTest {
+
+    @Mock UserRepository userRepository;
+
+    UserSnapshotCache userSnapshotCache;
+    CurrentUser currentUser;
+
+    @BeforeEach
+    void setUp() {
+        userSnapshotCache = new UserSnapshotCache(userRepository, 1 << 20);
+        currentUser = new CurrentUser(userSnapshotCache);
+        when(userRepository.findById("member")).thenReturn(Optional.of(UserSnapshotCacheTest.user("member", "nick")));
+        when(userRepository.findById("other")).thenReturn(Optional.of(UserSnapshotCacheTest.user("other", "other-nick")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void 로그인하지_않았으면_ID와_스냅샷이_비어_있다() {
+        assertThat(currentUser.getUserId()).isNull();
+        assertThat(currentUser.getSnapshot()).isEmpty();
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("anonymousUser", null, List.of()));
+        assertThat(currentUser.getUserId()).isNull();
+        verify(userRepository, never()).findById("member");
+    }
+
+    @Test
+    void 같은_요청_안에서는_스냅샷을_한_번만_조회한다() {
+        login("member");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        userSnapshotCache.invalidate("member"); // 캐시가 아니라 요청 단위 보관으로 재조회를 막는지 확인
+
+        assertThat(currentUser.getSnapshot()).map(UserSnapshot::userNickName).contains("nick");
+        userSnapshotCache.invalidate("member");
+        assertThat(currentUser.getSnapshot()).map(UserSnapshot::userNickName).contains("nick");
+
+        verify(userRepository, times(1)).findById("member");
+        assertThat(request.getAttribute(CurrentUser.class.getName() + ".snapshot")).isInstanceOf(UserSnapshot.class);
+    }
+
+    @Test
+    void 요청_안에서_로그인_사용자가_바뀌면_보관한_스냅샷을_쓰지_않는다() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        login("member");
+        assertThat(currentUser.getSnapshot()).map(UserSnapshot::userId).contains("member");
+
+        login("other");
+        assertThat(currentUser.getSnapshot()).map(UserSnapshot::userId).contains("other");
+    }
+
+    @Test
+    void 요청_밖에서는_스냅샷_캐시를_그대로_사용한다() {
+        login("member");
+
+        assertThat(currentUser.getSnapshot()).map(UserSnapshot::userNickName).contains("nick");
+        assertThat(currentUser.getSnapshot()).isPresent();
+        verify(userRepository, times(1)).findById("member");
+
+        userSnapshotCache.invalidate("member");
+        currentUser.getSnapshot();
+        verify(userRepository, times(2)).findById("member");
+    }
+
+    @Test
+    void 삭제된_사용자는_스냅샷이_비어_있고_요청에_보관하지_않는다() {
+        when(userRepository.findById("member")).thenReturn(Optional.empty());
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        login("member");
+
+        assertThat(currentUser.getSnapshot()).isEmpty();
+        assertThat(request.getAttribute(CurrentUser.class.getName() + ".snapshot")).isNull();
+    }
+
+    private void login(String userId) {
+        DetailUser principal = new DetailUser();
+        principal.setUser(UserSnapshotCacheTest.user(userId, "nick"));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+}
@@ -0,0 +1,145 @@
+package com.minute.user.cache;
+
+import com.minute.user.enumpackage.Role;
+import com.minute.user.enumpackage.UserStatus;
+import com.minute.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class LoginUserCacheTest {
+
+    @Mock UserRepository userRepository;
+
+    @Test
+    void TTL_안에서는_다시_조회하지_않는다() {
+        LoginUserCache cache = cache(60, 60);
+        when(userRepository.findLoginUser("member")).thenReturn(Optional.of(loginUser("member", "hash")));
+
+        assertThat(cache.find("member")).map(LoginUser::userPw).contains("hash");
+        assertThat(cache.find("member")).map(LoginUser::userPw).contains("hash");
+
+        verify(userRepository, times(1)).findLoginUser("member");
+    }
+
+    @Test
+    void TTL이_지나면_다시_조회한다() {
+        LoginUserCache cache = cache(0, 60);
+        when(userRepository.findLoginUser("member"))
+                .thenReturn(Optional.of(loginUser("member", "old")))
+                .thenReturn(Optional.of(loginUser("member", "new")));
+
+        assertThat(cache.find("member")).map(LoginUser::userPw).contains("old");
+        assertThat(cache.find("member")).map(LoginUser::userPw).contains("new");
+
+        verify(userRepository, times(2)).findLoginUser("member");
+    }
+
+    @Test
+    void 없는_아이디는_부정_TTL_동안_다시_조회하지_않는다() {
+        LoginUserCache cache = cache(60, 60);
+        when(userRepository.findLoginUser("ghost")).thenReturn(Optional.empty());
+
+        assertThat(cache.find("ghost")).isEmpty();
+        assertThat(cache.find("ghost")).isEmpty();
+
+        verify(userRepository, times(1)).findLoginUser("ghost");
+    }
+
+    @Test
+    void 부정_TTL이_지나면_새로_가입한_아이디를_찾는다() {
+        LoginUserCache cache = cache(60, 0);
+        when(userRepository.findLoginUser("newbie"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(loginUser("newbie", "hash")));
+
+        assertThat(cache.find("newbie")).isEmpty();
+        assertThat(cache.find("newbie")).map(LoginUser::userId).contains("newbie");
+    }
+
+    @Test
+    void 변경_이벤트를_받으면_정상_항목과_부정_항목을_모두_지운다() {
+        LoginUserCache cache = cache(60, 60);
+        when(userRepository.findLoginUser("member"))
+                .thenReturn(Optional.of(loginUser("member", "old")))
+                .thenReturn(Optional.of(loginUser("member", "new")));
+        when(userRepository.findLoginUser("newbie"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(loginUser("newbie", "hash")));
+        cache.find("member");
+        cache.find("newbie");
+
+        cache.onUserChanged(new UserChangedEvent("member"));
+        cache.onUserChanged(new UserChangedEvent("newbie"));
+
+        assertThat(cache.find("member")).map(LoginUser::userPw).contains("new");
+        assertThat(cache.find("newbie")).isPresent();
+    }
+
+    @Test
+    void 조회_도중_무효화되면_조회_결과를_캐시하지_않는다() {
+        LoginUserCache cache = cache(60, 60);
+        when(userRepository.findLoginUser("member"))
+                .thenAnswer(invocation -> {
+                    // DB 를 읽은 직후 다른 요청이 비밀번호를 바꾸고 커밋함
+                    cache.invalidate("member");
+                    return Optional.of(loginUser("member", "old"));
+                })
+                .thenReturn(Optional.of(loginUser("member", "new")));
+
+        assertThat(cache.find("member")).map(LoginUser::userPw).contains("old");
+        assertThat(cache.find("member")).map(LoginUser::userPw).contains("new");
+
+        verify(userRepository, times(2)).findLoginUser("member");
+    }
+
+    @Test
+    void 없는_아이디를_조회하는_도중_가입하면_부정_항목을_캐시하지_않는다() {
+        LoginUserCache cache = cache(60, 60);
+        when(userRepository.findLoginUser("newbie"))
+                .thenAnswer(invocation -> {
+                    // 없다고 읽은 직후 다른 요청이 같은 아이디로 가입하고 커밋함
+                    cache.onUserChanged(new UserChangedEvent("newbie"));
+                    return Optional.empty();
+                })
+                .thenReturn(Optional.of(loginUser("newbie", "hash")));
+
+        assertThat(cache.find("newbie")).isEmpty();
+        assertThat(cache.find("newbie")).map(LoginUser::userPw).contains("hash");
+
+        verify(userRepository, times(2)).findLoginUser("newbie");
+    }
+
+    @Test
+    void 만료된_항목은_새로_조회한_값으로_바뀐다() {
+        LoginUserCache cache = cache(0, 60);
+        when(userRepository.findLoginUser("member"))
+                .thenReturn(Optional.of(loginUser("member", "old")))
+                .thenReturn(Optional.of(loginUser("member", "new")))
+                .thenReturn(Optional.of(loginUser("member", "newer")));
+
+        assertThat(cache.find("member")).map(LoginUser::userPw).contains("old");
+        assertThat(cache.find("member")).map(LoginUser::userPw).contains("new");
+        assertThat(cache.find("member")).map(LoginUser::userPw).contains("newer");
+    }
+
+    private LoginUserCache cache(long ttlSeconds, long negativeTtlSeconds) {
+        return new LoginUserCache(userRepository, 1 << 20, 1 << 16, ttlSeconds, negativeTtlSeconds);
+    }
+
+    private static LoginUser loginUser(String userId, String userPw) {
+        return new LoginUser(userId, userPw, Role.USER, UserStatus.N);
+    }
+}
@@ -0,0 +1,118 @@
+package com.minute.user.cache;
+
+import com.minute.user.repository.UserIdentityView;
+import com.minute.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class UserAvailabilityIndexTest {
+
+    @Mock UserRepository userRepository;
+
+    UserAvailabilityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new UserAvailabilityIndex(userRepository, 1000, 0.001);
+        when(userRepository.existsByUserId(anyString())).thenReturn(true);
+        when(userRepository.existsByUserEmail(anyString())).thenReturn(true);
+    }
+
+    @Test
+    void 대소문자_악센트_뒤쪽_공백이_다른_값은_같은_키로_정규화한다() {
+        assertThat(UserAvailabilityIndex.normalize("User@Mail.COM  ")).isEqualTo("user@mail.com");
+        assertThat(UserAvailabilityIndex.normalize("Café")).isEqualTo(UserAvailabilityIndex.normalize("cafe"));
+        assertThat(UserAvailabilityIndex.normalize("ÄBC")).isEqualTo("abc");
+        // 앞쪽 공백은 MySQL 에서도 다른 값이므로 유지
+        assertThat(UserAvailabilityIndex.normalize(" abc")).isEqualTo(" abc");
+        assertThat(UserAvailabilityIndex.normalize("닉네임")).isEqualTo(UserAvailabilityIndex.normalize("닉네임 "));
+    }
+
+    @Test
+    void 첫_구성_전에는_항상_DB로_확인한다() {
+        assertThat(index.existsUserId("anyone")).isTrue();
+
+        verify(userRepository).existsByUserId("anyone");
+    }
+
+    @Test
+    void 필터에_없는_값은_DB_조회없이_사용_가능이고_있을_수도_있는_값만_DB로_확인한다() {
+        givenUsers(identity("member", "Member@Mail.com"));
+
+        assertThat(index.existsUserId("newbie")).isFalse();
+        verify(userRepository, never()).existsByUserId("newbie");
+
+        // 콜레이션상 같은 값은 필터에서 걸러지지 않고 DB로 확인
+        assertThat(index.existsEmail("member@mail.com ")).isTrue();
+        verify(userRepository).existsByUserEmail("member@mail.com ");
+    }
+
+    @Test
+    void 등록한_값은_다음_확인부터_DB로_확인한다() {
+        givenUsers();
+
+        index.register("newbie", "new@mail.com");
+        index.register(UserAvailabilityIndex.Field.EMAIL, null);
+
+        assertThat(index.existsUserId("NEWBIE")).isTrue();
+        assertThat(index.existsEmail("new@mail.com")).isTrue();
+        assertThat(index.existsEmail("other@mail.com")).isFalse();
+        verify(userRepository, never()).existsByUserEmail("other@mail.com");
+    }
+
+    @Test
+    void 재구성_중에_등록된_값도_새_필터에_남는다() {
+        givenUsers();
+        // 전체 조회가 진행되는 사이(조회 결과에는 아직 없음) 다른 요청이 가입한 경우
+        when(userRepository.findAllIdentities()).thenAnswer(invocation -> {
+            index.register("late", "late@mail.com");
+            return List.of();
+        });
+
+        index.rebuild();
+
+        assertThat(index.existsUserId("late")).isTrue();
+        assertThat(index.existsEmail("late@mail.com")).isTrue();
+    }
+
+    @Test
+    void 재구성이_실패하면_기존_필터를_유지한다() {
+        givenUsers(identity("member", "member@mail.com"));
+        when(userRepository.findAllIdentities()).thenThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(() -> index.rebuild()).isInstanceOf(IllegalStateException.class);
+
+        assertThat(index.existsUserId("member")).isTrue();
+        assertThat(index.existsUserId("newbie")).isFalse();
+        verify(userRepository, never()).existsByUserId("newbie");
+    }
+
+    private void givenUsers(UserIdentityView... identities) {
+        when(userRepository.count()).thenReturn((long) identities.length);
+        when(userRepository.findAllIdentities()).thenReturn(List.of(identities));
+        index.rebuild();
+    }
+
+    private static UserIdentityView identity(String userId, String email) {
+        return new UserIdentityView() {
+            @Override public String getUserId() { return userId; }
+            @Override public String getUserEmail() { return email; }
+        };
+    }
+}
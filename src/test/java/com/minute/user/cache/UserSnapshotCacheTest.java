@@ -0,0 +1,161 @@
+package com.minute.user.cache;
+
+import com.minute.user.entity.User;
+import com.minute.user.enumpackage.Role;
+import com.minute.user.enumpackage.UserStatus;
+import com.minute.user.repository.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class UserSnapshotCacheTest {
+
+    @Mock UserRepository userRepository;
+
+    UserSnapshotCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UserSnapshotCache(userRepository, 1 << 20);
+    }
+
+    @Test
+    void 한_번_읽은_사용자는_다시_조회하지_않는다() {
+        when(userRepository.findById("member")).thenReturn(Optional.of(user("member", "nick")));
+
+        assertThat(cache.find("member")).map(UserSnapshot::userNickName).contains("nick");
+        assertThat(cache.find("member")).map(UserSnapshot::role).contains(Role.USER);
+
+        verify(userRepository, times(1)).findById("member");
+    }
+
+    @Test
+    void 없는_사용자와_null은_비어_있고_캐시하지_않는다() {
+        when(userRepository.findById("ghost")).thenReturn(Optional.empty());
+
+        assertThat(cache.find("ghost")).isEmpty();
+        assertThat(cache.find("ghost")).isEmpty();
+        assertThat(cache.find(null)).isEmpty();
+
+        verify(userRepository, times(2)).findById("ghost");
+        verify(userRepository, never()).findById(null);
+    }
+
+    @Test
+    void require는_없는_사용자면_메시지와_ID로_404_예외를_던진다() {
+        when(userRepository.findById("ghost")).thenReturn(Optional.empty());
+        when(userRepository.findById("member")).thenReturn(Optional.of(user("member", "nick")));
+
+        assertThatThrownBy(() -> cache.require("ghost", "사용자 정보를 찾을 수 없습니다: "))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("사용자 정보를 찾을 수 없습니다: ghost");
+        assertThat(cache.require("member", "msg").userId()).isEqualTo("member");
+    }
+
+    @Test
+    void referenceOf는_존재를_확인한_뒤에만_프록시를_만든다() {
+        when(userRepository.findById("ghost")).thenReturn(Optional.empty());
+        User proxy = user("member", "nick");
+        when(userRepository.findById("member")).thenReturn(Optional.of(proxy));
+        when(userRepository.getReferenceById("member")).thenReturn(proxy);
+
+        assertThat(cache.referenceOf("member", "msg")).isSameAs(proxy);
+        assertThatThrownBy(() -> cache.referenceOf("ghost", "msg")).isInstanceOf(EntityNotFoundException.class);
+        verify(userRepository, never()).getReferenceById("ghost");
+    }
+
+    @Test
+    void 변경_이벤트가_오면_다음_조회에서_새_값을_읽는다() {
+        when(userRepository.findById("member")).thenReturn(Optional.of(user("member", "before")));
+        cache.find("member");
+
+        when(userRepository.findById("member")).thenReturn(Optional.of(user("member", "after")));
+        cache.onUserChanged(new UserChangedEvent("member"));
+
+        assertThat(cache.find("member")).map(UserSnapshot::userNickName).contains("after");
+    }
+
+    @Test
+    void 조회_중에_무효화되면_읽은_값을_반환만_하고_캐시하지_않는다() {
+        // 닉네임 변경 커밋 전에 읽은 값이 반환되는 사이 AFTER_COMMIT 무효화가 끼어든 경우
+        when(userRepository.findById("member")).thenAnswer(invocation -> {
+            cache.invalidate("member");
+            return Optional.of(user("member", "stale"));
+        });
+        assertThat(cache.find("member")).map(UserSnapshot::userNickName).contains("stale");
+
+        when(userRepository.findById("member")).thenReturn(Optional.of(user("member", "fresh")));
+        assertThat(cache.find("member")).map(UserSnapshot::userNickName).contains("fresh");
+        assertThat(cache.find("member")).map(UserSnapshot::userNickName).contains("fresh");
+        verify(userRepository, times(2)).findById(any());
+    }
+
+    @Test
+    void 다른_스레드가_조회_중에_무효화하면_다음_조회는_새_값을_읽는다() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch invalidated = new CountDownLatch(1);
+        when(userRepository.findById("member"))
+                .thenAnswer(invocation -> {
+                    loading.countDown();
+                    assertThat(invalidated.await(5, TimeUnit.SECONDS)).isTrue();
+                    return Optional.of(user("member", "stale"));
+                })
+                .thenReturn(Optional.of(user("member", "fresh")));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Optional<UserSnapshot>> stale = executor.submit(() -> cache.find("member"));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            cache.onUserChanged(new UserChangedEvent("member")); // 로더가 DB 를 읽는 동안 커밋된 변경
+            invalidated.countDown();
+
+            assertThat(stale.get(5, TimeUnit.SECONDS)).map(UserSnapshot::userNickName).contains("stale");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(cache.find("member")).map(UserSnapshot::userNickName).contains("fresh");
+        assertThat(cache.find("member")).map(UserSnapshot::userNickName).contains("fresh");
+        verify(userRepository, times(2)).findById("member");
+    }
+
+    @Test
+    void 정지_상태는_스냅샷에서_확인한다() {
+        User suspended = user("member", "nick");
+        suspended.setUserStatus(UserStatus.Y);
+        when(userRepository.findById("member")).thenReturn(Optional.of(suspended));
+
+        assertThat(cache.require("member", "msg").isSuspended()).isTrue();
+    }
+
+    static User user(String userId, String nickName) {
+        return User.builder()
+                .userId(userId)
+                .userNickName(nickName)
+                .role(Role.USER)
+                .userStatus(UserStatus.N)
+                .build();
+    }
+}
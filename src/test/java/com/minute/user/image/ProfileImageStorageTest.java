@@ -0,0 +1,99 @@
+package com.minute.user.image;
+
+import com.minute.user.controller.ProfileImageController;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 같은 내용의 프로필 이미지는 한 파일로 저장되고, 내용 주소 파일은 immutable 캐시 헤더/ETag 와 함께 제공되는지 확인합니다.
+ */
+class ProfileImageStorageTest {
+
+    @TempDir
+    Path dir;
+
+    private ProfileImageStorage storage;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        storage = new ProfileImageStorage(dir.toString());
+        mockMvc = MockMvcBuilders.standaloneSetup(new ProfileImageController(storage)).build();
+    }
+
+    @Test
+    void 같은_내용은_하나의_해시_파일로_저장된다() throws Exception {
+        byte[] content = "same-image-bytes".getBytes();
+        String first = storage.store(new MockMultipartFile("file", "a.JPEG", "image/jpeg", content));
+        String second = storage.store(new MockMultipartFile("file", "b.jpg", "image/jpeg", content));
+
+        assertThat(first).isEqualTo(second).matches("[0-9a-f]{64}\\.jpg");
+        assertThat(ProfileImageStorage.isImmutable(first)).isTrue();
+        try (var files = Files.list(dir)) {
+            assertThat(files).containsExactly(dir.toAbsolutePath().normalize().resolve(first));
+        }
+        assertThatThrownBy(() -> storage.store(new MockMultipartFile("file", "script.html", "text/html", content)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 내용_주소_파일은_immutable_캐시와_ETag_로_제공되고_재요청은_304() throws Exception {
+        String fileName = storage.store(new MockMultipartFile("file", "p.png", "image/png", new byte[]{1, 2, 3, 4}));
+
+        MvcResult result = mockMvc.perform(get("/upload/" + fileName))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/png"))
+                .andReturn();
+        assertThat(result.getResponse().getContentAsByteArray()).containsExactly(1, 2, 3, 4);
+
+        String etag = result.getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/upload/" + fileName).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/upload/..%2Fsecret.png"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void 오래된_파일만_정리되고_다시_업로드되면_정리_대상에서_빠진다() throws Exception {
+        byte[] content = "old-image-bytes".getBytes();
+        String fileName = storage.store(new MockMultipartFile("file", "a.png", "image/png", content));
+        Path path = storage.resolve(fileName);
+        Files.write(dir.resolve(fileName + ".w160.jpg"), new byte[]{1});
+        FileTime old = FileTime.from(Instant.now().minus(Duration.ofDays(2)));
+        Files.setLastModifiedTime(path, old);
+        FileTime cutoff = FileTime.from(Instant.now().minus(Duration.ofDays(1)));
+
+        // 같은 내용이 다시 업로드되면 수정 시각이 갱신되어 지워지지 않음
+        storage.store(new MockMultipartFile("file", "b.png", "image/png", content));
+        assertThat(storage.deleteIfNotModifiedSince(fileName, cutoff)).isFalse();
+        assertThat(storage.resolve(fileName)).isNotNull();
+
+        Files.setLastModifiedTime(path, old);
+        assertThat(storage.deleteIfNotModifiedSince(fileName, cutoff)).isTrue();
+        assertThat(storage.resolve(fileName)).isNull();
+        assertThat(storage.resolve(fileName + ".w160.jpg")).isNull();
+
+        // 지워진 뒤의 업로드는 파일을 새로 씀
+        assertThat(storage.store(new MockMultipartFile("file", "c.png", "image/png", content))).isEqualTo(fileName);
+        assertThat(storage.resolve(fileName)).isNotNull();
+    }
+}
@@ -0,0 +1,93 @@
+package com.minute.user.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 서버(할당기 인스턴스)가 동시에 회원번호를 발급해도 번호가 겹치지 않는지 확인합니다. (H2 MySQL 모드)
+ */
+@JdbcTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:usernotest;MODE=MySQL;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserNoAllocatorConcurrencyTest {
+
+    private static final int SERVERS = 3;
+    private static final int THREADS = 8;
+    private static final int PER_THREAD = 40;
+
+    @Configuration
+    static class TestConfig {
+    }
+
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS user_no_sequence (" +
+                "sequence_name VARCHAR(50) NOT NULL PRIMARY KEY, next_val BIGINT NOT NULL)");
+        jdbcTemplate.update("DELETE FROM user_no_sequence");
+        jdbcTemplate.update("INSERT INTO user_no_sequence (sequence_name, next_val) VALUES ('user_no', 101)");
+    }
+
+    @Test
+    void 여러_할당기가_동시에_발급해도_번호가_겹치지_않는다() throws Exception {
+        List<UserNoAllocator> allocators = new ArrayList<>();
+        for (int i = 0; i < SERVERS; i++) {
+            allocators.add(new UserNoAllocator(jdbcTemplate, transactionManager, 7));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<Integer>>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                UserNoAllocator allocator = allocators.get(t % SERVERS);
+                Callable<List<Integer>> task = () -> {
+                    start.await();
+                    List<Integer> issued = new ArrayList<>();
+                    for (int i = 0; i < PER_THREAD; i++) {
+                        issued.add(allocator.nextUserNo());
+                    }
+                    return issued;
+                };
+                futures.add(executor.submit(task));
+            }
+            start.countDown();
+
+            Set<Integer> all = new HashSet<>();
+            for (Future<List<Integer>> future : futures) {
+                all.addAll(future.get());
+            }
+            assertThat(all).hasSize(THREADS * PER_THREAD);
+            assertThat(all).allMatch(no -> no >= 101);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}